@@ -173,7 +173,7 @@ public final class SystemClock
         if (this.monotonic || MONOTON_MODE) {
             long nanos = this.utcNanos();
             long secs = LeapSeconds.getInstance().strip(Math.floorDiv(nanos, MRD));
-            return Math.multiplyExact(secs, 1000) + Math.floorMod(nanos, MIO);
+            return Math.multiplyExact(secs, 1000) + Math.floorMod(nanos, MRD) / MIO;
         } else {
             return System.currentTimeMillis();
         }
@@ -213,7 +213,7 @@ public final class SystemClock
         if (this.monotonic || MONOTON_MODE) {
             long nanos = this.utcNanos();
             long secs = LeapSeconds.getInstance().strip(Math.floorDiv(nanos, MRD));
-            return Math.multiplyExact(secs, MIO) + Math.floorMod(nanos, 1000);
+            return Math.multiplyExact(secs, MIO) + Math.floorMod(nanos, MRD) / 1000;
         } else {
             return Math.multiplyExact(System.currentTimeMillis(), 1000);
         }
@@ -35,6 +35,7 @@ import net.time4j.tz.ZoneNameProvider;
 import net.time4j.tz.spi.MilZoneProviderSPI;
 import net.time4j.tz.spi.WinZoneProviderSPI;
 import net.time4j.tz.spi.ZoneNameProviderSPI;
+import net.time4j.tz.threeten.CompactZoneProviderSPI;
 import net.time4j.tz.threeten.JdkZoneProviderSPI;
 
 import java.io.FileNotFoundException;
@@ -474,7 +475,11 @@ public abstract class ResourceLoader {
                 Arrays.asList(IsoTextProviderSPI.SINGLETON, new GenericTextProviderSPI()));
             map.put(
                 ZoneModelProvider.class,
-                Arrays.asList(new JdkZoneProviderSPI(), new WinZoneProviderSPI(), new MilZoneProviderSPI()));
+                Arrays.asList(
+                    new CompactZoneProviderSPI(),
+                    new JdkZoneProviderSPI(),
+                    new WinZoneProviderSPI(),
+                    new MilZoneProviderSPI()));
             map.put(
                 ZoneNameProvider.class,
                 Collections.singletonList(new ZoneNameProviderSPI()));
@@ -330,6 +330,70 @@ public final class ChineseCalendar
         5612, 3, 5614, 8, 5617, 6, 5620, 4, 5622, 10, 5625, 6, 5628, 5, 5631, 3, 5633, 8, 5636, 6
     };
 
+    // new moons, months without major solar term and winter solstices in compact form (see EastAsianTable)
+    private static final int[] LUNISOLAR_DATA = {
+        -119820, 6904,
+        0x97A4BB25, 0x52B69374, 0xD54D6A5B, 0x6E92EAA6, 0x4ADA4DD2, 0xD52DA95D, 0xB6556AAA, 0x2B69374A,
+        0x54B6A575, 0xD555AAAB, 0xADA55D2A, 0x92DC95D4, 0xD555AA5D, 0xB6956CAA, 0x4B725752, 0x6956C976,
+        0xDA55B4AB, 0x2DC95D4A, 0xA55D25D9, 0x5A56B4AD, 0xB6A5754B, 0x92F49764, 0x6A56D2AE, 0xDAA6B54B,
+        0x4BD25D92, 0xA95B49BA, 0x6AAAD52D, 0x374A7555, 0xA56D26E9, 0x6AAAD4AE, 0x5B2AB555, 0x95B4ABA5,
+        0xAA9B52BA, 0x6CAAD555, 0x56D2AE95, 0xC96E8AEA, 0xAAAAD956, 0x5B4AB655, 0x45BA2BA9, 0xB4AB64BB,
+        0x6D4ADA55, 0x16E4AEA5, 0xD4AEA2ED, 0xB54B5A56, 0x5B54BAA5, 0x51BA8BB4, 0xB52B6A57, 0x6D535AA6,
+        0x46EA2ECA, 0xD52DA95D, 0xB5556AA6, 0x2BA95B2A, 0x54B6A575, 0xB5556A97, 0xAD955AAA, 0x8AEA95D4,
+        0xD54DB25D, 0xB6556AAA, 0x4BAA5B52, 0x69374576, 0xD6556CAB, 0x2DA95D4A, 0xA2DD15D9, 0xDA55B49D,
+        0xB6A56D4A, 0x8B749754, 0x6A575276, 0xDAA5B54B, 0x2DD26D52, 0xA95D49DA, 0x5AA5B52B, 0x36AAAD55,
+        0xA5752769, 0x6A96D4AE, 0x5AAAB553, 0x95D4AD95, 0xB25B52BA, 0x5AAAB54B, 0x5752B555, 0xC9764AEA,
+        0x6CA6E92E, 0x5B4AB555, 0x25D52DA9, 0xB49BA4BB, 0x6B4AD695, 0x96D4B6A5, 0xD26E92EC, 0x6D4AEA56,
+        0x5B52D6A5, 0x49BA4BAA, 0xB52BA93B, 0x6D54DAA5, 0x26E936A9, 0xD4AEA4ED, 0xAD52DA96, 0x9B5556AA,
+        0x52BA93B4, 0xB54BAA57, 0xAD555AAA, 0x4AEA56D2, 0xD92EC95D, 0xB5556AA6, 0x2BA95ACA, 0x64BB2575,
+        0xB6957497, 0xADA55ACA, 0x92EC96D4, 0xDA4DD25E, 0xB6A56D4A, 0x4BAA5B52, 0x6937497A, 0xB6A5752B,
+        0x2DA96B52, 0xA4DD25D9, 0xDA95D49D, 0x56AAAD52, 0x93749B55, 0x6A575276, 0x56A9B54B, 0x55B2AD55,
+        0xA95D4ADA, 0x5AA5D52B, 0x56AAAD55, 0xA5752B69, 0x6C9764AE, 0x5AAAB553, 0x95D4ADA5, 0xB25D92DA,
+        0x5B4ABA4B, 0x56D2ADA5, 0x49764B6A, 0x6D26E92F, 0x5B52B6A5, 0x25D52DAA, 0xB49BA4BD, 0x6B52BA95,
+        0x96D535AA, 0xD26E936C, 0x6D4AEA56, 0xAB5556A9, 0x49BA4DAA, 0xB52BA93B, 0xAD555AA5, 0x2AE956AA,
+        0xD4AEA56D, 0xAD52EC95, 0xAB6556AA, 0x92BA95B4, 0xB64BB25B, 0xAD655ACA, 0x4AEA56D2, 0xE92EC96D,
+        0xADA55D25, 0x2B6A5AD2, 0xA4BB25B5, 0xB6957497, 0x2DAA5B52, 0x92EC96D5, 0xDA4DD25E, 0x35A95D4A,
+        0x4BAA9B55, 0x693749BA, 0xB6A5752B, 0x55AAAB54, 0xA55D2AD9, 0xDA95D4AD, 0x56AAAD52, 0x9574AB55,
+        0x725752B6, 0x56CA764B, 0x55B2AB55, 0xC95D4ADA, 0x5B25DA2D, 0x56B2ADA5, 0x25752B6A, 0x751764B7,
+        0x56D2AE93, 0x95D52D6A, 0xD25D92DA, 0x5B4ABA4B, 0x9AD52DA9, 0x49764B6A, 0x6D2AE937, 0xAAD4B6A5,
+        0x2AD555AA, 0xB4ABA4DD, 0x9B52BA95, 0xAAD555AA, 0xD2AE956C, 0x6D4AEA56, 0xAB5556AA, 0x4ABA55AA,
+        0xBA2BA95B, 0xAB653B45, 0x2ADA56B2, 0xE8AEA56D, 0xADA2ED16, 0x2B6A56D2, 0xA2BAA5B5, 0xBA8BB45B,
+        0x2D695B52, 0x52EA96B5, 0xEA2ED16D, 0x2DA95D4A, 0x556A9AD5, 0xA8BB49B5, 0xB6A5751B, 0x55AA9B54,
+        0xA56CAAD5, 0xDA95D4AE, 0x55AA5D52, 0x556AAAD5, 0xAA5752B6, 0x3749764B, 0x55AAAB65, 0x005D4ADA,
+        0x00080000, 0x00800000, 0x02000000, 0x00800000, 0x08000000, 0x40000000, 0x10000000, 0x80000000,
+        0x00000000, 0x00000004, 0x00000020, 0x00000008, 0x00000040, 0x00000200, 0x00000880, 0x00000400,
+        0x00002000, 0x00020000, 0x00004000, 0x00020000, 0x00100000, 0x01020000, 0x00200000, 0x01000000,
+        0x10000000, 0x02000000, 0x10000000, 0x80000000, 0x20000000, 0x00000000, 0x00000001, 0x00000008,
+        0x00000040, 0x00000010, 0x00000080, 0x00000800, 0x00000200, 0x00000800, 0x00004000, 0x00040000,
+        0x00008000, 0x00040000, 0x00400000, 0x00100000, 0x00400000, 0x04000000, 0x10000000, 0x04000000,
+        0x20000000, 0x00000000, 0x00000001, 0x00000005, 0x00000002, 0x00000020, 0x00000100, 0x00000020,
+        0x00000100, 0x00001000, 0x00008400, 0x00001000, 0x00008000, 0x00040000, 0x00010000, 0x00080000,
+        0x00400000, 0x04100000, 0x00800000, 0x04000000, 0x40000000, 0x08000000, 0x40000000, 0x00000000,
+        0x00000004, 0x00000011, 0x00000004, 0x00000020, 0x00000200, 0x00000040, 0x00000200, 0x00002000,
+        0x00010400, 0x00004000, 0x00020000, 0x00100000, 0x00040000, 0x00100000, 0x01000000, 0x02800000,
+        0x01000000, 0x10000000, 0x80000000, 0x10000000, 0x80000000, 0x00000000, 0x00000008, 0x00000040,
+        0x00000008, 0x00000080, 0x00000400, 0x00000100, 0x00000400, 0x00004000, 0x00020000, 0x00004000,
+        0x00040000, 0x00100000, 0x00040000, 0x00200000, 0x02000000, 0x10000000, 0x02000000, 0x20000000,
+        0x00000000, 0x20000001, 0x00000000, 0x00000002, 0x00000010, 0x00000080, 0x00000020, 0x00000100,
+        0x00000800, 0x00000200, 0x00001000, 0x00008000, 0x00080000, 0x00010000, 0x00080000, 0x00800000,
+        0x00100000, 0x00800000, 0x04000000, 0x12000000, 0x04000000, 0x40000000, 0x00000000, 0x80000002,
+        0x00000000, 0x00000002, 0x00000020, 0x00000100, 0x00000040, 0x00000200, 0x00002000, 0x00000800,
+        0x00002000, 0x00010000, 0x00080000, 0x00010000, 0x00100000, 0x00800000, 0x05100000, 0x01000000,
+        0x10000000, 0x40000000, 0x10000000, 0x80000000, 0x00000000, 0x00000004, 0x00000021, 0x00000008,
+        0x00000040, 0x00000400, 0x00000080, 0x00000400, 0x00004000, 0x00000800, 0x00004000, 0x00020000,
+        0x00200000, 0x00040000, 0x00200000, 0x02000000, 0x00400000, 0x02000000, 0x10000000, 0x80000000,
+        0x20000000, 0x00000000, 0x00000001, 0x00000010, 0x00000004, 0x00000010, 0x00000080, 0x00000800,
+        0x00000100, 0x00000800, 0x00008000, 0x0002A000, 0x00008000, 0x00080000, 0x00200000, 0x00080000,
+        0x00400000, 0x04000000, 0x14000000, 0x04000000, 0x40000000, 0x00000000, 0x40000002, 0x00000000,
+        0x00000004, 0x00000020, 0x00000090, 0x00000020, 0x00000200, 0x00001000, 0x00000200, 0x00002000,
+        0x00010000, 0x00082000, 0x00010000, 0x00100000, 0x00800000, 0x00100000, 0x01000000, 0x00000000,
+        0xA9A9A9A9, 0xA9A9A9A9, 0xAAAAAAAA, 0x5556AAAA, 0x59595959, 0x59595959, 0x69696959, 0x69696969,
+        0xA9A9A969, 0x55A9A9A9, 0x55575757, 0x55555555, 0x59555555, 0x59595959, 0x69595959, 0x69696969,
+        0xD7D7D7D5, 0x57575757, 0x57575757, 0x55555757, 0x55555555, 0x59595555, 0x59595959, 0x69695959,
+        0x69696969, 0xA9696969, 0xA9A9A9A9, 0xA9A9A9A9, 0x5556AAAA, 0x55555555, 0x59595959, 0x59595959,
+        0x69696969, 0x69696969, 0x15A9A969
+    };
+
     /**
      * <p>Represents the Chinese era. </p>
      *
@@ -947,6 +1011,11 @@ public final class ChineseCalendar
             return LEAP_MONTHS;
         }
 
+        @Override
+        int[] getLunisolarData() {
+            return LUNISOLAR_DATA;
+        }
+
     }
 
     private static class EraElement
@@ -50,11 +50,61 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
     static final double MEAN_SYNODIC_MONTH = 29.530588861;
     static final double MEAN_TROPICAL_YEAR = 365.242189;
 
+    private static final long[] NO_YEAR = new long[0];
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private volatile EastAsianTable table = null; // lazy
+    private final YearCache years = new YearCache(this::loadYear);
+
     //~ Methoden ----------------------------------------------------------
 
     @Override
     public final D transform(long utcDays) {
 
+        int elapsedYears = (int) Math.floor((utcDays - EPOCH_CHINESE) / MEAN_TROPICAL_YEAR) + 1;
+
+        for (int i = 0; i < 3; i++) {
+            long[] data = this.getYear(elapsedYears);
+
+            if (data.length == 0) {
+                break;
+            }
+
+            int n = (int) data[0];
+
+            if (utcDays < data[1]) {
+                elapsedYears--;
+            } else if (utcDays >= data[n + 1]) {
+                elapsedYears++;
+            } else {
+                int index = n;
+                while (data[index] > utcDays) {
+                    index--;
+                }
+                return this.create(
+                    cycleOf(elapsedYears),
+                    yearOfCycleOf(elapsedYears),
+                    decodeMonth(data[n + 1 + index]),
+                    (int) (utcDays - data[index] + 1),
+                    utcDays);
+            }
+        }
+
+        return this.computeTransform(utcDays);
+
+    }
+
+    @Override
+    public final long transform(D date) {
+
+        return this.transform(date.getCycle(), date.getYear().getNumber(), date.getMonth(), date.getDayOfMonth());
+
+    }
+
+    // astronomical calculation without year cache
+    final D computeTransform(long utcDays) {
+
         long s1 = this.winterOnOrBefore(utcDays);
         long s2 = this.winterOnOrBefore(s1 + 370);
         long m12 = this.newMoonOnOrAfter(s1 + 1);
@@ -95,13 +145,6 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
 
     }
 
-    @Override
-    public final long transform(D date) {
-
-        return this.transform(date.getCycle(), date.getYear().getNumber(), date.getMonth(), date.getDayOfMonth());
-
-    }
-
     @Override
     public long getMinimumSinceUTC() {
 
@@ -128,6 +171,9 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
 
     abstract int[] getLeapMonths();
 
+    // precomputed new moons, major solar terms and winter solstices (see EastAsianTable)
+    abstract int[] getLunisolarData();
+
     // number of leap month or zero if no leap year
     final int getLeapMonth(
         int cycle,
@@ -198,6 +244,15 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
     final long newYear(
         int cycle,
         int yearOfCycle
+    ) {
+        long[] data = this.getYear((cycle - 1) * 60 + yearOfCycle);
+        return ((data.length == 0) ? this.computeNewYear(cycle, yearOfCycle) : data[1]);
+    }
+
+    // result in utc-days, calculation without year cache
+    final long computeNewYear(
+        int cycle,
+        int yearOfCycle
     ) {
         long midYear =
             (long) Math.floor(EPOCH_CHINESE + ((cycle - 1) * 60 + yearOfCycle - 0.5) * MEAN_TROPICAL_YEAR);
@@ -213,28 +268,70 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
 
     // leap months have no major solar terms
     final boolean hasNoMajorSolarTerm(long utcDays) {
+        Boolean result = this.getTable().hasNoMajorSolarTerm(utcDays);
+        return ((result == null) ? this.computeHasNoMajorSolarTerm(utcDays) : result.booleanValue());
+    }
+
+    // result in utc-days
+    final long newMoonOnOrAfter(long utcDays) {
+        long result = this.getTable().newMoonOnOrAfter(utcDays);
+        return ((result == EastAsianTable.UNKNOWN) ? this.computeNewMoonOnOrAfter(utcDays) : result);
+    }
+
+    // local midnight
+    Moment midnight(long utcDays) {
+        return PlainDate.of(utcDays, EpochDays.UTC).atStartOfDay().at(this.getOffset(utcDays));
+    }
+
+    // astronomical calculation without table
+    final boolean computeHasNoMajorSolarTerm(long utcDays) {
         double jd0 = JulianDay.ofEphemerisTime(this.midnight(utcDays)).getValue();
         int index0 = (2 + (int) Math.floor(SolarTerm.solarLongitude(jd0) / 30)) % 12;
-        double jd1 = JulianDay.ofEphemerisTime(this.midnight(this.newMoonOnOrAfter(utcDays + 1))).getValue();
+        double jd1 = JulianDay.ofEphemerisTime(this.midnight(this.computeNewMoonOnOrAfter(utcDays + 1))).getValue();
         int index1 = (2 + (int) Math.floor(SolarTerm.solarLongitude(jd1) / 30)) % 12;
         return (index0 == index1);
     }
 
-    // result in utc-days
-    final long newMoonOnOrAfter(long utcDays) {
+    // astronomical calculation without table, result in utc-days
+    final long computeNewMoonOnOrAfter(long utcDays) {
         Moment m = MoonPhase.NEW_MOON.atOrAfter(this.midnight(utcDays));
         return m.toZonalTimestamp(this.getOffset(utcDays)).toDate().getDaysSinceEpochUTC();
     }
 
-    // local midnight
-    Moment midnight(long utcDays) {
-        return PlainDate.of(utcDays, EpochDays.UTC).atStartOfDay().at(this.getOffset(utcDays));
+    // astronomical calculation without table, result in utc-days
+    final long computeNewMoonBefore(long utcDays) {
+        Moment m = MoonPhase.NEW_MOON.before(this.midnight(utcDays));
+        return m.toZonalTimestamp(this.getOffset(utcDays)).toDate().getDaysSinceEpochUTC();
+    }
+
+    // astronomical search for winter solstice without table
+    final long computeWinterOnOrBefore(long utcDays) {
+        ZonalOffset offset = this.getOffset(utcDays);
+        PlainDate date = PlainDate.of(utcDays, EpochDays.UTC);
+        int year = (((date.getMonth() <= 11) || (date.getDayOfMonth() <= 15)) ? date.getYear() - 1 : date.getYear());
+        Moment winter = AstronomicalSeason.WINTER_SOLSTICE.inYear(year);
+        PlainDate d = winter.toZonalTimestamp(offset).getCalendarDate();
+        if (d.isAfter(date)) {
+            winter = AstronomicalSeason.WINTER_SOLSTICE.inYear(year - 1);
+            d = winter.toZonalTimestamp(offset).getCalendarDate();
+        }
+        return d.getDaysSinceEpochUTC();
+    }
+
+    // loaded once on first use
+    private EastAsianTable getTable() {
+        EastAsianTable t = this.table;
+        if (t == null) {
+            t = new EastAsianTable(this, this.getLunisolarData());
+            this.table = t;
+        }
+        return t;
     }
 
     // result in utc-days
     private long newMoonBefore(long utcDays) {
-        Moment m = MoonPhase.NEW_MOON.before(this.midnight(utcDays));
-        return m.toZonalTimestamp(this.getOffset(utcDays)).toDate().getDaysSinceEpochUTC();
+        long result = this.getTable().newMoonBefore(utcDays);
+        return ((result == EastAsianTable.UNKNOWN) ? this.computeNewMoonBefore(utcDays) : result);
     }
 
     // count of lunations between m1 and m2
@@ -281,6 +378,18 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
         int yearOfCycle,
         EastAsianMonth month
     ) {
+        long[] data = this.getYear((cycle - 1) * 60 + yearOfCycle);
+
+        if (data.length > 0) {
+            int n = (int) data[0];
+            long code = month.getNumber() * 2 + (month.isLeap() ? 1 : 0);
+            for (int i = 1; i <= n; i++) {
+                if (data[n + 1 + i] == code) {
+                    return data[i];
+                }
+            }
+        }
+
         long newYear = this.newYear(cycle, yearOfCycle);
         long approxStartOfMonth = this.newMoonOnOrAfter(newYear + (month.getNumber() - 1) * 29);
 
@@ -291,18 +400,77 @@ abstract class EastAsianCS<D extends EastAsianCalendar<?, D>>
         }
     }
 
+    // cached year structure, empty if not (yet) cached
+    private long[] getYear(int elapsedYears) {
+        long[] data = this.years.get(elapsedYears);
+        return ((data == null) ? NO_YEAR : data);
+    }
+
+    // year structure: [0] = count of months n, [1..n] = first days of months, [n + 1] = first day of next year,
+    // [n + 2..2n + 1] = doubled month numbers (plus one for leap month), empty outside of the lunisolar table
+    private long[] loadYear(int elapsedYears) {
+        EastAsianTable t = this.getTable();
+        long midYear = (long) Math.floor(EPOCH_CHINESE + (elapsedYears - 0.5) * MEAN_TROPICAL_YEAR);
+
+        if (
+            (t.winterOnOrBefore(midYear - 200) == EastAsianTable.UNKNOWN)
+            || (t.newMoonOnOrAfter(midYear + 400) == EastAsianTable.UNKNOWN)
+        ) {
+            return NO_YEAR; // direct astronomical calculation is cheaper than a full year structure
+        }
+
+        int cycle = cycleOf(elapsedYears);
+        int yearOfCycle = yearOfCycleOf(elapsedYears);
+        int leapMonth = this.getLeapMonth(cycle, yearOfCycle);
+        int n = ((leapMonth == 0) ? 12 : 13);
+        long[] data = new long[2 * n + 2];
+        long m = this.computeNewYear(cycle, yearOfCycle);
+        data[0] = n;
+
+        for (int i = 0; i < n; i++) {
+            if (m == EastAsianTable.UNKNOWN) {
+                return NO_YEAR;
+            }
+            data[i + 1] = m;
+            if ((leapMonth == 0) || (i < leapMonth)) {
+                data[n + 2 + i] = (i + 1) * 2;
+            } else if (i == leapMonth) {
+                data[n + 2 + i] = leapMonth * 2 + 1;
+            } else {
+                data[n + 2 + i] = i * 2;
+            }
+            m = t.newMoonOnOrAfter(m + 1);
+        }
+
+        if (
+            (m == EastAsianTable.UNKNOWN)
+            || ((leapMonth > 0) && !Boolean.TRUE.equals(t.hasNoMajorSolarTerm(data[leapMonth + 1])))
+        ) {
+            return NO_YEAR; // leap months have no major solar terms
+        }
+
+        data[n + 1] = m;
+        return data;
+    }
+
+    private static int cycleOf(int elapsedYears) {
+        return Math.floorDiv(elapsedYears - 1, 60) + 1;
+    }
+
+    private static int yearOfCycleOf(int elapsedYears) {
+        int yearOfCycle = Math.floorMod(elapsedYears, 60);
+        return ((yearOfCycle == 0) ? 60 : yearOfCycle);
+    }
+
+    private static EastAsianMonth decodeMonth(long code) {
+        EastAsianMonth eam = EastAsianMonth.valueOf((int) (code >> 1));
+        return (((code & 1) == 1) ? eam.withLeap() : eam);
+    }
+
     // search for winter solstice
     private long winterOnOrBefore(long utcDays) {
-        ZonalOffset offset = this.getOffset(utcDays);
-        PlainDate date = PlainDate.of(utcDays, EpochDays.UTC);
-        int year = (((date.getMonth() <= 11) || (date.getDayOfMonth() <= 15)) ? date.getYear() - 1 : date.getYear());
-        Moment winter = AstronomicalSeason.WINTER_SOLSTICE.inYear(year);
-        PlainDate d = winter.toZonalTimestamp(offset).getCalendarDate();
-        if (d.isAfter(date)) {
-            winter = AstronomicalSeason.WINTER_SOLSTICE.inYear(year - 1);
-            d = winter.toZonalTimestamp(offset).getCalendarDate();
-        }
-        return d.getDaysSinceEpochUTC();
+        long result = this.getTable().winterOnOrBefore(utcDays);
+        return ((result == EastAsianTable.UNKNOWN) ? this.computeWinterOnOrBefore(utcDays) : result);
     }
 
 }
@@ -0,0 +1,362 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (EastAsianTable.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.calendar;
+
+import net.time4j.PlainDate;
+import net.time4j.engine.EpochDays;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * <p>Vorberechnete Tabelle der Neumonde, der Monate ohne Hauptsonnenterm und der
+ * Wintersonnenwenden f&uuml;r einen ostasiatischen Kalender. </p>
+ *
+ * <p>Kompaktes Format der Daten (ein {@code int[]}): </p>
+ *
+ * <ol>
+ *     <li>Tag des ersten Neumonds (UTC-Epochentage)</li>
+ *     <li>Anzahl n der Neumonde</li>
+ *     <li>n - 1 Bits f&uuml;r die L&auml;nge der Lunationen (gesetzt = 30 Tage, sonst 29 Tage)</li>
+ *     <li>n Bits, die angeben, ob der mit dem jeweiligen Neumond beginnende Monat keinen
+ *     Hauptsonnenterm hat</li>
+ *     <li>2 Bits pro Jahr von {@link #MIN_YEAR} bis {@link #MAX_YEAR} f&uuml;r den Dezembertag der
+ *     Wintersonnenwende minus 20</li>
+ * </ol>
+ *
+ * <p>Alle Daten sind mit den astronomischen Methoden von {@code EastAsianCS} berechnet (siehe
+ * {@link #generate(EastAsianCS)}). Abfragen au&szlig;erhalb der Tabelle oder in der N&auml;he
+ * eines Wechsels des Zeitzonen-Offsets liefern {@link #UNKNOWN} bzw. {@code null}, so dass der
+ * Aufrufer auf die astronomische Berechnung ausweicht. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+final class EastAsianTable {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    /**
+     * Marker for queries which cannot be answered by the table.
+     */
+    static final long UNKNOWN = Long.MIN_VALUE;
+
+    /**
+     * First year of winter solstices in the table.
+     */
+    static final int MIN_YEAR = 1643;
+
+    /**
+     * Last year of winter solstices in the table.
+     */
+    static final int MAX_YEAR = 2201;
+
+    private static final int MARGIN = 64; // Sicherheitsabstand zu Offset-Wechseln in Tagen
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final int[] newMoons;
+    private final int[] noMajorTerms;
+    private final int[] winters;
+    private final long[] offsetChanges;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Dekodiert die angegebenen Daten. </p>
+     *
+     * @param   calsys      calendar system the data belong to
+     * @param   data        compact table data (if empty then no table is used)
+     * @throws  IllegalArgumentException if the data are inconsistent
+     */
+    EastAsianTable(
+        EastAsianCS<?> calsys,
+        int[] data
+    ) {
+        super();
+
+        if (data.length == 0) {
+            this.newMoons = new int[0];
+            this.noMajorTerms = new int[0];
+            this.winters = new int[0];
+            this.offsetChanges = new long[0];
+            return;
+        }
+
+        int n = data[1];
+        int years = MAX_YEAR - MIN_YEAR + 1;
+        int lunationStart = 2;
+        int termStart = lunationStart + words(n - 1);
+        int winterStart = termStart + words(n);
+
+        if (data.length != winterStart + words(2 * years)) {
+            throw new IllegalArgumentException("Inconsistent lunisolar data.");
+        }
+
+        int[] moons = new int[n];
+        moons[0] = data[0];
+
+        for (int i = 1; i < n; i++) {
+            moons[i] = moons[i - 1] + (getBit(data, lunationStart, i - 1) ? 30 : 29);
+        }
+
+        int[] solstices = new int[years];
+
+        for (int i = 0; i < years; i++) {
+            int code = (getBit(data, winterStart, 2 * i) ? 2 : 0) + (getBit(data, winterStart, 2 * i + 1) ? 1 : 0);
+            solstices[i] = (int) PlainDate.of(MIN_YEAR + i, 12, 20 + code).getDaysSinceEpochUTC();
+        }
+
+        // Offset-Wechsel innerhalb der Tabelle bestimmen (Stufenfunktion)
+        List<Long> changes = new ArrayList<>();
+
+        for (int i = 0; i < n - 1; i++) {
+            if (!calsys.getOffset(moons[i]).equals(calsys.getOffset(moons[i + 1]))) {
+                long low = moons[i];
+                long high = moons[i + 1];
+                while (high - low > 1) {
+                    long mid = (low + high) >> 1;
+                    if (calsys.getOffset(mid).equals(calsys.getOffset(moons[i]))) {
+                        low = mid;
+                    } else {
+                        high = mid;
+                    }
+                }
+                changes.add(high);
+            }
+        }
+
+        this.newMoons = moons;
+        this.noMajorTerms = Arrays.copyOfRange(data, termStart, winterStart);
+        this.winters = solstices;
+        this.offsetChanges = new long[changes.size()];
+
+        for (int i = 0; i < this.offsetChanges.length; i++) {
+            this.offsetChanges[i] = changes.get(i).longValue();
+        }
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Berechnet die kompakten Tabellendaten astronomisch. </p>
+     *
+     * <p>Die Tabelle umfasst alle Neumonde vom 1. Dezember des Jahres {@link #MIN_YEAR}
+     * bis zum 1. Februar des Jahres nach {@link #MAX_YEAR}. </p>
+     *
+     * @param   calsys      calendar system
+     * @return  compact table data
+     */
+    static int[] generate(EastAsianCS<?> calsys) {
+
+        long start = PlainDate.of(MIN_YEAR, 12, 1).getDaysSinceEpochUTC();
+        long end = PlainDate.of(MAX_YEAR + 1, 2, 1).getDaysSinceEpochUTC();
+        List<Long> moons = new ArrayList<>();
+
+        for (long m = calsys.computeNewMoonOnOrAfter(start); m <= end; m = calsys.computeNewMoonOnOrAfter(m + 1)) {
+            moons.add(m);
+        }
+
+        int n = moons.size();
+        int years = MAX_YEAR - MIN_YEAR + 1;
+        int lunationStart = 2;
+        int termStart = lunationStart + words(n - 1);
+        int winterStart = termStart + words(n);
+        int[] data = new int[winterStart + words(2 * years)];
+        data[0] = (int) moons.get(0).longValue();
+        data[1] = n;
+
+        for (int i = 1; i < n; i++) {
+            long len = moons.get(i) - moons.get(i - 1);
+            if (len == 30) {
+                setBit(data, lunationStart, i - 1);
+            } else if (len != 29) {
+                throw new IllegalStateException("Unexpected length of lunation: " + len);
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            if (calsys.computeHasNoMajorSolarTerm(moons.get(i))) {
+                setBit(data, termStart, i);
+            }
+        }
+
+        for (int i = 0; i < years; i++) {
+            long w = calsys.computeWinterOnOrBefore(PlainDate.of(MIN_YEAR + i, 12, 31).getDaysSinceEpochUTC());
+            PlainDate solstice = PlainDate.of(w, EpochDays.UTC);
+            int code = solstice.getDayOfMonth() - 20;
+            if ((solstice.getMonth() != 12) || (code < 0) || (code > 3)) {
+                throw new IllegalStateException("Unexpected winter solstice: " + solstice);
+            }
+            if ((code & 2) != 0) {
+                setBit(data, winterStart, 2 * i);
+            }
+            if ((code & 1) != 0) {
+                setBit(data, winterStart, 2 * i + 1);
+            }
+        }
+
+        return data;
+
+    }
+
+    /**
+     * <p>Liefert den ersten Neumond am oder nach dem angegebenen Tag. </p>
+     *
+     * @param   utcDays     count of days since UTC epoch
+     * @return  utc days of new moon or {@link #UNKNOWN}
+     */
+    long newMoonOnOrAfter(long utcDays) {
+
+        int i = this.search(utcDays);
+
+        if ((i <= 0) || (i >= this.newMoons.length) || !this.isStable(utcDays, this.newMoons[i])) {
+            return UNKNOWN;
+        }
+
+        return this.newMoons[i];
+
+    }
+
+    /**
+     * <p>Liefert den letzten Neumond vor dem angegebenen Tag. </p>
+     *
+     * @param   utcDays     count of days since UTC epoch
+     * @return  utc days of new moon or {@link #UNKNOWN}
+     */
+    long newMoonBefore(long utcDays) {
+
+        int i = this.search(utcDays) - 1;
+
+        if ((i < 0) || (i + 1 >= this.newMoons.length) || !this.isStable(this.newMoons[i], utcDays)) {
+            return UNKNOWN;
+        }
+
+        return this.newMoons[i];
+
+    }
+
+    /**
+     * <p>Ermittelt, ob der am angegebenen Neumondtag beginnende Monat keinen Hauptsonnenterm hat. </p>
+     *
+     * @param   utcDays     count of days since UTC epoch
+     * @return  Boolean or {@code null} if not a new moon day in the table
+     */
+    Boolean hasNoMajorSolarTerm(long utcDays) {
+
+        int i = this.search(utcDays);
+
+        if (
+            (i + 1 >= this.newMoons.length)
+            || (this.newMoons[i] != utcDays)
+            || !this.isStable(utcDays, this.newMoons[i + 1])
+        ) {
+            return null;
+        }
+
+        return Boolean.valueOf(getBit(this.noMajorTerms, 0, i));
+
+    }
+
+    /**
+     * <p>Liefert die letzte Wintersonnenwende am oder vor dem angegebenen Tag. </p>
+     *
+     * @param   utcDays     count of days since UTC epoch
+     * @return  utc days of winter solstice or {@link #UNKNOWN}
+     */
+    long winterOnOrBefore(long utcDays) {
+
+        if ((utcDays > Integer.MAX_VALUE) || (utcDays < Integer.MIN_VALUE)) {
+            return UNKNOWN;
+        }
+
+        int pos = Arrays.binarySearch(this.winters, (int) utcDays);
+        int i = ((pos >= 0) ? pos : -pos - 2);
+
+        if ((i < 0) || (i + 1 >= this.winters.length) || !this.isStable(this.winters[i], utcDays)) {
+            return UNKNOWN;
+        }
+
+        return this.winters[i];
+
+    }
+
+    // Index des ersten Neumonds am oder nach dem angegebenen Tag
+    private int search(long utcDays) {
+
+        if (utcDays > Integer.MAX_VALUE) {
+            return this.newMoons.length;
+        } else if (utcDays < Integer.MIN_VALUE) {
+            return 0;
+        }
+
+        int pos = Arrays.binarySearch(this.newMoons, (int) utcDays);
+        return ((pos >= 0) ? pos : -pos - 1);
+
+    }
+
+    // kein Offset-Wechsel in der Nähe des Zeitraums?
+    private boolean isStable(
+        long from,
+        long to
+    ) {
+
+        for (long change : this.offsetChanges) {
+            if ((change >= from - MARGIN) && (change <= to + MARGIN)) {
+                return false;
+            }
+        }
+
+        return true;
+
+    }
+
+    private static int words(int bits) {
+
+        return (bits + 31) >>> 5;
+
+    }
+
+    private static boolean getBit(
+        int[] data,
+        int start,
+        int index
+    ) {
+
+        return ((data[start + (index >>> 5)] & (1 << (index & 31))) != 0);
+
+    }
+
+    private static void setBit(
+        int[] data,
+        int start,
+        int index
+    ) {
+
+        data[start + (index >>> 5)] |= (1 << (index & 31));
+
+    }
+
+}
@@ -1141,7 +1141,20 @@ public final class HebrewCalendar
         HebrewMonth month
     ) {
 
-        int ylen;
+        switch (month) {
+            case HESHVAN:
+            case KISLEV:
+                return lengthOfMonthInYear(lengthOfYear(year), month);
+            default:
+                return lengthOfMonthInYear(0, month);
+        }
+    }
+
+    // length of month in a year of given length (only relevant for Heshvan and Kislev)
+    private static int lengthOfMonthInYear(
+        int ylen,
+        HebrewMonth month
+    ) {
 
         switch (month) {
             case IYAR:
@@ -1151,10 +1164,8 @@ public final class HebrewCalendar
             case ADAR_II:
                 return 29;
             case HESHVAN:
-                ylen = lengthOfYear(year);
                 return ((ylen == 355 || ylen == 385) ? 30 : 29);
             case KISLEV:
-                ylen = lengthOfYear(year);
                 return ((ylen == 353 || ylen == 383) ? 29 : 30);
             default:
                 return 30;
@@ -1304,6 +1315,10 @@ public final class HebrewCalendar
     private static class Transformer
         implements EraYearMonthDaySystem<HebrewCalendar> {
 
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final YearCache YEARS = new YearCache(Transformer::loadYear);
+
         //~ Methoden ------------------------------------------------------
 
         @Override
@@ -1373,6 +1388,73 @@ public final class HebrewCalendar
         public HebrewCalendar transform(long utcDays) {
 
             long fixedDays = EpochDays.RATA_DIE.transform(utcDays, EpochDays.UTC);
+            int year = (int) Math.floorDiv(98496 * (fixedDays - FIXED_EPOCH), 35975351);
+            long[] data = YEARS.get(year);
+
+            if ((data != null) && (data[0] > utcDays)) {
+                year--;
+                data = YEARS.get(year);
+            }
+
+            while ((data != null) && (data[13] <= utcDays)) {
+                year++;
+                data = YEARS.get(year);
+            }
+
+            if (data == null) {
+                return computeTransform(fixedDays);
+            }
+
+            int month = 13;
+
+            while ((month > 1) && (data[month - 1] > utcDays)) { // in normal years the 6th month is empty
+                month--;
+            }
+
+            return HebrewCalendar.of(year, HebrewMonth.valueOf(month), (int) (utcDays - data[month - 1] + 1));
+
+        }
+
+        @Override
+        public long transform(HebrewCalendar date) {
+
+            long[] data = YEARS.get(date.year);
+
+            if (data == null) {
+                return computeTransform(date);
+            }
+
+            return data[date.month.getValue() - 1] + date.dom - 1;
+
+        }
+
+        @Override
+        public long getMinimumSinceUTC() {
+
+            HebrewCalendar min = new HebrewCalendar(1, HebrewMonth.TISHRI, 1);
+            return this.transform(min);
+
+        }
+
+        @Override
+        public long getMaximumSinceUTC() {
+
+            HebrewCalendar max = new HebrewCalendar(9999, HebrewMonth.ELUL, 29);
+            return this.transform(max);
+
+        }
+
+        @Override
+        public List<CalendarEra> getEras() {
+
+            CalendarEra era = HebrewEra.ANNO_MUNDI;
+            return Collections.singletonList(era);
+
+        }
+
+        // calculation without year cache
+        private static HebrewCalendar computeTransform(long fixedDays) {
+
             int y = (int) Math.floorDiv(98496 * (fixedDays - FIXED_EPOCH), 35975351);
             int year = y - 1;
 
@@ -1403,8 +1485,8 @@ public final class HebrewCalendar
 
         }
 
-        @Override
-        public long transform(HebrewCalendar date) {
+        // calculation without year cache
+        private static long computeTransform(HebrewCalendar date) {
 
             long utcDays = EpochDays.UTC.transform(hcNewYear(date.year), EpochDays.RATA_DIE) + date.dom - 1;
             boolean leap = isLeapYear(date.year);
@@ -1419,27 +1501,24 @@ public final class HebrewCalendar
 
         }
 
-        @Override
-        public long getMinimumSinceUTC() {
+        // [0..12] = first days of months 1-13 in utc-days (empty 6th month in normal years), [13] = next year
+        private static long[] loadYear(int year) {
 
-            HebrewCalendar min = new HebrewCalendar(1, HebrewMonth.TISHRI, 1);
-            return this.transform(min);
-
-        }
-
-        @Override
-        public long getMaximumSinceUTC() {
-
-            HebrewCalendar max = new HebrewCalendar(9999, HebrewMonth.ELUL, 29);
-            return this.transform(max);
-
-        }
+            long[] data = new long[14];
+            long start = hcNewYear(year);
+            int ylen = (int) (hcNewYear(year + 1) - start); // only two calculations of new year
+            long utcDays = EpochDays.UTC.transform(start, EpochDays.RATA_DIE);
+            boolean leap = isLeapYear(year);
 
-        @Override
-        public List<CalendarEra> getEras() {
+            for (int m = 1; m <= 13; m++) {
+                data[m - 1] = utcDays;
+                if (leap || (m != 6)) {
+                    utcDays += lengthOfMonthInYear(ylen, HebrewMonth.valueOf(m));
+                }
+            }
 
-            CalendarEra era = HebrewEra.ANNO_MUNDI;
-            return Collections.singletonList(era);
+            data[13] = utcDays;
+            return data;
 
         }
 
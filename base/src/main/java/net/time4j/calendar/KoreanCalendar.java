@@ -220,6 +220,70 @@ public final class KoreanCalendar
         5612, 3, 5614, 8, 5617, 6, 5620, 4, 5622, 10, 5625, 6, 5628, 5, 5631, 4, 5633, 9, 5636, 6
     };
 
+    // new moons, months without major solar term and winter solstices in compact form (see EastAsianTable)
+    private static final int[] LUNISOLAR_DATA = {
+        -119820, 6904,
+        0x97A4BB25, 0x52B69374, 0xD52D6A57, 0x5D92DAA6, 0x4ADA4DD2, 0xD52DA95D, 0xB6556AAA, 0x27693749,
+        0x54B6A575, 0xD555AAAB, 0xADA55D2A, 0x92BA95D4, 0xD555AA5D, 0xB6956CAA, 0x4AF25752, 0x5956C976,
+        0xDA55AAAB, 0x2DC95D4A, 0xA4DB25D9, 0x5A55B4AB, 0xB6A5752B, 0x92F49764, 0x6A56D2AE, 0xDAA5B54B,
+        0x4BD25D92, 0xA95B49BA, 0x6AA6B52D, 0x37497553, 0xA56D26E9, 0x6A96D4AE, 0x5B2AB555, 0x95B49BA5,
+        0xAA5B52BA, 0x6AAAD555, 0x56D2AE95, 0xC96E4AEA, 0x6AAAD94E, 0x5B4AB655, 0x45B92BA9, 0xB4AB64BB,
+        0x6D2AD655, 0x16E4AEA5, 0xD2AEA2ED, 0xAD4B5A55, 0x5B52BAA5, 0x517A8BB2, 0xB52B6957, 0x6D535AA5,
+        0x25E92EC9, 0xD4ADA55D, 0xB5556A96, 0x9BA53B2A, 0x52B69574, 0xB5556A97, 0xAD955AAA, 0x4ADA55D2,
+        0xD54DA95D, 0xB6556AAA, 0x2B69574A, 0x68B74575, 0xD6556CAB, 0xADA55D4A, 0xA2DD15D4, 0xDA55B49D,
+        0xB6A56D2A, 0x8B745754, 0x6A575176, 0xDAA5AD2B, 0x2DCA5D52, 0xA95D45DA, 0x5AA5B52B, 0x36A9AD53,
+        0xA3751769, 0x6A96D4AE, 0x5AAAB553, 0x95D4AD95, 0xAA5B52BA, 0x5AAAB54B, 0x56D2AD55, 0xC96D4AEA,
+        0x6AA6D92E, 0x5B4AB555, 0x25B52BA9, 0xB49BA4BB, 0x6B2AD655, 0x96D4B6A5, 0xD26E92EC, 0x6D2ADA4E,
+        0x5B52D6A5, 0x49BA4BAA, 0xB52BA93B, 0x6D52DAA5, 0x26E92EA9, 0xD4AEA4ED, 0xAD52DA95, 0x9B5556AA,
+        0x52BA93B4, 0xB54B6A57, 0xAD555AA9, 0x4AEA56D2, 0xD52DC95D, 0xB5555AA5, 0x2BA95AAA, 0x64B72575,
+        0xB6537497, 0xADA55AAA, 0x92DA95D4, 0xDA4DD25D, 0xB5A56B2A, 0x4B6A5B52, 0x69374976, 0xB6A57527,
+        0x2DA95B52, 0xA4DD25D5, 0xDA95D49D, 0xB6A96D52, 0x93749B54, 0xEA575276, 0x56A96D4A, 0x4DB2AB55,
+        0xA95D49DA, 0x5AA5B52B, 0x56AAAD55, 0xA5752B69, 0x6C96E4AE, 0x5AAAAD53, 0x95D4AD65, 0xB25B92BA,
+        0x5B2ABA4B, 0x56D2AD65, 0xC9764B6A, 0x6D26E92E, 0x5AD2B6A5, 0x25B52DA9, 0xB49BA4BB, 0x5B52BA95,
+        0x96D4B5A9, 0xD26E92EC, 0x6D4AEA4E, 0x9B5556A9, 0x49BA4DAA, 0xB52BA93B, 0xAB54BAA5, 0x2AE956AA,
+        0xD4AEA56D, 0xAD52DA95, 0xAB5556AA, 0x52BA95B4, 0xB64B7257, 0xAD555AC9, 0x4AEA56D2, 0xD92EC95D,
+        0xADA55D25, 0x2B6956D2, 0xA4BB25B5, 0xB6937497, 0xADA95B52, 0x92EA96D4, 0xDA4DD25D, 0x35A95D4A,
+        0x4B6A9AD5, 0x69374976, 0xB6A5752B, 0x55AAAB54, 0xA4DD26D5, 0xDA95D49D, 0x56AA6D52, 0x9574AB55,
+        0xEA5752B6, 0x56A9764A, 0x55B2AB55, 0xC95D4ADA, 0x5B25D92B, 0x56AAAD65, 0xA5752B69, 0xEC9764AE,
+        0x56D2AE92, 0x95B4AD69, 0xD25D92DA, 0x5B4ABA4B, 0x96D52DA9, 0x49764B6A, 0x6D26E92F, 0x9AD4AEA5,
+        0x25B555AA, 0xB49BA4BB, 0x5B52BA95, 0xAAD555AA, 0xD26E956C, 0x6D4AEA56, 0xAB5556A9, 0x4ABA55AA,
+        0xB92BA95B, 0xAB653B25, 0x2AD955AA, 0xE4AEA56D, 0xAD92ED15, 0x2B5956D2, 0x92BA95B5, 0xB68BB25B,
+        0x2B695749, 0x4AEA96B5, 0xEA2EC96D, 0xADA55D25, 0x4B6A96D4, 0xA8BB25B5, 0xB6957517, 0x556A5B52,
+        0x955AAAD5, 0xDA4DD46E, 0x4DA95D4A, 0x556AAAD5, 0x69574AB6, 0x36A5752B, 0x55AAAB55, 0x005D2AD5,
+        0x00080000, 0x00800000, 0x02000000, 0x00800000, 0x08000000, 0x40000000, 0x08000000, 0x80000002,
+        0x00000000, 0x00000004, 0x00000020, 0x00000008, 0x00000040, 0x00000200, 0x00000880, 0x00000400,
+        0x00002000, 0x00020000, 0x00004000, 0x00020000, 0x00100000, 0x01020000, 0x00200000, 0x01000000,
+        0x10000000, 0x02000000, 0x10000000, 0x80000000, 0x20000000, 0x00000000, 0x00000001, 0x00000008,
+        0x00000040, 0x00000010, 0x00000080, 0x00000400, 0x00000200, 0x00000800, 0x00004000, 0x00040000,
+        0x00008000, 0x00040000, 0x00400000, 0x00100000, 0x00400000, 0x04000000, 0x10000000, 0x04000000,
+        0x20000000, 0x00000000, 0x00000001, 0x00000005, 0x00000002, 0x00000020, 0x00000100, 0x00000020,
+        0x00000200, 0x00001000, 0x00008000, 0x00001000, 0x00008000, 0x00080000, 0x00008000, 0x00080000,
+        0x00400000, 0x04100000, 0x00800000, 0x04000000, 0x40000000, 0x08000000, 0x40000000, 0x00000000,
+        0x00000004, 0x00000011, 0x00000004, 0x00000020, 0x00000200, 0x00000040, 0x00000200, 0x00002000,
+        0x00012400, 0x00004000, 0x00020000, 0x00100000, 0x00040000, 0x00100000, 0x01000000, 0x02800000,
+        0x01000000, 0x10000000, 0x80000000, 0x10000000, 0x80000000, 0x00000000, 0x00000008, 0x00000010,
+        0x00000008, 0x00000080, 0x00000400, 0x00000100, 0x00000400, 0x00004000, 0x00020000, 0x00004000,
+        0x00040000, 0x00100000, 0x00040000, 0x00200000, 0x02000000, 0x10000000, 0x02000000, 0x20000000,
+        0x00000000, 0x20000001, 0x00000000, 0x00000002, 0x00000010, 0x00000080, 0x00000020, 0x00000100,
+        0x00000800, 0x00000200, 0x00001000, 0x00008000, 0x00081000, 0x00010000, 0x00080000, 0x00800000,
+        0x00100000, 0x00800000, 0x04000000, 0x12000000, 0x04000000, 0x40000000, 0x00000000, 0x80000002,
+        0x00000000, 0x00000002, 0x00000020, 0x00000100, 0x00000040, 0x00000200, 0x00001000, 0x00000800,
+        0x00001000, 0x00010000, 0x00080000, 0x00010000, 0x00100000, 0x00800000, 0x05100000, 0x01000000,
+        0x10000000, 0x40000000, 0x10000000, 0x80000000, 0x00000000, 0x00000004, 0x00000021, 0x00000008,
+        0x00000040, 0x00000400, 0x00000080, 0x00000400, 0x00004000, 0x00000800, 0x00004000, 0x00020000,
+        0x00200000, 0x00040000, 0x00200000, 0x02000000, 0x00400000, 0x02000000, 0x10000000, 0x00000000,
+        0x20000001, 0x00000000, 0x00000001, 0x00000010, 0x00000004, 0x00000010, 0x00000080, 0x00000800,
+        0x00000100, 0x00000800, 0x00008000, 0x00002000, 0x00008000, 0x00080000, 0x00200000, 0x00080000,
+        0x00400000, 0x04000000, 0x15000000, 0x04000000, 0x40000000, 0x00000000, 0x40000002, 0x00000000,
+        0x00000004, 0x00000020, 0x00000090, 0x00000020, 0x00000100, 0x00001000, 0x00000200, 0x00002000,
+        0x00010000, 0x00082000, 0x00020000, 0x00100000, 0x00800000, 0x00100000, 0x01000000, 0x00000000,
+        0xA9A9A9A9, 0xA9A9A9A9, 0xAAAAAAA9, 0x5556AAAA, 0x59595955, 0x59595959, 0x69695959, 0x69696969,
+        0xA9A96969, 0x55A9A9A9, 0x57575757, 0x55555555, 0x55555555, 0x59595959, 0x59595959, 0x69696969,
+        0xD7D7D7D5, 0x575757D7, 0x57575757, 0x55555757, 0x55555555, 0x59555555, 0x59595959, 0x59595959,
+        0x69696969, 0x69696969, 0xA9A9A9A9, 0xA9A9A9A9, 0x5556A9A9, 0x55555555, 0x59595555, 0x59595959,
+        0x69695959, 0x69696969, 0x15A96969
+    };
+
     /**
      * <p>Represents the Korean era. </p>
      *
@@ -874,6 +938,11 @@ public final class KoreanCalendar
             return LEAP_MONTHS;
         }
 
+        @Override
+        int[] getLunisolarData() {
+            return LUNISOLAR_DATA;
+        }
+
     }
 
     private static class EraRule
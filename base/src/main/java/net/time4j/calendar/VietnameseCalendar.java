@@ -234,6 +234,70 @@ public final class VietnameseCalendar
         5617, 6, 5620, 4, 5622, 10, 5625, 6, 5628, 5, 5631, 3, 5633, 8, 5636, 6
     };
 
+    // new moons, months without major solar term and winter solstices in compact form (see EastAsianTable)
+    private static final int[] LUNISOLAR_DATA = {
+        -119820, 6904,
+        0x97A4BB25, 0x52B69374, 0xD54D6A5B, 0x6E92EAA6, 0x4ADA4DD2, 0xD52DA95D, 0xB6556AAA, 0x2B69374A,
+        0x54B6A575, 0xD555AAAB, 0xADA55D2A, 0x92DC95D4, 0xD555AA5D, 0xB6956CAA, 0x4B725752, 0x6956C976,
+        0xDA55B4AB, 0x2DC95D4A, 0xA55D25D9, 0x5A56B4AD, 0xB6A5754B, 0x92F49764, 0x6A56D2AE, 0xDAA6B54B,
+        0x4BD25D92, 0xA95B49BA, 0x6AAAD52D, 0x374A7555, 0xA56D26E9, 0x6AAAD4AE, 0x5B2AB555, 0x95B4ABA5,
+        0xAA9B52BA, 0x6CAAD555, 0x56D2AE95, 0xC96E8AEA, 0xAAAAD956, 0x5B4AB655, 0x45BA2BA9, 0xB4AB64BB,
+        0x6D4ADA55, 0x16E4AEA5, 0xD4AEA2ED, 0xB54B5A56, 0x5B54BAA5, 0x51BA8BB4, 0xB52B6A57, 0x6D535AA6,
+        0x46EA2ECA, 0xD52DA95D, 0xB5556AA6, 0x2BA95B2A, 0x54B6A575, 0xB5556A97, 0xAD955AAA, 0x8AEA95D4,
+        0xD54DB25D, 0xB6556AAA, 0x4BAA5B52, 0x69374576, 0xD6556CAB, 0x2DA95D4A, 0xA2DD15D9, 0xDA55B49D,
+        0xB6A56D4A, 0x8B749754, 0x6A575276, 0xDAA5B54B, 0x2DD26D52, 0xA95D49DA, 0x5AA5B52B, 0x36AAAD55,
+        0xA5752769, 0x6A96D4AE, 0x5AAAB553, 0x95D4AD95, 0xB25D92BA, 0x6AAAD54D, 0x5752B595, 0xC9764B6A,
+        0x6D2AE92E, 0x5B4AB555, 0x25D92DA9, 0xB49BA4BD, 0x6D4ADA95, 0x9754B6A5, 0xD26E92EC, 0x6D4AEA56,
+        0x5B52D6A5, 0x49BA4BB2, 0xB52BA93B, 0xAD54DAA5, 0x26E936AA, 0xD4AEA4ED, 0xAD536A96, 0xAB655AAA,
+        0x52BA95B4, 0xB54BAA5B, 0xAD555AAA, 0x4AEA56D2, 0xD92EC96D, 0xB5556B26, 0x2BA95B4A, 0x64BB25B5,
+        0xB6957497, 0xADA55B4A, 0x92EC96D4, 0xDA4DD25E, 0xB6A56D4A, 0x4BAA5B52, 0x6937497A, 0xD6A5752B,
+        0x2DAA6B54, 0xA4DD26D9, 0xDA95D4AD, 0x56AAAD52, 0x93749B55, 0x6A5752B6, 0x5AAAB54B, 0x55D2AD55,
+        0xA95D4ADA, 0x5AA5D52B, 0x56AAAD55, 0xA5752B69, 0x6C9764AE, 0x5ACAB653, 0x95D4ADA5, 0xD25D92DA,
+        0x5B4ABA4D, 0x56D4B5A5, 0x49764B6A, 0x6D2AE92F, 0x5B54B6A5, 0x25D92DAA, 0xB49BA4BD, 0xAB52BA95,
+        0x9B5556AA, 0xD26E936C, 0x6D4AEA56, 0xAB5556A9, 0x49BA55B2, 0xB52BA95D, 0xAD555AA5, 0x2AE956AA,
+        0xE4AEA56D, 0xAD92EC96, 0xAB6556AA, 0x92BA95B4, 0xB64BB25B, 0xADA55B4A, 0x4AEA56D4, 0xE92EC96E,
+        0xADA56D26, 0x2BAA5AD4, 0xA4BB25B5, 0xB6957497, 0x35AA5B52, 0x92ECA6D5, 0xDA4DD26E, 0x56A96D4A,
+        0x55AAAB55, 0xA93749BA, 0x36A5752B, 0x55AAAB55, 0xA55D2AD9, 0xDA95D4AE, 0x56AAAD92, 0x9574AB55,
+        0x745752BA, 0x56CAB64B, 0x95B4AB55, 0xD15D4ADA, 0x5D25DA2D, 0x56D4ADA5, 0x25754B6A, 0x751768B7,
+        0x5AD2B6A5, 0xA6D52DAA, 0xD45DA2DA, 0x5B52BA8D, 0xAAD535A9, 0x5176536A, 0x6D4AEA37, 0xAB5536A9,
+        0x4AD955AA, 0xB52BA95D, 0xAB54BAA5, 0xAAD555AA, 0x54B6A56C, 0x6E92EC57, 0xAB5556CA, 0x52DA95B2,
+        0xBA2BB25D, 0xAB655B49, 0x4B6A56B4, 0xE8AEA96D, 0xAEA4ED16, 0x2B6A56D2, 0xA4BAA5B5, 0xBA93B45B,
+        0x2DAA5B52, 0x936AA6D5, 0xEA4ED26E, 0x2EA96D4A, 0x556AAAD5, 0xA93B49B5, 0xB6A5752B, 0x55AA9B54,
+        0xA56CAAD5, 0xEC95D4AE, 0x55AA5D92, 0x95AAAAD5, 0xB25B52BA, 0x3749764B, 0x55AAAB69, 0x006D4ADA,
+        0x00080000, 0x00800000, 0x02000000, 0x00800000, 0x08000000, 0x40000000, 0x10000000, 0x80000000,
+        0x00000000, 0x00000004, 0x00000020, 0x00000008, 0x00000040, 0x00000200, 0x00000880, 0x00000400,
+        0x00002000, 0x00020000, 0x00004000, 0x00020000, 0x00100000, 0x01020000, 0x00200000, 0x01000000,
+        0x10000000, 0x02000000, 0x10000000, 0x80000000, 0x20000000, 0x00000000, 0x00000001, 0x00000008,
+        0x00000040, 0x00000010, 0x00000080, 0x00000800, 0x00000200, 0x00000800, 0x00004000, 0x00040000,
+        0x00008000, 0x00040000, 0x00400000, 0x00100000, 0x00400000, 0x04000000, 0x10000000, 0x04000000,
+        0x20000000, 0x00000000, 0x00000001, 0x00000005, 0x00000002, 0x00000020, 0x00000100, 0x00000020,
+        0x00000100, 0x00001000, 0x00008400, 0x00001000, 0x00008000, 0x00040000, 0x00010000, 0x00080000,
+        0x00400000, 0x04100000, 0x00800000, 0x04000000, 0x40000000, 0x08000000, 0x40000000, 0x00000000,
+        0x00000004, 0x00000011, 0x00000004, 0x00000020, 0x00000200, 0x00000040, 0x00000200, 0x00002000,
+        0x00010400, 0x00004000, 0x00020000, 0x00100000, 0x00040000, 0x00100000, 0x01000000, 0x02800000,
+        0x01000000, 0x10000000, 0x80000000, 0x10000000, 0x80000000, 0x00000000, 0x00000008, 0x00000040,
+        0x00000008, 0x00000080, 0x00000400, 0x00000100, 0x00000400, 0x00004000, 0x00020000, 0x00004000,
+        0x00040000, 0x00200000, 0x00040000, 0x00400000, 0x02000000, 0x10000000, 0x02000000, 0x20000000,
+        0x00000000, 0x20000001, 0x00000000, 0x00000002, 0x00000010, 0x00000080, 0x00000020, 0x00000100,
+        0x00000800, 0x00000200, 0x00001000, 0x00008000, 0x00080000, 0x00010000, 0x00080000, 0x00800000,
+        0x00100000, 0x00800000, 0x04000000, 0x20000000, 0x08000000, 0x40000000, 0x00000000, 0x80000002,
+        0x00000000, 0x00000002, 0x00000020, 0x00000100, 0x00000040, 0x00000200, 0x00002000, 0x00000800,
+        0x00002000, 0x00010000, 0x00080000, 0x00010000, 0x00100000, 0x00800000, 0x05200000, 0x01000000,
+        0x10000000, 0x40000000, 0x10000000, 0x80000000, 0x00000000, 0x00000004, 0x00000011, 0x00000008,
+        0x00000040, 0x00000400, 0x00000080, 0x00000400, 0x00004000, 0x00000800, 0x00004000, 0x00020000,
+        0x00200000, 0x00040000, 0x00200000, 0x02000000, 0x00400000, 0x02000000, 0x10000000, 0x80000000,
+        0x20000000, 0x00000000, 0x00000001, 0x00000010, 0x00000004, 0x00000010, 0x00000080, 0x00000800,
+        0x00000100, 0x00000800, 0x00008000, 0x0002A000, 0x00008000, 0x00080000, 0x00200000, 0x00080000,
+        0x00400000, 0x04000000, 0x10800000, 0x04000000, 0x40000000, 0x00000000, 0x40000002, 0x00000000,
+        0x00000004, 0x00000020, 0x00000090, 0x00000020, 0x00000200, 0x00001000, 0x00000200, 0x00002000,
+        0x00010000, 0x00082000, 0x00010000, 0x00100000, 0x00800000, 0x00100000, 0x01000000, 0x00000000,
+        0xA9A9A9A9, 0xA9A9A9A9, 0xAAAAAAAA, 0x5556AAAA, 0x59595959, 0x59595959, 0x69696959, 0x69696969,
+        0xA9A9A969, 0x55A9A9A9, 0x55575757, 0x55555555, 0x59595555, 0x59595959, 0x69595959, 0x69696969,
+        0x57D7D7D5, 0x57575757, 0x57575757, 0x55555555, 0x55555555, 0x59595959, 0x59595959, 0x69696959,
+        0x69696969, 0xA9A9A969, 0xA9A9A9A9, 0xAAAAA9A9, 0x5556AAAA, 0x59555555, 0x59595959, 0x69595959,
+        0x69696969, 0x69696969, 0x15A9A9A9
+    };
+
     /**
      * <p>Represents the cycle number related to the introduction of sexagesimal cycles
      * by the legendary Chinese yellow emperor Huang-Di on -2636-02-15 (gregorian). </p>
@@ -800,6 +864,11 @@ public final class VietnameseCalendar
             return LEAP_MONTHS;
         }
 
+        @Override
+        int[] getLunisolarData() {
+            return LUNISOLAR_DATA;
+        }
+
         @Override
         boolean isValid(
             int cycle,
@@ -0,0 +1,173 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (YearCache.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.calendar;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+
+/**
+ * <p>Begrenzter und thread-sicherer Cache von Jahresstrukturen eines Kalendersystems. </p>
+ *
+ * <p>Der Cache ist direkt abgebildet: Jedes Jahr hat genau einen Platz (Jahr modulo Kapazit&auml;t),
+ * so dass aufeinanderfolgende Jahre sich nicht gegenseitig verdr&auml;ngen. Die Eintr&auml;ge sind
+ * unver&auml;nderlich und werden ohne Sperre gelesen und geschrieben. Wenn zwei Threads gleichzeitig
+ * dasselbe Jahr berechnen, gewinnt einfach der letzte Schreibzugriff, weil beide Ergebnisse gleich
+ * sind. </p>
+ *
+ * <p>Ein Jahr wird erst nach mehreren Fehlgriffen in Folge auf seinem Platz geladen. Vorher merkt
+ * der Cache nur das Jahr mit einem Z&auml;hler vor und liefert {@code null}, so dass der Aufrufer
+ * direkt rechnet. Zuf&auml;llige Zugriffe ohne Lokalit&auml;t kosten deshalb kaum mehr als ohne Cache
+ * und verdr&auml;ngen auch keine geladenen Jahre, w&auml;hrend wiederholte Zugriffe auf dieselben
+ * Jahre die Struktur nutzen. </p>
+ *
+ * <p>Die Kapazit&auml;t kann mit der System-Property &quot;net.time4j.calendar.year.cache.size&quot;
+ * eingestellt werden (Standard: {@code 64}, der Wert {@code 0} schaltet den Cache ab, so dass immer
+ * {@code null} geliefert wird). </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+final class YearCache {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int DEFAULT_SIZE = Integer.getInteger("net.time4j.calendar.year.cache.size", 64);
+
+    private static final int ADMISSION = 4; // Anzahl der Fehlgriffe in Folge, bis ein Jahr geladen wird
+    private static final long NO_CANDIDATE = ((long) Integer.MIN_VALUE) << 32;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final AtomicReferenceArray<Entry> entries;
+    private final AtomicLongArray candidates; // Jahr im oberen Wort, Zähler der Fehlgriffe im unteren Wort
+    private final int mask;
+    private final IntFunction<long[]> loader;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Erzeugt einen Cache mit der konfigurierten Standardgr&ouml;&szlig;e. </p>
+     *
+     * @param   loader      calculates the structure of given year (must be pure)
+     */
+    YearCache(IntFunction<long[]> loader) {
+        this(DEFAULT_SIZE, loader);
+    }
+
+    /**
+     * <p>Erzeugt einen Cache mit mindestens der angegebenen Gr&ouml;&szlig;e. </p>
+     *
+     * @param   size        count of cached years (rounded up to a power of two)
+     * @param   loader      calculates the structure of given year (must be pure)
+     */
+    YearCache(
+        int size,
+        IntFunction<long[]> loader
+    ) {
+        super();
+
+        int capacity = ((size <= 0) ? 0 : Integer.highestOneBit(Math.min(size, 1 << 20) * 2 - 1));
+
+        this.entries = new AtomicReferenceArray<>(capacity);
+        this.candidates = new AtomicLongArray(capacity);
+
+        for (int i = 0; i < capacity; i++) {
+            this.candidates.set(i, NO_CANDIDATE);
+        }
+        this.mask = capacity - 1;
+        this.loader = loader;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Liefert die Jahresstruktur, die nicht ver&auml;ndert werden darf. </p>
+     *
+     * @param   year    year key
+     * @return  year structure as primitive array or {@code null} if the caller shall calculate directly
+     */
+    long[] get(int year) {
+
+        if (this.mask < 0) {
+            return null;
+        }
+
+        int slot = year & this.mask;
+        Entry entry = this.entries.get(slot);
+
+        if ((entry != null) && (entry.year == year)) {
+            return entry.data;
+        }
+
+        long candidate = this.candidates.get(slot);
+        int misses = (((int) (candidate >> 32) == year) ? (int) candidate + 1 : 1);
+
+        if (misses < ADMISSION) {
+            this.candidates.set(slot, (((long) year) << 32) | misses);
+            return null;
+        }
+
+        entry = new Entry(year, this.loader.apply(year));
+        this.entries.set(slot, entry);
+        return entry.data;
+
+    }
+
+    /**
+     * <p>Liefert die Kapazit&auml;t. </p>
+     *
+     * @return  maximum count of cached years
+     */
+    int capacity() {
+
+        return this.mask + 1;
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class Entry {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final int year;
+        private final long[] data;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Entry(
+            int year,
+            long[] data
+        ) {
+            super();
+
+            this.year = year;
+            this.data = data;
+
+        }
+
+    }
+
+}
@@ -24,8 +24,11 @@ package net.time4j.calendar.astro;
 import net.time4j.Moment;
 import net.time4j.PlainTimestamp;
 import net.time4j.base.MathUtils;
+import net.time4j.range.MomentInterval;
 
 import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 
 /**
@@ -258,6 +261,61 @@ public enum MoonPhase {
 
 	}
 
+	/**
+	 * <p>Enumerates all moon phases of this type which are within given moment interval. </p>
+	 *
+	 * <p>Only the first and the last lunation are determined by searching, all other phases
+	 * are obtained by stepping lunation by lunation. This is much faster than repeated
+	 * calls of {@link #after(Moment)} if many consecutive phases are needed. Example: </p>
+	 *
+	 * <pre>
+	 *     MomentInterval year2018 =
+	 *       MomentInterval.between(
+	 *         PlainTimestamp.of(2018, 1, 1, 0, 0).atUTC(),
+	 *         PlainTimestamp.of(2019, 1, 1, 0, 0).atUTC());
+	 *     System.out.println(MoonPhase.FULL_MOON.within(year2018).count()); // 12
+	 * </pre>
+	 *
+	 * @param 	interval	finite moment interval (open or closed boundaries are respected)
+	 * @return	ordered stream of all moments of this phase inside given interval
+	 * @throws  IllegalArgumentException if the interval is infinite or if the associated years are not in
+	 * 			the range {@code -2000 <= year <= 3000}
+	 * @since 	5.0
+	 */
+	/*[deutsch]
+	 * <p>Z&auml;hlt alle Mondphasen dieses Typs auf, die innerhalb des angegebenen Intervalls liegen. </p>
+	 *
+	 * <p>Nur die erste und die letzte Lunation werden per Suche bestimmt, alle anderen Phasen werden
+	 * durch schrittweises Weiterz&auml;hlen der Lunationen ermittelt. Das ist viel schneller als
+	 * wiederholte Aufrufe von {@link #after(Moment)}, wenn viele aufeinanderfolgende Phasen
+	 * gebraucht werden. Beispiel: </p>
+	 *
+	 * <pre>
+	 *     MomentInterval year2018 =
+	 *       MomentInterval.between(
+	 *         PlainTimestamp.of(2018, 1, 1, 0, 0).atUTC(),
+	 *         PlainTimestamp.of(2019, 1, 1, 0, 0).atUTC());
+	 *     System.out.println(MoonPhase.FULL_MOON.within(year2018).count()); // 12
+	 * </pre>
+	 *
+	 * @param 	interval	finite moment interval (open or closed boundaries are respected)
+	 * @return	ordered stream of all moments of this phase inside given interval
+	 * @throws  IllegalArgumentException if the interval is infinite or if the associated years are not in
+	 * 			the range {@code -2000 <= year <= 3000}
+	 * @since 	5.0
+	 */
+	public Stream<Moment> within(MomentInterval interval) {
+
+		if (!interval.isFinite()) {
+			throw new IllegalArgumentException("Moment interval must be finite: " + interval);
+		}
+
+		int first = this.firstLunation(interval.getStart().getTemporal(), interval.getStart().isClosed());
+		int last = this.lastLunation(interval.getEnd().getTemporal(), interval.getEnd().isClosed());
+		return IntStream.rangeClosed(first, last).mapToObj(this::atLunation);
+
+	}
+
 	/**
 	 * <p>Obtains the minimum supported lunation. </p>
 	 *
@@ -500,6 +558,56 @@ public enum MoonPhase {
 
 	}
 
+	// erste Lunation am (inclusive) oder nach dem angegebenen Moment
+	private int firstLunation(
+		Moment moment,
+		boolean inclusive
+	) {
+
+		int n = this.getEstimatedLunations(moment);
+
+		while (!isAfter(this.atLunation(n), moment, inclusive)) {
+			n++;
+		}
+
+		while (isAfter(this.atLunation(n - 1), moment, inclusive)) {
+			n--;
+		}
+
+		return n;
+
+	}
+
+	// letzte Lunation am (inclusive) oder vor dem angegebenen Moment
+	private int lastLunation(
+		Moment moment,
+		boolean inclusive
+	) {
+
+		int n = this.getEstimatedLunations(moment);
+
+		while (isAfter(this.atLunation(n), moment, !inclusive)) {
+			n--;
+		}
+
+		while (!isAfter(this.atLunation(n + 1), moment, !inclusive)) {
+			n++;
+		}
+
+		return n;
+
+	}
+
+	private static boolean isAfter(
+		Moment test,
+		Moment moment,
+		boolean inclusive
+	) {
+
+		return (inclusive ? !test.isBefore(moment) : test.isAfter(moment));
+
+	}
+
 	private double periodic24(
 		double excentricity,
 		double solarAnomaly,
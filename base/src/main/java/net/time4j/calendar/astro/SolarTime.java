@@ -33,6 +33,7 @@ import net.time4j.engine.ChronoCondition;
 import net.time4j.engine.ChronoException;
 import net.time4j.engine.ChronoFunction;
 import net.time4j.engine.EpochDays;
+import net.time4j.range.DateInterval;
 import net.time4j.scale.LeapSeconds;
 import net.time4j.scale.TimeScale;
 import net.time4j.tz.OffsetSign;
@@ -44,6 +45,7 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -742,6 +744,142 @@ public final class SolarTime
 
     }
 
+    /**
+     * <p>Calculates the moments of sunrise for all days of given date interval. </p>
+     *
+     * <p>This bulk method is equivalent to evaluating {@link #sunrise()} day by day but avoids
+     * the repeated evaluation of location-dependent intermediate values and does not create
+     * any temporary result objects per day. Every array element contains the count of seconds
+     * since the UNIX epoch [1970-01-01T00:00:00Z] (without leap seconds, fractions of seconds
+     * truncated) or {@code Long.MIN_VALUE} if the sun does not rise on the corresponding day. </p>
+     *
+     * <p>Instances of this class are immutable so many locations can be evaluated in parallel,
+     * see also {@link #sunriseSeries(List, DateInterval)}. </p>
+     *
+     * @param   interval    finite date interval
+     * @return  primitive array of POSIX seconds with one element per day of given interval
+     * @throws  IllegalArgumentException if the interval is infinite or too long
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Berechnet die Momente des Sonnenaufgangs f&uuml;r alle Tage des angegebenen Datumsintervalls. </p>
+     *
+     * <p>Diese Massenmethode entspricht der tageweisen Auswertung von {@link #sunrise()}, vermeidet aber
+     * die wiederholte Berechnung von positionsabh&auml;ngigen Zwischenwerten und erzeugt keine
+     * tempor&auml;ren Ergebnisobjekte pro Tag. Jedes Array-Element enth&auml;lt die Anzahl der Sekunden
+     * seit der UNIX-Epoche [1970-01-01T00:00:00Z] (ohne Schaltsekunden, Sekundenbruchteile abgeschnitten)
+     * oder {@code Long.MIN_VALUE}, wenn die Sonne am zugeh&ouml;rigen Tag nicht aufgeht. </p>
+     *
+     * <p>Instanzen dieser Klasse sind unver&auml;nderlich, so da&szlig; viele Positionen parallel
+     * ausgewertet werden k&ouml;nnen, siehe auch {@link #sunriseSeries(List, DateInterval)}. </p>
+     *
+     * @param   interval    finite date interval
+     * @return  primitive array of POSIX seconds with one element per day of given interval
+     * @throws  IllegalArgumentException if the interval is infinite or too long
+     * @since   5.0
+     */
+    public long[] sunriseSeries(DateInterval interval) {
+
+        return this.series(true, interval, this.zenithAngle());
+
+    }
+
+    /**
+     * <p>Calculates the times of given twilight at sunrise for all days of given date interval. </p>
+     *
+     * <p>This bulk method is equivalent to evaluating {@link #sunrise(Twilight)} day by day.
+     * The format of the result is described in {@link #sunriseSeries(DateInterval)}. </p>
+     *
+     * @param   interval    finite date interval
+     * @param   twilight    relevant definition of twilight
+     * @return  primitive array of POSIX seconds with one element per day of given interval
+     * @throws  IllegalArgumentException if the interval is infinite or too long
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Berechnet die Zeiten der angegebenen D&auml;mmerung zum Sonnenaufgang f&uuml;r alle Tage
+     * des angegebenen Datumsintervalls. </p>
+     *
+     * <p>Diese Massenmethode entspricht der tageweisen Auswertung von {@link #sunrise(Twilight)}.
+     * Das Ergebnisformat ist in {@link #sunriseSeries(DateInterval)} beschrieben. </p>
+     *
+     * @param   interval    finite date interval
+     * @param   twilight    relevant definition of twilight
+     * @return  primitive array of POSIX seconds with one element per day of given interval
+     * @throws  IllegalArgumentException if the interval is infinite or too long
+     * @since   5.0
+     */
+    public long[] sunriseSeries(
+        DateInterval interval,
+        Twilight twilight
+    ) {
+
+        return this.series(true, interval, 90.0 + this.geodeticAngle() + twilight.getAngle());
+
+    }
+
+    /**
+     * <p>Calculates the moments of sunset for all days of given date interval. </p>
+     *
+     * <p>This bulk method is equivalent to evaluating {@link #sunset()} day by day. The format
+     * of the result is described in {@link #sunriseSeries(DateInterval)}. </p>
+     *
+     * @param   interval    finite date interval
+     * @return  primitive array of POSIX seconds with one element per day of given interval
+     * @throws  IllegalArgumentException if the interval is infinite or too long
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Berechnet die Momente des Sonnenuntergangs f&uuml;r alle Tage des angegebenen Datumsintervalls. </p>
+     *
+     * <p>Diese Massenmethode entspricht der tageweisen Auswertung von {@link #sunset()}. Das
+     * Ergebnisformat ist in {@link #sunriseSeries(DateInterval)} beschrieben. </p>
+     *
+     * @param   interval    finite date interval
+     * @return  primitive array of POSIX seconds with one element per day of given interval
+     * @throws  IllegalArgumentException if the interval is infinite or too long
+     * @since   5.0
+     */
+    public long[] sunsetSeries(DateInterval interval) {
+
+        return this.series(false, interval, this.zenithAngle());
+
+    }
+
+    /**
+     * <p>Calculates the times of given twilight at sunset for all days of given date interval. </p>
+     *
+     * <p>This bulk method is equivalent to evaluating {@link #sunset(Twilight)} day by day.
+     * The format of the result is described in {@link #sunriseSeries(DateInterval)}. </p>
+     *
+     * @param   interval    finite date interval
+     * @param   twilight    relevant definition of twilight
+     * @return  primitive array of POSIX seconds with one element per day of given interval
+     * @throws  IllegalArgumentException if the interval is infinite or too long
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Berechnet die Zeiten der angegebenen D&auml;mmerung zum Sonnenuntergang f&uuml;r alle Tage
+     * des angegebenen Datumsintervalls. </p>
+     *
+     * <p>Diese Massenmethode entspricht der tageweisen Auswertung von {@link #sunset(Twilight)}.
+     * Das Ergebnisformat ist in {@link #sunriseSeries(DateInterval)} beschrieben. </p>
+     *
+     * @param   interval    finite date interval
+     * @param   twilight    relevant definition of twilight
+     * @return  primitive array of POSIX seconds with one element per day of given interval
+     * @throws  IllegalArgumentException if the interval is infinite or too long
+     * @since   5.0
+     */
+    public long[] sunsetSeries(
+        DateInterval interval,
+        Twilight twilight
+    ) {
+
+        return this.series(false, interval, 90.0 + this.geodeticAngle() + twilight.getAngle());
+
+    }
+
     /**
      * <p>Queries a given calendar date for its associated sunshine data. </p>
      *
@@ -1200,6 +1338,74 @@ public final class SolarTime
 
     }
 
+    /**
+     * <p>Calculates the moments of sunrise for many locations and all days of given date interval
+     * in parallel. </p>
+     *
+     * <p>The locations are distributed over the common fork-join-pool. The result array has the same
+     * order as the list of locations, and every element has the format described in
+     * {@link #sunriseSeries(DateInterval)}. </p>
+     *
+     * @param   locations   list of solar time locations
+     * @param   interval    finite date interval
+     * @return  primitive arrays of POSIX seconds, one array per location
+     * @throws  IllegalArgumentException if the interval is infinite or too long
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Berechnet die Momente des Sonnenaufgangs f&uuml;r viele Positionen und alle Tage des angegebenen
+     * Datumsintervalls parallel. </p>
+     *
+     * <p>Die Positionen werden auf den gemeinsamen Fork-Join-Pool verteilt. Das Ergebnis-Array hat die
+     * gleiche Reihenfolge wie die Liste der Positionen, und jedes Element hat das in
+     * {@link #sunriseSeries(DateInterval)} beschriebene Format. </p>
+     *
+     * @param   locations   list of solar time locations
+     * @param   interval    finite date interval
+     * @return  primitive arrays of POSIX seconds, one array per location
+     * @throws  IllegalArgumentException if the interval is infinite or too long
+     * @since   5.0
+     */
+    public static long[][] sunriseSeries(
+        List<SolarTime> locations,
+        DateInterval interval
+    ) {
+
+        return locations.parallelStream().map(location -> location.sunriseSeries(interval)).toArray(long[][]::new);
+
+    }
+
+    /**
+     * <p>Calculates the moments of sunset for many locations and all days of given date interval
+     * in parallel. </p>
+     *
+     * @param   locations   list of solar time locations
+     * @param   interval    finite date interval
+     * @return  primitive arrays of POSIX seconds, one array per location
+     * @throws  IllegalArgumentException if the interval is infinite or too long
+     * @see     #sunriseSeries(List, DateInterval)
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Berechnet die Momente des Sonnenuntergangs f&uuml;r viele Positionen und alle Tage des angegebenen
+     * Datumsintervalls parallel. </p>
+     *
+     * @param   locations   list of solar time locations
+     * @param   interval    finite date interval
+     * @return  primitive arrays of POSIX seconds, one array per location
+     * @throws  IllegalArgumentException if the interval is infinite or too long
+     * @see     #sunriseSeries(List, DateInterval)
+     * @since   5.0
+     */
+    public static long[][] sunsetSeries(
+        List<SolarTime> locations,
+        DateInterval interval
+    ) {
+
+        return locations.parallelStream().map(location -> location.sunsetSeries(interval)).toArray(long[][]::new);
+
+    }
+
     // used in test classes, too
     double getHighestElevationOfSun(PlainDate date) {
 
@@ -1237,9 +1443,19 @@ public final class SolarTime
         String calculator
     ) {
 
+        return fromLocalEvent(date.getDaysSinceEpochUTC(), hourOfEvent, longitude, CALCULATORS.get(calculator));
+
+    }
+
+    static Moment fromLocalEvent(
+        long utcDays,
+        int hourOfEvent,
+        double longitude,
+        Calculator c
+    ) {
+
         // numerical approximation of equation-of-time in two steps
-        Calculator c = CALCULATORS.get(calculator);
-        double elapsed = date.getDaysSinceEpochUTC() * 86400 + hourOfEvent * 3600 - longitude * 240;
+        double elapsed = utcDays * 86400 + hourOfEvent * 3600 - longitude * 240;
         long secs = (long) Math.floor(elapsed);
         int nanos = (int) ((elapsed - secs) * 1_000_000_000);
         TimeScale scale = TimeScale.UT;
@@ -1339,7 +1555,7 @@ public final class SolarTime
 
     private CalendarDate toLMT(CalendarDate input) {
 
-        if ((this.observerZoneID == null) || (Math.abs(this.longitude) < 150.0)) {
+        if (this.isLMT()) {
             return input;
         }
 
@@ -1356,6 +1572,59 @@ public final class SolarTime
 
     }
 
+    // Eingabedatum entspricht bereits dem LMT-Datum?
+    private boolean isLMT() {
+
+        return ((this.observerZoneID == null) || (Math.abs(this.longitude) < 150.0));
+
+    }
+
+    private long[] series(
+        boolean rise,
+        DateInterval interval,
+        double zenith
+    ) {
+
+        if (!interval.isFinite()) {
+            throw new IllegalArgumentException("Date interval must be finite: " + interval);
+        }
+
+        long count = interval.getLengthInDays();
+
+        if (count > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Date interval is too long: " + interval);
+        }
+
+        long utcDays = interval.getStartAsCalendarDate().getDaysSinceEpochUTC();
+
+        if (interval.getStart().isOpen()) {
+            utcDays++;
+        }
+
+        long[] result = new long[(int) count];
+        Calculator c = this.getCalculator();
+
+        if (
+            this.isLMT()
+            && (c instanceof StdSolarCalculator)
+            && StdSolarCalculator.class.cast(c).events(rise, utcDays, this.latitude, this.longitude, zenith, result)
+        ) {
+            return result;
+        }
+
+        for (int i = 0; i < result.length; i++) {
+            CalendarDate date = this.toLMT(PlainDate.of(utcDays + i, EpochDays.UTC));
+            Optional<Moment> event = (
+                rise
+                ? c.sunrise(date, this.latitude, this.longitude, zenith)
+                : c.sunset(date, this.latitude, this.longitude, zenith));
+            result[i] = (event.isPresent() ? event.get().getPosixTime() : Long.MIN_VALUE);
+        }
+
+        return result;
+
+    }
+
     private static boolean equalZones(
         TZID z1,
         TZID z2
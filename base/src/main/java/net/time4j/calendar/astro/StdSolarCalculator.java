@@ -398,25 +398,45 @@ public enum StdSolarCalculator
             double zenith
         ) {
             Moment m = SolarTime.fromLocalEvent(date, 12, longitude, this.name()); // noon
-            double jde = JulianDay.getValue(m, TimeScale.TT);
-            double H = localHourAngle(rise, jde, latitude, zenith);
-            if (Double.isNaN(H)) {
+            Moment utc = this.event(rise, m, new Horizon(latitude, zenith));
+            if (utc == null) {
                 return Optional.empty();
             } else {
-                H = localHourAngle(rise, jde + H / 86400, latitude, zenith); // corrected for local time of day
+                return Optional.of(utc.with(Moment.PRECISION, TimeUnit.SECONDS));
+            }
+        }
+        @Override
+        boolean events(boolean rise, long utcDays, double latitude, double longitude, double zenith, long[] result) {
+            Horizon horizon = new Horizon(latitude, zenith);
+            for (int i = 0; i < result.length; i++) {
+                Moment m = SolarTime.fromLocalEvent(utcDays + i, 12, longitude, this); // noon
+                result[i] = posix(this.event(rise, m, horizon));
+            }
+            return true;
+        }
+        private Moment event(
+            boolean rise,
+            Moment noon,
+            Horizon horizon
+        ) {
+            double jde = JulianDay.getValue(noon, TimeScale.TT);
+            double H = localHourAngle(rise, jde, horizon);
+            if (Double.isNaN(H)) {
+                return null;
+            } else {
+                H = localHourAngle(rise, jde + H / 86400, horizon); // corrected for local time of day
                 if (Double.isNaN(H)) {
-                    return Optional.empty();
+                    return null;
                 } else {
                     long secs = (long) Math.floor(H);
                     int nanos = (int) ((H - secs) * 1_000_000_000);
-                    Moment utc = m.plus(secs, TimeUnit.SECONDS).plus(nanos, TimeUnit.NANOSECONDS);
-                    return Optional.of(utc.with(Moment.PRECISION, TimeUnit.SECONDS));
+                    return noon.plus(secs, TimeUnit.SECONDS).plus(nanos, TimeUnit.NANOSECONDS);
                 }
             }
         }
-        private double localHourAngle(boolean rise, double jde, double latitude, double zenith) {
+        private double localHourAngle(boolean rise, double jde, Horizon horizon) {
             double jct = toJulianCenturies(jde);
-            double H = localHourAngle(jct, latitude, zenith);
+            double H = horizon.hourAngle(declinationRad(jct)); // W2-term in NOAA-Excel-sheet
             if (Double.isNaN(H)) {
                 return Double.NaN;
             } else {
@@ -445,23 +465,6 @@ public enum StdSolarCalculator
         private double excentricity(double jct) {
             return 0.016708634 - (0.000042037 + 0.0000001267 * jct) * jct;
         }
-        // W2-term in NOAA-Excel-sheet
-        private double localHourAngle(
-            double jct,
-            double latitude,
-            double zenith
-        ) {
-            double latInRad = Math.toRadians(latitude);
-            double decInRad = declinationRad(jct);
-            double cosH =
-                (Math.cos(Math.toRadians(zenith)) - (Math.sin(decInRad) * Math.sin(latInRad)))
-                    / (Math.cos(decInRad) * Math.cos(latInRad));
-            if ((Double.compare(cosH, 1.0) > 0) || (Double.compare(cosH, -1.0) < 0)) {
-                // the sun never rises or sets on this location (on the specified date)
-                return Double.NaN;
-            }
-            return Math.toDegrees(Math.acos(cosH)) * 240; // in decimal seconds
-        }
         // T2-term in NOAA-Excel-sheet (in radians)
         private double declinationRad(double jct) {
             return Math.asin(
@@ -835,33 +838,44 @@ public enum StdSolarCalculator
             double zenith
         ) {
             Moment m = SolarTime.fromLocalEvent(date, 12, longitude, this.name()); // noon
-            double jde = JulianDay.getValue(m, TimeScale.TT);
+            Moment utc = this.event(rise, m, new Horizon(latitude, zenith));
+            if (utc == null) {
+                return Optional.empty();
+            } else {
+                return Optional.of(utc.with(Moment.PRECISION, TimeUnit.SECONDS));
+            }
+        }
+        @Override
+        boolean events(boolean rise, long utcDays, double latitude, double longitude, double zenith, long[] result) {
+            Horizon horizon = new Horizon(latitude, zenith);
+            for (int i = 0; i < result.length; i++) {
+                Moment m = SolarTime.fromLocalEvent(utcDays + i, 12, longitude, this); // noon
+                result[i] = posix(this.event(rise, m, horizon));
+            }
+            return true;
+        }
+        private Moment event(
+            boolean rise,
+            Moment noon,
+            Horizon horizon
+        ) {
+            double jde = JulianDay.getValue(noon, TimeScale.TT);
             double oldH;
             double newH = 0.0;
             do {
                 oldH = newH;
-                newH = localHourAngle(rise, jde + oldH / 86400, latitude, zenith);
+                newH = localHourAngle(rise, jde + oldH / 86400, horizon);
                 if (Double.isNaN(newH)) {
-                    return Optional.empty();
+                    return null;
                 }
             } while (Math.abs(newH - oldH) >= 15); // usually requires only 2 or 3 loops
             long secs = (long) Math.floor(newH);
             int nanos = (int) ((newH - secs) * 1_000_000_000);
-            Moment utc = m.plus(secs, TimeUnit.SECONDS).plus(nanos, TimeUnit.NANOSECONDS);
-            return Optional.of(utc.with(Moment.PRECISION, TimeUnit.SECONDS));
+            return noon.plus(secs, TimeUnit.SECONDS).plus(nanos, TimeUnit.NANOSECONDS);
         }
-        private double localHourAngle(boolean rise, double jde, double latitude, double zenith) {
+        private double localHourAngle(boolean rise, double jde, Horizon horizon) {
             double jct = toJulianCenturies(jde);
-            double latInRad = Math.toRadians(latitude);
-            double decInRad = declinationRad(jct);
-            double cosH =
-                (Math.cos(Math.toRadians(zenith)) - (Math.sin(decInRad) * Math.sin(latInRad)))
-                    / (Math.cos(decInRad) * Math.cos(latInRad));
-            if ((Double.compare(cosH, 1.0) > 0) || (Double.compare(cosH, -1.0) < 0)) {
-                // the sun never rises or sets on this location (on the specified date)
-                return Double.NaN;
-            }
-            double hourAngle =  Math.toDegrees(Math.acos(cosH)) * 240; // in decimal seconds
+            double hourAngle = horizon.hourAngle(declinationRad(jct)); // in decimal seconds
             if (rise) {
                 hourAngle = -hourAngle;
             }
@@ -985,6 +999,28 @@ public enum StdSolarCalculator
         }
     }
 
+    /**
+     * <p>Calculates sunrise or sunset for consecutive days in one step. </p>
+     *
+     * @param   rise        sunrise or sunset?
+     * @param   utcDays     first day (counted since UTC epoch)
+     * @param   latitude    geographical latitude in decimal degrees ({@code -90.0 <= x <= +90.0})
+     * @param   longitude   geographical longitude in decimal degrees ({@code -180.0 <= x < 180.0})
+     * @param   zenith      the zenith angle in decimal degrees
+     * @param   result      array to be filled with POSIX seconds or {@code Long.MIN_VALUE} if there is no event
+     * @return  {@code true} if supported else {@code false} (then the result array is not filled)
+     */
+    boolean events(
+        boolean rise,
+        long utcDays,
+        double latitude,
+        double longitude,
+        double zenith,
+        long[] result
+    ) {
+        return false;
+    }
+
     // Meeus (22.2), in degrees
     static double meanObliquity(double jct) {
         return 23.0 + 26.0 / 60 + (21.448 + (-46.815 + (-0.00059 + 0.001813 * jct) * jct) * jct) / 3600;
@@ -1023,6 +1059,12 @@ public enum StdSolarCalculator
 
     }
 
+    private static long posix(Moment event) {
+
+        return ((event == null) ? Long.MIN_VALUE : event.getPosixTime());
+
+    }
+
     private static double toJulianCenturies(double jde) {
 
         return (jde - 2451545.0) / 36525; // julian centuries (J2000)
@@ -1125,4 +1167,51 @@ public enum StdSolarCalculator
         {2, -1, 0, 2, 2, -3, 0, 0, 0}
     };
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Vorberechnete Winkelfunktionen der geographischen Breite und des Zenitwinkels, die f&uuml;r
+     * alle Tage an derselben Position gleich sind. </p>
+     */
+    private static class Horizon {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final double sinLat;
+        private final double cosLat;
+        private final double cosZenith;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Horizon(
+            double latitude,
+            double zenith
+        ) {
+            super();
+
+            double latInRad = Math.toRadians(latitude);
+            this.sinLat = Math.sin(latInRad);
+            this.cosLat = Math.cos(latInRad);
+            this.cosZenith = Math.cos(Math.toRadians(zenith));
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        // lokaler Stundenwinkel in Sekunden oder NaN
+        double hourAngle(double decInRad) {
+
+            double cosH = (this.cosZenith - (Math.sin(decInRad) * this.sinLat)) / (Math.cos(decInRad) * this.cosLat);
+
+            if ((Double.compare(cosH, 1.0) > 0) || (Double.compare(cosH, -1.0) < 0)) {
+                // the sun never rises or sets on this location (on the specified date)
+                return Double.NaN;
+            }
+
+            return Math.toDegrees(Math.acos(cosH)) * 240; // in decimal seconds
+
+        }
+
+    }
+
 }
@@ -0,0 +1,422 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (CalibratedClock.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.clock;
+
+import net.time4j.Moment;
+import net.time4j.scale.LeapSeconds;
+import net.time4j.scale.TimeScale;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+
+/**
+ * <p>High-resolution clock based on {@link System#nanoTime()} which is periodically recalibrated
+ * against the wall clock of the operating system and never goes backwards. </p>
+ *
+ * <p>In contrast to {@link net.time4j.SystemClock#MONOTONIC} which is calibrated only once, this
+ * clock measures the offset between the monotonic counter and the wall clock again after a
+ * configurable period so that the drift of the counter cannot accumulate. The recalibration is
+ * done lock-free by the first reading thread which observes an expired calibration, no extra
+ * thread is started. The wall clock is read via {@code Clock.systemUTC().instant()} which has
+ * microsecond precision on Java 9 or later. </p>
+ *
+ * <p>All moments obtained from one clock are monotonic across all threads. If a recalibration
+ * detects that the counter was ahead of the wall clock then this clock will hold the last
+ * delivered time until the wall clock has caught up instead of jumping backwards. </p>
+ *
+ * <p>Very hot call sites like request logging which can live with a coarse resolution can use
+ * a {@link #withGranularity(long, TimeUnit) cached view} which reuses the last moment until the
+ * granularity has elapsed. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ * @doctags.concurrency {threadsafe}
+ */
+/*[deutsch]
+ * <p>Hochaufl&ouml;sende Uhr auf der Basis von {@link System#nanoTime()}, die periodisch mit der
+ * Uhr des Betriebssystems abgeglichen wird und nie r&uuml;ckw&auml;rts l&auml;uft. </p>
+ *
+ * <p>Im Unterschied zu {@link net.time4j.SystemClock#MONOTONIC}, die nur einmal geeicht wird,
+ * mi&szlig;t diese Uhr den Versatz zwischen dem monotonen Z&auml;hler und der Betriebssystemuhr nach
+ * einer konfigurierbaren Periode erneut, so da&szlig; sich die Drift des Z&auml;hlers nicht aufsummieren
+ * kann. Die Neueichung erfolgt ohne Sperre durch den ersten lesenden Thread, der eine abgelaufene
+ * Eichung bemerkt, es wird kein zus&auml;tzlicher Thread gestartet. Die Betriebssystemuhr wird mittels
+ * {@code Clock.systemUTC().instant()} gelesen, was ab Java 9 Mikrosekundengenauigkeit hat. </p>
+ *
+ * <p>Alle Momente einer Uhr sind &uuml;ber alle Threads hinweg monoton. Wenn eine Neueichung feststellt,
+ * da&szlig; der Z&auml;hler der Betriebssystemuhr vorausgelaufen ist, wird diese Uhr die zuletzt
+ * gelieferte Zeit halten, bis die Betriebssystemuhr aufgeholt hat, statt r&uuml;ckw&auml;rts zu
+ * springen. </p>
+ *
+ * <p>Sehr h&auml;ufig aufgerufene Stellen wie das Protokollieren von Anfragen, die mit einer groben
+ * Aufl&ouml;sung leben k&ouml;nnen, k&ouml;nnen eine {@link #withGranularity(long, TimeUnit) zwischengespeicherte
+ * Sicht} verwenden, die den letzten Moment wiederverwendet, bis die Granularit&auml;t abgelaufen ist. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ * @doctags.concurrency {threadsafe}
+ */
+public final class CalibratedClock
+    extends AbstractClock {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MRD = 1000000000;
+    private static final long DEFAULT_PERIOD = TimeUnit.MINUTES.toNanos(1);
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final State state;
+    private final long granularity;
+    private final AtomicReference<Snapshot> snapshot;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private CalibratedClock(
+        State state,
+        long granularity
+    ) {
+        super();
+
+        this.state = state;
+        this.granularity = granularity;
+        this.snapshot = new AtomicReference<>();
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a new clock which is recalibrated every minute. </p>
+     *
+     * @return  new calibrated clock
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine neue Uhr, die jede Minute neu geeicht wird. </p>
+     *
+     * @return  new calibrated clock
+     */
+    public static CalibratedClock ofSystem() {
+
+        return new CalibratedClock(new State(DEFAULT_PERIOD), 0);
+
+    }
+
+    /**
+     * <p>Creates a new clock which is recalibrated after given period. </p>
+     *
+     * @param   period      recalibration period
+     * @param   unit        time unit of period
+     * @return  new calibrated clock
+     * @throws  IllegalArgumentException if the period is not positive
+     */
+    /*[deutsch]
+     * <p>Erzeugt eine neue Uhr, die nach der angegebenen Periode neu geeicht wird. </p>
+     *
+     * @param   period      recalibration period
+     * @param   unit        time unit of period
+     * @return  new calibrated clock
+     * @throws  IllegalArgumentException if the period is not positive
+     */
+    public static CalibratedClock ofSystem(
+        long period,
+        TimeUnit unit
+    ) {
+
+        if (period <= 0) {
+            throw new IllegalArgumentException("Recalibration period must be positive: " + period);
+        }
+
+        return new CalibratedClock(new State(unit.toNanos(period)), 0);
+
+    }
+
+    /**
+     * <p>Yields a cached view of this clock which only reads the underlying counter again
+     * if given granularity has elapsed since the last reading. </p>
+     *
+     * <p>The view shares the calibration and the statistics with this clock, and its moments
+     * are monotonic, too. A granularity of zero yields an uncached view. </p>
+     *
+     * @param   amount      granularity of cached time
+     * @param   unit        time unit of granularity
+     * @return  clock view with possibly coarse resolution
+     * @throws  IllegalArgumentException if the amount is negative
+     */
+    /*[deutsch]
+     * <p>Liefert eine zwischengespeicherte Sicht auf diese Uhr, die den zugrundeliegenden Z&auml;hler
+     * nur dann erneut liest, wenn die angegebene Granularit&auml;t seit dem letzten Lesen abgelaufen
+     * ist. </p>
+     *
+     * <p>Die Sicht teilt sich die Eichung und die Statistik mit dieser Uhr, und ihre Momente sind
+     * ebenfalls monoton. Eine Granularit&auml;t von null liefert eine Sicht ohne Zwischenspeicher. </p>
+     *
+     * @param   amount      granularity of cached time
+     * @param   unit        time unit of granularity
+     * @return  clock view with possibly coarse resolution
+     * @throws  IllegalArgumentException if the amount is negative
+     */
+    public CalibratedClock withGranularity(
+        long amount,
+        TimeUnit unit
+    ) {
+
+        if (amount < 0) {
+            throw new IllegalArgumentException("Granularity must not be negative: " + amount);
+        }
+
+        return new CalibratedClock(this.state, unit.toNanos(amount));
+
+    }
+
+    @Override
+    public Moment currentTime() {
+
+        if (this.granularity == 0) {
+            return this.state.toMoment(this.state.nanos(System.nanoTime()));
+        }
+
+        long tick = System.nanoTime();
+        Snapshot current = this.snapshot.get();
+
+        if ((current != null) && (tick - current.tick < this.granularity)) {
+            return current.moment;
+        }
+
+        Snapshot next = new Snapshot(tick, this.state.toMoment(this.state.nanos(tick)));
+
+        if (this.snapshot.compareAndSet(current, next)) {
+            return next.moment;
+        } else {
+            return this.snapshot.get().moment; // newer moment published by another thread
+        }
+
+    }
+
+    /**
+     * <p>Forces an immediate recalibration against the wall clock of the operating system. </p>
+     */
+    /*[deutsch]
+     * <p>Erzwingt eine sofortige Neueichung mit der Uhr des Betriebssystems. </p>
+     */
+    public void recalibrate() {
+
+        this.state.recalibrate(this.state.calibration.get());
+
+    }
+
+    /**
+     * <p>Yields the count of recalibrations since construction of this clock. </p>
+     *
+     * @return  long
+     */
+    /*[deutsch]
+     * <p>Liefert die Anzahl der Neueichungen seit Erzeugung dieser Uhr. </p>
+     *
+     * @return  long
+     */
+    public long getRecalibrationCount() {
+
+        return this.state.recalibrations.get();
+
+    }
+
+    /**
+     * <p>Yields the drift of the counter observed by the last recalibration. </p>
+     *
+     * <p>A positive value means that the wall clock was ahead of the counter. </p>
+     *
+     * @return  drift in nanoseconds
+     */
+    /*[deutsch]
+     * <p>Liefert die bei der letzten Neueichung beobachtete Drift des Z&auml;hlers. </p>
+     *
+     * <p>Ein positiver Wert bedeutet, da&szlig; die Betriebssystemuhr dem Z&auml;hler vorauslief. </p>
+     *
+     * @return  drift in nanoseconds
+     */
+    public long getLastDrift() {
+
+        return this.state.lastDrift.get();
+
+    }
+
+    /**
+     * <p>Yields the maximum absolute drift of the counter observed by any recalibration. </p>
+     *
+     * @return  drift in nanoseconds
+     */
+    /*[deutsch]
+     * <p>Liefert die maximale absolute Drift des Z&auml;hlers, die bei irgendeiner Neueichung
+     * beobachtet wurde. </p>
+     *
+     * @return  drift in nanoseconds
+     */
+    public long getMaximumDrift() {
+
+        return this.state.maxDrift.get();
+
+    }
+
+    @Override
+    public String toString() {
+
+        return "CalibratedClock[period=" + this.state.period + "ns,granularity=" + this.granularity + "ns]";
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Gemeinsamer Zustand einer Uhr und aller ihrer Sichten. </p>
+     */
+    private static class State {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long period;
+        private final boolean utc;
+        private final AtomicReference<Calibration> calibration;
+        private final AtomicLong last = new AtomicLong(Long.MIN_VALUE);
+        private final AtomicLong recalibrations = new AtomicLong();
+        private final AtomicLong lastDrift = new AtomicLong();
+        private final AtomicLong maxDrift = new AtomicLong();
+
+        //~ Konstruktoren -------------------------------------------------
+
+        State(long period) {
+            super();
+
+            this.period = period;
+            this.utc = LeapSeconds.getInstance().isEnabled();
+            this.calibration = new AtomicReference<>(this.measure());
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        // monotone Nanosekunden seit der Epoche (UTC oder POSIX)
+        long nanos(long tick) {
+
+            Calibration c = this.calibration.get();
+
+            if (tick - c.tick >= this.period) {
+                c = this.recalibrate(c);
+            }
+
+            long candidate = tick + c.offset;
+            return this.last.accumulateAndGet(candidate, Math::max);
+
+        }
+
+        Moment toMoment(long nanos) {
+
+            return Moment.of(
+                Math.floorDiv(nanos, MRD),
+                (int) Math.floorMod(nanos, MRD),
+                (this.utc ? TimeScale.UTC : TimeScale.POSIX));
+
+        }
+
+        // nur der Thread, der das CAS gewinnt, aktualisiert die Statistik
+        Calibration recalibrate(Calibration expected) {
+
+            Calibration next = this.measure();
+
+            if (this.calibration.compareAndSet(expected, next)) {
+                long drift = next.offset - expected.offset;
+                this.recalibrations.incrementAndGet();
+                this.lastDrift.set(drift);
+                this.maxDrift.accumulateAndGet(Math.abs(drift), Math::max);
+                return next;
+            }
+
+            return this.calibration.get();
+
+        }
+
+        private Calibration measure() {
+
+            Instant instant = Clock.systemUTC().instant();
+            long tick = System.nanoTime();
+            long secs = instant.getEpochSecond();
+
+            if (this.utc) {
+                secs = LeapSeconds.getInstance().enhance(secs); // Instant wie POSIX behandeln
+            }
+
+            long nanos = Math.multiplyExact(secs, MRD) + instant.getNano();
+            return new Calibration(tick, nanos - tick);
+
+        }
+
+    }
+
+    private static class Calibration {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long tick;
+        private final long offset;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Calibration(
+            long tick,
+            long offset
+        ) {
+            super();
+
+            this.tick = tick;
+            this.offset = offset;
+
+        }
+
+    }
+
+    private static class Snapshot {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long tick;
+        private final Moment moment;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Snapshot(
+            long tick,
+            Moment moment
+        ) {
+            super();
+
+            this.tick = tick;
+            this.moment = moment;
+
+        }
+
+    }
+
+}
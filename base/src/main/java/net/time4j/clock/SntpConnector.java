@@ -397,7 +397,7 @@ public class SntpConnector
 
     //~ Innere Klassen ----------------------------------------------------
 
-    private static class SimpleNtpConfiguration
+    static class SimpleNtpConfiguration
         implements SntpConfiguration {
 
         //~ Instanzvariablen ----------------------------------------------
@@ -0,0 +1,493 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (SntpSampler.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.clock;
+
+import net.time4j.Moment;
+import net.time4j.SystemClock;
+import net.time4j.scale.TimeScale;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.UnresolvedAddressException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Queries several NTP-servers concurrently using non-blocking datagram channels and
+ * combines their replies to one moment. </p>
+ *
+ * <p>In contrast to {@link SntpConnector} which blocks the calling thread during the
+ * connection, all servers are queried by one background thread which waits for all replies
+ * at the same time. The result is delivered as {@code CompletableFuture}. Every server
+ * is asked {@link SntpConfiguration#getRequestCount()} times in direct succession (the
+ * request interval is ignored), and the reply with the minimum round-trip delay is selected
+ * per server because it is least affected by network jitter. The final offset to the local
+ * clock is the median of the selected offsets of all servers so that a single false ticker
+ * cannot falsify the result. Servers which send a kiss-o'-death-packet, announce an alarm
+ * condition or do not reply within their connection timeout are ignored. A connection timeout
+ * of zero is interpreted as {@link NetTimeConfiguration#DEFAULT_CONNECTION_TIMEOUT}. </p>
+ *
+ * <p>Example: </p>
+ *
+ * <pre>
+ *  SntpSampler sampler = SntpSampler.of(&quot;ptbtime1.ptb.de&quot;, &quot;ptbtime2.ptb.de&quot;);
+ *  sampler.sample().thenAccept(System.out::println);
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ * @doctags.concurrency {immutable}
+ */
+/*[deutsch]
+ * <p>Fragt mehrere NTP-Server gleichzeitig mit Hilfe von nicht-blockierenden Datagramm-Kan&auml;len
+ * ab und kombiniert ihre Antworten zu einem Moment. </p>
+ *
+ * <p>Im Unterschied zu {@link SntpConnector}, der den aufrufenden Thread w&auml;hrend der Verbindung
+ * blockiert, werden alle Server von einem Hintergrund-Thread abgefragt, der auf alle Antworten
+ * gleichzeitig wartet. Das Ergebnis wird als {@code CompletableFuture} geliefert. Jeder Server
+ * wird {@link SntpConfiguration#getRequestCount()}-mal direkt nacheinander gefragt (das
+ * Anfrageintervall wird ignoriert), und pro Server wird die Antwort mit der kleinsten Umlaufzeit
+ * ausgew&auml;hlt, weil sie am wenigsten vom Netzwerk-Jitter beeinflu&szlig;t ist. Der endg&uuml;ltige
+ * Versatz zur lokalen Uhr ist der Median der ausgew&auml;hlten Versatzwerte aller Server, so da&szlig;
+ * ein einzelner falsch gehender Server das Ergebnis nicht verf&auml;lschen kann. Server, die ein
+ * Kiss-o'-death-Paket senden, einen Alarmzustand melden oder nicht innerhalb ihrer Wartezeit
+ * antworten, werden ignoriert. Eine Wartezeit von null wird als
+ * {@link NetTimeConfiguration#DEFAULT_CONNECTION_TIMEOUT} interpretiert. </p>
+ *
+ * <p>Beispiel: </p>
+ *
+ * <pre>
+ *  SntpSampler sampler = SntpSampler.of(&quot;ptbtime1.ptb.de&quot;, &quot;ptbtime2.ptb.de&quot;);
+ *  sampler.sample().thenAccept(System.out::println);
+ * </pre>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ * @doctags.concurrency {immutable}
+ */
+public final class SntpSampler {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MIO = 1000000;
+    private static final int PACKET_SIZE = 48;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final List<SntpConfiguration> servers;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private SntpSampler(List<SntpConfiguration> servers) {
+        super();
+
+        this.servers = servers;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates a new sampler for given NTP4-servers using the default port 123. </p>
+     *
+     * @param   servers     addresses of NTP4-servers
+     * @return  new sampler
+     * @throws  IllegalArgumentException if no server is given
+     */
+    /*[deutsch]
+     * <p>Erzeugt ein neues Objekt f&uuml;r die angegebenen NTP4-Server mit dem Standard-Port 123. </p>
+     *
+     * @param   servers     addresses of NTP4-servers
+     * @return  new sampler
+     * @throws  IllegalArgumentException if no server is given
+     */
+    public static SntpSampler of(String... servers) {
+
+        List<SntpConfiguration> configs = new ArrayList<>(servers.length);
+
+        for (String server : servers) {
+            configs.add(new SntpConnector.SimpleNtpConfiguration(server));
+        }
+
+        return SntpSampler.of(configs);
+
+    }
+
+    /**
+     * <p>Creates a new sampler for given server configurations. </p>
+     *
+     * @param   servers     configurations of NTP-servers
+     * @return  new sampler
+     * @throws  IllegalArgumentException if no server is given
+     */
+    /*[deutsch]
+     * <p>Erzeugt ein neues Objekt f&uuml;r die angegebenen Server-Konfigurationen. </p>
+     *
+     * @param   servers     configurations of NTP-servers
+     * @return  new sampler
+     * @throws  IllegalArgumentException if no server is given
+     */
+    public static SntpSampler of(List<? extends SntpConfiguration> servers) {
+
+        if (servers.isEmpty()) {
+            throw new IllegalArgumentException("Missing time servers.");
+        }
+
+        List<SntpConfiguration> configs = new ArrayList<>(servers.size());
+
+        for (SntpConfiguration config : servers) {
+            if (config == null) {
+                throw new NullPointerException("Missing time server configuration.");
+            }
+            configs.add(config);
+        }
+
+        return new SntpSampler(Collections.unmodifiableList(configs));
+
+    }
+
+    /**
+     * <p>Queries all servers in a new daemon thread. </p>
+     *
+     * <p>The returned future fails with an {@code IOException} if no server delivers a
+     * valid reply. </p>
+     *
+     * @return  future current time on POSIX-scale
+     */
+    /*[deutsch]
+     * <p>Fragt alle Server in einem neuen D&auml;mon-Thread ab. </p>
+     *
+     * <p>Das zur&uuml;ckgegebene {@code CompletableFuture} scheitert mit einer {@code IOException},
+     * wenn kein Server eine g&uuml;ltige Antwort liefert. </p>
+     *
+     * @return  future current time on POSIX-scale
+     */
+    public CompletableFuture<Moment> sample() {
+
+        // nicht im ForkJoinPool.commonPool(), weil der Selektor-Thread blockiert
+        return this.sample(
+            task -> {
+                Thread thread = new Thread(task, "Time4J-SNTP-Sampler");
+                thread.setDaemon(true);
+                thread.start();
+            }
+        );
+
+    }
+
+    /**
+     * <p>Queries all servers in given executor. </p>
+     *
+     * <p>The executor should not be shared with short computational tasks because the
+     * sampling task waits for the replies of the servers. The returned future fails with
+     * an {@code IOException} if no server delivers a valid reply. </p>
+     *
+     * @param   executor    executes the sampling task
+     * @return  future current time on POSIX-scale
+     */
+    /*[deutsch]
+     * <p>Fragt alle Server im angegebenen {@code Executor} ab. </p>
+     *
+     * <p>Der {@code Executor} sollte nicht mit kurzen Rechenaufgaben geteilt werden, weil die
+     * Abfrage auf die Antworten der Server wartet. Das zur&uuml;ckgegebene {@code CompletableFuture}
+     * scheitert mit einer {@code IOException}, wenn kein Server eine g&uuml;ltige Antwort liefert. </p>
+     *
+     * @param   executor    executes the sampling task
+     * @return  future current time on POSIX-scale
+     */
+    public CompletableFuture<Moment> sample(Executor executor) {
+
+        CompletableFuture<Moment> future = new CompletableFuture<>();
+
+        executor.execute(
+            () -> {
+                try {
+                    future.complete(this.run());
+                } catch (Throwable th) {
+                    future.completeExceptionally(th);
+                }
+            }
+        );
+
+        return future;
+
+    }
+
+    @Override
+    public String toString() {
+
+        return "SntpSampler:" + this.servers;
+
+    }
+
+    private Moment run() throws IOException {
+
+        List<Probe> probes = new ArrayList<>(this.servers.size());
+
+        try (Selector selector = Selector.open()) {
+            try {
+                for (SntpConfiguration config : this.servers) {
+                    Probe probe = new Probe(config);
+                    probes.add(probe);
+                    probe.open(selector);
+                }
+
+                this.await(selector, probes);
+            } finally {
+                for (Probe probe : probes) {
+                    probe.close();
+                }
+            }
+        }
+
+        long[] offsets = new long[probes.size()];
+        int n = 0;
+
+        for (Probe probe : probes) {
+            if (probe.count > 0) {
+                offsets[n++] = probe.bestOffset;
+            }
+        }
+
+        if (n == 0) {
+            IOException ex = new IOException("No valid reply of any NTP-server: " + this.servers);
+            for (Probe probe : probes) {
+                if (probe.failure != null) {
+                    ex.addSuppressed(probe.failure);
+                }
+            }
+            throw ex;
+        }
+
+        Arrays.sort(offsets, 0, n);
+        long median = (((n & 1) == 1) ? offsets[n / 2] : (offsets[n / 2 - 1] + offsets[n / 2]) / 2);
+
+        long micros = SystemClock.MONOTONIC.currentTimeInMicros() + median;
+        return Moment.of(Math.floorDiv(micros, MIO), (int) (Math.floorMod(micros, MIO) * 1000), TimeScale.POSIX);
+
+    }
+
+    private void await(
+        Selector selector,
+        List<Probe> probes
+    ) throws IOException {
+
+        while (true) {
+            long now = System.nanoTime();
+            long wait = Long.MAX_VALUE;
+
+            for (Probe probe : probes) {
+                if (probe.isActive()) {
+                    if (probe.deadline - now <= 0) {
+                        probe.fail(new IOException("Time out: " + probe.config));
+                    } else {
+                        wait = Math.min(wait, probe.deadline - now);
+                    }
+                }
+            }
+
+            if (wait == Long.MAX_VALUE) {
+                return; // alle Server fertig
+            }
+
+            selector.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(wait)));
+
+            for (SelectionKey key : selector.selectedKeys()) {
+                ((Probe) key.attachment()).receive();
+            }
+
+            selector.selectedKeys().clear();
+        }
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Abfragezustand eines einzelnen Servers. </p>
+     */
+    private static class Probe {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final SntpConfiguration config;
+        private final ByteBuffer buffer = ByteBuffer.allocate(PACKET_SIZE);
+        private DatagramChannel channel = null;
+        private long deadline = 0;
+        private int remaining;
+        private double originateTS = 0.0;
+        private byte version = 0;
+        private int count = 0;
+        private double bestDelay = Double.MAX_VALUE;
+        private long bestOffset = 0;
+        private IOException failure = null;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Probe(SntpConfiguration config) {
+            super();
+
+            this.config = config;
+            this.remaining = config.getRequestCount();
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        boolean isActive() {
+
+            return (this.remaining > 0);
+
+        }
+
+        void open(Selector selector) {
+
+            if (this.remaining <= 0) {
+                return;
+            }
+
+            int timeout = this.config.getConnectionTimeout();
+
+            if (timeout <= 0) {
+                timeout = NetTimeConfiguration.DEFAULT_CONNECTION_TIMEOUT;
+            }
+
+            this.deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeout);
+
+            try {
+                this.channel = DatagramChannel.open();
+                this.channel.configureBlocking(false);
+                this.channel.connect(
+                    new InetSocketAddress(this.config.getTimeServerAddress(), this.config.getTimeServerPort()));
+                this.channel.register(selector, SelectionKey.OP_READ, this);
+                this.send();
+            } catch (IOException ex) {
+                this.fail(ex);
+            } catch (UnresolvedAddressException ex) {
+                this.fail(new IOException("Unknown time server: " + this.config.getTimeServerAddress(), ex));
+            }
+
+        }
+
+        void receive() {
+
+            try {
+                while (this.isActive()) {
+                    this.buffer.clear();
+
+                    if (this.channel.read(this.buffer) <= 0) {
+                        return;
+                    }
+
+                    // Sofort eigenen Timestamp notieren
+                    double destinationTS = SntpMessage.getLocalTimestamp();
+
+                    if (this.buffer.position() < PACKET_SIZE) {
+                        continue; // kein NTP-Paket
+                    }
+
+                    SntpMessage reply;
+
+                    try {
+                        reply = new SntpMessage(this.buffer.array(), this.originateTS, this.version);
+                    } catch (IOException ex) {
+                        continue; // veraltete oder fremde Antwort, weiter warten
+                    }
+
+                    // frühere Antworten dieses Servers verwerfen
+                    if (reply.getStratum() == 0) {
+                        this.count = 0;
+                        this.fail(new IOException("Kiss-o'-death: " + this.config));
+                        return;
+                    } else if (reply.getLeapIndicator() == 3) {
+                        this.count = 0;
+                        this.fail(new IOException("Alarm condition: " + this.config));
+                        return;
+                    }
+
+                    double t1 = reply.getOriginateTimestamp();
+                    double t2 = reply.getReceiveTimestamp();
+                    double t3 = reply.getTransmitTimestamp();
+
+                    // round-trip-delay: (D - O) - (T - R) = 2 * Netzlaufzeit
+                    double delay = (destinationTS - t1) - (t3 - t2);
+                    double offset = ((t2 - t1) + (t3 - destinationTS)) / 2.0;
+
+                    if (delay < this.bestDelay) {
+                        this.bestDelay = delay;
+                        this.bestOffset = (long) (offset * MIO);
+                    }
+
+                    this.count++;
+                    this.remaining--;
+
+                    if (this.remaining > 0) {
+                        this.send();
+                    }
+                }
+            } catch (IOException ex) {
+                this.fail(ex);
+            }
+
+        }
+
+        void fail(IOException ex) {
+
+            this.failure = ex;
+            this.remaining = 0;
+
+        }
+
+        void close() {
+
+            if (this.channel != null) {
+                try {
+                    this.channel.close();
+                } catch (IOException ex) {
+                    // ignorieren
+                }
+            }
+
+        }
+
+        private void send() throws IOException {
+
+            SntpMessage request = new SntpMessage(this.config.isNTP4());
+            this.originateTS = request.getTransmitTimestamp();
+            this.version = request.getVersion();
+            this.channel.write(ByteBuffer.wrap(request.getBytes()));
+
+        }
+
+    }
+
+}
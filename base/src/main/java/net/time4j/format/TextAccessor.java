@@ -24,9 +24,12 @@ package net.time4j.format;
 import net.time4j.engine.AttributeQuery;
 
 import java.text.ParsePosition;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 
 /**
@@ -52,6 +55,7 @@ public final class TextAccessor {
     //~ Instanzvariablen --------------------------------------------------
 
     private final List<String> textForms;
+    private volatile TextIndex index = null; // lazy
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -291,7 +295,25 @@ public final class TextAccessor {
         int maxEq = 0;
         V candidate = null;
 
-        for (int i = 0; i < enums.length; i++) {
+        // nur Textformen mit passendem ersten Zeichen (oder leere) können etwas erkennen
+        TextIndex ti = this.index;
+
+        if (ti == null) {
+            ti = new TextIndex(this.textForms);
+            this.index = ti;
+        }
+
+        int[] candidates =
+            ((start < end) ? ti.lookup(parseable.charAt(start), caseInsensitive) : ti.empty);
+        int count = candidates.length + Math.max(0, enums.length - len);
+
+        for (int k = 0; k < count; k++) {
+            int i = ((k < candidates.length) ? candidates[k] : len + k - candidates.length);
+
+            if (i >= enums.length) {
+                continue;
+            }
+
             String s = ((i >= len) ? enums[i].name() : this.textForms.get(i));
             int pos = start;
             int n = s.length();
@@ -362,4 +384,187 @@ public final class TextAccessor {
 
     }
 
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Index der Textformen nach ihrem ersten Zeichen. </p>
+     *
+     * <p>Liefert zu einem Zeichen alle Indizes von Textformen (aufsteigend sortiert), die
+     * mit diesem Zeichen beginnen k&ouml;nnen, einschlie&szlig;lich leerer Textformen. Bei
+     * Nichtbeachtung der Gro&szlig;- und Kleinschreibung ist das Ergebnis eine Obermenge
+     * der tats&auml;chlich passenden Textformen, die danach noch zeichenweise verglichen
+     * werden. </p>
+     */
+    private static class TextIndex {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final int[] empty;
+        private final CharIndex exact;
+        private final CharIndex upper;
+        private final CharIndex lower;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        TextIndex(List<String> textForms) {
+            super();
+
+            Map<Character, List<Integer>> exactMap = new TreeMap<>();
+            Map<Character, List<Integer>> upperMap = new TreeMap<>();
+            Map<Character, List<Integer>> lowerMap = new TreeMap<>();
+            List<Integer> emptyList = new ArrayList<>();
+
+            for (int i = 0, n = textForms.size(); i < n; i++) {
+                String s = textForms.get(i);
+
+                if (s.isEmpty()) {
+                    emptyList.add(i);
+                } else {
+                    char c = s.charAt(0);
+                    add(exactMap, c, i);
+                    add(upperMap, Character.toUpperCase(c), i);
+                    add(lowerMap, Character.toLowerCase(c), i);
+                }
+            }
+
+            this.empty = toArray(emptyList, Collections.<Integer>emptyList());
+            this.exact = new CharIndex(exactMap, emptyList);
+            this.upper = new CharIndex(upperMap, emptyList);
+            this.lower = new CharIndex(lowerMap, emptyList);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        int[] lookup(
+            char c,
+            boolean caseInsensitive
+        ) {
+
+            if (!caseInsensitive) {
+                int[] result = this.exact.get(c);
+                return ((result == null) ? this.empty : result);
+            }
+
+            int[] u = this.upper.get(Character.toUpperCase(c));
+            int[] l = this.lower.get(Character.toLowerCase(c));
+
+            if (u == null) {
+                return ((l == null) ? this.empty : l);
+            } else if ((l == null) || Arrays.equals(u, l)) {
+                return u;
+            }
+
+            return merge(u, l);
+
+        }
+
+        private static void add(
+            Map<Character, List<Integer>> map,
+            char c,
+            int index
+        ) {
+
+            List<Integer> indices = map.get(c);
+
+            if (indices == null) {
+                indices = new ArrayList<>();
+                map.put(c, indices);
+            }
+
+            indices.add(index);
+
+        }
+
+        private static int[] toArray(
+            List<Integer> indices,
+            List<Integer> emptyList
+        ) {
+
+            int[] result = new int[indices.size() + emptyList.size()];
+            int k = 0;
+
+            for (Integer index : indices) {
+                result[k++] = index.intValue();
+            }
+
+            for (Integer index : emptyList) {
+                result[k++] = index.intValue();
+            }
+
+            Arrays.sort(result);
+            return result;
+
+        }
+
+        // Vereinigung zweier sortierter Index-Arrays ohne Duplikate
+        private static int[] merge(
+            int[] a,
+            int[] b
+        ) {
+
+            int[] result = new int[a.length + b.length];
+            int i = 0;
+            int j = 0;
+            int k = 0;
+
+            while ((i < a.length) || (j < b.length)) {
+                if (j == b.length) {
+                    result[k++] = a[i++];
+                } else if (i == a.length) {
+                    result[k++] = b[j++];
+                } else if (a[i] < b[j]) {
+                    result[k++] = a[i++];
+                } else if (a[i] > b[j]) {
+                    result[k++] = b[j++];
+                } else {
+                    result[k++] = a[i++];
+                    j++;
+                }
+            }
+
+            return ((k == result.length) ? result : Arrays.copyOf(result, k));
+
+        }
+
+    }
+
+    private static class CharIndex {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final char[] keys;
+        private final int[][] values;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        CharIndex(
+            Map<Character, List<Integer>> map, // sortiert
+            List<Integer> emptyList
+        ) {
+            super();
+
+            this.keys = new char[map.size()];
+            this.values = new int[map.size()][];
+            int k = 0;
+
+            for (Map.Entry<Character, List<Integer>> entry : map.entrySet()) {
+                this.keys[k] = entry.getKey().charValue();
+                this.values[k] = TextIndex.toArray(entry.getValue(), emptyList);
+                k++;
+            }
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        int[] get(char c) {
+
+            int pos = Arrays.binarySearch(this.keys, c);
+            return ((pos < 0) ? null : this.values[pos]);
+
+        }
+
+    }
+
 }
@@ -0,0 +1,175 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (AsciiSequence.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * <p>Zeichenfolge als Sicht auf ASCII-Bytes ohne Dekodierung oder Kopie. </p>
+ *
+ * <p>Enthalten die Bytes Nicht-ASCII-Zeichen, liefern die Fabrikmethoden stattdessen
+ * einen UTF-8-dekodierten {@code String}. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+final class AsciiSequence
+    implements CharSequence {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final byte[] array;
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private AsciiSequence(
+        byte[] array,
+        ByteBuffer buffer,
+        int offset,
+        int length
+    ) {
+        super();
+
+        this.array = array;
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Liefert eine Sicht auf den angegebenen Array-Ausschnitt. </p>
+     *
+     * @param   bytes       ASCII- or UTF-8-encoded text
+     * @param   offset      start index in array
+     * @param   length      count of bytes
+     * @return  CharSequence
+     * @throws  IndexOutOfBoundsException if the range is not inside the array
+     */
+    static CharSequence of(
+        byte[] bytes,
+        int offset,
+        int length
+    ) {
+
+        if ((offset < 0) || (length < 0) || (offset > bytes.length - length)) {
+            throw new IndexOutOfBoundsException(
+                "Invalid range: offset=" + offset + ", length=" + length + ", size=" + bytes.length);
+        }
+
+        for (int i = offset, n = offset + length; i < n; i++) {
+            if (bytes[i] < 0) {
+                return new String(bytes, offset, length, StandardCharsets.UTF_8);
+            }
+        }
+
+        return new AsciiSequence(bytes, null, offset, length);
+
+    }
+
+    /**
+     * <p>Liefert eine Sicht auf die verbleibenden Bytes des Puffers, ohne dessen Position zu
+     * &auml;ndern. </p>
+     *
+     * @param   buffer      ASCII- or UTF-8-encoded text
+     * @return  CharSequence
+     */
+    static CharSequence of(ByteBuffer buffer) {
+
+        if (buffer.hasArray()) {
+            return of(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+
+        int start = buffer.position();
+        int end = buffer.limit();
+
+        for (int i = start; i < end; i++) {
+            if (buffer.get(i) < 0) {
+                byte[] bytes = new byte[end - start];
+                ByteBuffer copy = buffer.duplicate();
+                copy.get(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        }
+
+        return new AsciiSequence(null, buffer, start, end - start);
+
+    }
+
+    @Override
+    public int length() {
+
+        return this.length;
+
+    }
+
+    @Override
+    public char charAt(int index) {
+
+        if ((index < 0) || (index >= this.length)) {
+            throw new IndexOutOfBoundsException("Index out of range: " + index);
+        }
+
+        int pos = this.offset + index;
+        return (char) ((this.array == null) ? this.buffer.get(pos) : this.array[pos]);
+
+    }
+
+    @Override
+    public CharSequence subSequence(
+        int start,
+        int end
+    ) {
+
+        if ((start < 0) || (end > this.length) || (start > end)) {
+            throw new IndexOutOfBoundsException("Invalid range: " + start + "-" + end);
+        }
+
+        return new AsciiSequence(this.array, this.buffer, this.offset + start, end - start);
+
+    }
+
+    @Override
+    public String toString() {
+
+        if (this.array != null) {
+            return new String(this.array, this.offset, this.length, StandardCharsets.US_ASCII);
+        }
+
+        char[] chars = new char[this.length];
+
+        for (int i = 0; i < this.length; i++) {
+            chars[i] = (char) this.buffer.get(this.offset + i);
+        }
+
+        return new String(chars);
+
+    }
+
+}
@@ -64,6 +64,7 @@ import net.time4j.format.TextElement;
 import net.time4j.format.TextWidth;
 import net.time4j.history.ChronoHistory;
 import net.time4j.history.internal.HistoricAttribute;
+import net.time4j.scale.TimeScale;
 import net.time4j.tz.NameStyle;
 import net.time4j.tz.OffsetSign;
 import net.time4j.tz.OverlapResolver;
@@ -73,7 +74,10 @@ import net.time4j.tz.TransitionStrategy;
 import net.time4j.tz.ZonalOffset;
 
 import java.io.IOException;
+import java.lang.reflect.Array;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.text.AttributedCharacterIterator;
 import java.text.AttributedString;
 import java.text.DateFormat;
@@ -86,6 +90,7 @@ import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalQueries;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
@@ -255,6 +260,7 @@ public final class ChronoFormatter<T>
     private final Chronology<?> deepestParser;
     private final int stepCount;
     private final boolean singleStepMode;
+    private final FixedWidthFormat<T> fixedWidthFormat;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -325,6 +331,7 @@ public final class ChronoFormatter<T>
         this.stepCount = steps.size();
         this.steps = this.freeze(steps);
         this.singleStepMode = this.getSingleStepMode();
+        this.fixedWidthFormat = this.compileFixedWidth();
 
     }
 
@@ -443,6 +450,7 @@ public final class ChronoFormatter<T>
         this.stepCount = copy.size();
         this.steps = this.freeze(copy);
         this.singleStepMode = this.getSingleStepMode();
+        this.fixedWidthFormat = this.compileFixedWidth();
 
     }
 
@@ -493,6 +501,7 @@ public final class ChronoFormatter<T>
         this.stepCount = formatter.stepCount;
         this.steps = this.freeze(formatter.steps);
         this.singleStepMode = this.getSingleStepMode();
+        this.fixedWidthFormat = this.compileFixedWidth();
 
     }
 
@@ -685,6 +694,14 @@ public final class ChronoFormatter<T>
     @Override
     public String format(T formattable) {
 
+        if (this.fixedWidthFormat != null) {
+            char[] chars = new char[this.fixedWidthFormat.length()];
+            int count = this.fixedWidthFormat.print(formattable, chars, 0);
+            if (count != -1) {
+                return new String(chars, 0, count);
+            }
+        }
+
         ChronoDisplay display = this.display(formattable, this.globalAttributes);
         return this.format0(display);
 
@@ -744,11 +761,203 @@ public final class ChronoFormatter<T>
         Appendable buffer
     ) throws IOException {
 
+        if (this.fixedWidthFormat != null) {
+            if (buffer instanceof StringBuilder) {
+                if (this.fixedWidthFormat.print(formattable, StringBuilder.class.cast(buffer)) != -1) {
+                    return;
+                }
+            } else {
+                char[] chars = new char[this.fixedWidthFormat.length()];
+                int count = this.fixedWidthFormat.print(formattable, chars, 0);
+                if (count != -1) {
+                    buffer.append(new String(chars, 0, count));
+                    return;
+                }
+            }
+        }
+
         ChronoDisplay display = this.display(formattable, this.globalAttributes);
         this.print(display, buffer, this.globalAttributes, false);
 
     }
 
+    /**
+     * <p>Prints given chronological entity into given char array. </p>
+     *
+     * <p>Purely numerical formats of fixed width (optionally followed by a timezone offset for
+     * moments) write the result directly into the array without creating any intermediate
+     * objects, otherwise the formatted string is copied. This method is designed for encoders
+     * which print many entities into reusable buffers. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   buffer          target array
+     * @param   offset          start index in target array
+     * @return  count of printed chars
+     * @throws  IllegalArgumentException if given object is not formattable
+     * @throws  IndexOutOfBoundsException if the array has not enough space (nothing written then)
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Formatiert die angegebene chronologische Entit&auml;t in das angegebene char-Array. </p>
+     *
+     * <p>Rein numerische Formate fester Breite (f&uuml;r Momente optional gefolgt von einem
+     * Zeitzonen-Offset) schreiben das Ergebnis direkt ohne Zwischenobjekte in das Array,
+     * sonst wird der formatierte Text kopiert. Diese Methode ist f&uuml;r Kodierer gedacht,
+     * die viele Entit&auml;ten in wiederverwendbare Puffer schreiben. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   buffer          target array
+     * @param   offset          start index in target array
+     * @return  count of printed chars
+     * @throws  IllegalArgumentException if given object is not formattable
+     * @throws  IndexOutOfBoundsException if the array has not enough space (nothing written then)
+     * @since   5.0
+     */
+    public int formatToArray(
+        T formattable,
+        char[] buffer,
+        int offset
+    ) {
+
+        if (this.fixedWidthFormat != null) {
+            int count = this.fixedWidthFormat.print(formattable, buffer, offset);
+            if (count != -1) {
+                return count;
+            }
+        }
+
+        String text = this.format0(this.display(formattable, this.globalAttributes));
+        int count = text.length();
+
+        if ((offset < 0) || (offset > buffer.length - count)) {
+            throw new IndexOutOfBoundsException(
+                "Not enough space: offset=" + offset + ", required=" + count + ", size=" + buffer.length);
+        }
+
+        text.getChars(0, count, buffer, offset);
+        return count;
+
+    }
+
+    /**
+     * <p>Prints given chronological entity as ASCII-bytes into given byte buffer
+     * starting at its current position. </p>
+     *
+     * <p>The formatted bytes are written directly like in {@link #formatToArray(Object, char[], int)}
+     * if possible. Any non-ASCII characters of the formatted text will be encoded as UTF-8.
+     * The position of the buffer will be advanced by the count of written bytes. This method
+     * has a different name than {@code formatToBuffer()} in order to avoid ambiguous calls
+     * with {@code null}-buffers. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   buffer          target byte buffer
+     * @return  count of written bytes
+     * @throws  IllegalArgumentException if given object is not formattable
+     * @throws  java.nio.BufferOverflowException if the buffer has not enough space (nothing written then)
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Formatiert die angegebene chronologische Entit&auml;t als ASCII-Bytes ab der aktuellen
+     * Position in den angegebenen Byte-Puffer. </p>
+     *
+     * <p>Die formatierten Bytes werden wenn m&ouml;glich direkt wie in
+     * {@link #formatToArray(Object, char[], int)} geschrieben. Nicht-ASCII-Zeichen des formatierten
+     * Textes werden als UTF-8 kodiert. Die Position des Puffers r&uuml;ckt um die Anzahl der
+     * geschriebenen Bytes vor. Diese Methode hat einen anderen Namen als {@code formatToBuffer()},
+     * um mehrdeutige Aufrufe mit {@code null}-Puffern zu vermeiden. </p>
+     *
+     * @param   formattable     object to be formatted
+     * @param   buffer          target byte buffer
+     * @return  count of written bytes
+     * @throws  IllegalArgumentException if given object is not formattable
+     * @throws  java.nio.BufferOverflowException if the buffer has not enough space (nothing written then)
+     * @since   5.0
+     */
+    public int formatToBytes(
+        T formattable,
+        ByteBuffer buffer
+    ) {
+
+        if (this.fixedWidthFormat != null) {
+            int count = this.fixedWidthFormat.print(formattable, buffer);
+            if (count != -1) {
+                return count;
+            }
+        }
+
+        byte[] bytes =
+            this.format0(this.display(formattable, this.globalAttributes)).getBytes(StandardCharsets.UTF_8);
+        buffer.put(bytes);
+        return bytes.length;
+
+    }
+
+    /**
+     * <p>Prints all given epoch milliseconds as moments into given buffer. </p>
+     *
+     * <p>The elements are given as elapsed milliseconds since the UNIX epoch [1970-01-01T00:00Z]
+     * (without leap seconds) and will be separated by given separator. Purely numerical formats
+     * of fixed width do not create any moment objects and only query the timezone again when
+     * the next value leaves the transition interval of the previous value. Other formats are
+     * processed element by element like {@link #formatToBuffer(Object, Appendable)}. </p>
+     *
+     * @param   epochMillis     elapsed milliseconds since UNIX epoch
+     * @param   separator       text to be printed between two elements
+     * @param   buffer          text output buffer
+     * @throws  IllegalStateException if this formatter does not print moments
+     * @throws  IllegalArgumentException if any element is not formattable
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Formatiert alle angegebenen Epochenmillisekunden als Momente in den angegebenen Puffer. </p>
+     *
+     * <p>Die Elemente werden als seit der UNIX-Epoche [1970-01-01T00:00Z] verstrichene Millisekunden
+     * (ohne Schaltsekunden) angegeben und durch den angegebenen Separator getrennt. Rein numerische
+     * Formate fester Breite erzeugen keine Moment-Objekte und fragen die Zeitzone nur dann neu ab,
+     * wenn der n&auml;chste Wert das &Uuml;bergangsintervall des vorherigen Werts verl&auml;&szlig;t.
+     * Andere Formate werden Element f&uuml;r Element wie mit {@link #formatToBuffer(Object, Appendable)}
+     * verarbeitet. </p>
+     *
+     * @param   epochMillis     elapsed milliseconds since UNIX epoch
+     * @param   separator       text to be printed between two elements
+     * @param   buffer          text output buffer
+     * @throws  IllegalStateException if this formatter does not print moments
+     * @throws  IllegalArgumentException if any element is not formattable
+     * @since   5.0
+     */
+    public void formatAll(
+        long[] epochMillis,
+        String separator,
+        StringBuilder buffer
+    ) {
+
+        this.checkMomentType();
+
+        FixedWidthFormat<T> fast = this.fixedWidthFormat;
+        Timezone zone = ((fast == null) ? null : fast.resolveZone()); // einmal pro Stapel
+        long[] window = FixedWidthFormat.newOffsetWindow();
+
+        for (int i = 0; i < epochMillis.length; i++) {
+            if (i > 0) {
+                buffer.append(separator);
+            }
+
+            long posixTime = Math.floorDiv(epochMillis[i], 1000);
+            int nano = (int) Math.floorMod(epochMillis[i], 1000) * 1_000_000;
+
+            if ((fast == null) || (fast.printMoment(posixTime, nano, zone, window, buffer) == -1)) {
+                T moment = this.chronology.getChronoType().cast(Moment.of(posixTime, nano, TimeScale.POSIX));
+                ChronoDisplay display = this.display(moment, this.globalAttributes);
+                try {
+                    this.print(display, buffer, this.globalAttributes, false);
+                } catch (IOException ioe) {
+                    throw new AssertionError(ioe);
+                }
+            }
+        }
+
+    }
+
     @Override
     public Set<ElementPosition> print(
         T formattable,
@@ -1039,7 +1248,275 @@ public final class ChronoFormatter<T>
     @Override
     public T parse(CharSequence text) throws ParseException {
 
-        ParseLog status = new ParseLog();
+        return this.parseChecked(text, new ParseLog());
+
+    }
+
+    /**
+     * <p>Interpretes given text as chronological entity and reuses given parse context
+     * for all intermediate parsing state. </p>
+     *
+     * <p>This method behaves like {@link #parse(CharSequence)} but resets and reuses the
+     * parse log and the raw values stored in given context so that repeated parsing of
+     * many texts on the same thread will only allocate the result objects. After a
+     * failed parse process, the context log contains the details until the next call. </p>
+     *
+     * @param   text        text to be parsed
+     * @param   context     reusable parse context, should be kept per thread
+     * @return  result
+     * @throws  ParseException if the text is not parseable
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Interpretiert den angegebenen Text als chronologische Entit&auml;t und verwendet
+     * den angegebenen Parse-Kontext f&uuml;r alle Zwischenzust&auml;nde wieder. </p>
+     *
+     * <p>Diese Methode verh&auml;lt sich wie {@link #parse(CharSequence)}, setzt aber das
+     * Log und die Rohdaten des Kontexts zur&uuml;ck und verwendet sie wieder, so da&szlig;
+     * wiederholtes Parsen vieler Texte im gleichen Thread nur die Ergebnisobjekte erzeugt.
+     * Nach einem fehlgeschlagenen Parse-Vorgang enth&auml;lt das Log des Kontexts bis zum
+     * n&auml;chsten Aufruf die Details. </p>
+     *
+     * @param   text        text to be parsed
+     * @param   context     reusable parse context, should be kept per thread
+     * @return  result
+     * @throws  ParseException if the text is not parseable
+     * @since   5.0
+     */
+    public T parse(
+        CharSequence text,
+        ParseContext context
+    ) throws ParseException {
+
+        if (context.isBusy()) {
+            return this.parseChecked(text, new ParseLog()); // rekursiver Aufruf
+        }
+
+        ParseLog status = context.getLog();
+        status.reset();
+        context.setBusy(true);
+
+        try {
+            return this.parseChecked(text, status);
+        } finally {
+            context.setBusy(false);
+        }
+
+    }
+
+    /**
+     * <p>Interpretes given ASCII-encoded bytes as chronological entity. </p>
+     *
+     * <p>ASCII-only input is parsed directly without decoding it into a string first.
+     * Other input is decoded as UTF-8. Error offsets always refer to the parsed range,
+     * not to the whole array. </p>
+     *
+     * @param   ascii       bytes to be parsed
+     * @param   offset      start index in byte array
+     * @param   length      count of bytes to be parsed
+     * @return  result
+     * @throws  ParseException if the text is not parseable
+     * @throws  IndexOutOfBoundsException if the range is not inside the array
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Interpretiert die angegebenen ASCII-kodierten Bytes als chronologische Entit&auml;t. </p>
+     *
+     * <p>Reine ASCII-Eingaben werden direkt ohne vorherige Dekodierung in einen String
+     * interpretiert. Andere Eingaben werden als UTF-8 dekodiert. Fehlerpositionen beziehen
+     * sich immer auf den interpretierten Bereich, nicht auf das ganze Array. </p>
+     *
+     * @param   ascii       bytes to be parsed
+     * @param   offset      start index in byte array
+     * @param   length      count of bytes to be parsed
+     * @return  result
+     * @throws  ParseException if the text is not parseable
+     * @throws  IndexOutOfBoundsException if the range is not inside the array
+     * @since   5.0
+     */
+    public T parse(
+        byte[] ascii,
+        int offset,
+        int length
+    ) throws ParseException {
+
+        return this.parseChecked(AsciiSequence.of(ascii, offset, length), new ParseLog());
+
+    }
+
+    /**
+     * <p>Interpretes the remaining ASCII-encoded bytes of given buffer as chronological entity. </p>
+     *
+     * <p>The position of the buffer will not be changed. ASCII-only input is parsed directly
+     * without decoding it into a string first. Other input is decoded as UTF-8. Error offsets
+     * are relative to the position of the buffer. The method name differs from {@code parse}
+     * in order to keep calls like {@code parse(null)} unambiguous. </p>
+     *
+     * @param   ascii       buffer whose remaining bytes are to be parsed
+     * @return  result
+     * @throws  ParseException if the text is not parseable
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Interpretiert die verbleibenden ASCII-kodierten Bytes des angegebenen Puffers als
+     * chronologische Entit&auml;t. </p>
+     *
+     * <p>Die Position des Puffers wird nicht ge&auml;ndert. Reine ASCII-Eingaben werden direkt
+     * ohne vorherige Dekodierung in einen String interpretiert. Andere Eingaben werden als UTF-8
+     * dekodiert. Fehlerpositionen beziehen sich auf die Position des Puffers. Der Methodenname
+     * unterscheidet sich von {@code parse}, damit Aufrufe wie {@code parse(null)} eindeutig
+     * bleiben. </p>
+     *
+     * @param   ascii       buffer whose remaining bytes are to be parsed
+     * @return  result
+     * @throws  ParseException if the text is not parseable
+     * @since   5.0
+     */
+    public T parseBytes(ByteBuffer ascii) throws ParseException {
+
+        return this.parseChecked(AsciiSequence.of(ascii), new ParseLog());
+
+    }
+
+    /**
+     * <p>Interpretes all given texts as chronological entities. </p>
+     *
+     * <p>All texts are parsed with one shared internal parse context so that the per-element
+     * overhead is reduced to the parsing itself. Unparseable texts (including texts with
+     * unparsed trailing characters if not permitted) do not throw an exception but yield
+     * {@code null} in the result array and set the bit of their index in given error
+     * bitmap. Arrays can be used as input via {@code Arrays.asList(...)}. </p>
+     *
+     * @param   texts       texts to be parsed
+     * @param   errors      error bitmap which will be cleared first
+     * @return  new array of parsed results with same size as the input list
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Interpretiert alle angegebenen Texte als chronologische Entit&auml;ten. </p>
+     *
+     * <p>Alle Texte werden mit einem gemeinsamen internen Parse-Kontext interpretiert, so
+     * da&szlig; sich der Aufwand pro Element auf das Parsen selbst beschr&auml;nkt. Nicht
+     * interpretierbare Texte (einschlie&szlig;lich Texte mit nicht erlaubten nicht-interpretierten
+     * Zeichen am Ende) werfen keine Ausnahme, sondern liefern {@code null} im Ergebnis-Array und
+     * setzen das Bit ihres Index in der angegebenen Fehler-Bitmap. Arrays k&ouml;nnen mit Hilfe von
+     * {@code Arrays.asList(...)} als Eingabe dienen. </p>
+     *
+     * @param   texts       texts to be parsed
+     * @param   errors      error bitmap which will be cleared first
+     * @return  new array of parsed results with same size as the input list
+     * @since   5.0
+     */
+    public T[] parseAll(
+        List<? extends CharSequence> texts,
+        BitSet errors
+    ) {
+
+        int n = texts.size();
+        T[] results = cast(Array.newInstance(this.chronology.getChronoType(), n));
+        ParseContext context = new ParseContext();
+        errors.clear();
+
+        for (int i = 0; i < n; i++) {
+            results[i] = this.parseSilently(texts.get(i), context);
+            if (results[i] == null) {
+                errors.set(i);
+            }
+        }
+
+        return results;
+
+    }
+
+    /**
+     * <p>Interpretes all given texts as moments and yields the elapsed milliseconds since
+     * the UNIX epoch [1970-01-01T00:00Z] (without leap seconds). </p>
+     *
+     * <p>Behaves like {@link #parseAll(List, BitSet)} but avoids the result array of
+     * objects. Error positions have the value {@code 0} in the result. Moments which cannot
+     * be expressed as {@code long}-milliseconds are also reported as errors. </p>
+     *
+     * @param   texts       texts to be parsed
+     * @param   errors      error bitmap which will be cleared first
+     * @return  new array of epoch milliseconds with same size as the input list
+     * @throws  IllegalStateException if this formatter does not parse moments
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Interpretiert alle angegebenen Texte als Momente und liefert die seit der
+     * UNIX-Epoche [1970-01-01T00:00Z] verstrichenen Millisekunden (ohne Schaltsekunden). </p>
+     *
+     * <p>Verh&auml;lt sich wie {@link #parseAll(List, BitSet)}, vermeidet aber das
+     * Ergebnis-Array von Objekten. Fehlerpositionen haben im Ergebnis den Wert {@code 0}. Momente,
+     * die nicht als {@code long}-Millisekunden darstellbar sind, werden ebenfalls als Fehler gemeldet. </p>
+     *
+     * @param   texts       texts to be parsed
+     * @param   errors      error bitmap which will be cleared first
+     * @return  new array of epoch milliseconds with same size as the input list
+     * @throws  IllegalStateException if this formatter does not parse moments
+     * @since   5.0
+     */
+    public long[] parseAllToEpochMillis(
+        List<? extends CharSequence> texts,
+        BitSet errors
+    ) {
+
+        this.checkMomentType();
+
+        int n = texts.size();
+        long[] results = new long[n];
+        ParseContext context = new ParseContext();
+        errors.clear();
+
+        for (int i = 0; i < n; i++) {
+            Moment m = Moment.class.cast(this.parseSilently(texts.get(i), context));
+            if (m == null) {
+                errors.set(i);
+            } else {
+                try {
+                    results[i] =
+                        Math.addExact(Math.multiplyExact(m.getPosixTime(), 1000), m.getNanosecond() / 1_000_000);
+                } catch (ArithmeticException ae) { // Moment ausserhalb des long-Bereichs in Millisekunden
+                    errors.set(i);
+                }
+            }
+        }
+
+        return results;
+
+    }
+
+    // null im Fehlerfall, siehe parseChecked(...)
+    private T parseSilently(
+        CharSequence text,
+        ParseContext context
+    ) {
+
+        ParseLog status = context.getLog();
+        status.reset();
+        T result = this.parse(text, status);
+
+        if ((result == null) || (!this.trailing && (status.getPosition() < text.length()))) {
+            return null;
+        }
+
+        return result;
+
+    }
+
+    private void checkMomentType() {
+
+        if (this.chronology.getChronoType() != Moment.class) {
+            throw new IllegalStateException("Formatter does not handle moments: " + this.chronology.getChronoType());
+        }
+
+    }
+
+    private T parseChecked(
+        CharSequence text,
+        ParseLog status
+    ) throws ParseException {
+
         T result = this.parse(text, status);
 
         if (result == null) {
@@ -1068,6 +1545,13 @@ public final class ChronoFormatter<T>
         ParseLog        status
     ) {
 
+        if (this.fixedWidthFormat != null) {
+            T result = this.fixedWidthFormat.parse(text, status);
+            if (result != null) {
+                return result;
+            }
+        }
+
         if (this.noPreparser) {
             return parse(
                 this,
@@ -3230,6 +3714,30 @@ public final class ChronoFormatter<T>
 
     }
 
+    // Optimierung für rein numerische Formate fester Breite mit Literalen
+    private FixedWidthFormat<T> compileFixedWidth() {
+
+        if (
+            (this.overrideHandler != null)
+            || this.hasOptionals
+            || this.hasOrMarkers
+            || this.needsExtensions
+            || !this.defaults.isEmpty()
+        ) {
+            return null;
+        }
+
+        return FixedWidthFormat.compile(this.chronology, this.steps, this.globalAttributes);
+
+    }
+
+    // used in tests
+    FixedWidthFormat<T> getFixedWidthFormat() {
+
+        return this.fixedWidthFormat;
+
+    }
+
     private String format0(ChronoDisplay display) {
 
         StringBuilder buffer = new StringBuilder(this.steps.size() * 8);
@@ -3804,15 +4312,42 @@ public final class ChronoFormatter<T>
         int countOfElements
     ) {
 
-        ParsedValues values = new ParsedValues(countOfElements, this.indexable);
+        ParseContext data = status.getContext();
+        ParsedValues values;
+        int mark = 0;
+
+        if (data != null) {
+            mark = data.mark();
+            values = data.push(countOfElements, this.indexable);
+        } else if (this.hasOptionals) {
+            data = new ParseContext(null);
+            values = data.push(countOfElements, this.indexable);
+        } else {
+            values = new ParsedValues(countOfElements, this.indexable);
+        }
+
         values.setPosition(status.getPosition());
-        Deque<ParsedValues> data = null;
 
-        if (this.hasOptionals) {
-            data = new LinkedList<>();
-            data.push(values);
+        try {
+            return this.parseElements(text, status, attributes, quickPath, countOfElements, values, data);
+        } finally {
+            if (data != null) {
+                data.release(mark);
+            }
         }
 
+    }
+
+    private ChronoEntity<?> parseElements(
+        CharSequence text,
+        ParseLog status,
+        AttributeQuery attributes,
+        boolean quickPath,
+        int countOfElements,
+        ParsedValues values,
+        ParseContext data
+    ) {
+
         int previous = 0;
         int current = 0;
         int index = 0;
@@ -3830,9 +4365,8 @@ public final class ChronoFormatter<T>
 
                 // Start einer optionalen Sektion: Stack erweitern
                 while (level > previous) {
-                    values = new ParsedValues(countOfElements >>> 1, this.indexable);
+                    values = data.push(countOfElements >>> 1, this.indexable);
                     values.setPosition(status.getPosition());
-                    data.push(values);
                     level--;
                 }
 
@@ -3880,14 +4414,11 @@ public final class ChronoFormatter<T>
                 if ((last > index) || step.isNewOrBlockStarted()) {
                     // wenn gefunden, zum nächsten oder-Block springen
                     if (data != null) {
-                        values = data.pop();
+                        values = data.peek();
                     }
                     status.clearError();
                     status.setPosition(values.getPosition());
                     values.reset(); // alte Werte verwerfen
-                    if (data != null) {
-                        data.push(values);
-                    }
                     index = last;
                 } else if (current == 0) {
                     // Grundzustand => aussteigen
@@ -0,0 +1,949 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (FixedWidthFormat.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.base.GregorianMath;
+import net.time4j.engine.AttributeQuery;
+import net.time4j.engine.ChronoElement;
+import net.time4j.engine.Chronology;
+import net.time4j.engine.EpochDays;
+import net.time4j.format.Attributes;
+import net.time4j.format.DisplayMode;
+import net.time4j.format.NumberSystem;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.TZID;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+
+/**
+ * <p>Kompilierte Form eines Formats, das nur aus numerischen Elementen fester Breite und Literalen
+ * besteht und direkt auf den Feldern von {@code PlainDate}, {@code PlainTime} oder
+ * {@code PlainTimestamp} arbeitet. </p>
+ *
+ * <p>Ein {@code Moment} wird nur formatiert, wenn der Formatierer eine Zeitzone kennt. Die lokalen
+ * Felder werden dann ohne Zwischenobjekte aus der POSIX-Zeit und der Zeitzonenverschiebung berechnet,
+ * und ein abschlie&szlig;ender Offset-Schritt ist erlaubt. Das Parsen von Momenten bleibt der
+ * allgemeinen Verarbeitung vorbehalten. </p>
+ *
+ * <p>Alle Methoden liefern {@code null} bzw. {@code -1}, wenn der schnelle Weg nicht anwendbar
+ * ist. Dann mu&szlig; der Aufrufer auf die allgemeine Verarbeitung mit Formatschritten
+ * zur&uuml;ckgreifen, die auch f&uuml;r Fehlermeldungen zust&auml;ndig ist. </p>
+ *
+ * @param   <T> generic type of chronological entity
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+final class FixedWidthFormat<T> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int YEAR = 0;
+    private static final int MONTH = 1;
+    private static final int DAY = 2;
+    private static final int HOUR = 3;
+    private static final int MINUTE = 4;
+    private static final int SECOND = 5;
+    private static final int NANO = 6;
+
+    private static final ChronoElement<?>[] ELEMENTS = {
+        PlainDate.YEAR,
+        PlainDate.MONTH_AS_NUMBER,
+        PlainDate.DAY_OF_MONTH,
+        PlainTime.DIGITAL_HOUR_OF_DAY,
+        PlainTime.MINUTE_OF_HOUR,
+        PlainTime.SECOND_OF_MINUTE,
+        PlainTime.NANO_OF_SECOND
+    };
+
+    private static final int[] POWERS = {
+        1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000, 1000000000
+    };
+
+    private static final int DATE_FIELDS = (1 << YEAR) | (1 << MONTH) | (1 << DAY);
+
+    private static final int MAX_OFFSET_LENGTH = 9; // +HH:MM:SS
+
+    private static final long MIN_LOCAL_TIME = -62167219200L; // 0000-01-01T00:00
+    private static final long MAX_LOCAL_TIME = 253402300800L; // 10000-01-01T00:00
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final boolean date;
+    private final boolean time;
+    private final char[] template;
+    private final int[] codes;
+    private final int[] offsets;
+    private final int[] widths;
+    private final boolean[] openEnd;
+    private final TZID tzid;
+    private final TimezoneOffsetProcessor offsetProcessor;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private FixedWidthFormat(
+        boolean date,
+        boolean time,
+        char[] template,
+        int[] codes,
+        int[] offsets,
+        int[] widths,
+        boolean[] openEnd,
+        TZID tzid,
+        TimezoneOffsetProcessor offsetProcessor
+    ) {
+        super();
+
+        this.date = date;
+        this.time = time;
+        this.template = template;
+        this.codes = codes;
+        this.offsets = offsets;
+        this.widths = widths;
+        this.openEnd = openEnd;
+        this.tzid = tzid;
+        this.offsetProcessor = offsetProcessor;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Versucht, die angegebenen Formatschritte zu kompilieren. </p>
+     *
+     * @param   chronology  chronology of formatter
+     * @param   steps       frozen format steps
+     * @param   attributes  global format attributes
+     * @return  compiled format or {@code null} if not applicable
+     */
+    static <T> FixedWidthFormat<T> compile(
+        Chronology<T> chronology,
+        List<FormatStep> steps,
+        AttributeQuery attributes
+    ) {
+
+        boolean moment = (chronology == Moment.axis());
+        boolean date = (moment || (chronology == PlainDate.axis()) || (chronology == PlainTimestamp.axis()));
+        boolean time = (moment || (chronology == PlainTime.axis()) || (chronology == PlainTimestamp.axis()));
+
+        if (
+            (!date && !time)
+            || (attributes.get(Attributes.NUMBER_SYSTEM, NumberSystem.ARABIC) != NumberSystem.ARABIC)
+            || (attributes.get(Attributes.ZERO_DIGIT, Character.valueOf('0')).charValue() != '0')
+        ) {
+            return null;
+        }
+
+        TZID zoneID = null;
+
+        if (moment) {
+            if (
+                !attributes.contains(Attributes.TIMEZONE_ID)
+                || (attributes.get(Attributes.TIME_SCALE, TimeScale.UTC) != TimeScale.UTC)
+            ) {
+                return null;
+            }
+            TZID tzid = attributes.get(Attributes.TIMEZONE_ID);
+            if ((tzid instanceof ZonalOffset) && (ZonalOffset.class.cast(tzid).getFractionalAmount() != 0)) {
+                return null;
+            }
+            try {
+                Timezone.of(tzid); // nur Prüfung, die Zone wird erst beim Formatieren aufgelöst
+            } catch (IllegalArgumentException iae) {
+                return null; // Fehlermeldung beim Formatieren in der allgemeinen Verarbeitung
+            }
+            zoneID = tzid;
+        }
+
+        TimezoneOffsetProcessor offsetProcessor = null;
+        int n = steps.size();
+        StringBuilder template = new StringBuilder();
+        int[] codes = new int[n];
+        int[] offsets = new int[n];
+        int[] widths = new int[n];
+        boolean[] openEnd = new boolean[n];
+        int count = 0;
+        int fields = 0;
+
+        for (int i = 0; i < n; i++) {
+            FormatStep step = steps.get(i);
+
+            if (!step.isSimple()) {
+                return null;
+            }
+
+            FormatProcessor<?> processor = step.getProcessor();
+            int width;
+            boolean open = false;
+
+            if (processor instanceof LiteralProcessor) {
+                String literal = LiteralProcessor.class.cast(processor).getLiteral();
+                if (!isPrintableAscii(literal)) {
+                    return null; // Bidi-Zeichen etc. in allgemeiner Verarbeitung
+                }
+                template.append(literal);
+                continue;
+            } else if (processor instanceof TimezoneOffsetProcessor) {
+                offsetProcessor = TimezoneOffsetProcessor.class.cast(processor);
+                if (!moment || (i < n - 1) || !isPrintableAscii(offsetProcessor.getZeroOffset())) {
+                    return null; // nur als letzter Schritt, weil die Breite variiert
+                }
+                continue;
+            } else if (processor instanceof NumberProcessor) {
+                NumberProcessor<?> np = NumberProcessor.class.cast(processor);
+                width = np.getMinDigits();
+                switch (np.getSignPolicy()) {
+                    case SHOW_NEVER:
+                    case SHOW_WHEN_NEGATIVE:
+                        break;
+                    case SHOW_WHEN_BIG_NUMBER:
+                        if (width != 4) {
+                            return null;
+                        }
+                        break;
+                    default:
+                        return null;
+                }
+                open = (np.getMaxDigits() > width);
+            } else if (processor instanceof FractionProcessor) {
+                width = FractionProcessor.class.cast(processor).getFixedWidth();
+            } else {
+                return null;
+            }
+
+            int code = indexOf(processor.getElement());
+
+            if (
+                (code == -1)
+                || ((fields & (1 << code)) != 0)
+                || ((code == NANO) != (processor instanceof FractionProcessor))
+                || (width < 1)
+                || (width > 9)
+                || (open && (code != YEAR))
+            ) {
+                return null;
+            }
+
+            fields |= (1 << code);
+            codes[count] = code;
+            offsets[count] = template.length();
+            widths[count] = width;
+            openEnd[count] = open;
+            count++;
+
+            for (int j = 0; j < width; j++) {
+                template.append('0');
+            }
+        }
+
+        // Felder mit offenem Ende dürfen nur vor Nicht-Ziffern stehen
+        for (int k = 0; k < count; k++) {
+            int end = offsets[k] + widths[k];
+            if (openEnd[k] && (end < template.length())) {
+                boolean nextIsField = ((k + 1 < count) && (offsets[k + 1] == end));
+                if (nextIsField || Character.isDigit(template.charAt(end))) {
+                    return null;
+                }
+            }
+        }
+
+        // Vollständigkeit für die direkte Konstruktion des Ergebnisses (Momente werden nicht geparst)
+        if (moment) {
+            if (count == 0) {
+                return null;
+            }
+        } else if (date && ((fields & DATE_FIELDS) != DATE_FIELDS)) {
+            return null;
+        } else if (time) {
+            int expected = 0;
+            for (int code = HOUR; code <= NANO; code++) {
+                if ((fields & (1 << code)) != 0) {
+                    expected = code;
+                }
+            }
+            for (int code = HOUR; code <= expected; code++) {
+                if ((fields & (1 << code)) == 0) {
+                    return null;
+                }
+            }
+            if (expected == 0) {
+                return null;
+            }
+        } else if ((fields & ~DATE_FIELDS) != 0) {
+            return null;
+        }
+
+        int[] c = new int[count];
+        int[] o = new int[count];
+        int[] w = new int[count];
+        boolean[] e = new boolean[count];
+        System.arraycopy(codes, 0, c, 0, count);
+        System.arraycopy(offsets, 0, o, 0, count);
+        System.arraycopy(widths, 0, w, 0, count);
+        System.arraycopy(openEnd, 0, e, 0, count);
+
+        return new FixedWidthFormat<>(
+            date, time, template.toString().toCharArray(), c, o, w, e, zoneID, offsetProcessor);
+
+    }
+
+    /**
+     * <p>Liefert die maximale L&auml;nge der formatierten Ausgabe. </p>
+     *
+     * @return  count of chars
+     */
+    int length() {
+
+        int len = this.template.length;
+
+        if (this.offsetProcessor != null) {
+            len += Math.max(MAX_OFFSET_LENGTH, this.offsetProcessor.getZeroOffset().length());
+        }
+
+        return len;
+
+    }
+
+    /**
+     * <p>Formatiert das angegebene Objekt in den Puffer. </p>
+     *
+     * @param   formattable     object to be printed (PlainDate, PlainTime, PlainTimestamp or Moment)
+     * @param   buffer          target array
+     * @param   offset          start index in target array
+     * @return  count of printed chars or {@code -1} if not applicable (nothing written then)
+     * @throws  IndexOutOfBoundsException if the array has not enough space (nothing written then)
+     */
+    int print(
+        Object formattable,
+        char[] buffer,
+        int offset
+    ) {
+
+        return this.write(formattable, buffer, offset);
+
+    }
+
+    /**
+     * <p>H&auml;ngt das formatierte Objekt an den Puffer an. </p>
+     *
+     * @param   formattable     object to be printed (PlainDate, PlainTime, PlainTimestamp or Moment)
+     * @param   buffer          target builder
+     * @return  count of printed chars or {@code -1} if not applicable (nothing written then)
+     */
+    int print(
+        Object formattable,
+        StringBuilder buffer
+    ) {
+
+        return this.write(formattable, buffer, buffer.length());
+
+    }
+
+    /**
+     * <p>Schreibt das formatierte Objekt als ASCII-Bytes ab der aktuellen Position in den Puffer. </p>
+     *
+     * @param   formattable     object to be printed (PlainDate, PlainTime, PlainTimestamp or Moment)
+     * @param   buffer          target byte buffer
+     * @return  count of printed bytes or {@code -1} if not applicable (nothing written then)
+     * @throws  BufferOverflowException if the buffer has not enough space (nothing written then)
+     */
+    int print(
+        Object formattable,
+        ByteBuffer buffer
+    ) {
+
+        return this.write(formattable, buffer, buffer.position());
+
+    }
+
+    /**
+     * <p>H&auml;ngt den angegebenen Moment an den Puffer an, ohne ein {@code Moment}-Objekt
+     * zu erzeugen. </p>
+     *
+     * <p>Das Fenster enth&auml;lt die POSIX-Zeit des Anfangs (inklusive) und des Endes (exklusive)
+     * eines Intervalls mit konstanter Zeitzonenverschiebung sowie die Verschiebung selbst. Es wird
+     * nur neu berechnet, wenn die angegebene Zeit au&szlig;erhalb liegt, so da&szlig; aufeinanderfolgende
+     * Werte im gleichen &Uuml;bergangsintervall keine Zeitzonenabfrage mehr brauchen. </p>
+     *
+     * @param   posixTime       elapsed seconds since UNIX epoch
+     * @param   nano            nanosecond fraction
+     * @param   zone            timezone resolved by {@link #resolveZone()} for the whole batch
+     * @param   window          reusable offset window (see {@link #newOffsetWindow()})
+     * @param   buffer          target builder
+     * @return  count of printed chars or {@code -1} if not applicable (nothing written then)
+     */
+    int printMoment(
+        long posixTime,
+        int nano,
+        Timezone zone,
+        long[] window,
+        StringBuilder buffer
+    ) {
+
+        if ((zone == null) || (posixTime < MIN_LOCAL_TIME) || (posixTime >= MAX_LOCAL_TIME)) {
+            return -1;
+        }
+
+        if ((posixTime < window[0]) || (posixTime >= window[1])) {
+            TransitionHistory history = zone.getHistory();
+            window[2] = zone.getOffsetSeconds(posixTime);
+            if (history == null) {
+                window[0] = Long.MIN_VALUE;
+                window[1] = Long.MAX_VALUE;
+            } else {
+                Moment ut = Moment.of(posixTime, TimeScale.POSIX);
+                ZonalTransition start = history.getStartTransition(ut);
+                window[0] = ((start == null) ? Long.MIN_VALUE : start.getPosixTime());
+                window[1] = history.findNextTransition(ut).map(ZonalTransition::getPosixTime).orElse(Long.MAX_VALUE);
+            }
+        }
+
+        return this.writeMoment(posixTime, nano, (int) window[2], buffer, buffer.length());
+
+    }
+
+    /**
+     * <p>Liefert ein neues leeres Fenster f&uuml;r {@link #printMoment(long, int, Timezone, long[], StringBuilder)}. </p>
+     *
+     * @return  offset window which contains no time
+     */
+    static long[] newOffsetWindow() {
+
+        return new long[] {Long.MAX_VALUE, Long.MIN_VALUE, 0};
+
+    }
+
+    /**
+     * <p>L&ouml;st die Zeitzone des Formatierers auf. </p>
+     *
+     * <p>Die Zone wird nicht beim Kompilieren festgehalten, damit nach {@code Timezone.Cache.refresh()}
+     * wie in der allgemeinen Verarbeitung die aktuelle &Uuml;bergangshistorie benutzt wird. </p>
+     *
+     * @return  timezone or {@code null} if not applicable
+     */
+    Timezone resolveZone() {
+
+        if (this.tzid == null) {
+            return null;
+        }
+
+        try {
+            return Timezone.of(this.tzid);
+        } catch (IllegalArgumentException iae) {
+            return null;
+        }
+
+    }
+
+    /**
+     * <p>Interpretiert den Text ab der aktuellen Position des Logs. </p>
+     *
+     * <p>Im Erfolgsfall werden Position und Rohdaten des Logs aktualisiert, sonst bleibt
+     * das Log unver&auml;ndert. </p>
+     *
+     * @param   text        text to be parsed
+     * @param   status      parse log
+     * @return  result or {@code null} if not applicable
+     */
+    T parse(
+        CharSequence text,
+        ParseLog status
+    ) {
+
+        int start = status.getPosition();
+        int len = this.template.length;
+        int end = start + len;
+
+        if ((this.tzid != null) || (end > text.length())) {
+            return null;
+        }
+
+        // Literale prüfen, Feldpositionen werden anschließend überschrieben
+        int field = 0;
+
+        for (int i = 0; i < len; i++) {
+            if ((field < this.codes.length) && (i == this.offsets[field])) {
+                i += this.widths[field] - 1;
+                field++;
+            } else if (text.charAt(start + i) != this.template[i]) {
+                return null;
+            }
+        }
+
+        int year = 0;
+        int month = 0;
+        int day = 0;
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        int nano = 0;
+
+        for (int k = 0; k < this.codes.length; k++) {
+            int value = this.parseField(text, start, k);
+            switch (this.codes[k]) {
+                case YEAR:
+                    year = value;
+                    break;
+                case MONTH:
+                    month = value;
+                    break;
+                case DAY:
+                    day = value;
+                    break;
+                case HOUR:
+                    hour = value;
+                    break;
+                case MINUTE:
+                    minute = value;
+                    break;
+                case SECOND:
+                    second = value;
+                    break;
+                default:
+                    nano = ((value == -1) ? -1 : value * POWERS[9 - this.widths[k]]);
+            }
+            if (value == -1) {
+                return null;
+            }
+        }
+
+        if (this.time && (hour == 24)) {
+            return null; // Normalisierung in der allgemeinen Verarbeitung
+        }
+
+        Object result;
+
+        try {
+            PlainDate d = (this.date ? PlainDate.of(year, month, day) : null);
+            PlainTime t = (this.time ? PlainTime.of(hour, minute, second, nano) : null);
+            if (d == null) {
+                result = t;
+            } else if (t == null) {
+                result = d;
+            } else {
+                result = PlainTimestamp.of(d, t);
+            }
+        } catch (IllegalArgumentException iae) {
+            return null; // Fehlermeldung in der allgemeinen Verarbeitung
+        }
+
+        ParseContext context = status.getContext();
+        ParsedValues parsed;
+
+        if (context == null) {
+            parsed = new ParsedValues(this.codes.length, true);
+        } else {
+            int mark = context.mark();
+            parsed = context.push(this.codes.length, true);
+            context.release(mark); // bleibt bis zum nächsten Parse-Vorgang gültig
+        }
+
+        for (int k = 0; k < this.codes.length; k++) {
+            int code = this.codes[k];
+            int value;
+            switch (code) {
+                case YEAR:
+                    value = year;
+                    break;
+                case MONTH:
+                    value = month;
+                    break;
+                case DAY:
+                    value = day;
+                    break;
+                case HOUR:
+                    value = hour;
+                    break;
+                case MINUTE:
+                    value = minute;
+                    break;
+                case SECOND:
+                    value = second;
+                    break;
+                default:
+                    value = nano;
+            }
+            parsed.put(ELEMENTS[code], value);
+        }
+
+        parsed.setNoAmbivalentCheck();
+        status.setRawValues(parsed);
+        status.setPosition(end);
+
+        @SuppressWarnings("unchecked")
+        T entity = (T) result;
+        return entity;
+
+    }
+
+    // target: char[], StringBuilder oder ByteBuffer, erst nach allen Prüfungen wird geschrieben
+    private int write(
+        Object formattable,
+        Object target,
+        int index
+    ) {
+
+        int year = 0;
+        int month = 0;
+        int day = 0;
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        int nano = 0;
+        int shift = 0;
+
+        if (formattable instanceof PlainTimestamp) {
+            PlainTimestamp tsp = (PlainTimestamp) formattable;
+            year = tsp.getYear();
+            month = tsp.getMonth();
+            day = tsp.getDayOfMonth();
+            hour = tsp.getHour();
+            minute = tsp.getMinute();
+            second = tsp.getSecond();
+            nano = tsp.getNanosecond();
+        } else if (formattable instanceof PlainDate) {
+            PlainDate d = (PlainDate) formattable;
+            year = d.getYear();
+            month = d.getMonth();
+            day = d.getDayOfMonth();
+        } else if (formattable instanceof PlainTime) {
+            PlainTime t = (PlainTime) formattable;
+            hour = t.getHour();
+            minute = t.getMinute();
+            second = t.getSecond();
+            nano = t.getNanosecond();
+        } else if ((formattable instanceof Moment) && (this.tzid != null)) {
+            Moment m = (Moment) formattable;
+            Timezone zone = this.resolveZone();
+            if (m.isLeapSecond() || (zone == null)) {
+                return -1; // Sekunde 60 oder unbekannte Zone in der allgemeinen Verarbeitung
+            }
+            long posixTime = m.getPosixTime();
+            return this.writeMoment(posixTime, m.getNanosecond(), zone.getOffsetSeconds(posixTime), target, index);
+        } else {
+            return -1;
+        }
+
+        return this.emit(target, index, year, month, day, hour, minute, second, nano, shift);
+
+    }
+
+    // lokale Felder aus POSIX-Zeit und Verschiebung, Jahre außerhalb von 0000-9999 in allgemeiner Verarbeitung
+    private int writeMoment(
+        long posixTime,
+        int nano,
+        int shift,
+        Object target,
+        int index
+    ) {
+
+        long localTime = posixTime + shift;
+
+        if ((localTime < MIN_LOCAL_TIME) || (localTime >= MAX_LOCAL_TIME)) {
+            return -1;
+        }
+
+        long packedDate =
+            GregorianMath.toPackedDate(
+                EpochDays.MODIFIED_JULIAN_DATE.transform(Math.floorDiv(localTime, 86400), EpochDays.UNIX));
+        int secondOfDay = (int) Math.floorMod(localTime, 86400);
+
+        return this.emit(
+            target,
+            index,
+            GregorianMath.readYear(packedDate),
+            GregorianMath.readMonth(packedDate),
+            GregorianMath.readDayOfMonth(packedDate),
+            secondOfDay / 3600,
+            (secondOfDay / 60) % 60,
+            secondOfDay % 60,
+            nano,
+            shift);
+
+    }
+
+    private int emit(
+        Object target,
+        int index,
+        int year,
+        int month,
+        int day,
+        int hour,
+        int minute,
+        int second,
+        int nano,
+        int shift
+    ) {
+
+        int n = this.codes.length;
+
+        for (int i = 0; i < n; i++) {
+            int value = fieldValue(this.codes[i], this.widths[i], year, month, day, hour, minute, second, nano);
+            if ((value < 0) || (value >= POWERS[this.widths[i]]) || (hour == 24)) {
+                return -1; // zum Beispiel Jahre mit Vorzeichen oder mehr als vier Ziffern
+            }
+        }
+
+        int len = this.template.length;
+        int total = len + this.getOffsetLength(shift);
+
+        if (target instanceof char[]) {
+            char[] buffer = (char[]) target;
+            if ((index < 0) || (index > buffer.length - total)) {
+                throw new IndexOutOfBoundsException(
+                    "Not enough space: offset=" + index + ", required=" + total + ", size=" + buffer.length);
+            }
+        } else if (target instanceof StringBuilder) {
+            StringBuilder.class.cast(target).ensureCapacity(index + total);
+        } else if (ByteBuffer.class.cast(target).remaining() < total) {
+            throw new BufferOverflowException();
+        }
+
+        int pos = index;
+        int field = 0;
+
+        for (int i = 0; i < len; i++) {
+            if ((field < n) && (i == this.offsets[field])) {
+                int w = this.widths[field];
+                int value = fieldValue(this.codes[field], w, year, month, day, hour, minute, second, nano);
+                for (int j = w - 1; j >= 0; j--) {
+                    pos = put(target, pos, (char) ('0' + (value / POWERS[j]) % 10));
+                }
+                i += w - 1;
+                field++;
+            } else {
+                pos = put(target, pos, this.template[i]);
+            }
+        }
+
+        if (this.offsetProcessor != null) {
+            pos = this.putOffset(target, pos, shift);
+        }
+
+        return pos - index;
+
+    }
+
+    // siehe TimezoneOffsetProcessor.print(...), hier nur für ganze Sekunden
+    private int getOffsetLength(int shift) {
+
+        if (this.offsetProcessor == null) {
+            return 0;
+        } else if (shift == 0) {
+            return this.offsetProcessor.getZeroOffset().length();
+        }
+
+        DisplayMode precision = this.offsetProcessor.getPrecision();
+        int sep = (this.offsetProcessor.isExtended() ? 1 : 0);
+        int absValue = Math.abs(shift);
+        int m = (absValue / 60) % 60;
+        int s = absValue % 60;
+        int len = 3;
+
+        if ((precision != DisplayMode.SHORT) || (m != 0)) {
+            len += (sep + 2);
+            if (
+                (precision != DisplayMode.SHORT)
+                && (precision != DisplayMode.MEDIUM)
+                && ((precision == DisplayMode.FULL) || (s != 0))
+            ) {
+                len += (sep + 2);
+            }
+        }
+
+        return len;
+
+    }
+
+    private int putOffset(
+        Object target,
+        int index,
+        int shift
+    ) {
+
+        int pos = index;
+
+        if (shift == 0) {
+            String zeroOffset = this.offsetProcessor.getZeroOffset();
+            for (int i = 0; i < zeroOffset.length(); i++) {
+                pos = put(target, pos, zeroOffset.charAt(i));
+            }
+            return pos;
+        }
+
+        boolean extended = this.offsetProcessor.isExtended();
+        int absValue = Math.abs(shift);
+        int h = absValue / 3600;
+        int m = (absValue / 60) % 60;
+        int s = absValue % 60;
+        int len = this.getOffsetLength(shift);
+
+        pos = put(target, pos, (shift < 0) ? '-' : '+');
+        pos = put2(target, pos, h);
+
+        if (len > 3) {
+            if (extended) {
+                pos = put(target, pos, ':');
+            }
+            pos = put2(target, pos, m);
+            if (len > (extended ? 6 : 5)) {
+                if (extended) {
+                    pos = put(target, pos, ':');
+                }
+                pos = put2(target, pos, s);
+            }
+        }
+
+        return pos;
+
+    }
+
+    private static int put2(
+        Object target,
+        int index,
+        int value
+    ) {
+
+        int pos = put(target, index, (char) ('0' + value / 10));
+        return put(target, pos, (char) ('0' + value % 10));
+
+    }
+
+    private static int put(
+        Object target,
+        int index,
+        char c
+    ) {
+
+        if (target instanceof char[]) {
+            ((char[]) target)[index] = c;
+        } else if (target instanceof StringBuilder) {
+            StringBuilder.class.cast(target).append(c);
+        } else {
+            ByteBuffer.class.cast(target).put((byte) c);
+        }
+
+        return index + 1;
+
+    }
+
+    private static int fieldValue(
+        int code,
+        int width,
+        int year,
+        int month,
+        int day,
+        int hour,
+        int minute,
+        int second,
+        int nano
+    ) {
+
+        switch (code) {
+            case YEAR:
+                return year;
+            case MONTH:
+                return month;
+            case DAY:
+                return day;
+            case HOUR:
+                return hour;
+            case MINUTE:
+                return minute;
+            case SECOND:
+                return second;
+            default:
+                return nano / POWERS[9 - width];
+        }
+
+    }
+
+    private static boolean isPrintableAscii(String text) {
+
+        if (text == null) {
+            return false;
+        }
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if ((c < ' ') || (c > '~')) {
+                return false;
+            }
+        }
+
+        return true;
+
+    }
+
+    // liefert -1, wenn keine Ziffer oder eine weitere Ziffer hinter einem offenen Feld folgt
+    private int parseField(
+        CharSequence text,
+        int start,
+        int k
+    ) {
+
+        int pos = start + this.offsets[k];
+        int w = this.widths[k];
+        int value = 0;
+
+        for (int j = 0; j < w; j++) {
+            int digit = text.charAt(pos + j) - '0';
+            if ((digit < 0) || (digit > 9)) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+
+        if (this.openEnd[k]) {
+            int next = pos + w;
+            if ((next < text.length()) && Character.isDigit(text.charAt(next))) {
+                return -1;
+            }
+        }
+
+        return value;
+
+    }
+
+    private static int indexOf(ChronoElement<?> element) {
+
+        for (int i = 0; i < ELEMENTS.length; i++) {
+            if (ELEMENTS[i] == element) {
+                return i;
+            }
+        }
+
+        return -1;
+
+    }
+
+}
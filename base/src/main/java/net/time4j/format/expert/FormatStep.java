@@ -419,6 +419,25 @@ final class FormatStep {
 
     }
 
+    /**
+     * <p>Liegt ein einfacher Schritt ohne Sektionsattribute, Auff&uuml;llung
+     * und oder-Markierung vor? </p>
+     *
+     * @return  boolean
+     * @since   5.0
+     */
+    boolean isSimple() {
+
+        return (
+            (this.sectionalAttrs == null)
+            && (this.padLeft == 0)
+            && (this.padRight == 0)
+            && !this.orMarker
+            && (this.level == 0)
+        );
+
+    }
+
     /**
      * <p>Finaler Schritt nach dem <i>build</i> des Formatierers oder bei Attribut&auml;nderungen. </p>
      *
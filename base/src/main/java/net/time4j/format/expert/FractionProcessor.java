@@ -375,6 +375,13 @@ final class FractionProcessor
 
     }
 
+    // used by FixedWidthFormat, -1 if not in fixed-width-mode
+    int getFixedWidth() {
+
+        return (this.fixedWidth ? this.minDigits : -1);
+
+    }
+
     @Override
     public ChronoElement<Integer> getElement() {
 
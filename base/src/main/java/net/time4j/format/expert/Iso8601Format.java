@@ -37,6 +37,7 @@ import net.time4j.format.Leniency;
 import net.time4j.format.NumberSystem;
 import net.time4j.tz.ZonalOffset;
 
+import java.nio.ByteBuffer;
 import java.text.ParseException;
 import java.util.Collections;
 import java.util.Locale;
@@ -584,6 +585,75 @@ public class Iso8601Format {
 
     }
 
+    /**
+     * <p>Parses given ASCII-encoded ISO-8601-compatible date in basic or extended format. </p>
+     *
+     * <p>The bytes are parsed directly without decoding them into a string first. </p>
+     *
+     * @param   iso     ASCII-bytes like &quot;20160101&quot; or &quot;2016-01-01&quot;
+     * @param   offset  start index in byte array
+     * @param   length  count of bytes to be parsed
+     * @return  PlainDate
+     * @throws  ParseException if parsing fails for any reason
+     * @throws  IndexOutOfBoundsException if the range is not inside the array
+     * @see     #parseDate(CharSequence)
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Interpretiert das angegebene ASCII-kodierte ISO-8601-kompatible Datum im <i>basic</i>-Format
+     * oder im <i>extended</i>-Format. </p>
+     *
+     * <p>Die Bytes werden direkt ohne vorherige Dekodierung in einen String interpretiert. </p>
+     *
+     * @param   iso     ASCII-bytes like &quot;20160101&quot; or &quot;2016-01-01&quot;
+     * @param   offset  start index in byte array
+     * @param   length  count of bytes to be parsed
+     * @return  PlainDate
+     * @throws  ParseException if parsing fails for any reason
+     * @throws  IndexOutOfBoundsException if the range is not inside the array
+     * @see     #parseDate(CharSequence)
+     * @since   5.0
+     */
+    public static PlainDate parseDate(
+        byte[] iso,
+        int offset,
+        int length
+    ) throws ParseException {
+
+        return parseDate(AsciiSequence.of(iso, offset, length));
+
+    }
+
+    /**
+     * <p>Parses the remaining ASCII-encoded bytes of given buffer as ISO-8601-compatible date
+     * in basic or extended format. </p>
+     *
+     * <p>The position of the buffer will not be changed. </p>
+     *
+     * @param   iso     buffer with remaining ASCII-bytes like &quot;20160101&quot; or &quot;2016-01-01&quot;
+     * @return  PlainDate
+     * @throws  ParseException if parsing fails for any reason
+     * @see     #parseDate(CharSequence)
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Interpretiert die verbleibenden ASCII-kodierten Bytes des Puffers als ISO-8601-kompatibles
+     * Datum im <i>basic</i>-Format oder im <i>extended</i>-Format. </p>
+     *
+     * <p>Die Position des Puffers wird nicht ge&auml;ndert. </p>
+     *
+     * @param   iso     buffer with remaining ASCII-bytes like &quot;20160101&quot; or &quot;2016-01-01&quot;
+     * @return  PlainDate
+     * @throws  ParseException if parsing fails for any reason
+     * @see     #parseDate(CharSequence)
+     * @since   5.0
+     */
+    public static PlainDate parseDateBytes(ByteBuffer iso) throws ParseException {
+
+        return parseDate(AsciiSequence.of(iso));
+
+    }
+
     /**
      * <p>Parses given ISO-8601-compatible date string in basic or extended format. </p>
      *
@@ -363,6 +363,17 @@ final class LiteralProcessor
 
     }
 
+    // used by FixedWidthFormat, null if dependent on attributes
+    String getLiteral() {
+
+        if (this.attribute != null) {
+            return null;
+        }
+
+        return ((this.multi == null) ? String.valueOf(this.single) : this.multi);
+
+    }
+
     // optional
     @Override
     public ChronoElement<Void> getElement() {
@@ -709,6 +709,27 @@ class NumberProcessor<V>
 
     }
 
+    // used by FixedWidthFormat
+    int getMinDigits() {
+
+        return this.minDigits;
+
+    }
+
+    // used by FixedWidthFormat
+    int getMaxDigits() {
+
+        return this.maxDigits;
+
+    }
+
+    // used by FixedWidthFormat
+    SignPolicy getSignPolicy() {
+
+        return this.signPolicy;
+
+    }
+
     @Override
     public ChronoElement<V> getElement() {
 
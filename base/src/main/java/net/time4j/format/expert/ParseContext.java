@@ -0,0 +1,179 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (ParseContext.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+
+/**
+ * <p>Reusable state for repeated parsing with {@link ChronoFormatter#parse(CharSequence, ParseContext)}. </p>
+ *
+ * <p>A context holds a {@link ParseLog} and the internal storage of parsed raw values including
+ * the stack for optional sections. All these objects will be reset and reused for every new parse
+ * process so that parsing does not create any garbage besides the result itself. The parse log
+ * and its raw values are only valid until the next parse process with the same context. </p>
+ *
+ * <p>Note: This class is not <i>thread-safe</i>. Therefore an instance should be kept per thread,
+ * for example in a {@code ThreadLocal}. If a context is used recursively while it is still busy
+ * then the formatter will silently fall back to a temporary parse log. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ * @doctags.concurrency {mutable}
+ */
+/*[deutsch]
+ * <p>Wiederverwendbarer Zustand f&uuml;r wiederholtes Parsen mit
+ * {@link ChronoFormatter#parse(CharSequence, ParseContext)}. </p>
+ *
+ * <p>Ein Kontext enth&auml;lt ein {@link ParseLog} und den internen Speicher der interpretierten
+ * Rohdaten einschlie&szlig;lich des Stapels f&uuml;r optionale Sektionen. Alle diese Objekte werden
+ * f&uuml;r jeden neuen Parse-Vorgang zur&uuml;ckgesetzt und wiederverwendet, so da&szlig; beim Parsen
+ * au&szlig;er dem Ergebnis selbst kein Abfall entsteht. Das Log und seine Rohdaten sind nur bis zum
+ * n&auml;chsten Parse-Vorgang mit dem gleichen Kontext g&uuml;ltig. </p>
+ *
+ * <p>Hinweis: Diese Klasse ist nicht <i>thread-safe</i>, deshalb sollte eine Instanz pro Thread
+ * gehalten werden, zum Beispiel in einem {@code ThreadLocal}. Wird ein Kontext rekursiv benutzt,
+ * w&auml;hrend er noch besch&auml;ftigt ist, weicht der Formatierer stillschweigend auf ein
+ * tempor&auml;res Log aus. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ * @doctags.concurrency {mutable}
+ */
+public final class ParseContext {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final ParseLog log;
+    private ParsedValues[] pool;
+    private int used;
+    private boolean busy;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Creates a new empty parse context. </p>
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen leeren Parse-Kontext. </p>
+     */
+    public ParseContext() {
+        this(new ParseLog());
+
+    }
+
+    // log == null: nur Stapel der optionalen Sektionen, intern in ChronoFormatter benutzt
+    ParseContext(ParseLog log) {
+        super();
+
+        this.log = log;
+        this.pool = new ParsedValues[4];
+        this.used = 0;
+        this.busy = false;
+
+        if (log != null) {
+            log.setContext(this);
+        }
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Yields the reusable parse log which reflects the last parse process. </p>
+     *
+     * @return  ParseLog
+     */
+    /*[deutsch]
+     * <p>Liefert das wiederverwendbare Log, das den letzten Parse-Vorgang beschreibt. </p>
+     *
+     * @return  ParseLog
+     */
+    public ParseLog getLog() {
+
+        return this.log;
+
+    }
+
+    // markiert den Anfang eines (eventuell verschachtelten) Parse-Vorgangs
+    int mark() {
+
+        return this.used;
+
+    }
+
+    // gibt alle Rohdatenspeicher oberhalb der Marke wieder frei
+    void release(int mark) {
+
+        this.used = mark;
+
+    }
+
+    // liefert einen zurückgesetzten Rohdatenspeicher als neue Spitze des Stapels
+    ParsedValues push(
+        int expectedCountOfElements,
+        boolean indexable
+    ) {
+
+        if (this.used == this.pool.length) {
+            ParsedValues[] tmp = new ParsedValues[this.used * 2];
+            System.arraycopy(this.pool, 0, tmp, 0, this.used);
+            this.pool = tmp;
+        }
+
+        ParsedValues values = this.pool[this.used];
+
+        if ((values == null) || (values.isIndexable() != indexable)) {
+            values = new ParsedValues(expectedCountOfElements, indexable);
+            this.pool[this.used] = values;
+        } else {
+            values.clear();
+        }
+
+        this.used++;
+        return values;
+
+    }
+
+    ParsedValues pop() {
+
+        return this.pool[--this.used];
+
+    }
+
+    ParsedValues peek() {
+
+        return this.pool[this.used - 1];
+
+    }
+
+    boolean isBusy() {
+
+        return this.busy;
+
+    }
+
+    void setBusy(boolean busy) {
+
+        this.busy = busy;
+
+    }
+
+}
@@ -56,6 +56,7 @@ public class ParseLog {
     private String errorMessage;
     private ChronoEntity<?> rawValues;
     private boolean warning;
+    private ParseContext context = null;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -414,6 +415,28 @@ public class ParseLog {
 
     }
 
+    /**
+     * <p>Liefert den wiederverwendbaren Parse-Kontext. </p>
+     *
+     * @return  ParseContext or {@code null}
+     */
+    ParseContext getContext() {
+
+        return this.context;
+
+    }
+
+    /**
+     * <p>Verbindet dieses Log mit einem wiederverwendbaren Parse-Kontext. </p>
+     *
+     * @param   context     owning parse context
+     */
+    void setContext(ParseContext context) {
+
+        this.context = context;
+
+    }
+
     /**
      * Liefert das JDK-&Auml;quivalent. </p>
      *
@@ -27,6 +27,7 @@ import net.time4j.engine.ChronoElement;
 import net.time4j.engine.ChronoException;
 
 import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -554,10 +555,28 @@ class ParsedValues
             }
             this.map = null;
         } else {
-            this.keys = new Object[this.keys.length];
+            Arrays.fill(this.keys, null);
+            if (this.values != null) {
+                Arrays.fill(this.values, null);
+            }
+            this.count = 0;
         }
 
-        this.count = 0;
+    }
+
+    // called by ParseContext before reuse in a new parse process
+    void clear() {
+
+        this.reset();
+        this.duplicateKeysAllowed = false;
+        this.position = -1;
+
+    }
+
+    // used by ParseContext
+    boolean isIndexable() {
+
+        return (this.keys == null);
 
     }
 
@@ -34,15 +34,12 @@ import net.time4j.tz.ZonalOffset;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 
 /**
@@ -56,17 +53,8 @@ final class TimezoneGenericProcessor
 
     //~ Statische Felder/Initialisierungen --------------------------------
 
-    private static final Map<NameStyle, ConcurrentMap<Locale, ZoneLabels>> CACHE_ZONENAMES =
-        new EnumMap<>(NameStyle.class);
-    private static final int MAX = 25; // maximum size of cache
     private static final String DEFAULT_PROVIDER = "DEFAULT";
 
-    static {
-        for (NameStyle style : NameStyle.values()) {
-            CACHE_ZONENAMES.put(style, new ConcurrentHashMap<>());
-        }
-    }
-
     //~ Instanzvariablen --------------------------------------------------
 
     private final NameStyle style;
@@ -236,20 +224,7 @@ final class TimezoneGenericProcessor
         }
 
         // Zeitzonennamen im Cache suchen und ggf. Cache füllen
-        ConcurrentMap<Locale, ZoneLabels> cache = CACHE_ZONENAMES.get(this.style);
-        ZoneLabels tzNames = cache.get(lang);
-
-        if (tzNames == null) {
-            tzNames = this.createZoneNames(lang);
-
-            if (cache.size() < MAX) {
-                ZoneLabels tmp = cache.putIfAbsent(lang, tzNames);
-
-                if (tmp != null) {
-                    tzNames = tmp;
-                }
-            }
-        }
+        ZoneLabels tzNames = TimezoneNameCache.get(this.style, lang);
 
         // Zeitzonen-IDs bestimmen
         int[] lenbuf = new int[1];
@@ -400,24 +375,6 @@ final class TimezoneGenericProcessor
 
     }
 
-    private ZoneLabels createZoneNames(Locale locale) {
-
-        ZoneLabels.Node node = null;
-
-        for (TZID tzid : Timezone.getAvailableIDs()) {
-            String tzName = Timezone.getDisplayName(tzid, this.style, locale);
-
-            if (tzName.equals(tzid.canonical())) {
-                continue; // registrierte NameProvider haben nichts gefunden!
-            }
-
-            node = ZoneLabels.insert(node, tzName, tzid);
-        }
-
-        return new ZoneLabels(node);
-
-    }
-
     private static List<TZID> readZoneNames(
         final ZoneLabels tzNames,
         CharSequence text,
@@ -0,0 +1,566 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (TimezoneNameCache.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.expert;
+
+import net.time4j.tz.NameStyle;
+import net.time4j.tz.TZID;
+import net.time4j.tz.Timezone;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * <p>Offers static methods for the configuration of the cache of timezone names used
+ * when parsing timezone names. </p>
+ *
+ * <p>Parsing a timezone name requires a search structure of all timezone names for the
+ * name style and the language in question. Building such a structure is expensive because
+ * the names of all available timezones must be queried. Therefore the structures are kept
+ * in a bounded cache which evicts the least recently used entries. Cache hits do not take
+ * any lock. Every structure will only be built once even if many threads request it at
+ * the same time. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+/*[deutsch]
+ * <p>Bietet statische Methoden zum Konfigurieren des Puffers von Zeitzonennamen,
+ * der beim Parsen von Zeitzonennamen verwendet wird. </p>
+ *
+ * <p>Das Parsen eines Zeitzonennamens erfordert eine Suchstruktur aller Zeitzonennamen
+ * f&uuml;r den betroffenen Namensstil und die betroffene Sprache. Der Aufbau einer solchen
+ * Struktur ist teuer, weil die Namen aller verf&uuml;gbaren Zeitzonen abgefragt werden
+ * m&uuml;ssen. Deshalb werden die Strukturen in einem begrenzten Cache gehalten, der die
+ * am l&auml;ngsten nicht benutzten Eintr&auml;ge verdr&auml;ngt. Treffer im Cache kommen ohne
+ * Sperre aus. Jede Struktur wird nur einmal aufgebaut, auch wenn viele Threads sie gleichzeitig
+ * anfordern. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+public final class TimezoneNameCache {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int DEFAULT_MAXIMUM_SIZE = 150; // früher 25 Sprachen pro Namensstil
+
+    private static final Map<Key, Entry> CACHE = new ConcurrentHashMap<>(32);
+    private static final Object LOCK = new Object(); // nur für Fehlgriffe und Konfiguration
+    private static final AtomicLong TICKER = new AtomicLong(); // Zeitstempel der Zugriffe, nur bei Fehlgriffen erhöht
+
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder BUILDS = new LongAdder();
+    private static final LongAdder EVICTIONS = new LongAdder();
+
+    private static volatile int maximumSize = DEFAULT_MAXIMUM_SIZE; // written under LOCK
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private TimezoneNameCache() {
+        // no instantiation
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Sets the maximum count of cached search structures. </p>
+     *
+     * <p>Every combination of name style and language counts as one entry. The default
+     * maximum size is {@code 150}. If the cache currently holds more entries then the
+     * least recently used entries will be evicted immediately. </p>
+     *
+     * @param   maximumSize     maximum count of cached entries
+     * @throws  IllegalArgumentException if the argument is negative
+     */
+    /*[deutsch]
+     * <p>Legt die maximale Anzahl von gespeicherten Suchstrukturen fest. </p>
+     *
+     * <p>Jede Kombination von Namensstil und Sprache z&auml;hlt als ein Eintrag. Die
+     * Standardgr&ouml;&szlig;e ist {@code 150}. Enth&auml;lt der Cache aktuell mehr
+     * Eintr&auml;ge, werden die am l&auml;ngsten nicht benutzten sofort verdr&auml;ngt. </p>
+     *
+     * @param   maximumSize     maximum count of cached entries
+     * @throws  IllegalArgumentException if the argument is negative
+     */
+    public static void setMaximumSize(int maximumSize) {
+
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("Negative cache size: " + maximumSize);
+        }
+
+        synchronized (LOCK) {
+            TimezoneNameCache.maximumSize = maximumSize;
+            evict();
+        }
+
+    }
+
+    /**
+     * <p>Builds and caches the search structures for given languages and name styles in advance. </p>
+     *
+     * <p>Applications can call this method at startup in order to avoid the latency of building
+     * the search structures when parsing the first timezone name in a language. The entries will
+     * still be subject to the maximum size of the cache. </p>
+     *
+     * @param   locales     languages to be prepared
+     * @param   styles      name styles to be prepared (if empty then all styles)
+     */
+    /*[deutsch]
+     * <p>Baut die Suchstrukturen f&uuml;r die angegebenen Sprachen und Namensstile im voraus auf
+     * und speichert sie. </p>
+     *
+     * <p>Anwendungen k&ouml;nnen diese Methode beim Start aufrufen, um die Latenz des Aufbaus der
+     * Suchstrukturen beim Parsen des ersten Zeitzonennamens in einer Sprache zu vermeiden. Die
+     * Eintr&auml;ge unterliegen weiterhin der maximalen Gr&ouml;&szlig;e des Cache. </p>
+     *
+     * @param   locales     languages to be prepared
+     * @param   styles      name styles to be prepared (if empty then all styles)
+     */
+    public static void warmUp(
+        Collection<Locale> locales,
+        NameStyle... styles
+    ) {
+
+        Set<NameStyle> set = EnumSet.allOf(NameStyle.class);
+
+        if (styles.length > 0) {
+            set.clear();
+            for (NameStyle style : styles) {
+                set.add(style);
+            }
+        }
+
+        for (Locale locale : locales) {
+            for (NameStyle style : set) {
+                get(style, locale);
+            }
+        }
+
+    }
+
+    /**
+     * <p>Removes all entries from the cache. </p>
+     */
+    /*[deutsch]
+     * <p>Entfernt alle Eintr&auml;ge aus dem Cache. </p>
+     */
+    public static void clear() {
+
+        synchronized (LOCK) {
+            CACHE.clear();
+        }
+
+    }
+
+    /**
+     * <p>Yields a snapshot of the usage statistics of the cache. </p>
+     *
+     * @return  cache statistics since start or last reset
+     * @see     #resetStatistics()
+     */
+    /*[deutsch]
+     * <p>Liefert eine Momentaufnahme der Nutzungsstatistik des Cache. </p>
+     *
+     * @return  cache statistics since start or last reset
+     * @see     #resetStatistics()
+     */
+    public static Statistics getStatistics() {
+
+        return new Statistics(HITS.sum(), MISSES.sum(), BUILDS.sum(), EVICTIONS.sum(), CACHE.size(), maximumSize);
+
+    }
+
+    /**
+     * <p>Resets all counters of the cache statistics to zero. </p>
+     */
+    /*[deutsch]
+     * <p>Setzt alle Z&auml;hler der Cache-Statistik auf null zur&uuml;ck. </p>
+     */
+    public static void resetStatistics() {
+
+        HITS.reset();
+        MISSES.reset();
+        BUILDS.reset();
+        EVICTIONS.reset();
+
+    }
+
+    /**
+     * <p>Liefert die Suchstruktur f&uuml;r den angegebenen Namensstil und die angegebene Sprache. </p>
+     *
+     * <p>Wenn mehrere Threads gleichzeitig eine fehlende Struktur anfordern, baut nur einer sie
+     * auf, und die anderen warten auf das Ergebnis. Treffer kommen ohne Sperre aus und vermerken
+     * nur einen Zeitstempel, so dass die LRU-Verdr&auml;ngung n&auml;herungsweise arbeitet. </p>
+     *
+     * @param   style       name style
+     * @param   locale      language
+     * @return  search trie of zone labels
+     */
+    static ZoneLabels get(
+        NameStyle style,
+        Locale locale
+    ) {
+
+        Key key = new Key(style, locale);
+        Entry entry = CACHE.get(key);
+        boolean owner = false;
+
+        if (entry == null) {
+            synchronized (LOCK) {
+                entry = CACHE.get(key);
+                if (entry == null) {
+                    entry = new Entry(new FutureTask<>(() -> build(style, locale)), TICKER.incrementAndGet());
+                    TICKER.incrementAndGet(); // spätere Treffer gelten als jünger
+                    owner = true;
+                    if (maximumSize > 0) {
+                        CACHE.put(key, entry);
+                        evict();
+                    }
+                }
+            }
+        }
+
+        FutureTask<ZoneLabels> task = entry.task;
+
+        if (owner) {
+            MISSES.increment();
+            BUILDS.increment();
+            task.run(); // außerhalb der Sperre
+        } else {
+            HITS.increment();
+            entry.touch();
+        }
+
+        boolean interrupted = false;
+
+        try {
+            while (true) {
+                try {
+                    return task.get();
+                } catch (InterruptedException ie) {
+                    interrupted = true;
+                }
+            }
+        } catch (ExecutionException ee) {
+            CACHE.remove(key, entry);
+            Throwable cause = ee.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+    }
+
+    private static ZoneLabels build(
+        NameStyle style,
+        Locale locale
+    ) {
+
+        ZoneLabels.Builder builder = new ZoneLabels.Builder();
+
+        for (TZID tzid : Timezone.getAvailableIDs()) {
+            String tzName = Timezone.getDisplayName(tzid, style, locale);
+
+            if (tzName.equals(tzid.canonical())) {
+                continue; // registrierte NameProvider haben nichts gefunden!
+            }
+
+            builder.add(tzName, tzid);
+        }
+
+        return builder.build();
+
+    }
+
+    // nur unter LOCK aufrufen, lineare Suche des ältesten Eintrags (wenige Einträge, nur bei Fehlgriffen)
+    private static void evict() {
+
+        while (CACHE.size() > maximumSize) {
+            Map.Entry<Key, Entry> eldest = null;
+
+            for (Map.Entry<Key, Entry> e : CACHE.entrySet()) {
+                if ((eldest == null) || (e.getValue().stamp < eldest.getValue().stamp)) {
+                    eldest = e;
+                }
+            }
+
+            if ((eldest != null) && CACHE.remove(eldest.getKey(), eldest.getValue())) {
+                EVICTIONS.increment();
+            }
+        }
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Immutable snapshot of the usage statistics of the cache of timezone names. </p>
+     */
+    /*[deutsch]
+     * <p>Unver&auml;nderliche Momentaufnahme der Nutzungsstatistik des Cache von Zeitzonennamen. </p>
+     */
+    public static final class Statistics {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final long hits;
+        private final long misses;
+        private final long builds;
+        private final long evictions;
+        private final int size;
+        private final int maxSize;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Statistics(
+            long hits,
+            long misses,
+            long builds,
+            long evictions,
+            int size,
+            int maxSize
+        ) {
+            super();
+
+            this.hits = hits;
+            this.misses = misses;
+            this.builds = builds;
+            this.evictions = evictions;
+            this.size = size;
+            this.maxSize = maxSize;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Counts the requests which could be served by the cache (including requests
+         * which waited for the concurrent build of the same entry). </p>
+         *
+         * @return  long
+         */
+        /*[deutsch]
+         * <p>Z&auml;hlt die Anfragen, die der Cache bedienen konnte (einschlie&szlig;lich
+         * Anfragen, die auf den gleichzeitigen Aufbau des gleichen Eintrags gewartet haben). </p>
+         *
+         * @return  long
+         */
+        public long getHitCount() {
+            return this.hits;
+        }
+
+        /**
+         * <p>Counts the requests which could not be served by the cache. </p>
+         *
+         * @return  long
+         */
+        /*[deutsch]
+         * <p>Z&auml;hlt die Anfragen, die der Cache nicht bedienen konnte. </p>
+         *
+         * @return  long
+         */
+        public long getMissCount() {
+            return this.misses;
+        }
+
+        /**
+         * <p>Counts how often a search structure was built. </p>
+         *
+         * @return  long
+         */
+        /*[deutsch]
+         * <p>Z&auml;hlt, wie oft eine Suchstruktur aufgebaut wurde. </p>
+         *
+         * @return  long
+         */
+        public long getBuildCount() {
+            return this.builds;
+        }
+
+        /**
+         * <p>Counts the entries removed from the cache by the LRU-policy. </p>
+         *
+         * @return  long
+         */
+        /*[deutsch]
+         * <p>Z&auml;hlt die durch die LRU-Strategie aus dem Cache entfernten Eintr&auml;ge. </p>
+         *
+         * @return  long
+         */
+        public long getEvictionCount() {
+            return this.evictions;
+        }
+
+        /**
+         * <p>Yields the count of currently cached entries. </p>
+         *
+         * @return  int
+         */
+        /*[deutsch]
+         * <p>Liefert die Anzahl der aktuell gespeicherten Eintr&auml;ge. </p>
+         *
+         * @return  int
+         */
+        public int getSize() {
+            return this.size;
+        }
+
+        /**
+         * <p>Yields the configured maximum size. </p>
+         *
+         * @return  int
+         */
+        /*[deutsch]
+         * <p>Liefert die konfigurierte maximale Gr&ouml;&szlig;e. </p>
+         *
+         * @return  int
+         */
+        public int getMaximumSize() {
+            return this.maxSize;
+        }
+
+        /**
+         * <p>Yields the ratio of hits to all requests. </p>
+         *
+         * @return  double between {@code 0.0} and {@code 1.0} (inclusive)
+         */
+        /*[deutsch]
+         * <p>Liefert das Verh&auml;ltnis von Treffern zu allen Anfragen. </p>
+         *
+         * @return  double between {@code 0.0} and {@code 1.0} (inclusive)
+         */
+        public double getHitRate() {
+            long requests = this.hits + this.misses;
+            return ((requests == 0) ? 1.0 : ((double) this.hits) / requests);
+        }
+
+        @Override
+        public String toString() {
+            return "Timezone-Name-Cache-Statistics[hits=" + this.hits
+                + ",misses=" + this.misses
+                + ",builds=" + this.builds
+                + ",evictions=" + this.evictions
+                + ",size=" + this.size
+                + ",max-size=" + this.maxSize
+                + "]";
+        }
+
+    }
+
+    private static class Entry {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final FutureTask<ZoneLabels> task;
+        private volatile long stamp;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Entry(
+            FutureTask<ZoneLabels> task,
+            long stamp
+        ) {
+            super();
+
+            this.task = task;
+            this.stamp = stamp;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        // schreibt nur, wenn seit dem letzten Zugriff ein Fehlgriff stattfand
+        void touch() {
+
+            long now = TICKER.get();
+
+            if (this.stamp != now) {
+                this.stamp = now;
+            }
+
+        }
+
+    }
+
+    private static class Key {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final NameStyle style;
+        private final Locale locale;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Key(
+            NameStyle style,
+            Locale locale
+        ) {
+            super();
+
+            this.style = style;
+            this.locale = locale;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public boolean equals(Object obj) {
+
+            if (this == obj) {
+                return true;
+            } else if (obj instanceof Key) {
+                Key that = (Key) obj;
+                return (this.style == that.style) && this.locale.equals(that.locale);
+            } else {
+                return false;
+            }
+
+        }
+
+        @Override
+        public int hashCode() {
+
+            return this.style.hashCode() * 31 + this.locale.hashCode();
+
+        }
+
+    }
+
+}
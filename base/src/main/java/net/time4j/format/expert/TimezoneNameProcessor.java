@@ -42,8 +42,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 
 /**
@@ -57,9 +55,6 @@ final class TimezoneNameProcessor
 
     //~ Statische Felder/Initialisierungen --------------------------------
 
-    private static final ConcurrentMap<Locale, TZNames> CACHE_ABBREVIATIONS = new ConcurrentHashMap<>();
-    private static final ConcurrentMap<Locale, TZNames> CACHE_ZONENAMES = new ConcurrentHashMap<>();
-    private static final int MAX = 25; // maximum size of cache
     private static final String DEFAULT_PROVIDER = "DEFAULT";
 
     //~ Instanzvariablen --------------------------------------------------
@@ -234,22 +229,10 @@ final class TimezoneNameProcessor
         }
 
         // Zeitzonennamen im Cache suchen und ggf. Cache füllen
-        ConcurrentMap<Locale, TZNames> cache = (this.abbreviated ? CACHE_ABBREVIATIONS : CACHE_ZONENAMES);
-        TZNames tzNames = cache.get(lang);
-
-        if (tzNames == null) {
-            ZoneLabels stdNames = this.createZoneNames(lang, false);
-            ZoneLabels dstNames = this.createZoneNames(lang, true);
-            tzNames = new TZNames(stdNames, dstNames);
-
-            if (cache.size() < MAX) {
-                TZNames tmp = cache.putIfAbsent(lang, tzNames);
-
-                if (tmp != null) {
-                    tzNames = tmp;
-                }
-            }
-        }
+        TZNames tzNames =
+            new TZNames(
+                TimezoneNameCache.get(this.getStyle(false), lang),
+                TimezoneNameCache.get(this.getStyle(true), lang));
 
         // prefix-matching of tz names
         List<TZID> stdZones = new ArrayList<>();
@@ -473,28 +456,6 @@ final class TimezoneNameProcessor
 
     }
 
-    private ZoneLabels createZoneNames(
-        Locale locale,
-        boolean daylightSaving
-    ) {
-
-        ZoneLabels.Node node = null;
-        NameStyle style = this.getStyle(daylightSaving);
-
-        for (TZID tzid : Timezone.getAvailableIDs()) {
-            String tzName = Timezone.getDisplayName(tzid, style, locale);
-
-            if (tzName.equals(tzid.canonical())) {
-                continue; // registrierte NameProvider haben nichts gefunden!
-            }
-
-            node = ZoneLabels.insert(node, tzName, tzid);
-        }
-
-        return new ZoneLabels(node);
-
-    }
-
     private static List<TZID> excludeWinZones(List<TZID> zones) {
 
         if (zones.size() > 1) {
@@ -487,6 +487,27 @@ final class TimezoneOffsetProcessor
 
     }
 
+    // used by FixedWidthFormat
+    DisplayMode getPrecision() {
+
+        return this.precision;
+
+    }
+
+    // used by FixedWidthFormat
+    boolean isExtended() {
+
+        return this.extended;
+
+    }
+
+    // used by FixedWidthFormat, null if parsing only
+    String getZeroOffset() {
+
+        return (this.zeroOffsets.isEmpty() ? null : this.zeroOffsets.get(0));
+
+    }
+
     @Override
     public ChronoElement<TZID> getElement() {
 
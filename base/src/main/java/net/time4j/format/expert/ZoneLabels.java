@@ -1,6 +1,6 @@
 /*
  * -----------------------------------------------------------------------
- * Copyright © 2013-2017 Meno Hochschild, <http://www.menodata.de/>
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
  * -----------------------------------------------------------------------
  * This file (ZoneLabels.java) is part of project Time4J.
  *
@@ -23,29 +23,61 @@ package net.time4j.format.expert;
 
 import net.time4j.tz.TZID;
 
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 
 /**
- * Immutable ternary search trie holding zone labels.
+ * <p>Immutable compact radix trie holding zone labels. </p>
+ *
+ * <p>All nodes are stored in parallel arrays in breadth-first order so that the children
+ * of a node are contiguous and sorted by their first character. Every edge holds a whole
+ * label fragment as range in a common character pool where equal fragments are stored
+ * only once. The lists of zone identifiers are interned across all instances because
+ * many languages and name styles map labels to the same zones. </p>
  *
  * @author  Meno Hochschild
  * @since   3.35/4.30
  */
 class ZoneLabels {
 
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final Map<List<TZID>, WeakReference<List<TZID>>> INTERNED_ZONES = new WeakHashMap<>();
+
     //~ Instanzvariablen --------------------------------------------------
 
-    private final Node root;
+    private final char[] pool;
+    private final int[] labelStart;
+    private final int[] labelEnd;
+    private final int[] childStart;
+    private final int[] childEnd;
+    private final List<TZID>[] zoneIDs;
 
     //~ Konstruktoren -----------------------------------------------------
 
-    ZoneLabels(Node root) {
+    private ZoneLabels(
+        char[] pool,
+        int[] labelStart,
+        int[] labelEnd,
+        int[] childStart,
+        int[] childEnd,
+        List<TZID>[] zoneIDs
+    ) {
         super();
 
-        this.root = root;
+        this.pool = pool;
+        this.labelStart = labelStart;
+        this.labelEnd = labelEnd;
+        this.childStart = childStart;
+        this.childEnd = childEnd;
+        this.zoneIDs = zoneIDs;
 
     }
 
@@ -60,7 +92,7 @@ class ZoneLabels {
     public String toString() {
 
         List<String> keys = new ArrayList<>();
-        this.collect(this.root, new StringBuilder(), keys);
+        this.collect(0, new StringBuilder(), keys);
         StringBuilder sb = new StringBuilder();
         sb.append("count=");
         sb.append(keys.size());
@@ -76,46 +108,34 @@ class ZoneLabels {
 
     }
 
-    static Node insert(
-        Node node,
-        String key,
-        TZID zoneID
-    ) {
-
-        if (key.isEmpty()) {
-            throw new IllegalArgumentException("Empty key cannot be inserted.");
-        } else if (zoneID == null) {
-            throw new NullPointerException("Missing timezone id.");
-        }
-
-        return insert(node, key, zoneID, 0);
-
-    }
-
     String longestPrefixOf(
         CharSequence query,
         int offset
     ) {
 
         int len = offset;
-        Node node = this.root;
+        int node = 0;
         int i = offset;
         int n = query.length();
 
-        while ((node != null) && (i < n)) {
-            char c = query.charAt(i);
+        while (i < n) {
+            int child = this.findChild(node, query.charAt(i));
 
-            if (c < node.c) {
-                node = node.left;
-            } else if (c > node.c) {
-                node = node.right;
-            } else {
-                i++;
-                if (node.zoneIDs != null) { // end node condition
-                    len = i;
+            if (child == -1) {
+                break;
+            }
+
+            for (int k = this.labelStart[child], end = this.labelEnd[child]; k < end; k++, i++) {
+                if ((i == n) || (query.charAt(i) != this.pool[k])) {
+                    return ((offset >= len) ? "" : query.subSequence(offset, len).toString());
                 }
-                node = node.mid;
             }
+
+            if (this.zoneIDs[child] != null) { // end node condition
+                len = i;
+            }
+
+            node = child;
         }
 
         return ((offset >= len) ? "" : query.subSequence(offset, len).toString());
@@ -128,149 +148,235 @@ class ZoneLabels {
             return Collections.emptyList();
         }
 
-        Node node = find(this.root, key, 0);
+        int node = 0;
+        int i = 0;
+        int n = key.length();
 
-        if (node == null) {
-            return Collections.emptyList();
-        } else {
-            return Collections.unmodifiableList(node.zoneIDs);
-        }
+        while (i < n) {
+            int child = this.findChild(node, key.charAt(i));
 
-    }
+            if (child == -1) {
+                return Collections.emptyList();
+            }
 
-    private static Node find(
-        Node node,
-        String key,
-        int pos
-    ) {
+            for (int k = this.labelStart[child], end = this.labelEnd[child]; k < end; k++, i++) {
+                if ((i == n) || (key.charAt(i) != this.pool[k])) {
+                    return Collections.emptyList();
+                }
+            }
 
-        if (node == null) {
-            return null;
+            node = child;
         }
 
-        char c = key.charAt(pos);
+        List<TZID> zones = this.zoneIDs[node];
+        return ((zones == null) ? Collections.<TZID>emptyList() : zones);
 
-        if (c < node.c) {
-            return find(node.left, key, pos);
-        } else if (c > node.c) {
-            return find(node.right, key, pos);
-        } else if (pos < key.length() - 1) {
-            return find(node.mid, key, pos + 1);
-        } else {
-            return node;
-        }
+    }
+
+    /**
+     * <p>Liefert die Anzahl der Knoten (nur f&uuml;r Tests und Diagnosezwecke). </p>
+     *
+     * @return  int
+     */
+    int getNodeCount() {
+
+        return this.labelStart.length;
 
     }
 
-    private static Node insert(
-        Node node,
-        String key,
-        TZID zoneID,
-        int pos
+    // binäre Suche unter den nach dem ersten Zeichen sortierten Kindern
+    private int findChild(
+        int node,
+        char c
     ) {
 
-        char c = key.charAt(pos);
+        int low = this.childStart[node];
+        int high = this.childEnd[node] - 1;
 
-        if (node == null) {
-            node = new Node(c);
-        }
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char test = this.pool[this.labelStart[mid]];
 
-        if (c < node.c) {
-            node = node.withLeft(insert(node.left, key, zoneID, pos));
-        } else if (c > node.c) {
-            node = node.withRight(insert(node.right, key, zoneID, pos));
-        } else if (pos < key.length() - 1) {
-            node = node.withMid(insert(node.mid, key, zoneID, pos + 1));
-        } else {
-            node = node.with(zoneID); // end node
+            if (test < c) {
+                low = mid + 1;
+            } else if (test > c) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
         }
 
-        return node;
+        return -1;
 
     }
 
     private void collect(
-        Node node,
+        int node,
         StringBuilder prefix,
         List<String> keys
     ) {
 
-        if (node == null) {
-            return;
-        }
+        int len = prefix.length();
+        prefix.append(this.pool, this.labelStart[node], this.labelEnd[node] - this.labelStart[node]);
 
-        collect(node.left, prefix, keys);
+        if (this.zoneIDs[node] != null) {
+            keys.add(prefix.toString());
+        }
 
-        if (node.zoneIDs != null) {
-            keys.add(prefix.toString() + node.c);
+        for (int child = this.childStart[node]; child < this.childEnd[node]; child++) {
+            this.collect(child, prefix, keys);
         }
 
-        collect(node.mid, prefix.append(node.c), keys);
-        prefix.deleteCharAt(prefix.length() - 1);
-        collect(node.right, prefix, keys);
+        prefix.setLength(len);
 
     }
 
-    //~ Innere Klassen ----------------------------------------------------
+    private static List<TZID> intern(List<TZID> zones) {
 
-    static class Node {
+        List<TZID> copy = Collections.unmodifiableList(new ArrayList<>(zones));
 
-        //~ Instanzvariablen ----------------------------------------------
+        synchronized (INTERNED_ZONES) {
+            WeakReference<List<TZID>> ref = INTERNED_ZONES.get(copy);
+            List<TZID> result = ((ref == null) ? null : ref.get());
 
-        private final char c;
-        private final Node left;
-        private final Node mid;
-        private final Node right;
-        private final List<TZID> zoneIDs;
+            if (result == null) {
+                INTERNED_ZONES.put(copy, new WeakReference<>(copy));
+                result = copy;
+            }
 
-        //~ Konstruktoren -------------------------------------------------
+            return result;
+        }
 
-        private Node(char c) {
-            this(c, null, null, null, null);
+    }
 
-        }
+    //~ Innere Klassen ----------------------------------------------------
 
-        private Node(char c, Node left, Node mid, Node right, List<TZID> zoneIDs) {
-            super();
+    /**
+     * <p>Sammelt Zonennamen und baut daraus in linearer Zeit einen kompakten Trie. </p>
+     */
+    static class Builder {
 
-            this.c = c;
-            this.left = left;
-            this.mid = mid;
-            this.right = right;
-            this.zoneIDs = zoneIDs;
+        //~ Instanzvariablen ----------------------------------------------
 
-        }
+        private final Map<String, List<TZID>> labels = new HashMap<>();
 
         //~ Methoden ------------------------------------------------------
 
-        private Node withLeft(Node left) {
+        Builder add(
+            String key,
+            TZID zoneID
+        ) {
 
-            return new Node(this.c, left, this.mid, this.right, this.zoneIDs);
+            if (key.isEmpty()) {
+                throw new IllegalArgumentException("Empty key cannot be inserted.");
+            } else if (zoneID == null) {
+                throw new NullPointerException("Missing timezone id.");
+            }
 
-        }
+            List<TZID> zones = this.labels.get(key);
 
-        private Node withMid(Node mid) {
+            if (zones == null) {
+                zones = new ArrayList<>(1);
+                this.labels.put(key, zones);
+            }
 
-            return new Node(this.c, this.left, mid, this.right, this.zoneIDs);
+            zones.add(zoneID);
+            return this;
 
         }
 
-        private Node withRight(Node right) {
+        ZoneLabels build() {
+
+            String[] keys = this.labels.keySet().toArray(new String[this.labels.size()]);
+            Arrays.sort(keys);
+
+            int capacity = 2 * keys.length + 1; // obere Grenze für die Knotenzahl eines Radix-Tries
+            int[] labelStart = new int[capacity];
+            int[] labelEnd = new int[capacity];
+            int[] childStart = new int[capacity];
+            int[] childEnd = new int[capacity];
+            @SuppressWarnings("unchecked") // generic array creation, elements are only set by this builder
+            List<TZID>[] zoneIDs = (List<TZID>[]) new List<?>[capacity];
+            int[] low = new int[capacity]; // erster Schlüssel des Knotens
+            int[] high = new int[capacity]; // Ende des Schlüsselbereichs (exklusiv)
+            int[] depth = new int[capacity]; // Länge des gemeinsamen Präfix
+
+            StringBuilder pool = new StringBuilder();
+            Map<String, Integer> fragments = new HashMap<>();
+
+            high[0] = keys.length;
+            int count = 1;
+
+            // Breitensuche: die Kinder eines Knotens werden zusammenhängend angelegt
+            for (int node = 0; node < count; node++) {
+                int lo = low[node];
+                int hi = high[node];
+                int d = depth[node];
+
+                if ((lo < hi) && (keys[lo].length() == d)) {
+                    zoneIDs[node] = intern(this.labels.get(keys[lo]));
+                    lo++;
+                }
+
+                childStart[node] = count;
+
+                while (lo < hi) {
+                    char c = keys[lo].charAt(d);
+                    int end = lo + 1;
+
+                    while ((end < hi) && (keys[end].charAt(d) == c)) {
+                        end++;
+                    }
+
+                    int lcp = commonPrefixLength(keys[lo], keys[end - 1], d + 1);
+                    String fragment = keys[lo].substring(d, lcp);
+                    Integer start = fragments.get(fragment);
+
+                    if (start == null) {
+                        start = pool.length();
+                        pool.append(fragment);
+                        fragments.put(fragment, start);
+                    }
+
+                    labelStart[count] = start;
+                    labelEnd[count] = start + fragment.length();
+                    low[count] = lo;
+                    high[count] = end;
+                    depth[count] = lcp;
+                    count++;
+                    lo = end;
+                }
 
-            return new Node(this.c, this.left, this.mid, right, this.zoneIDs);
+                childEnd[node] = count;
+            }
+
+            char[] chars = new char[pool.length()];
+            pool.getChars(0, chars.length, chars, 0);
+
+            return new ZoneLabels(
+                chars,
+                Arrays.copyOf(labelStart, count),
+                Arrays.copyOf(labelEnd, count),
+                Arrays.copyOf(childStart, count),
+                Arrays.copyOf(childEnd, count),
+                Arrays.copyOf(zoneIDs, count));
 
         }
 
-        private Node with(TZID zoneID) { // end node
+        private static int commonPrefixLength(
+            String s1,
+            String s2,
+            int from
+        ) {
 
-            List<TZID> zoneIDs = new ArrayList<>();
+            int n = Math.min(s1.length(), s2.length());
+            int i = from;
 
-            if (this.zoneIDs != null) {
-                zoneIDs.addAll(this.zoneIDs);
+            while ((i < n) && (s1.charAt(i) == s2.charAt(i))) {
+                i++;
             }
 
-            zoneIDs.add(zoneID);
-            return new Node(this.c, this.left, this.mid, this.right, zoneIDs);
+            return i;
 
         }
 
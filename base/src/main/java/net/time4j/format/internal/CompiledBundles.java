@@ -0,0 +1,542 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (CompiledBundles.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.format.internal;
+
+import net.time4j.base.ResourceLoader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+
+
+/**
+ * <p>Precompiled binary form of all property resources used by {@link PropertyBundle}. </p>
+ *
+ * <p>The binary resource {@code data/bundles.data} is generated by the main method of this class
+ * in the phase &quot;process-classes&quot; of the default build (via the exec-maven-plugin) and
+ * contains one table of all distinct strings and for every property resource a sorted index of
+ * key-value-references. If the resource is present then property bundles will read their values
+ * lazily by key from the shared binary data instead of parsing the text resources into own hash
+ * maps. Otherwise the text resources will be parsed as before. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+/*[deutsch]
+ * <p>Vorkompilierte bin&auml;re Form aller von {@link PropertyBundle} benutzten Eigenschaftsressourcen. </p>
+ *
+ * <p>Die bin&auml;re Ressource {@code data/bundles.data} wird von der main-Methode dieser Klasse
+ * in der Phase &quot;process-classes&quot; des Standard-Builds erzeugt (mit Hilfe des exec-maven-plugin)
+ * und enth&auml;lt eine Tabelle aller unterschiedlichen Zeichenketten und f&uuml;r jede
+ * Eigenschaftsressource einen sortierten Index von Schl&uuml;ssel-Wert-Verweisen. Ist die Ressource
+ * vorhanden, lesen Ressourcenb&uuml;ndel ihre Werte nach Bedarf aus den gemeinsamen bin&auml;ren
+ * Daten, statt die Textressourcen in eigene Hash-Tabellen einzulesen. Sonst werden die
+ * Textressourcen wie bisher interpretiert. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+public final class CompiledBundles {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    /**
+     * Path of binary resource relative to the resource root.
+     */
+    static final String RESOURCE_PATH = "data/bundles.data";
+
+    private static final int MAGIC = 0x54344A42; // T4JB
+    private static final int VERSION = 1;
+    private static final String SUFFIX = ".properties";
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final ByteBuffer data;
+    private final int stringOffsets; // Anfang der Offset-Tabelle der Zeichenketten
+    private final int stringData; // Anfang der Zeichenketten selbst
+    private final String[] strings; // nach Bedarf dekodiert, von allen Tabellen gemeinsam benutzt
+    private final Map<String, Integer> bundles; // Ressourcenname => Anfang der Einträge
+    private final Set<String> baseNames;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private CompiledBundles(byte[] bytes) throws IOException {
+        super();
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+
+        if ((buffer.getInt() != MAGIC) || (buffer.get() != VERSION)) {
+            throw new IOException("Invalid format of compiled bundles.");
+        }
+
+        int stringCount = buffer.getInt();
+        this.stringOffsets = buffer.position();
+        this.stringData = this.stringOffsets + stringCount * 4;
+        this.strings = new String[stringCount];
+        this.data = buffer;
+
+        // Tabellen hinter dem Ende der letzten Zeichenkette
+        buffer.position(this.stringData + ((stringCount == 0) ? 0 : buffer.getInt(this.stringData - 4)));
+
+        int bundleCount = buffer.getInt();
+        Map<String, Integer> map = new HashMap<>(bundleCount * 2);
+        Set<String> names = new HashSet<>();
+
+        for (int i = 0; i < bundleCount; i++) {
+            String resourceName = this.getString(buffer.getInt());
+            int entryStart = buffer.position();
+            int entryCount = buffer.getInt();
+            buffer.position(entryStart + 4 + entryCount * 8);
+            map.put(resourceName, Integer.valueOf(entryStart));
+            names.add(toBaseName(resourceName));
+        }
+
+        this.bundles = Collections.unmodifiableMap(map);
+        this.baseNames = Collections.unmodifiableSet(names);
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Compiles all property resources below given resource directory and writes them
+     * as binary resource into given file. </p>
+     *
+     * <p>Usage: {@code java net.time4j.format.internal.CompiledBundles {resource-root} {target-file}}.
+     * The target file should normally be {@code {resource-root}/data/bundles.data}. </p>
+     *
+     * @param   args    resource root directory and target file
+     * @throws  IOException in case of any I/O-error
+     */
+    /*[deutsch]
+     * <p>Kompiliert alle Eigenschaftsressourcen unterhalb des angegebenen Ressourcenverzeichnisses und
+     * schreibt sie als bin&auml;re Ressource in die angegebene Datei. </p>
+     *
+     * <p>Aufruf: {@code java net.time4j.format.internal.CompiledBundles {resource-root} {target-file}}.
+     * Die Zieldatei sollte normalerweise {@code {resource-root}/data/bundles.data} sein. </p>
+     *
+     * @param   args    resource root directory and target file
+     * @throws  IOException in case of any I/O-error
+     */
+    public static void main(String[] args) throws IOException {
+
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Expected arguments: {resource-root} {target-file}");
+        }
+
+        File target = new File(args[1]);
+        File parent = target.getParentFile();
+
+        if ((parent != null) && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Cannot create directory: " + parent);
+        }
+
+        try (OutputStream os = new FileOutputStream(target)) {
+            compile(new File(args[0]), os);
+        }
+
+    }
+
+    /**
+     * <p>Compiles all property resources below given resource directory. </p>
+     *
+     * <p>The resource names are the relative paths with slash as separator, for example
+     * {@code names/iso8601_de.properties}. The values are exactly the same as obtained by
+     * parsing the text resources. </p>
+     *
+     * @param   resourceRoot    root directory of property resources
+     * @param   os              output stream (will not be closed)
+     * @throws  IOException in case of any I/O-error
+     */
+    /*[deutsch]
+     * <p>Kompiliert alle Eigenschaftsressourcen unterhalb des angegebenen Ressourcenverzeichnisses. </p>
+     *
+     * <p>Die Ressourcennamen sind die relativen Pfade mit Schr&auml;gstrich als Trennzeichen,
+     * zum Beispiel {@code names/iso8601_de.properties}. Die Werte sind genau die gleichen wie
+     * beim Interpretieren der Textressourcen. </p>
+     *
+     * @param   resourceRoot    root directory of property resources
+     * @param   os              output stream (will not be closed)
+     * @throws  IOException in case of any I/O-error
+     */
+    public static void compile(
+        File resourceRoot,
+        OutputStream os
+    ) throws IOException {
+
+        if (!resourceRoot.isDirectory()) {
+            throw new IOException("Not a directory: " + resourceRoot);
+        }
+
+        Map<String, Map<String, String>> resources = new TreeMap<>();
+        collect(resourceRoot, "", resources);
+
+        // Tabelle aller unterschiedlichen Zeichenketten
+        Map<String, Integer> indices = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+
+        for (Map.Entry<String, Map<String, String>> resource : resources.entrySet()) {
+            intern(resource.getKey(), indices, strings);
+            for (Map.Entry<String, String> entry : resource.getValue().entrySet()) {
+                intern(entry.getKey(), indices, strings);
+                intern(entry.getValue(), indices, strings);
+            }
+        }
+
+        ByteArrayOutputStream stringBytes = new ByteArrayOutputStream();
+        int[] offsets = new int[strings.size()];
+
+        for (int i = 0; i < offsets.length; i++) {
+            byte[] utf8 = strings.get(i).getBytes(StandardCharsets.UTF_8);
+            writeInt(stringBytes, utf8.length);
+            stringBytes.write(utf8);
+            offsets[i] = stringBytes.size(); // Ende der Zeichenkette
+        }
+
+        DataOutputStream out = new DataOutputStream(os);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeInt(offsets.length);
+
+        for (int offset : offsets) {
+            out.writeInt(offset);
+        }
+
+        stringBytes.writeTo(out);
+        out.writeInt(resources.size());
+
+        for (Map.Entry<String, Map<String, String>> resource : resources.entrySet()) {
+            out.writeInt(indices.get(resource.getKey()).intValue());
+            Map<String, String> sorted = new TreeMap<>(resource.getValue());
+            out.writeInt(sorted.size());
+            for (Map.Entry<String, String> entry : sorted.entrySet()) {
+                out.writeInt(indices.get(entry.getKey()).intValue());
+                out.writeInt(indices.get(entry.getValue()).intValue());
+            }
+        }
+
+        out.flush();
+
+    }
+
+    /**
+     * <p>Liefert die kompilierten Ressourcen, falls vorhanden. </p>
+     *
+     * @return  compiled bundles or {@code null} if the binary resource is not available
+     */
+    static CompiledBundles getInstance() {
+
+        return Holder.INSTANCE;
+
+    }
+
+    /**
+     * <p>Liest die kompilierten Ressourcen aus dem angegebenen Strom. </p>
+     *
+     * @param   is      input stream (will not be closed)
+     * @return  compiled bundles
+     * @throws  IOException in case of any I/O-error or invalid format
+     */
+    static CompiledBundles read(InputStream is) throws IOException {
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(1 << 20);
+        byte[] buf = new byte[8192];
+        int n;
+
+        while ((n = is.read(buf)) != -1) {
+            baos.write(buf, 0, n);
+        }
+
+        return new CompiledBundles(baos.toByteArray());
+
+    }
+
+    /**
+     * <p>Ermittelt, ob der angegebene Basisname vollst&auml;ndig kompiliert ist. </p>
+     *
+     * @param   baseName    base name of property resources (for example &quot;names/iso8601&quot;)
+     * @return  {@code true} if missing resources can be determined without any resource lookup
+     */
+    boolean covers(String baseName) {
+
+        return this.baseNames.contains(baseName);
+
+    }
+
+    /**
+     * <p>Liefert eine unver&auml;nderliche Sicht auf die Eintr&auml;ge der angegebenen Ressource. </p>
+     *
+     * @param   resourceName    resource name including the suffix &quot;.properties&quot;
+     * @return  read-only map backed by binary data or {@code null} if there is no such resource
+     */
+    Map<String, String> getTable(String resourceName) {
+
+        Integer start = this.bundles.get(resourceName);
+        return ((start == null) ? null : new Table(start.intValue()));
+
+    }
+
+    private String getString(int index) {
+
+        String s = this.strings[index];
+
+        if (s == null) {
+            // die Offset-Tabelle enthält das Ende jeder Zeichenkette
+            int start = ((index == 0) ? 0 : this.data.getInt(this.stringOffsets + (index - 1) * 4));
+            int pos = this.stringData + start;
+            int len = this.data.getInt(pos);
+            s = new String(this.data.array(), pos + 4, len, StandardCharsets.UTF_8);
+            this.strings[index] = s; // benign race: identical content in all threads
+        }
+
+        return s;
+
+    }
+
+    private static String toBaseName(String resourceName) {
+
+        String name = resourceName.substring(0, resourceName.length() - SUFFIX.length());
+        int slash = name.lastIndexOf('/');
+        int underscore = name.indexOf('_', slash + 1);
+        return ((underscore == -1) ? name : name.substring(0, underscore));
+
+    }
+
+    private static void collect(
+        File dir,
+        String prefix,
+        Map<String, Map<String, String>> resources
+    ) throws IOException {
+
+        File[] files = dir.listFiles();
+
+        if (files == null) {
+            return;
+        }
+
+        for (File file : files) {
+            String name = prefix + file.getName();
+            if (file.isDirectory()) {
+                if (!name.equals("META-INF")) {
+                    collect(file, name + "/", resources);
+                }
+            } else if (!prefix.isEmpty() && name.endsWith(SUFFIX)) {
+                try (UTF8ResourceReader reader = new UTF8ResourceReader(new FileInputStream(file))) {
+                    resources.put(name, PropertyBundle.readProperties(reader));
+                }
+            }
+        }
+
+    }
+
+    private static void intern(
+        String s,
+        Map<String, Integer> indices,
+        List<String> strings
+    ) {
+
+        if (!indices.containsKey(s)) {
+            indices.put(s, Integer.valueOf(strings.size()));
+            strings.add(s);
+        }
+
+    }
+
+    private static void writeInt(
+        OutputStream os,
+        int value
+    ) throws IOException {
+
+        os.write(value >>> 24);
+        os.write(value >>> 16);
+        os.write(value >>> 8);
+        os.write(value);
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class Holder {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        private static final CompiledBundles INSTANCE = load();
+
+        //~ Methoden ------------------------------------------------------
+
+        private static CompiledBundles load() {
+
+            ResourceLoader loader = ResourceLoader.getInstance();
+            URI uri = loader.locate("base", CompiledBundles.class, RESOURCE_PATH);
+            InputStream is = loader.load(uri, true);
+
+            try {
+                if (is == null) {
+                    is = loader.load(CompiledBundles.class, RESOURCE_PATH, true);
+                }
+                try {
+                    return read(is);
+                } finally {
+                    is.close();
+                }
+            } catch (IOException ioe) {
+                return null; // text resources only
+            }
+
+        }
+
+    }
+
+    // sortierte Einträge: count, dann Paare (key-index, value-index)
+    private class Table
+        extends AbstractMap<String, String> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final int start;
+        private final int count;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Table(int start) {
+            super();
+
+            this.start = start + 4;
+            this.count = CompiledBundles.this.data.getInt(start);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public String get(Object key) {
+
+            int index = this.indexOf(key);
+            return ((index < 0) ? null : this.valueAt(index));
+
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+
+            return (this.indexOf(key) >= 0);
+
+        }
+
+        @Override
+        public int size() {
+
+            return this.count;
+
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+
+            return new AbstractSet<Entry<String, String>>() {
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    return new Iterator<Entry<String, String>>() {
+                        private int index = 0;
+                        @Override
+                        public boolean hasNext() {
+                            return (this.index < Table.this.count);
+                        }
+                        @Override
+                        public Entry<String, String> next() {
+                            if (this.index >= Table.this.count) {
+                                throw new NoSuchElementException();
+                            }
+                            int i = this.index++;
+                            return new SimpleImmutableEntry<>(Table.this.keyAt(i), Table.this.valueAt(i));
+                        }
+                    };
+                }
+                @Override
+                public int size() {
+                    return Table.this.count;
+                }
+            };
+
+        }
+
+        private int indexOf(Object key) {
+
+            if (!(key instanceof String)) {
+                return -1;
+            }
+
+            String s = (String) key;
+            int low = 0;
+            int high = this.count - 1;
+
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = this.keyAt(mid).compareTo(s);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+
+            return -1;
+
+        }
+
+        private String keyAt(int index) {
+
+            return CompiledBundles.this.getString(CompiledBundles.this.data.getInt(this.start + index * 8));
+
+        }
+
+        private String valueAt(int index) {
+
+            return CompiledBundles.this.getString(CompiledBundles.this.data.getInt(this.start + index * 8 + 4));
+
+        }
+
+    }
+
+}
@@ -78,34 +78,16 @@ public final class PropertyBundle {
     //~ Konstruktoren -----------------------------------------------------
 
     private PropertyBundle(
-        UTF8ResourceReader reader,
+        Map<String, String> key2values,
         String baseName,
         Locale bundleLocale
-    ) throws IOException {
+    ) {
         super();
 
         this.parent = null;
         this.baseName = baseName;
         this.bundleLocale = bundleLocale;
-
-        Map<String, String> map = new HashMap<>();
-        String line;
-
-        while ((line = reader.readLine()) != null) {
-            line = line.trim();
-            if (line.isEmpty() || (line.charAt(0) == '#')) {
-                continue; // ignore white space or comment
-            }
-            for (int i = 0, n = line.length(); i < n; i++) {
-                char c = line.charAt(i);
-                if ((c == '=') && (i + 1 < n)) {
-                    map.put(line.substring(0, i), line.substring(i + 1));
-                    break;
-                }
-            }
-        }
-
-        this.key2values = Collections.unmodifiableMap(map);
+        this.key2values = key2values;
 
     }
 
@@ -380,6 +362,36 @@ public final class PropertyBundle {
 
     }
 
+    /**
+     * <p>Interpretiert eine Eigenschaftsressource. </p>
+     *
+     * @param   reader      UTF-8-reader of property resource
+     * @return  mutable map of keys and values
+     * @throws  IOException in case of any I/O-error
+     */
+    static Map<String, String> readProperties(UTF8ResourceReader reader) throws IOException {
+
+        Map<String, String> map = new HashMap<>();
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || (line.charAt(0) == '#')) {
+                continue; // ignore white space or comment
+            }
+            for (int i = 0, n = line.length(); i < n; i++) {
+                char c = line.charAt(i);
+                if ((c == '=') && (i + 1 < n)) {
+                    map.put(line.substring(0, i), line.substring(i + 1));
+                    break;
+                }
+            }
+        }
+
+        return map;
+
+    }
+
     private PropertyBundle withParent(PropertyBundle parent) {
 
         if (parent == null) {
@@ -397,6 +409,12 @@ public final class PropertyBundle {
 
         PropertyBundle bundle = null;
         String resourceName = toResourceName(baseName, locale);
+        CompiledBundles compiled = CompiledBundles.getInstance();
+
+        if ((compiled != null) && compiled.covers(baseName)) {
+            Map<String, String> table = compiled.getTable(resourceName);
+            return ((table == null) ? null : new PropertyBundle(table, baseName, locale));
+        }
 
         URI uri = ResourceLoader.getInstance().locate("base", PropertyBundle.class, resourceName);
         InputStream stream = ResourceLoader.getInstance().load(uri, true);
@@ -415,7 +433,7 @@ public final class PropertyBundle {
 
             try {
                 reader = new UTF8ResourceReader(stream);
-                bundle = new PropertyBundle(reader, baseName, locale);
+                bundle = new PropertyBundle(Collections.unmodifiableMap(readProperties(reader)), baseName, locale);
             } finally {
                 if (reader != null) {
                     reader.close();
@@ -26,6 +26,16 @@
  *      determines the path of the directory for the timezone data of
  *      Time4J, either absolute or relative to class path (default is
  *      the folder &quot;tzrepo&quot; in class path)</li>
+ *  <li>net.time4j.tz.rules.cache.first =&gt;
+ *      first gregorian year of the precomputed transition table of rule-based timezone models
+ *      (default is 1970)</li>
+ *  <li>net.time4j.tz.rules.cache.last =&gt;
+ *      last gregorian year of the precomputed transition table of rule-based timezone models
+ *      (default is the current year plus 100 years)</li>
+ *  <li>net.time4j.tz.compact.path =&gt;
+ *      path of a compact binary timezone file generated by
+ *      <a href="tz/threeten/CompactZoneProviderSPI.html#compile-java.io.File-">CompactZoneProviderSPI.compile</a>
+ *      which will then be preferred over the equivalent data of the JDK (default is none)</li>
  *  <li>net.time4j.tz.repository.version =&gt;
  *      preferred version for the timezone data of Time4J (example: 2015a),
  *      if specified then Time4J will look for a file with name
@@ -64,6 +74,12 @@
  *      legt den Verzeichnispfad f&uuml;r die eigenen Zeitzonendaten
  *      fest, entweder absolut oder relativ zum Klassenpfad (Vorgabe ist
  *      &quot;tzrepo&quot; im Klassenpfad)</li>
+ *  <li>net.time4j.tz.rules.cache.first =&gt;
+ *      erstes gregorianisches Jahr der vorberechneten &Uuml;bergangstabelle von regelbasierten
+ *      Zeitzonenmodellen (Vorgabe ist 1970)</li>
+ *  <li>net.time4j.tz.rules.cache.last =&gt;
+ *      letztes gregorianisches Jahr der vorberechneten &Uuml;bergangstabelle von regelbasierten
+ *      Zeitzonenmodellen (Vorgabe ist das aktuelle Jahr plus 100 Jahre)</li>
  *  <li>net.time4j.tz.repository.version =&gt;
  *      bevorzugte Version f&uuml;r die eigenen Zeitzonendaten (z.B. 2015a),
  *      wenn angegeben wird Time4J im Verzeichnispfad nach einer Datei mit dem
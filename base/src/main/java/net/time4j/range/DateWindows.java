@@ -86,6 +86,13 @@ final class DateWindows
 
     }
 
+    @Override
+    EpochIntervals.Codec<PlainDate> getCodec() {
+
+        return EpochIntervals.Codec.DATE;
+
+    }
+
     @Override
     TimeLine<PlainDate> getTimeLine() {
 
@@ -0,0 +1,693 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (EpochIntervals.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.SI;
+import net.time4j.engine.EpochDays;
+import net.time4j.scale.TimeScale;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+
+/**
+ * <p>Sortierte und normalisierte Folge von disjunkten Intervallbl&ouml;cken in primitiver Kodierung. </p>
+ *
+ * <p>Jeder Zeitpunkt wird als Paar (hi, lo) kodiert, n&auml;mlich als Epochentag f&uuml;r Kalenderdaten
+ * oder als POSIX-Sekunden plus Nanosekunden f&uuml;r Momente (Schaltsekunden erhalten einen Nanoanteil
+ * ab {@code 10^9}). Jeder Block beginnt inklusiv und endet exklusiv. Zwischen zwei Bl&ouml;cken liegt
+ * immer eine L&uuml;cke, so da&szlig; alle Mengenoperationen als lineare Mischverfahren ablaufen. Die
+ * Werte {@code Long.MIN_VALUE} und {@code Long.MAX_VALUE} stehen f&uuml;r die unendliche Vergangenheit
+ * beziehungsweise Zukunft. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+final class EpochIntervals {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MRD = 1000000000;
+    private static final long PAST = Long.MIN_VALUE;
+    private static final long FUTURE = Long.MAX_VALUE;
+
+    static final EpochIntervals EMPTY = new EpochIntervals(new long[0], new int[0], new long[0], new int[0], 0);
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final long[] startHi;
+    private final int[] startLo;
+    private final long[] endHi;
+    private final int[] endLo;
+    private final int size;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private EpochIntervals(
+        long[] startHi,
+        int[] startLo,
+        long[] endHi,
+        int[] endLo,
+        int size
+    ) {
+        super();
+
+        this.startHi = startHi;
+        this.startLo = startLo;
+        this.endHi = endHi;
+        this.endLo = endLo;
+        this.size = size;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Kodiert die nach Start sortierten Intervalle und verschmilzt sich &uuml;berlappende oder
+     * ber&uuml;hrende Intervalle zu Bl&ouml;cken. </p>
+     *
+     * @param   intervals   sorted intervals
+     * @param   codec       axis-specific encoding
+     * @return  normalized blocks
+     */
+    static <T> EpochIntervals of(
+        List<? extends ChronoInterval<T>> intervals,
+        Codec<T> codec
+    ) {
+
+        Builder builder = new Builder(intervals.size());
+        long[] key = new long[4];
+
+        for (ChronoInterval<T> interval : intervals) {
+            codec.encode(interval, key);
+            builder.union(key[0], (int) key[1], key[2], (int) key[3]);
+        }
+
+        return builder.build();
+
+    }
+
+    /**
+     * <p>Vereinigt zwei Blockfolgen. </p>
+     *
+     * @param   other   second operand
+     * @return  normalized union
+     */
+    EpochIntervals union(EpochIntervals other) {
+
+        Builder builder = new Builder(this.size + other.size);
+        int i = 0;
+        int j = 0;
+
+        while ((i < this.size) || (j < other.size)) {
+            if (
+                (j == other.size)
+                || ((i < this.size) && (compare(this.startHi[i], this.startLo[i], other.startHi[j], other.startLo[j]) <= 0))
+            ) {
+                builder.union(this.startHi[i], this.startLo[i], this.endHi[i], this.endLo[i]);
+                i++;
+            } else {
+                builder.union(other.startHi[j], other.startLo[j], other.endHi[j], other.endLo[j]);
+                j++;
+            }
+        }
+
+        return builder.build();
+
+    }
+
+    /**
+     * <p>Bestimmt die Schnittmenge zweier Blockfolgen. </p>
+     *
+     * @param   other   second operand
+     * @return  normalized intersection
+     */
+    EpochIntervals intersect(EpochIntervals other) {
+
+        Builder builder = new Builder(Math.max(this.size, other.size));
+        int i = 0;
+        int j = 0;
+
+        while ((i < this.size) && (j < other.size)) {
+            long sh = this.startHi[i];
+            int sl = this.startLo[i];
+
+            if (compare(sh, sl, other.startHi[j], other.startLo[j]) < 0) {
+                sh = other.startHi[j];
+                sl = other.startLo[j];
+            }
+
+            if (compare(this.endHi[i], this.endLo[i], other.endHi[j], other.endLo[j]) <= 0) {
+                if (compare(sh, sl, this.endHi[i], this.endLo[i]) < 0) {
+                    builder.add(sh, sl, this.endHi[i], this.endLo[i]);
+                }
+                i++;
+            } else {
+                if (compare(sh, sl, other.endHi[j], other.endLo[j]) < 0) {
+                    builder.add(sh, sl, other.endHi[j], other.endLo[j]);
+                }
+                j++;
+            }
+        }
+
+        return builder.build();
+
+    }
+
+    /**
+     * <p>Zieht diese Blockfolge von jedem der angegebenen Minuenden einzeln ab. </p>
+     *
+     * <p>Minuenden, die keinen Block schneiden, werden unver&auml;ndert &uuml;bernommen, alle anderen
+     * Teile werden normalisiert erzeugt. Das Ergebnis ist noch nicht sortiert, wenn sich die Minuenden
+     * &uuml;berlappen. </p>
+     *
+     * @param   minuends    intervals sorted by start
+     * @param   codec       axis-specific encoding
+     * @return  list of remaining parts
+     */
+    <T> List<ChronoInterval<T>> subtractFrom(
+        List<ChronoInterval<T>> minuends,
+        Codec<T> codec
+    ) {
+
+        Builder parts = new Builder(minuends.size());
+        ChronoInterval<?>[] unchanged = new ChronoInterval<?>[minuends.size()];
+        int[] positions = new int[minuends.size()];
+        int count = 0;
+        long[] key = new long[4];
+        int first = 0;
+
+        for (ChronoInterval<T> minuend : minuends) {
+            codec.encode(minuend, key);
+            long msh = key[0];
+            int msl = (int) key[1];
+            long meh = key[2];
+            int mel = (int) key[3];
+
+            // Startpunkte der Minuenden sind aufsteigend sortiert
+            while ((first < this.size) && (compare(this.endHi[first], this.endLo[first], msh, msl) <= 0)) {
+                first++;
+            }
+
+            if ((first == this.size) || (compare(this.startHi[first], this.startLo[first], meh, mel) >= 0)) {
+                positions[count] = parts.size;
+                unchanged[count++] = minuend;
+                continue;
+            }
+
+            long ch = msh;
+            int cl = msl;
+
+            for (int k = first; (k < this.size) && (compare(this.startHi[k], this.startLo[k], meh, mel) < 0); k++) {
+                if (compare(ch, cl, this.startHi[k], this.startLo[k]) < 0) {
+                    parts.add(ch, cl, this.startHi[k], this.startLo[k]);
+                }
+                ch = this.endHi[k];
+                cl = this.endLo[k];
+            }
+
+            if (compare(ch, cl, meh, mel) < 0) {
+                parts.add(ch, cl, meh, mel);
+            }
+        }
+
+        EpochIntervals encoded = parts.build();
+        List<ChronoInterval<T>> result = new ArrayList<>(encoded.size + count);
+        int u = 0;
+
+        for (int i = 0; i <= encoded.size; i++) {
+            while ((u < count) && (positions[u] == i)) {
+                @SuppressWarnings("unchecked")
+                ChronoInterval<T> minuend = (ChronoInterval<T>) unchanged[u++];
+                result.add(minuend);
+            }
+            if (i < encoded.size) {
+                result.add(encoded.get(i, codec));
+            }
+        }
+
+        return result;
+
+    }
+
+    /**
+     * <p>Liefert eine Listenansicht, die die Intervalle erst bei Bedarf dekodiert. </p>
+     *
+     * @param   codec       axis-specific encoding
+     * @return  unmodifiable list
+     */
+    <T> List<ChronoInterval<T>> asList(Codec<T> codec) {
+
+        return new View<>(this, codec);
+
+    }
+
+    /**
+     * <p>Anzahl der Bl&ouml;cke. </p>
+     *
+     * @return  count of blocks
+     */
+    int size() {
+
+        return this.size;
+
+    }
+
+    private <T> ChronoInterval<T> get(
+        int index,
+        Codec<T> codec
+    ) {
+
+        return codec.newInterval(
+            codec.decodeStart(this.startHi[index], this.startLo[index]),
+            codec.decodeEnd(this.endHi[index], this.endLo[index]));
+
+    }
+
+    private static int compare(
+        long h1,
+        int l1,
+        long h2,
+        int l2
+    ) {
+
+        return ((h1 < h2) ? -1 : ((h1 > h2) ? 1 : Integer.compare(l1, l2)));
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Achsenspezifische Kodierung von Zeitpunkten. </p>
+     *
+     * @param   <T> generic type of time points
+     */
+    abstract static class Codec<T> {
+
+        //~ Statische Felder/Initialisierungen ----------------------------
+
+        static final Codec<PlainDate> DATE = new DateCodec();
+        static final Codec<Moment> MOMENT = new MomentCodec();
+
+        //~ Methoden ------------------------------------------------------
+
+        // Kodiert ein Intervall als inklusiven Start (key[0], key[1]) und exklusives Ende (key[2], key[3])
+        void encode(
+            ChronoInterval<T> interval,
+            long[] key
+        ) {
+
+            Boundary<T> start = interval.getStart();
+            Boundary<T> end = interval.getEnd();
+
+            if (start.isInfinite()) {
+                key[0] = PAST;
+                key[1] = 0;
+            } else {
+                T s = start.getTemporal();
+                if (start.isOpen()) {
+                    s = this.next(s);
+                }
+                if (s == null) {
+                    key[0] = FUTURE; // offenes Maximum
+                    key[1] = 0;
+                } else {
+                    key[0] = this.hi(s);
+                    key[1] = this.lo(s);
+                }
+            }
+
+            if (end.isInfinite()) {
+                key[2] = FUTURE;
+                key[3] = 0;
+            } else {
+                T e = end.getTemporal();
+                if (end.isClosed()) {
+                    this.encodeSuccessor(e, key);
+                } else {
+                    key[2] = this.hi(e);
+                    key[3] = this.lo(e);
+                }
+            }
+
+        }
+
+        Boundary<T> decodeStart(
+            long hi,
+            int lo
+        ) {
+
+            return ((hi == PAST) ? Boundary.infinitePast() : Boundary.ofClosed(this.point(hi, lo)));
+
+        }
+
+        abstract ChronoInterval<T> newInterval(
+            Boundary<T> start,
+            Boundary<T> end
+        );
+
+        abstract Boundary<T> decodeEnd(
+            long hi,
+            int lo
+        );
+
+        abstract long hi(T point);
+
+        abstract int lo(T point);
+
+        abstract T point(
+            long hi,
+            int lo
+        );
+
+        abstract T next(T point);
+
+        abstract void encodeSuccessor(
+            T point,
+            long[] key
+        );
+
+    }
+
+    private static class DateCodec
+        extends Codec<PlainDate> {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        ChronoInterval<PlainDate> newInterval(
+            Boundary<PlainDate> start,
+            Boundary<PlainDate> end
+        ) {
+
+            return DateIntervalFactory.INSTANCE.between(start, end);
+
+        }
+
+        @Override
+        Boundary<PlainDate> decodeEnd(
+            long hi,
+            int lo
+        ) {
+
+            // Kalenderintervalle enden geschlossen
+            return ((hi == FUTURE) ? Boundary.infiniteFuture() : Boundary.ofClosed(this.point(hi - 1, 0)));
+
+        }
+
+        @Override
+        long hi(PlainDate point) {
+
+            return point.getDaysSinceEpochUTC();
+
+        }
+
+        @Override
+        int lo(PlainDate point) {
+
+            return 0;
+
+        }
+
+        @Override
+        PlainDate point(
+            long hi,
+            int lo
+        ) {
+
+            return PlainDate.of(hi, EpochDays.UTC);
+
+        }
+
+        @Override
+        PlainDate next(PlainDate point) {
+
+            return PlainDate.axis().stepForward(point);
+
+        }
+
+        @Override
+        void encodeSuccessor(
+            PlainDate point,
+            long[] key
+        ) {
+
+            key[2] = point.getDaysSinceEpochUTC() + 1; // auch nach dem Maximum noch darstellbar
+            key[3] = 0;
+
+        }
+
+    }
+
+    private static class MomentCodec
+        extends Codec<Moment> {
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        ChronoInterval<Moment> newInterval(
+            Boundary<Moment> start,
+            Boundary<Moment> end
+        ) {
+
+            return MomentIntervalFactory.INSTANCE.between(start, end);
+
+        }
+
+        @Override
+        Boundary<Moment> decodeEnd(
+            long hi,
+            int lo
+        ) {
+
+            return ((hi == FUTURE) ? Boundary.infiniteFuture() : Boundary.ofOpen(this.point(hi, lo)));
+
+        }
+
+        @Override
+        long hi(Moment point) {
+
+            return point.getPosixTime();
+
+        }
+
+        @Override
+        int lo(Moment point) {
+
+            return (point.isLeapSecond() ? point.getNanosecond() + MRD : point.getNanosecond());
+
+        }
+
+        @Override
+        Moment point(
+            long hi,
+            int lo
+        ) {
+
+            if (lo >= MRD) {
+                return Moment.of(hi, lo - MRD, TimeScale.POSIX).plus(1, SI.SECONDS);
+            }
+
+            return Moment.of(hi, lo, TimeScale.POSIX);
+
+        }
+
+        @Override
+        Moment next(Moment point) {
+
+            return Moment.axis().stepForward(point);
+
+        }
+
+        @Override
+        void encodeSuccessor(
+            Moment point,
+            long[] key
+        ) {
+
+            Moment next = this.next(point);
+
+            if (next == null) {
+                key[2] = FUTURE; // geschlossenes Maximum wie in withBlocks()
+                key[3] = 0;
+            } else {
+                key[2] = this.hi(next);
+                key[3] = this.lo(next);
+            }
+
+        }
+
+    }
+
+    /**
+     * <p>Sammelt Bl&ouml;cke in wachsenden Feldern. </p>
+     */
+    private static class Builder {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private long[] startHi;
+        private int[] startLo;
+        private long[] endHi;
+        private int[] endLo;
+        private int size;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Builder(int capacity) {
+            super();
+
+            int n = Math.max(capacity, 4);
+            this.startHi = new long[n];
+            this.startLo = new int[n];
+            this.endHi = new long[n];
+            this.endLo = new int[n];
+            this.size = 0;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        // verschmilzt mit dem letzten Block, wenn der neue Block ihn überlappt oder berührt
+        void union(
+            long sh,
+            int sl,
+            long eh,
+            int el
+        ) {
+
+            if (compare(sh, sl, eh, el) >= 0) {
+                return; // leer
+            }
+
+            int last = this.size - 1;
+
+            if ((last >= 0) && (compare(sh, sl, this.endHi[last], this.endLo[last]) <= 0)) {
+                if (compare(eh, el, this.endHi[last], this.endLo[last]) > 0) {
+                    this.endHi[last] = eh;
+                    this.endLo[last] = el;
+                }
+            } else {
+                this.add(sh, sl, eh, el);
+            }
+
+        }
+
+        void add(
+            long sh,
+            int sl,
+            long eh,
+            int el
+        ) {
+
+            if (this.size == this.startHi.length) {
+                int n = this.size * 2;
+                this.startHi = Arrays.copyOf(this.startHi, n);
+                this.startLo = Arrays.copyOf(this.startLo, n);
+                this.endHi = Arrays.copyOf(this.endHi, n);
+                this.endLo = Arrays.copyOf(this.endLo, n);
+            }
+
+            this.startHi[this.size] = sh;
+            this.startLo[this.size] = sl;
+            this.endHi[this.size] = eh;
+            this.endLo[this.size] = el;
+            this.size++;
+
+        }
+
+        EpochIntervals build() {
+
+            if (this.size == 0) {
+                return EMPTY;
+            }
+
+            return new EpochIntervals(this.startHi, this.startLo, this.endHi, this.endLo, this.size);
+
+        }
+
+    }
+
+    /**
+     * <p>Unver&auml;nderliche Listenansicht, die dekodierte Intervalle zwischenspeichert. </p>
+     */
+    private static class View<T>
+        extends AbstractList<ChronoInterval<T>>
+        implements RandomAccess {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final EpochIntervals blocks;
+        private final Codec<T> codec;
+        private final ChronoInterval<?>[] decoded;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        View(
+            EpochIntervals blocks,
+            Codec<T> codec
+        ) {
+            super();
+
+            this.blocks = blocks;
+            this.codec = codec;
+            this.decoded = new ChronoInterval<?>[blocks.size];
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public ChronoInterval<T> get(int index) {
+
+            if ((index < 0) || (index >= this.blocks.size)) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+
+            @SuppressWarnings("unchecked")
+            ChronoInterval<T> interval = (ChronoInterval<T>) this.decoded[index];
+
+            if (interval == null) {
+                // unkritisches Rennen: alle Threads erzeugen gleiche unveränderliche Intervalle
+                interval = this.blocks.get(index, this.codec);
+                this.decoded[index] = interval;
+            }
+
+            return interval;
+
+        }
+
+        @Override
+        public int size() {
+
+            return this.blocks.size;
+
+        }
+
+    }
+
+}
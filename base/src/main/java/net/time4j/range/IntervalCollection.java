@@ -86,9 +86,15 @@ public abstract class IntervalCollection<T>
     // extends AbstractCollection<ChronoInterval<T>>
     implements Iterable<ChronoInterval<T>>, Serializable {
 
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final Object MAX_END = new Object(); // unendliche Zukunft
+
     //~ Instanzvariablen --------------------------------------------------
 
     private transient final List<ChronoInterval<T>> intervals;
+    private transient volatile EpochIntervals blocks = null;
+    private transient volatile Object[] maxEnds = null;
 
     //~ Konstruktoren -----------------------------------------------------
 
@@ -407,15 +413,8 @@ public abstract class IntervalCollection<T>
      */
     public boolean encloses(T temporal) {
 
-        for (ChronoInterval<T> interval : this.intervals) {
-            if (interval.contains(temporal)) {
-                return true;
-            } else if (interval.isAfter(temporal)) {
-                break;
-            }
-        }
-
-        return false;
+        int last = this.lastStartAtOrBefore(temporal);
+        return ((last >= 0) && this.reaches(this.getMaxEnds()[last], temporal));
 
     }
 
@@ -435,9 +434,26 @@ public abstract class IntervalCollection<T>
      */
     public boolean contains(ChronoInterval<T> interval) {
 
-        for (ChronoInterval<T> i : this.intervals) {
-            if (i.equals(interval)) {
+        Comparator<ChronoInterval<T>> comparator = this.getComparator();
+        int low = 0;
+        int high = this.intervals.size();
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(this.intervals.get(mid), interval) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        // gleichrangige Intervalle können sich noch in der Form der Grenzen unterscheiden
+        for (int i = low, n = this.intervals.size(); i < n; i++) {
+            ChronoInterval<T> candidate = this.intervals.get(i);
+            if (candidate.equals(interval)) {
                 return true;
+            } else if (comparator.compare(candidate, interval) != 0) {
+                break;
             }
         }
 
@@ -757,9 +773,34 @@ public abstract class IntervalCollection<T>
 
         if (this == other) {
             return this;
+        } else if (other.isEmpty()) {
+            return this;
+        } else if (!this.getTimeLine().equals(other.getTimeLine())) {
+            return this.plus(other.getIntervals());
         }
 
-        return this.plus(other.getIntervals());
+        // beide Listen sind schon sortiert: linear mischen statt neu sortieren
+        Comparator<ChronoInterval<T>> comparator = this.getComparator();
+        List<ChronoInterval<T>> windows = new ArrayList<>(this.intervals.size() + other.intervals.size());
+        int i = 0;
+        int j = 0;
+
+        while ((i < this.intervals.size()) && (j < other.intervals.size())) {
+            ChronoInterval<T> a = this.intervals.get(i);
+            ChronoInterval<T> b = other.intervals.get(j);
+
+            if (comparator.compare(a, b) <= 0) {
+                windows.add(a);
+                i++;
+            } else {
+                windows.add(b);
+                j++;
+            }
+        }
+
+        windows.addAll(this.intervals.subList(i, this.intervals.size()));
+        windows.addAll(other.intervals.subList(j, other.intervals.size()));
+        return this.create(windows);
 
     }
 
@@ -907,6 +948,14 @@ public abstract class IntervalCollection<T>
         }
 
         Collections.sort(list, this.getComparator());
+        EpochIntervals.Codec<T> codec = this.getCodec();
+
+        if (codec != null) {
+            List<ChronoInterval<T>> diff = EpochIntervals.of(list, codec).subtractFrom(this.intervals, codec);
+            Collections.sort(diff, this.getComparator()); // linear, wenn die Minuenden disjunkt sind
+            return this.create(diff);
+        }
+
         IntervalCollection<T> subtrahend = this.create(list);
 
         for (int i = 0, n = this.intervals.size(); i < n; i++) {
@@ -1202,6 +1251,12 @@ public abstract class IntervalCollection<T>
             return this;
         }
 
+        EpochIntervals.Codec<T> codec = this.getCodec();
+
+        if (codec != null) {
+            return this.create(this.getBlocks(codec), codec);
+        }
+
         Boundary<T> s;
         Boundary<T> e;
 
@@ -1406,6 +1461,17 @@ public abstract class IntervalCollection<T>
      */
     public IntervalCollection<T> union(IntervalCollection<T> other) {
 
+        EpochIntervals.Codec<T> codec = this.getCodec();
+
+        if (
+            (codec != null)
+            && (codec == other.getCodec())
+            && (this != other)
+            && (this.intervals.size() + other.intervals.size() >= 2)
+        ) {
+            return this.create(this.getBlocks(codec).union(other.getBlocks(codec)), codec);
+        }
+
         return this.plus(other).withBlocks();
 
     }
@@ -1431,6 +1497,12 @@ public abstract class IntervalCollection<T>
             return this.create(zero);
         }
 
+        EpochIntervals.Codec<T> codec = this.getCodec();
+
+        if ((codec != null) && (codec == other.getCodec())) {
+            return this.create(this.getBlocks(codec).intersect(other.getBlocks(codec)), codec);
+        }
+
         List<ChronoInterval<T>> list = new ArrayList<>();
 
         for (ChronoInterval<T> a : this.intervals) {
@@ -1606,6 +1678,20 @@ public abstract class IntervalCollection<T>
      */
     abstract TimeLine<T> getTimeLine();
 
+    /**
+     * <p>Liefert die primitive Kodierung der Zeitachse, falls vorhanden. </p>
+     *
+     * <p>Nur Datums- und Momentintervallmengen haben eine Kodierung, mit der die Mengenoperationen
+     * als lineare Mischverfahren auf {@code long}-Feldern ablaufen. </p>
+     *
+     * @return  Codec or {@code null}
+     */
+    EpochIntervals.Codec<T> getCodec() {
+
+        return null;
+
+    }
+
     boolean isAfter(T t1, T t2) {
 
         return (this.getTimeLine().compare(t1, t2) > 0);
@@ -1661,6 +1747,170 @@ public abstract class IntervalCollection<T>
 
     }
 
+    // kodierte Blöcke werden einmal pro Instanz berechnet (unkritisches Rennen)
+    private EpochIntervals getBlocks(EpochIntervals.Codec<T> codec) {
+
+        EpochIntervals encoded = this.blocks;
+
+        if (encoded == null) {
+            encoded = EpochIntervals.of(this.intervals, codec);
+            this.blocks = encoded;
+        }
+
+        return encoded;
+
+    }
+
+    private IntervalCollection<T> create(
+        EpochIntervals encoded,
+        EpochIntervals.Codec<T> codec
+    ) {
+
+        IntervalCollection<T> result = this.create(encoded.asList(codec));
+
+        if (encoded.size() > 0) {
+            result.blocks = encoded; // die Intervalle sind schon normalisiert
+        }
+
+        return result;
+
+    }
+
+    // Index des letzten Intervalls, das spätestens mit dem angegebenen Zeitpunkt beginnt, sonst -1
+    private int lastStartAtOrBefore(T temporal) {
+
+        int low = 0;
+        int high = this.intervals.size() - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (this.startsAtOrBefore(this.intervals.get(mid), temporal)) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        return high;
+
+    }
+
+    // Index des ersten Intervalls, bis zu dem irgendein Intervall den Zeitpunkt erreicht, sonst size()
+    private int firstEndReaching(T temporal) {
+
+        Object[] ends = this.getMaxEnds();
+        int low = 0;
+        int high = ends.length;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.reaches(ends[mid], temporal)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+
+        return low;
+
+    }
+
+    private boolean startsAtOrBefore(
+        ChronoInterval<T> interval,
+        T temporal
+    ) {
+
+        Boundary<T> start = interval.getStart();
+
+        if (start.isInfinite()) {
+            return true;
+        }
+
+        T s = start.getTemporal();
+
+        if (start.isOpen()) {
+            s = this.getTimeLine().stepForward(s);
+            if (s == null) {
+                return false; // offenes Maximum
+            }
+        }
+
+        return !this.isAfter(s, temporal);
+
+    }
+
+    // normiertes Ende: kalendarisch der letzte enthaltene Zeitpunkt, sonst exklusiv
+    private boolean reaches(
+        Object end,
+        T temporal
+    ) {
+
+        if (end == MAX_END) {
+            return true;
+        } else if (end == null) {
+            return false;
+        }
+
+        @SuppressWarnings("unchecked")
+        T e = (T) end;
+        return (this.isCalendrical() ? !this.isBefore(e, temporal) : this.isAfter(e, temporal));
+
+    }
+
+    // Präfix-Maxima der normierten Enden, einmal pro Instanz berechnet (unkritisches Rennen)
+    private Object[] getMaxEnds() {
+
+        Object[] ends = this.maxEnds;
+
+        if (ends == null) {
+            int n = this.intervals.size();
+            ends = new Object[n];
+            Object max = null;
+
+            for (int i = 0; i < n; i++) {
+                if (max != MAX_END) {
+                    Object e = this.normalizedEnd(this.intervals.get(i).getEnd());
+                    if ((max == null) || (e == MAX_END)) {
+                        max = e;
+                    } else if (e != null) {
+                        @SuppressWarnings("unchecked")
+                        T candidate = (T) e;
+                        @SuppressWarnings("unchecked")
+                        T current = (T) max;
+                        if (this.isAfter(candidate, current)) {
+                            max = candidate;
+                        }
+                    }
+                }
+                ends[i] = max;
+            }
+
+            this.maxEnds = ends;
+        }
+
+        return ends;
+
+    }
+
+    private Object normalizedEnd(Boundary<T> end) {
+
+        if (end.isInfinite()) {
+            return MAX_END;
+        }
+
+        T e = end.getTemporal();
+
+        if (this.isCalendrical()) {
+            return (end.isOpen() ? this.getTimeLine().stepBackwards(e) : e);
+        } else if (end.isClosed()) {
+            T next = this.getTimeLine().stepForward(e);
+            return ((next == null) ? MAX_END : next);
+        } else {
+            return e;
+        }
+
+    }
+
     private IntervalCollection<T> withFilter(ChronoInterval<T> window) {
 
         if (window.isEmpty()) {
@@ -1678,9 +1928,12 @@ public abstract class IntervalCollection<T>
             return this;
         }
 
+        // nur Intervalle, die das Fenster erreichen und nicht nach ihm beginnen
+        int first = (lower.isInfinite() ? 0 : this.firstEndReaching(lower.getTemporal()));
+        int last = (upper.isInfinite() ? this.intervals.size() - 1 : this.lastStartAtOrBefore(upper.getTemporal()));
         List<ChronoInterval<T>> parts = new ArrayList<>();
 
-        for (ChronoInterval<T> interval : this.intervals) {
+        for (ChronoInterval<T> interval : this.intervals.subList(first, Math.max(first, last + 1))) {
             if (
                 interval.isFinite()
                 && window.contains(interval.getStart().getTemporal())
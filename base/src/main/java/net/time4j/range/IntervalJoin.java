@@ -0,0 +1,630 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (IntervalJoin.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+import net.time4j.engine.TimeLine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+
+/**
+ * <p>Joins two interval collections by finding all pairs of intersecting intervals in one
+ * sweep over the time axis. </p>
+ *
+ * <p>Both collections are already sorted by the start of their intervals. The sweep line
+ * visits every start boundary once and compares the current interval only with those
+ * intervals of the other side which have started earlier and not yet ended. Expired intervals
+ * are dropped during this scan so the total effort is {@code O(n + m + k)} where
+ * {@code k} is the count of found pairs. Example: </p>
+ *
+ * <pre>
+ *     DateWindows bookings = ...;
+ *     DateWindows shifts = ...;
+ *
+ *     IntervalJoin.of(bookings, shifts).stream()
+ *         .filter((match) -&gt; match.getRelation() == IntervalRelation.OVERLAPS)
+ *         .forEach(System.out::println); // bookings which start before a shift and end within
+ * </pre>
+ *
+ * <p>The parallel mode partitions the time axis at start boundaries. Every partition starts
+ * its own sweep with the intervals which are still active at the partition start. These
+ * intervals are determined by an {@link IntervalTree}. </p>
+ *
+ * @param   <T> the temporal type of time points in intervals
+ * @author  Meno Hochschild
+ * @see     IntervalCollection#intersect(IntervalCollection)
+ * @since   5.0
+ */
+/*[deutsch]
+ * <p>Verkn&uuml;pft zwei Intervallsammlungen, indem alle Paare von sich &uuml;berschneidenden
+ * Intervallen in einem Durchlauf &uuml;ber die Zeitachse gefunden werden. </p>
+ *
+ * <p>Beide Sammlungen sind schon nach dem Start ihrer Intervalle sortiert. Die Sweep-Linie
+ * besucht jede Startgrenze einmal und vergleicht das aktuelle Intervall nur mit den Intervallen
+ * der anderen Seite, die fr&uuml;her begonnen und noch nicht geendet haben. Abgelaufene
+ * Intervalle werden w&auml;hrend dieses Durchgangs entfernt, so da&szlig; der Gesamtaufwand
+ * {@code O(n + m + k)} betr&auml;gt, wobei {@code k} die Anzahl der gefundenen Paare ist.
+ * Beispiel: </p>
+ *
+ * <pre>
+ *     DateWindows bookings = ...;
+ *     DateWindows shifts = ...;
+ *
+ *     IntervalJoin.of(bookings, shifts).stream()
+ *         .filter((match) -&gt; match.getRelation() == IntervalRelation.OVERLAPS)
+ *         .forEach(System.out::println); // Buchungen, die vor einer Schicht beginnen und in ihr enden
+ * </pre>
+ *
+ * <p>Der Parallelmodus zerlegt die Zeitachse an Startgrenzen. Jeder Abschnitt beginnt einen
+ * eigenen Durchlauf mit den Intervallen, die am Anfang des Abschnitts noch aktiv sind. Diese
+ * Intervalle werden mit Hilfe eines {@link IntervalTree} bestimmt. </p>
+ *
+ * @param   <T> the temporal type of time points in intervals
+ * @author  Meno Hochschild
+ * @see     IntervalCollection#intersect(IntervalCollection)
+ * @since   5.0
+ */
+public final class IntervalJoin<T> {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MIN_CHUNK = 512;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final List<ChronoInterval<T>> left;
+    private final List<ChronoInterval<T>> right;
+    private final TimeLine<T> timeLine;
+
+    // lazy, only needed in parallel mode
+    private volatile IntervalTree<T, ChronoInterval<T>> leftTree = null;
+    private volatile IntervalTree<T, ChronoInterval<T>> rightTree = null;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private IntervalJoin(
+        List<ChronoInterval<T>> left,
+        List<ChronoInterval<T>> right,
+        TimeLine<T> timeLine
+    ) {
+        super();
+
+        this.left = left;
+        this.right = right;
+        this.timeLine = timeLine;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Prepares a join of given interval collections. </p>
+     *
+     * @param   <T> the temporal type of time points in intervals
+     * @param   left    the intervals on the left side of every match
+     * @param   right   the intervals on the right side of every match
+     * @return  new join
+     * @throws  IllegalArgumentException if both collections are not on the same timeline
+     */
+    /*[deutsch]
+     * <p>Bereitet eine Verkn&uuml;pfung der angegebenen Intervallsammlungen vor. </p>
+     *
+     * @param   <T> the temporal type of time points in intervals
+     * @param   left    the intervals on the left side of every match
+     * @param   right   the intervals on the right side of every match
+     * @return  new join
+     * @throws  IllegalArgumentException if both collections are not on the same timeline
+     */
+    public static <T> IntervalJoin<T> of(
+        IntervalCollection<T> left,
+        IntervalCollection<T> right
+    ) {
+
+        TimeLine<T> timeLine = left.getTimeLine();
+
+        if (!timeLine.equals(right.getTimeLine())) {
+            throw new IllegalArgumentException("Interval collections on different timelines.");
+        }
+
+        return new IntervalJoin<>(left.getIntervals(), right.getIntervals(), timeLine);
+
+    }
+
+    /**
+     * <p>Obtains a sequential stream of all matches ordered by the later start of both
+     * intervals in a match. </p>
+     *
+     * <p>Only pairs of intersecting intervals will be reported, so the relation of a match is never
+     * {@link IntervalRelation#PRECEDES}, {@link IntervalRelation#MEETS}, {@link IntervalRelation#MET_BY}
+     * or {@link IntervalRelation#PRECEDED_BY}. </p>
+     *
+     * @return  stream of matches
+     */
+    /*[deutsch]
+     * <p>Liefert einen sequentiellen {@code Stream} aller Treffer, sortiert nach dem
+     * sp&auml;teren Start beider Intervalle eines Treffers. </p>
+     *
+     * <p>Nur Paare von sich &uuml;berschneidenden Intervallen werden gemeldet, so da&szlig; die
+     * Beziehung eines Treffers nie {@link IntervalRelation#PRECEDES}, {@link IntervalRelation#MEETS},
+     * {@link IntervalRelation#MET_BY} oder {@link IntervalRelation#PRECEDED_BY} ist. </p>
+     *
+     * @return  stream of matches
+     */
+    public Stream<Match<T>> stream() {
+
+        return StreamSupport.stream(this.spliterator(), false);
+
+    }
+
+    /**
+     * <p>Obtains a parallel stream of all matches which partitions the time axis. </p>
+     *
+     * <p>The encounter order is the same as in {@link #stream()}. </p>
+     *
+     * @return  parallel stream of matches
+     */
+    /*[deutsch]
+     * <p>Liefert einen parallelen {@code Stream} aller Treffer, der die Zeitachse in Abschnitte
+     * zerlegt. </p>
+     *
+     * <p>Die Reihenfolge ist dieselbe wie in {@link #stream()}. </p>
+     *
+     * @return  parallel stream of matches
+     */
+    public Stream<Match<T>> parallelStream() {
+
+        return StreamSupport.stream(this.spliterator(), true);
+
+    }
+
+    private Spliterator<Match<T>> spliterator() {
+
+        return new Sweep(0, this.left.size(), 0, this.right.size(), null);
+
+    }
+
+    private IntervalRelation getRelation(
+        ChronoInterval<T> a,
+        ChronoInterval<T> b
+    ) {
+
+        int s = this.compareAtStart(a, b);
+        int e = IntervalTree.compareAtEnd(a.getEnd(), b.getEnd(), this.timeLine);
+
+        if (s < 0) {
+            if (e < 0) {
+                return IntervalRelation.OVERLAPS;
+            }
+            return ((e == 0) ? IntervalRelation.FINISHED_BY : IntervalRelation.ENCLOSES);
+        } else if (s == 0) {
+            if (e < 0) {
+                return IntervalRelation.STARTS;
+            }
+            return ((e == 0) ? IntervalRelation.EQUIVALENT : IntervalRelation.STARTED_BY);
+        } else if (e < 0) {
+            return IntervalRelation.ENCLOSED_BY;
+        }
+
+        return ((e == 0) ? IntervalRelation.FINISHES : IntervalRelation.OVERLAPPED_BY);
+
+    }
+
+    private int compareAtStart(
+        ChronoInterval<T> a,
+        ChronoInterval<T> b
+    ) {
+
+        return IntervalTree.compareAtStart(a.getStart(), b.getStart(), this.timeLine);
+
+    }
+
+    // reicht das Ende noch über den Start eines anderen Intervalls hinaus?
+    private boolean reaches(
+        Boundary<T> end,
+        Boundary<T> start
+    ) {
+
+        if (end.isInfinite() || start.isInfinite()) {
+            return true;
+        }
+
+        T e = end.getTemporal();
+        T s = start.getTemporal();
+
+        if (end.isClosed()) {
+            int c = this.timeLine.compare(e, s);
+            return (start.isClosed() ? (c >= 0) : (c > 0));
+        } else if (start.isClosed()) {
+            return (this.timeLine.compare(e, s) > 0);
+        }
+
+        T next = this.timeLine.stepForward(s);
+        return ((next != null) && (this.timeLine.compare(next, e) < 0));
+
+    }
+
+    // erster Index im Bereich, dessen normalisierter Start nicht vor dem angegebenen Zeitpunkt liegt
+    private int search(
+        List<ChronoInterval<T>> intervals,
+        int from,
+        int to,
+        Boundary<T> start
+    ) {
+
+        int low = from;
+        int high = to;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (IntervalTree.compareAtStart(intervals.get(mid).getStart(), start, this.timeLine) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+
+    }
+
+    // alle Intervalle mit einem Start vor dem Zeitpunkt, die den Zeitpunkt noch enthalten
+    private List<ChronoInterval<T>> activeAt(
+        IntervalTree<T, ChronoInterval<T>> tree,
+        T timepoint
+    ) {
+
+        List<ChronoInterval<T>> active = new ArrayList<>();
+        Boundary<T> start = Boundary.ofClosed(timepoint);
+
+        tree.findIntersections(
+            timepoint,
+            (interval) -> {
+                if (IntervalTree.compareAtStart(interval.getStart(), start, this.timeLine) < 0) {
+                    active.add(interval);
+                }
+                return false;
+            });
+
+        return active;
+
+    }
+
+    private IntervalTree<T, ChronoInterval<T>> getTree(boolean leftSide) {
+
+        IntervalTree<T, ChronoInterval<T>> tree = (leftSide ? this.leftTree : this.rightTree);
+
+        if (tree == null) {
+            // linearer Aufbau, weil die Intervalle schon nach dem Start sortiert sind
+            tree = IntervalTree.onTimeLine(this.timeLine, leftSide ? this.left : this.right);
+            if (leftSide) {
+                this.leftTree = tree;
+            } else {
+                this.rightTree = tree;
+            }
+        }
+
+        return tree;
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    /**
+     * <p>Represents a pair of intersecting intervals together with their relation. </p>
+     *
+     * @param   <T> the temporal type of time points in intervals
+     */
+    /*[deutsch]
+     * <p>Repr&auml;sentiert ein Paar von sich &uuml;berschneidenden Intervallen zusammen mit
+     * ihrer Beziehung. </p>
+     *
+     * @param   <T> the temporal type of time points in intervals
+     */
+    public static final class Match<T> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final ChronoInterval<T> left;
+        private final ChronoInterval<T> right;
+        private final IntervalRelation relation;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        private Match(
+            ChronoInterval<T> left,
+            ChronoInterval<T> right,
+            IntervalRelation relation
+        ) {
+            super();
+
+            this.left = left;
+            this.right = right;
+            this.relation = relation;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Yields the interval of the left collection. </p>
+         *
+         * @return  ChronoInterval
+         */
+        /*[deutsch]
+         * <p>Liefert das Intervall der linken Sammlung. </p>
+         *
+         * @return  ChronoInterval
+         */
+        public ChronoInterval<T> getLeft() {
+
+            return this.left;
+
+        }
+
+        /**
+         * <p>Yields the interval of the right collection. </p>
+         *
+         * @return  ChronoInterval
+         */
+        /*[deutsch]
+         * <p>Liefert das Intervall der rechten Sammlung. </p>
+         *
+         * @return  ChronoInterval
+         */
+        public ChronoInterval<T> getRight() {
+
+            return this.right;
+
+        }
+
+        /**
+         * <p>Yields the relation of the left interval to the right interval. </p>
+         *
+         * @return  IntervalRelation
+         */
+        /*[deutsch]
+         * <p>Liefert die Beziehung des linken Intervalls zum rechten Intervall. </p>
+         *
+         * @return  IntervalRelation
+         */
+        public IntervalRelation getRelation() {
+
+            return this.relation;
+
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+
+            if (this == obj) {
+                return true;
+            } else if (obj instanceof Match) {
+                Match<?> that = (Match<?>) obj;
+                return (
+                    this.left.equals(that.left)
+                    && this.right.equals(that.right)
+                    && (this.relation == that.relation)
+                );
+            } else {
+                return false;
+            }
+
+        }
+
+        @Override
+        public int hashCode() {
+
+            return 31 * this.left.hashCode() + 37 * this.right.hashCode() + this.relation.hashCode();
+
+        }
+
+        @Override
+        public String toString() {
+
+            return this.left + " " + this.relation + " " + this.right;
+
+        }
+
+    }
+
+    private class Sweep
+        implements Spliterator<Match<T>> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private int leftIndex;
+        private int leftEnd;
+        private int rightIndex;
+        private int rightEnd;
+        private T seed; // null at start of timeline, else first point of this partition
+
+        // sweep state
+        private List<ChronoInterval<T>> activeLeft = null;
+        private List<ChronoInterval<T>> activeRight = null;
+        private ChronoInterval<T> current = null;
+        private boolean currentLeft;
+        private int scanPos;
+        private int writePos;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Sweep(
+            int leftIndex,
+            int leftEnd,
+            int rightIndex,
+            int rightEnd,
+            T seed
+        ) {
+            super();
+
+            this.leftIndex = leftIndex;
+            this.leftEnd = leftEnd;
+            this.rightIndex = rightIndex;
+            this.rightEnd = rightEnd;
+            this.seed = seed;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Match<T>> action) {
+
+            if (this.activeLeft == null) {
+                this.init();
+            }
+
+            while (true) {
+                if (this.current != null) {
+                    List<ChronoInterval<T>> others = (this.currentLeft ? this.activeRight : this.activeLeft);
+                    Boundary<T> start = this.current.getStart();
+
+                    while (this.scanPos < others.size()) {
+                        ChronoInterval<T> other = others.get(this.scanPos++);
+                        if (reaches(other.getEnd(), start)) {
+                            others.set(this.writePos++, other); // abgelaufene Intervalle fallen heraus
+                            ChronoInterval<T> a = (this.currentLeft ? this.current : other);
+                            ChronoInterval<T> b = (this.currentLeft ? other : this.current);
+                            action.accept(new Match<>(a, b, getRelation(a, b)));
+                            return true;
+                        }
+                    }
+
+                    others.subList(this.writePos, others.size()).clear();
+
+                    // nur merken, wenn die andere Seite noch Intervalle liefern kann
+                    if (this.currentLeft && (this.rightIndex < this.rightEnd)) {
+                        this.activeLeft.add(this.current);
+                    } else if (!this.currentLeft && (this.leftIndex < this.leftEnd)) {
+                        this.activeRight.add(this.current);
+                    }
+
+                    this.current = null;
+                }
+
+                // eine Seite ist erschöpft, wenn sie nichts mehr liefert und nichts mehr aktiv ist
+                boolean leftDone = (this.leftIndex == this.leftEnd);
+                boolean rightDone = (this.rightIndex == this.rightEnd);
+                boolean hasLeft = !leftDone && !(rightDone && this.activeRight.isEmpty());
+                boolean hasRight = !rightDone && !(leftDone && this.activeLeft.isEmpty());
+
+                if (hasLeft && hasRight) {
+                    ChronoInterval<T> l = IntervalJoin.this.left.get(this.leftIndex);
+                    ChronoInterval<T> r = IntervalJoin.this.right.get(this.rightIndex);
+                    hasLeft = (compareAtStart(l, r) <= 0);
+                } else if (!hasLeft && !hasRight) {
+                    this.leftIndex = this.leftEnd;
+                    this.rightIndex = this.rightEnd;
+                    return false;
+                }
+
+                if (hasLeft) {
+                    this.current = IntervalJoin.this.left.get(this.leftIndex++);
+                } else {
+                    this.current = IntervalJoin.this.right.get(this.rightIndex++);
+                }
+
+                this.currentLeft = hasLeft;
+                this.scanPos = 0;
+                this.writePos = 0;
+            }
+
+        }
+
+        @Override
+        public Spliterator<Match<T>> trySplit() {
+
+            int nl = this.leftEnd - this.leftIndex;
+            int nr = this.rightEnd - this.rightIndex;
+
+            if ((this.activeLeft != null) || (nl + nr < 2 * MIN_CHUNK)) {
+                return null; // no split after start of sweep
+            }
+
+            ChronoInterval<T> pivot = (
+                (nl >= nr)
+                ? IntervalJoin.this.left.get(this.leftIndex + nl / 2)
+                : IntervalJoin.this.right.get(this.rightIndex + nr / 2));
+
+            if (pivot.getStart().isInfinite()) {
+                return null;
+            }
+
+            T t = pivot.getStart().getTemporal();
+
+            if (pivot.getStart().isOpen()) {
+                t = IntervalJoin.this.timeLine.stepForward(t);
+                if (t == null) {
+                    return null;
+                }
+            }
+
+            Boundary<T> start = Boundary.ofClosed(t);
+            int leftSplit = search(IntervalJoin.this.left, this.leftIndex, this.leftEnd, start);
+            int rightSplit = search(IntervalJoin.this.right, this.rightIndex, this.rightEnd, start);
+
+            if ((leftSplit == this.leftIndex) && (rightSplit == this.rightIndex)) {
+                return null; // all intervals before pivot have the same start
+            }
+
+            Sweep prefix = new Sweep(this.leftIndex, leftSplit, this.rightIndex, rightSplit, this.seed);
+            this.leftIndex = leftSplit;
+            this.rightIndex = rightSplit;
+            this.seed = t;
+            return prefix;
+
+        }
+
+        @Override
+        public long estimateSize() {
+
+            return (this.leftEnd - this.leftIndex) + (this.rightEnd - this.rightIndex);
+
+        }
+
+        @Override
+        public int characteristics() {
+
+            return IMMUTABLE | NONNULL | ORDERED;
+
+        }
+
+        private void init() {
+
+            if (this.seed == null) {
+                this.activeLeft = new ArrayList<>();
+                this.activeRight = new ArrayList<>();
+            } else {
+                this.activeLeft = activeAt(getTree(true), this.seed);
+                this.activeRight = activeAt(getTree(false), this.seed);
+            }
+
+        }
+
+    }
+
+}
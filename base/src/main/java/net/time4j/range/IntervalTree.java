@@ -35,6 +35,14 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 /**
@@ -66,6 +74,10 @@ import java.util.List;
 public class IntervalTree<T, I extends ChronoInterval<T>>
     extends AbstractCollection<I> {
 
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MIN_CHUNK = 1024;
+
     //~ Instanzvariablen --------------------------------------------------
 
     private final Node<T, I> root;
@@ -87,18 +99,19 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
             throw new NullPointerException("Missing timeline.");
         }
 
-        Node<T, I> r = null;
-        int count = 0;
+        List<I> sorted = new ArrayList<>(intervals.size());
 
         for (I interval : intervals) {
             if (!interval.isEmpty()) {
-                r = insert(r, interval, timeLine);
-                count = Math.incrementExact(count);
+                sorted.add(interval);
             }
         }
 
-        this.root = r;
-        this.size = count;
+        // stable sort (linear for presorted input) keeps the insertion order of equal starts
+        sorted.sort((i1, i2) -> compareAtStart(i1.getStart(), i2.getStart(), timeLine));
+
+        this.root = build(sorted, 0, sorted.size() - 1, timeLine);
+        this.size = sorted.size();
         this.timeLine = timeLine;
 
     }
@@ -316,16 +329,7 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
     @Override
     public Iterator<I> iterator() {
 
-        List<I> i = this.intervals;
-
-        if (i == null) {
-            Collector collector = new Collector();
-            this.accept(collector);
-            i = Collections.unmodifiableList(collector.visited);
-            this.intervals = i;
-        }
-
-        return i.iterator();
+        return this.getIntervals().iterator();
 
     }
 
@@ -361,11 +365,41 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
     public List<I> findIntersections(T timepoint) {
 
         List<I> found = new ArrayList<>();
-        findIntersections(timepoint, this.timeLine.stepForward(timepoint), this.root, found);
+        findIntersections(timepoint, this.timeLine.stepForward(timepoint), this.root, this.timeLine, collect(found));
         return Collections.unmodifiableList(found);
 
     }
 
+    /**
+     * <p>Reports all stored intervals which contain given point in time to given visitor. </p>
+     *
+     * <p>In contrast to {@link #findIntersections(Object)}, this method does not create any list. The
+     * intervals are reported in ascending order of their start boundaries. </p>
+     *
+     * @param   timepoint   the point in time to be checked
+     * @param   visitor     callback for every found interval which can cancel the search
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Meldet alle gespeicherten Intervalle, die den angegebenen Suchzeitpunkt enthalten, an den
+     * angegebenen Besucher. </p>
+     *
+     * <p>Im Unterschied zu {@link #findIntersections(Object)} erzeugt diese Methode keine Liste. Die
+     * Intervalle werden in aufsteigender Reihenfolge ihrer Startgrenzen gemeldet. </p>
+     *
+     * @param   timepoint   the point in time to be checked
+     * @param   visitor     callback for every found interval which can cancel the search
+     * @since   5.0
+     */
+    public void findIntersections(
+        T timepoint,
+        Visitor<I> visitor
+    ) {
+
+        findIntersections(timepoint, this.timeLine.stepForward(timepoint), this.root, this.timeLine, visitor);
+
+    }
+
     /**
      * <p>Obtains a list of all stored intervals which intersect given search interval. </p>
      *
@@ -386,22 +420,227 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
             return Collections.emptyList();
         }
 
-        // make search interval half-open
-        T low = interval.getStart().getTemporal();
-        T high = interval.getEnd().getTemporal();
+        // collect recursively
+        List<I> found = new ArrayList<>();
+        findIntersections(interval, this.root, this.timeLine, collect(found));
+        return Collections.unmodifiableList(found);
 
-        if ((low != null) && interval.getStart().isOpen()) {
-            low = this.timeLine.stepForward(low);
+    }
+
+    /**
+     * <p>Reports all stored intervals which intersect given search interval to given visitor. </p>
+     *
+     * <p>In contrast to {@link #findIntersections(ChronoInterval)}, this method does not create any
+     * list. The intervals are reported in ascending order of their start boundaries. </p>
+     *
+     * @param   interval    the search interval
+     * @param   visitor     callback for every found interval which can cancel the search
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Meldet alle gespeicherten Intervalle, die sich mit dem angegebenen Suchintervall
+     * &uuml;berschneiden, an den angegebenen Besucher. </p>
+     *
+     * <p>Im Unterschied zu {@link #findIntersections(ChronoInterval)} erzeugt diese Methode keine
+     * Liste. Die Intervalle werden in aufsteigender Reihenfolge ihrer Startgrenzen gemeldet. </p>
+     *
+     * @param   interval    the search interval
+     * @param   visitor     callback for every found interval which can cancel the search
+     * @since   5.0
+     */
+    public void findIntersections(
+        ChronoInterval<T> interval,
+        Visitor<I> visitor
+    ) {
+
+        findIntersections(interval, this.root, this.timeLine, visitor);
+
+    }
+
+    /**
+     * <p>Counts for every given point in time how many stored intervals contain it. </p>
+     *
+     * <p>All points are answered in one sweep over the stored intervals which are activated at their
+     * start and retired after their end. The time points should preferably be sorted in ascending order,
+     * otherwise they will be sorted internally. In parallel mode, the sorted time points are divided into
+     * chunks which are swept independently in the common fork/join-pool. </p>
+     *
+     * @param   timepoints  the points in time to be checked
+     * @param   parallel    should the query be executed in parallel?
+     * @return  array of counts whose indices correspond to the indices of given time points
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Z&auml;hlt f&uuml;r jeden angegebenen Zeitpunkt, wie viele gespeicherte Intervalle ihn enthalten. </p>
+     *
+     * <p>Alle Zeitpunkte werden in einem Durchlauf &uuml;ber die gespeicherten Intervalle beantwortet, die
+     * an ihrem Start aktiviert und nach ihrem Ende verworfen werden. Die Zeitpunkte sollten m&ouml;glichst
+     * aufsteigend sortiert sein, sonst werden sie intern sortiert. Im Parallelmodus werden die sortierten
+     * Zeitpunkte in Abschnitte aufgeteilt, die unabh&auml;ngig voneinander im allgemeinen
+     * Fork/Join-Pool abgearbeitet werden. </p>
+     *
+     * @param   timepoints  the points in time to be checked
+     * @param   parallel    should the query be executed in parallel?
+     * @return  array of counts whose indices correspond to the indices of given time points
+     * @since   5.0
+     */
+    public int[] countIntersectionsAt(
+        List<? extends T> timepoints,
+        boolean parallel
+    ) {
+
+        int n = timepoints.size();
+        int[] counts = new int[n];
+        int[] order = this.sortIndexes(timepoints);
+
+        if (parallel && (n >= 2 * MIN_CHUNK)) {
+            int chunk = Math.max(MIN_CHUNK, n / (ForkJoinPool.getCommonPoolParallelism() * 4) + 1);
+            IntStream.range(0, (n + chunk - 1) / chunk).parallel().forEach(
+                (c) -> new Sweep(timepoints, order, c * chunk, Math.min(n, c * chunk + chunk)).count(counts));
+        } else {
+            new Sweep(timepoints, order, 0, n).count(counts);
         }
 
-        if ((high != null) && interval.getEnd().isClosed()) {
-            high = this.timeLine.stepForward(high);
+        return counts;
+
+    }
+
+    /**
+     * <p>Streams all pairs of point index and stored interval where the interval contains the
+     * point in time with given index. </p>
+     *
+     * <p>Like {@link #countIntersectionsAt(List, boolean)}, the time points are answered in one sweep
+     * (or in independent chunks if parallel) without creating any list per point. The hits are ordered
+     * by ascending time points, but hits for the same time point have no defined order. </p>
+     *
+     * @param   timepoints  the points in time to be checked
+     * @param   parallel    should the stream be parallel?
+     * @return  stream of pairs of index and found interval
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Liefert alle Paare aus Zeitpunktindex und gespeichertem Intervall, in denen das Intervall
+     * den Zeitpunkt mit dem angegebenen Index enth&auml;lt. </p>
+     *
+     * <p>Wie bei {@link #countIntersectionsAt(List, boolean)} werden die Zeitpunkte in einem Durchlauf
+     * (oder parallel in unabh&auml;ngigen Abschnitten) beantwortet, ohne eine Liste pro Zeitpunkt zu
+     * erzeugen. Die Treffer sind nach aufsteigenden Zeitpunkten sortiert, aber Treffer zum selben
+     * Zeitpunkt haben keine definierte Reihenfolge. </p>
+     *
+     * @param   timepoints  the points in time to be checked
+     * @param   parallel    should the stream be parallel?
+     * @return  stream of pairs of index and found interval
+     * @since   5.0
+     */
+    public Stream<Hit<I>> streamIntersectionsAt(
+        List<? extends T> timepoints,
+        boolean parallel
+    ) {
+
+        int[] order = this.sortIndexes(timepoints);
+        return StreamSupport.stream(new Sweep(timepoints, order, 0, timepoints.size()), parallel);
+
+    }
+
+    /**
+     * <p>Counts for every given search interval how many stored intervals intersect it. </p>
+     *
+     * <p>Every search interval is answered by a tree search which does not create any list. In parallel
+     * mode, the search intervals are distributed over the common fork/join-pool. </p>
+     *
+     * @param   intervals   the search intervals
+     * @param   parallel    should the query be executed in parallel?
+     * @return  array of counts whose indices correspond to the indices of given search intervals
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Z&auml;hlt f&uuml;r jedes angegebene Suchintervall, wie viele gespeicherte Intervalle sich mit
+     * ihm &uuml;berschneiden. </p>
+     *
+     * <p>Jedes Suchintervall wird mit einer Baumsuche beantwortet, die keine Liste erzeugt. Im Parallelmodus
+     * werden die Suchintervalle auf den allgemeinen Fork/Join-Pool verteilt. </p>
+     *
+     * @param   intervals   the search intervals
+     * @param   parallel    should the query be executed in parallel?
+     * @return  array of counts whose indices correspond to the indices of given search intervals
+     * @since   5.0
+     */
+    public int[] countIntersectionsWith(
+        List<? extends ChronoInterval<T>> intervals,
+        boolean parallel
+    ) {
+
+        int[] counts = new int[intervals.size()];
+        IntStream indexes = IntStream.range(0, counts.length);
+
+        if (parallel) {
+            indexes = indexes.parallel();
         }
 
-        // collect recursively
-        List<I> found = new ArrayList<>();
-        findIntersections(low, high, this.root, found);
-        return Collections.unmodifiableList(found);
+        indexes.forEach(
+            (index) -> findIntersections(
+                intervals.get(index),
+                this.root,
+                this.timeLine,
+                (interval) -> {
+                    counts[index]++;
+                    return false;
+                })
+        );
+
+        return counts;
+
+    }
+
+    /**
+     * <p>Streams all pairs of search interval index and stored interval where both intervals
+     * intersect. </p>
+     *
+     * <p>The hits are ordered by the index of search intervals, then by the start of stored
+     * intervals. </p>
+     *
+     * @param   intervals   the search intervals
+     * @param   parallel    should the stream be parallel?
+     * @return  stream of pairs of index and found interval
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Liefert alle Paare aus Suchintervallindex und gespeichertem Intervall, in denen sich beide
+     * Intervalle &uuml;berschneiden. </p>
+     *
+     * <p>Die Treffer sind nach dem Index der Suchintervalle, dann nach dem Start der gespeicherten
+     * Intervalle sortiert. </p>
+     *
+     * @param   intervals   the search intervals
+     * @param   parallel    should the stream be parallel?
+     * @return  stream of pairs of index and found interval
+     * @since   5.0
+     */
+    public Stream<Hit<I>> streamIntersectionsWith(
+        List<? extends ChronoInterval<T>> intervals,
+        boolean parallel
+    ) {
+
+        IntStream indexes = IntStream.range(0, intervals.size());
+
+        if (parallel) {
+            indexes = indexes.parallel();
+        }
+
+        return indexes.mapToObj(
+            (index) -> {
+                Stream.Builder<Hit<I>> builder = Stream.builder();
+                findIntersections(
+                    intervals.get(index),
+                    this.root,
+                    this.timeLine,
+                    (interval) -> {
+                        builder.add(new Hit<>(index, interval));
+                        return false;
+                    });
+                return builder.build();
+            }
+        ).flatMap(Function.identity());
 
     }
 
@@ -424,15 +663,7 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
             return false;
         }
 
-        T low = interval.getStart().getTemporal();
-
-        if ((low != null) && interval.getStart().isOpen()) {
-            low = this.timeLine.stepForward(low);
-        }
-
-        List<ChronoInterval<T>> found = new ArrayList<>();
-        this.findByEquals(interval, low, found, this.root);
-        return !found.isEmpty();
+        return contains(interval, this.root, this.timeLine);
 
     }
 
@@ -499,7 +730,95 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
 
     }
 
-    private static <T, I extends ChronoInterval<T>> Node<T, I> insert(
+    private List<I> getIntervals() {
+
+        List<I> i = this.intervals;
+
+        if (i == null) {
+            Collector collector = new Collector();
+            this.accept(collector);
+            i = Collections.unmodifiableList(collector.visited);
+            this.intervals = i;
+        }
+
+        return i;
+
+    }
+
+    // liefert null, wenn die Zeitpunkte schon aufsteigend sortiert sind, sonst eine sortierte Indexfolge
+    private int[] sortIndexes(List<? extends T> timepoints) {
+
+        int n = timepoints.size();
+
+        for (int i = 1; i < n; i++) {
+            if (this.timeLine.compare(timepoints.get(i - 1), timepoints.get(i)) > 0) {
+                return IntStream.range(0, n).boxed().sorted(
+                    (i1, i2) -> this.timeLine.compare(timepoints.get(i1), timepoints.get(i2))
+                ).mapToInt(Integer::intValue).toArray();
+            }
+        }
+
+        return null;
+
+    }
+
+    // Vorbedingung: nicht-leeres Intervall
+    private boolean startsAtOrBefore(
+        I interval,
+        T timepoint
+    ) {
+
+        Boundary<T> start = interval.getStart();
+
+        if (start.isInfinite()) {
+            return true;
+        }
+
+        int c = this.timeLine.compare(start.getTemporal(), timepoint);
+        return (start.isOpen() ? (c < 0) : (c <= 0));
+
+    }
+
+    // Vorbedingung: nicht-leeres Intervall
+    private boolean endsBefore(
+        I interval,
+        T timepoint
+    ) {
+
+        Boundary<T> end = interval.getEnd();
+
+        if (end.isInfinite()) {
+            return false;
+        }
+
+        int c = this.timeLine.compare(end.getTemporal(), timepoint);
+        return (end.isOpen() ? (c <= 0) : (c < 0));
+
+    }
+
+    // erzeugt einen balancierten Teilbaum aus einer nach Start sortierten Liste in linearer Zeit
+    static <T, I extends ChronoInterval<T>> Node<T, I> build(
+        List<I> sorted,
+        int low,
+        int high,
+        TimeLine<T> timeLine
+    ) {
+
+        if (low > high) {
+            return null;
+        }
+
+        int mid = (low + high) >>> 1;
+        Node<T, I> node = new Node<>(sorted.get(mid));
+        node.left = build(sorted, low, mid - 1, timeLine);
+        node.right = build(sorted, mid + 1, high, timeLine);
+        node.height = Math.max(getHeight(node.left), getHeight(node.right)) + 1;
+        node.max = findMax(node, timeLine);
+        return node;
+
+    }
+
+    static <T, I extends ChronoInterval<T>> Node<T, I> insert(
         Node<T, I> node,
         I interval,
         TimeLine<T> timeLine
@@ -515,6 +834,175 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
             node.right = insert(node.right, interval, timeLine);
         }
 
+        return rebalance(node, timeLine);
+
+    }
+
+    // Vorbedingung: das Intervall ist im Teilbaum gespeichert (siehe contains(...))
+    static <T, I extends ChronoInterval<T>> Node<T, I> remove(
+        Node<T, I> node,
+        ChronoInterval<T> interval,
+        TimeLine<T> timeLine
+    ) {
+
+        int c = compareAtStart(node.interval.getStart(), interval.getStart(), timeLine);
+
+        if (c > 0) {
+            node.left = remove(node.left, interval, timeLine);
+        } else if (c < 0) {
+            node.right = remove(node.right, interval, timeLine);
+        } else if (interval.equals(node.interval)) {
+            if (node.left == null) {
+                return node.right;
+            } else if (node.right == null) {
+                return node.left;
+            }
+            // der Nachfolger in Sortierreihenfolge ersetzt den entfernten Knoten
+            Node<T, I> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = removeFirst(node.right, timeLine);
+            successor.left = node.left;
+            return rebalance(successor, timeLine);
+        } else if (contains(interval, node.left, timeLine)) {
+            node.left = remove(node.left, interval, timeLine);
+        } else {
+            node.right = remove(node.right, interval, timeLine);
+        }
+
+        return rebalance(node, timeLine);
+
+    }
+
+    static <T, I extends ChronoInterval<T>> boolean contains(
+        ChronoInterval<T> interval,
+        Node<T, I> node,
+        TimeLine<T> timeLine
+    ) {
+
+        if (node == null) {
+            return false;
+        }
+
+        int c = compareAtStart(node.interval.getStart(), interval.getStart(), timeLine);
+
+        if (c > 0) {
+            return contains(interval, node.left, timeLine);
+        } else if (c < 0) {
+            return contains(interval, node.right, timeLine);
+        }
+
+        // gleiche Startgrenzen können in beiden Teilbäumen vorkommen
+        return (
+            interval.equals(node.interval)
+            || contains(interval, node.left, timeLine)
+            || contains(interval, node.right, timeLine)
+        );
+
+    }
+
+    static <T, I extends ChronoInterval<T>> void findIntersections(
+        ChronoInterval<T> interval,
+        Node<T, I> root,
+        TimeLine<T> timeLine,
+        Visitor<I> visitor
+    ) {
+
+        // trivial case
+        if (interval.isEmpty()) {
+            return;
+        }
+
+        // make search interval half-open
+        T low = interval.getStart().getTemporal();
+        T high = interval.getEnd().getTemporal();
+
+        if ((low != null) && interval.getStart().isOpen()) {
+            low = timeLine.stepForward(low);
+        }
+
+        if ((high != null) && interval.getEnd().isClosed()) {
+            high = timeLine.stepForward(high);
+        }
+
+        findIntersections(low, high, root, timeLine, visitor);
+
+    }
+
+    static <T, I extends ChronoInterval<T>> boolean accept(
+        Visitor<I> visitor,
+        Node<T, I> node
+    ) {
+
+        if (node == null) {
+            return false;
+        }
+
+        if (accept(visitor, node.left)) {
+            return true;
+        }
+
+        if (visitor.visited(node.interval)) {
+            return true;
+        }
+
+        return accept(visitor, node.right);
+
+    }
+
+    static <T> int compareAtStart(
+        Boundary<T> b1,
+        Boundary<T> b2,
+        TimeLine<T> timeLine
+    ) {
+
+        if (b1.isInfinite()) {
+            return ((b2.isInfinite() ? 0 : -1));
+        } else if (b2.isInfinite()) {
+            return 1;
+        }
+
+        T t1 = b1.getTemporal();
+        T t2 = b2.getTemporal();
+
+        if (b1.getEdge() != b2.getEdge()) {
+            if (b1.isOpen() && b2.isClosed()) {
+                t2 = timeLine.stepBackwards(t2);
+                if (t2 == null) {
+                    return 1;
+                }
+            } else if (b1.isClosed() && b2.isOpen()) {
+                t1 = timeLine.stepBackwards(t1);
+                if (t1 == null) {
+                    return -1;
+                }
+            }
+        }
+
+        return timeLine.compare(t1, t2);
+
+    }
+
+    private static <T, I extends ChronoInterval<T>> Node<T, I> removeFirst(
+        Node<T, I> node,
+        TimeLine<T> timeLine
+    ) {
+
+        if (node.left == null) {
+            return node.right;
+        }
+
+        node.left = removeFirst(node.left, timeLine);
+        return rebalance(node, timeLine);
+
+    }
+
+    private static <T, I extends ChronoInterval<T>> Node<T, I> rebalance(
+        Node<T, I> node,
+        TimeLine<T> timeLine
+    ) {
+
         node.height = Math.max(getHeight(node.left), getHeight(node.right)) + 1;
         node.max = findMax(node, timeLine);
         int balance = getBalance(node);
@@ -578,72 +1066,22 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
         TimeLine<T> timeLine
     ) {
 
-        if ((n.left == null) && (n.right == null)) {
-            return n.max;
-        } else if (n.left == null) {
-            if (compareAtEnd(n.right.max, n.max, timeLine) > 0) {
-                return n.right.max;
-            } else {
-                return n.max;
-            }
-        } else if (n.right == null) {
-            if (compareAtEnd(n.left.max, n.max, timeLine) > 0) {
-                return n.left.max;
-            } else {
-                return n.max;
-            }
-        }
-
-        Boundary<T> maximized;
+        // the own end must be used because n.max might still refer to a former child
+        Boundary<T> maximized = n.interval.getEnd();
 
-        if (compareAtEnd(n.left.max, n.right.max, timeLine) < 0) {
-            maximized = n.right.max;
-        } else {
+        if ((n.left != null) && (compareAtEnd(n.left.max, maximized, timeLine) > 0)) {
             maximized = n.left.max;
         }
 
-        if (compareAtEnd(n.max, maximized, timeLine) > 0) {
-            maximized = n.max;
+        if ((n.right != null) && (compareAtEnd(n.right.max, maximized, timeLine) > 0)) {
+            maximized = n.right.max;
         }
 
         return maximized;
 
     }
 
-    private static <T> int compareAtStart(
-        Boundary<T> b1,
-        Boundary<T> b2,
-        TimeLine<T> timeLine
-    ) {
-
-        if (b1.isInfinite()) {
-            return ((b2.isInfinite() ? 0 : -1));
-        } else if (b2.isInfinite()) {
-            return 1;
-        }
-
-        T t1 = b1.getTemporal();
-        T t2 = b2.getTemporal();
-
-        if (b1.getEdge() != b2.getEdge()) {
-            if (b1.isOpen() && b2.isClosed()) {
-                t2 = timeLine.stepBackwards(t2);
-                if (t2 == null) {
-                    return 1;
-                }
-            } else if (b1.isClosed() && b2.isOpen()) {
-                t1 = timeLine.stepBackwards(t1);
-                if (t1 == null) {
-                    return -1;
-                }
-            }
-        }
-
-        return timeLine.compare(t1, t2);
-
-    }
-
-    private static <T> int compareAtEnd(
+    static <T> int compareAtEnd(
         Boundary<T> b1,
         Boundary<T> b2,
         TimeLine<T> timeLine
@@ -686,30 +1124,34 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
 
     }
 
-    private void findIntersections(
+    // liefert true, wenn der Besucher die Suche abgebrochen hat
+    static <T, I extends ChronoInterval<T>> boolean findIntersections(
         T low, // inclusive if not null
         T high, // exclusive if not null
         Node<T, I> node,
-        List<I> found
+        TimeLine<T> timeLine,
+        Visitor<I> visitor
     ) {
 
         if (node == null) {
-            return;
+            return false;
         }
 
         // If the node's max interval is before the search interval, no children will match (short-cut)
         if ((low != null) && !node.max.isInfinite()) {
             if (node.max.isOpen()) {
-                if (this.timeLine.compare(node.max.getTemporal(), low) <= 0) {
-                    return;
+                if (timeLine.compare(node.max.getTemporal(), low) <= 0) {
+                    return false;
                 }
-            } else if (this.timeLine.compare(node.max.getTemporal(), low) < 0) {
-                return;
+            } else if (timeLine.compare(node.max.getTemporal(), low) < 0) {
+                return false;
             }
         }
 
         // left children
-        findIntersections(low, high, node.left, found);
+        if (findIntersections(low, high, node.left, timeLine, visitor)) {
+            return true;
+        }
 
         // check: (start < high)
         T start = node.interval.getStart().getTemporal();
@@ -717,10 +1159,10 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
 
         if (!c1) {
             if (node.interval.getStart().isClosed()) {
-                c1 = (this.timeLine.compare(start, high) < 0);
+                c1 = (timeLine.compare(start, high) < 0);
             } else {
-                T startClosed = this.timeLine.stepForward(start);
-                c1 = ((startClosed != null) && (this.timeLine.compare(startClosed, high) < 0));
+                T startClosed = timeLine.stepForward(start);
+                c1 = ((startClosed != null) && (timeLine.compare(startClosed, high) < 0));
             }
         }
 
@@ -731,74 +1173,30 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
 
             if (!c2) {
                 if (node.interval.getEnd().isOpen()) {
-                    c2 = (this.timeLine.compare(low, end) < 0);
+                    c2 = (timeLine.compare(low, end) < 0);
                 } else {
-                    c2 = (this.timeLine.compare(low, end) <= 0);
+                    c2 = (timeLine.compare(low, end) <= 0);
                 }
             }
 
-            if (c2) {
-                found.add(node.interval);
+            if (c2 && visitor.visited(node.interval)) {
+                return true;
             }
         } else {
-            return; // short-cut: start >= high (interval nodes are primarily sorted by start)
+            return false; // short-cut: start >= high (interval nodes are primarily sorted by start)
         }
 
         // right children
-        findIntersections(low, high, node.right, found);
+        return findIntersections(low, high, node.right, timeLine, visitor);
 
     }
 
-    private boolean findByEquals(
-        ChronoInterval<T> interval,
-        T low,
-        List<ChronoInterval<T>> found,
-        Node<T, I> node
-    ) {
-
-        if (node == null) {
-            return false;
-        }
+    private static <I> Visitor<I> collect(List<I> found) {
 
-        if (this.findByEquals(interval, low, found, node.left)) {
-            return true;
-        }
-
-        if (interval.equals(node.interval)) {
+        return (interval) -> {
             found.add(interval);
-            return true; // cancel search
-        }
-
-        // short-cut (all further stored intervals are after given search interval)
-        if (
-            ((low != null) && node.interval.isAfter(low))
-            || (interval.getStart().isInfinite() && !node.interval.getStart().isInfinite())
-        ) {
-            return true; // cancel search
-        }
-
-        return this.findByEquals(interval, low, found, node.right);
-
-    }
-
-    private static <T, I extends ChronoInterval<T>> boolean accept(
-        Visitor<I> visitor,
-        Node<T, I> node
-    ) {
-
-        if (node == null) {
             return false;
-        }
-
-        if (accept(visitor, node.left)) {
-            return true;
-        }
-
-        if (visitor.visited(node.interval)) {
-            return true;
-        }
-
-        return accept(visitor, node.right);
+        };
 
     }
 
@@ -835,12 +1233,113 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
 
     }
 
-    private static class Node<T, I extends ChronoInterval<T>> {
+    /**
+     * <p>Pair of the index of a query and a stored interval which has been found by this query. </p>
+     *
+     * @param   <I> the type of found intervals
+     * @see     #streamIntersectionsAt(List, boolean)
+     * @see     #streamIntersectionsWith(List, boolean)
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Paar aus dem Index einer Suchanfrage und einem gespeicherten Intervall, das von dieser
+     * Suchanfrage gefunden wurde. </p>
+     *
+     * @param   <I> the type of found intervals
+     * @see     #streamIntersectionsAt(List, boolean)
+     * @see     #streamIntersectionsWith(List, boolean)
+     * @since   5.0
+     */
+    public static final class Hit<I> {
 
         //~ Instanzvariablen ----------------------------------------------
 
+        private final int index;
         private final I interval;
 
+        //~ Konstruktoren -------------------------------------------------
+
+        private Hit(
+            int index,
+            I interval
+        ) {
+            super();
+
+            this.index = index;
+            this.interval = interval;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        /**
+         * <p>Yields the index of the query (time point or search interval). </p>
+         *
+         * @return  int
+         */
+        /*[deutsch]
+         * <p>Liefert den Index der Suchanfrage (Zeitpunkt oder Suchintervall). </p>
+         *
+         * @return  int
+         */
+        public int getIndex() {
+
+            return this.index;
+
+        }
+
+        /**
+         * <p>Yields the found stored interval. </p>
+         *
+         * @return  stored interval
+         */
+        /*[deutsch]
+         * <p>Liefert das gefundene gespeicherte Intervall. </p>
+         *
+         * @return  stored interval
+         */
+        public I getInterval() {
+
+            return this.interval;
+
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+
+            if (this == obj) {
+                return true;
+            } else if (obj instanceof Hit) {
+                Hit<?> that = (Hit<?>) obj;
+                return ((this.index == that.index) && this.interval.equals(that.interval));
+            } else {
+                return false;
+            }
+
+        }
+
+        @Override
+        public int hashCode() {
+
+            return 31 * this.index + this.interval.hashCode();
+
+        }
+
+        @Override
+        public String toString() {
+
+            return this.index + "->" + this.interval;
+
+        }
+
+    }
+
+    static class Node<T, I extends ChronoInterval<T>> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        final I interval;
+
         // tree organization
         Node<T, I> left = null;
         Node<T, I> right = null;
@@ -860,6 +1359,153 @@ public class IntervalTree<T, I extends ChronoInterval<T>>
 
     }
 
+    private class Sweep
+        implements Spliterator<Hit<I>> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final List<? extends T> timepoints;
+        private final int[] order; // null if time points are already sorted
+        private int from;
+        private final int to;
+
+        // sweep state, initialized at first time point
+        private PriorityQueue<I> active = null;
+        private int next = 0; // index of first stored interval not yet activated
+        private Object[] current = new Object[0];
+        private int pos = 0;
+        private int currentIndex = -1;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Sweep(
+            List<? extends T> timepoints,
+            int[] order,
+            int from,
+            int to
+        ) {
+            super();
+
+            this.timepoints = timepoints;
+            this.order = order;
+            this.from = from;
+            this.to = to;
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Hit<I>> action) {
+
+            while (this.pos >= this.current.length) {
+                if (this.from >= this.to) {
+                    return false;
+                }
+                this.currentIndex = this.advance();
+                this.current = this.active.toArray();
+                this.pos = 0;
+            }
+
+            @SuppressWarnings("unchecked")
+            I interval = (I) this.current[this.pos++];
+            action.accept(new Hit<>(this.currentIndex, interval));
+            return true;
+
+        }
+
+        @Override
+        public Spliterator<Hit<I>> trySplit() {
+
+            if ((this.active != null) || (this.to - this.from < 2 * MIN_CHUNK)) {
+                return null; // no split after start of sweep
+            }
+
+            int mid = (this.from + this.to) >>> 1;
+            Sweep split = new Sweep(this.timepoints, this.order, this.from, mid);
+            this.from = mid;
+            return split;
+
+        }
+
+        @Override
+        public long estimateSize() {
+
+            return (this.to - this.from);
+
+        }
+
+        @Override
+        public int characteristics() {
+
+            return IMMUTABLE | NONNULL | ORDERED;
+
+        }
+
+        void count(int[] counts) {
+
+            while (this.from < this.to) {
+                int index = this.advance();
+                counts[index] = this.active.size();
+            }
+
+        }
+
+        // bewegt die Sweep-Linie zum nächsten Zeitpunkt und liefert dessen Index
+        private int advance() {
+
+            int index = ((this.order == null) ? this.from : this.order[this.from]);
+            T t = this.timepoints.get(index);
+            List<I> sorted = IntervalTree.this.getIntervals();
+
+            if (this.active == null) {
+                // Anfangszustand per Baumsuche, damit parallele Abschnitte nicht bei null beginnen müssen
+                PriorityQueue<I> queue =
+                    new PriorityQueue<>(
+                        (i1, i2) -> compareAtEnd(i1.getEnd(), i2.getEnd(), IntervalTree.this.timeLine));
+                findIntersections(
+                    t,
+                    IntervalTree.this.timeLine.stepForward(t),
+                    IntervalTree.this.root,
+                    IntervalTree.this.timeLine,
+                    (interval) -> {
+                        queue.add(interval);
+                        return false;
+                    });
+                int low = 0;
+                int high = sorted.size();
+                while (low < high) {
+                    int mid = (low + high) >>> 1;
+                    if (IntervalTree.this.startsAtOrBefore(sorted.get(mid), t)) {
+                        low = mid + 1;
+                    } else {
+                        high = mid;
+                    }
+                }
+                this.active = queue;
+                this.next = low;
+            } else {
+                while (
+                    (this.next < sorted.size())
+                    && IntervalTree.this.startsAtOrBefore(sorted.get(this.next), t)
+                ) {
+                    I interval = sorted.get(this.next++);
+                    if (!IntervalTree.this.endsBefore(interval, t)) {
+                        this.active.add(interval);
+                    }
+                }
+                while (!this.active.isEmpty() && IntervalTree.this.endsBefore(this.active.peek(), t)) {
+                    this.active.poll();
+                }
+            }
+
+            this.from++;
+            return index;
+
+        }
+
+    }
+
     private class Collector
         implements Visitor<I> {
 
@@ -85,6 +85,13 @@ final class MomentWindows
 
     }
 
+    @Override
+    EpochIntervals.Codec<Moment> getCodec() {
+
+        return EpochIntervals.Codec.MOMENT;
+
+    }
+
     @Override
     TimeLine<Moment> getTimeLine() {
 
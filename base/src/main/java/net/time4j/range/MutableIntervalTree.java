@@ -0,0 +1,704 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (MutableIntervalTree.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.range;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.engine.TimeLine;
+
+import java.util.AbstractCollection;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+
+/**
+ * <p>Represents a modifiable augmented interval tree where intervals can be added and removed
+ * in logarithmic time. </p>
+ *
+ * <p>In contrast to the read-only {@link IntervalTree}, this tree is suitable for sliding windows
+ * where new intervals arrive and old intervals expire continuously. Empty intervals are never
+ * stored. Bulk operations like {@code addAll()} or {@code removeIf()} rebuild the tree in linear
+ * time if the input is already sorted by start and the change is big enough. </p>
+ *
+ * <p>Note: This class is not thread-safe. Its iterators are fail-fast and do not support removal. </p>
+ *
+ * @param   <T> the temporal type of time points in intervals
+ * @param   <I> the type of intervals stored in the tree
+ * @author  Meno Hochschild
+ * @see     IntervalTree
+ * @since   5.0
+ */
+/*[deutsch]
+ * <p>Repr&auml;sentiert einen ver&auml;nderlichen angereicherten Intervallbaum, in dem Intervalle
+ * in logarithmischer Zeit hinzugef&uuml;gt und entfernt werden k&ouml;nnen. </p>
+ *
+ * <p>Im Unterschied zum Nur-Lese-Baum {@link IntervalTree} eignet sich dieser Baum f&uuml;r gleitende
+ * Zeitfenster, in denen st&auml;ndig neue Intervalle hinzukommen und alte verfallen. Leere Intervalle
+ * werden nie gespeichert. Massenoperationen wie {@code addAll()} oder {@code removeIf()} bauen den Baum
+ * in linearer Zeit neu auf, wenn die Eingabe schon nach dem Start sortiert und die &Auml;nderung gro&szlig;
+ * genug ist. </p>
+ *
+ * <p>Hinweis: Diese Klasse ist nicht thread-sicher. Ihre Iteratoren sind <i>fail-fast</i> und
+ * unterst&uuml;tzen kein L&ouml;schen. </p>
+ *
+ * @param   <T> the temporal type of time points in intervals
+ * @param   <I> the type of intervals stored in the tree
+ * @author  Meno Hochschild
+ * @see     IntervalTree
+ * @since   5.0
+ */
+public final class MutableIntervalTree<T, I extends ChronoInterval<T>>
+    extends AbstractCollection<I> {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final TimeLine<T> timeLine;
+
+    private IntervalTree.Node<T, I> root = null;
+    private int size = 0;
+    private int modCount = 0;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    private MutableIntervalTree(TimeLine<T> timeLine) {
+        super();
+
+        if (timeLine == null) {
+            throw new NullPointerException("Missing timeline.");
+        }
+
+        this.timeLine = timeLine;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Creates an empty modifiable interval tree on the date axis. </p>
+     *
+     * @param   <I> the type of intervals stored in the tree
+     * @return  new empty interval tree
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen leeren ver&auml;nderlichen Intervallbaum auf der Datumsachse. </p>
+     *
+     * @param   <I> the type of intervals stored in the tree
+     * @return  new empty interval tree
+     */
+    public static <I extends ChronoInterval<PlainDate>> MutableIntervalTree<PlainDate, I> onDateAxis() {
+
+        return MutableIntervalTree.onTimeLine(PlainDate.axis());
+
+    }
+
+    /**
+     * <p>Creates an empty modifiable interval tree on the clock axis. </p>
+     *
+     * @param   <I> the type of intervals stored in the tree
+     * @return  new empty interval tree
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen leeren ver&auml;nderlichen Intervallbaum auf der Uhrzeitachse. </p>
+     *
+     * @param   <I> the type of intervals stored in the tree
+     * @return  new empty interval tree
+     */
+    public static <I extends ChronoInterval<PlainTime>> MutableIntervalTree<PlainTime, I> onClockAxis() {
+
+        return MutableIntervalTree.onTimeLine(PlainTime.axis());
+
+    }
+
+    /**
+     * <p>Creates an empty modifiable interval tree on the timestamp axis. </p>
+     *
+     * @param   <I> the type of intervals stored in the tree
+     * @return  new empty interval tree
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen leeren ver&auml;nderlichen Intervallbaum auf der kombinierten Datum-Zeit-Achse. </p>
+     *
+     * @param   <I> the type of intervals stored in the tree
+     * @return  new empty interval tree
+     */
+    public static <I extends ChronoInterval<PlainTimestamp>> MutableIntervalTree<PlainTimestamp, I> onTimestampAxis() {
+
+        return MutableIntervalTree.onTimeLine(PlainTimestamp.axis());
+
+    }
+
+    /**
+     * <p>Creates an empty modifiable interval tree on the moment axis (UTC). </p>
+     *
+     * @param   <I> the type of intervals stored in the tree
+     * @return  new empty interval tree
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen leeren ver&auml;nderlichen Intervallbaum auf der Momentachse (UTC). </p>
+     *
+     * @param   <I> the type of intervals stored in the tree
+     * @return  new empty interval tree
+     */
+    public static <I extends ChronoInterval<Moment>> MutableIntervalTree<Moment, I> onMomentAxis() {
+
+        return MutableIntervalTree.onTimeLine(Moment.axis());
+
+    }
+
+    /**
+     * <p>Creates an empty modifiable interval tree on given timeline. </p>
+     *
+     * @param   <T> the temporal type of time points in intervals
+     * @param   <I> the type of intervals stored in the tree
+     * @param   timeLine    the underlying timeline
+     * @return  new empty interval tree
+     * @see     net.time4j.engine.TimeAxis
+     * @see     net.time4j.engine.CalendarFamily#getTimeLine(String)
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen leeren ver&auml;nderlichen Intervallbaum auf dem angegebenen Zeitstrahl. </p>
+     *
+     * @param   <T> the temporal type of time points in intervals
+     * @param   <I> the type of intervals stored in the tree
+     * @param   timeLine    the underlying timeline
+     * @return  new empty interval tree
+     * @see     net.time4j.engine.TimeAxis
+     * @see     net.time4j.engine.CalendarFamily#getTimeLine(String)
+     */
+    public static <T, I extends ChronoInterval<T>> MutableIntervalTree<T, I> onTimeLine(TimeLine<T> timeLine) {
+
+        return new MutableIntervalTree<>(timeLine);
+
+    }
+
+    /**
+     * <p>Adds given interval to this tree in logarithmic time. </p>
+     *
+     * <p>Empty intervals will be ignored. Duplicates are allowed. </p>
+     *
+     * @param   interval    the interval to be stored
+     * @return  {@code true} if the interval is not empty else {@code false}
+     * @throws  ArithmeticException if the count of intervals overflows an int
+     */
+    /*[deutsch]
+     * <p>F&uuml;gt das angegebene Intervall in logarithmischer Zeit zu diesem Baum hinzu. </p>
+     *
+     * <p>Leere Intervalle werden ignoriert. Duplikate sind erlaubt. </p>
+     *
+     * @param   interval    the interval to be stored
+     * @return  {@code true} if the interval is not empty else {@code false}
+     * @throws  ArithmeticException if the count of intervals overflows an int
+     */
+    @Override
+    public boolean add(I interval) {
+
+        if (interval.isEmpty()) {
+            return false;
+        }
+
+        this.size = Math.incrementExact(this.size);
+        this.root = IntervalTree.insert(this.root, interval, this.timeLine);
+        this.modCount++;
+        return true;
+
+    }
+
+    /**
+     * <p>Adds all given intervals to this tree. </p>
+     *
+     * <p>If the count of new intervals is big compared with the size of this tree then the whole tree
+     * will be rebuilt in one step. This bulk loading needs linear time for an empty tree and input which
+     * is already sorted by start. </p>
+     *
+     * @param   intervals   collection of intervals to be stored
+     * @return  {@code true} if at least one interval is not empty else {@code false}
+     * @throws  ArithmeticException if the count of intervals overflows an int
+     */
+    /*[deutsch]
+     * <p>F&uuml;gt alle angegebenen Intervalle zu diesem Baum hinzu. </p>
+     *
+     * <p>Wenn die Anzahl der neuen Intervalle im Vergleich zur Gr&ouml;&szlig;e dieses Baums gro&szlig;
+     * ist, wird der ganze Baum in einem Schritt neu aufgebaut. Dieses Massenladen braucht f&uuml;r einen
+     * leeren Baum und schon nach dem Start sortierte Eingaben lineare Zeit. </p>
+     *
+     * @param   intervals   collection of intervals to be stored
+     * @return  {@code true} if at least one interval is not empty else {@code false}
+     * @throws  ArithmeticException if the count of intervals overflows an int
+     */
+    @Override
+    public boolean addAll(Collection<? extends I> intervals) {
+
+        List<I> added = new ArrayList<>(intervals.size());
+
+        for (I interval : intervals) {
+            if (!interval.isEmpty()) {
+                added.add(interval);
+            }
+        }
+
+        if (added.isEmpty()) {
+            return false;
+        }
+
+        int total = Math.addExact(this.size, added.size());
+
+        if (added.size() > (this.size >>> 4)) {
+            // stable sort (linear for presorted input), equal starts keep the insertion order
+            added.sort(this::compareAtStart);
+            List<I> merged = new ArrayList<>(total);
+            List<I> existing = this.toList();
+            int i = 0;
+            int j = 0;
+            while ((i < existing.size()) && (j < added.size())) {
+                if (this.compareAtStart(existing.get(i), added.get(j)) <= 0) {
+                    merged.add(existing.get(i++));
+                } else {
+                    merged.add(added.get(j++));
+                }
+            }
+            merged.addAll(existing.subList(i, existing.size()));
+            merged.addAll(added.subList(j, added.size()));
+            this.root = IntervalTree.build(merged, 0, total - 1, this.timeLine);
+        } else {
+            for (I interval : added) {
+                this.root = IntervalTree.insert(this.root, interval, this.timeLine);
+            }
+        }
+
+        this.size = total;
+        this.modCount++;
+        return true;
+
+    }
+
+    /**
+     * <p>Removes one interval equal to given object from this tree in logarithmic time. </p>
+     *
+     * @param   obj     the interval to be removed
+     * @return  {@code true} if any interval has been removed else {@code false}
+     */
+    /*[deutsch]
+     * <p>Entfernt ein zum angegebenen Objekt gleiches Intervall aus diesem Baum in logarithmischer Zeit. </p>
+     *
+     * @param   obj     the interval to be removed
+     * @return  {@code true} if any interval has been removed else {@code false}
+     */
+    @Override
+    public boolean remove(Object obj) {
+
+        if (!this.contains(obj)) {
+            return false;
+        }
+
+        ChronoInterval<T> interval = cast(obj);
+        this.root = IntervalTree.remove(this.root, interval, this.timeLine);
+        this.size--;
+        this.modCount++;
+        return true;
+
+    }
+
+    /**
+     * <p>Removes all intervals which satisfy given condition and then rebuilds the tree in linear time. </p>
+     *
+     * <p>Example for a sliding window: </p>
+     *
+     * <pre>
+     *     MutableIntervalTree&lt;Moment, MomentInterval&gt; tree = MutableIntervalTree.onMomentAxis();
+     *     ...
+     *     Moment now = SystemClock.currentMoment();
+     *     tree.removeIf((interval) -&gt; interval.isBefore(now)); // expired intervals
+     * </pre>
+     *
+     * @param   filter  condition for intervals to be removed
+     * @return  {@code true} if any interval has been removed else {@code false}
+     */
+    /*[deutsch]
+     * <p>Entfernt alle Intervalle, die die angegebene Bedingung erf&uuml;llen, und baut dann den Baum
+     * in linearer Zeit neu auf. </p>
+     *
+     * <p>Beispiel f&uuml;r ein gleitendes Zeitfenster: </p>
+     *
+     * <pre>
+     *     MutableIntervalTree&lt;Moment, MomentInterval&gt; tree = MutableIntervalTree.onMomentAxis();
+     *     ...
+     *     Moment now = SystemClock.currentMoment();
+     *     tree.removeIf((interval) -&gt; interval.isBefore(now)); // verfallene Intervalle
+     * </pre>
+     *
+     * @param   filter  condition for intervals to be removed
+     * @return  {@code true} if any interval has been removed else {@code false}
+     */
+    @Override
+    public boolean removeIf(Predicate<? super I> filter) {
+
+        if (filter == null) {
+            throw new NullPointerException("Missing filter.");
+        }
+
+        List<I> retained = new ArrayList<>(this.size);
+
+        IntervalTree.accept(
+            (interval) -> {
+                if (!filter.test(interval)) {
+                    retained.add(interval);
+                }
+                return false;
+            },
+            this.root
+        );
+
+        if (retained.size() == this.size) {
+            return false;
+        }
+
+        this.root = IntervalTree.build(retained, 0, retained.size() - 1, this.timeLine);
+        this.size = retained.size();
+        this.modCount++;
+        return true;
+
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+
+        return this.removeIf(c::contains);
+
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+
+        return this.removeIf((interval) -> !c.contains(interval));
+
+    }
+
+    @Override
+    public void clear() {
+
+        this.root = null;
+        this.size = 0;
+        this.modCount++;
+
+    }
+
+    /**
+     * <p>Queries if given object is an interval stored in this tree. </p>
+     *
+     * @param   obj     the object to be checked
+     * @return  boolean
+     */
+    /*[deutsch]
+     * <p>Ermittelt, ob das angegebene Objekt ein in diesem Baum gespeichertes Intervall ist. </p>
+     *
+     * @param   obj     the object to be checked
+     * @return  boolean
+     */
+    @Override
+    public boolean contains(Object obj) {
+
+        if (!(obj instanceof ChronoInterval)) {
+            return false;
+        }
+
+        ChronoInterval<T> interval = cast(obj);
+        return !interval.isEmpty() && IntervalTree.contains(interval, this.root, this.timeLine);
+
+    }
+
+    @Override
+    public boolean isEmpty() {
+
+        return (this.root == null);
+
+    }
+
+    /**
+     * <p>Obtains an iterator which walks through the stored intervals in ascending order. </p>
+     *
+     * <p>The iterator does not create any intermediate list, is fail-fast and read-only. </p>
+     *
+     * @return  an {@code Iterator} which is read-only
+     */
+    /*[deutsch]
+     * <p>Liefert einen {@code Iterator}, der die gespeicherten Intervalle in aufsteigender Reihenfolge
+     * durchl&auml;uft. </p>
+     *
+     * <p>Der {@code Iterator} erzeugt keine Zwischenliste, ist <i>fail-fast</i> und nur lesend. </p>
+     *
+     * @return  an {@code Iterator} which is read-only
+     */
+    @Override
+    public Iterator<I> iterator() {
+
+        return new NodeIterator();
+
+    }
+
+    @Override
+    public int size() {
+
+        return this.size;
+
+    }
+
+    /**
+     * <p>Obtains a list of all stored intervals which intersect given point in time. </p>
+     *
+     * @param   timepoint   the point in time to be checked
+     * @return  unmodifiable list of all stored intervals which contain given point in time, maybe empty
+     * @see     IntervalTree#findIntersections(Object)
+     */
+    /*[deutsch]
+     * <p>Liefert eine Liste aller gespeicherten Intervalle, die den angegebenen Suchzeitpunkt enthalten. </p>
+     *
+     * @param   timepoint   the point in time to be checked
+     * @return  unmodifiable list of all stored intervals which contain given point in time, maybe empty
+     * @see     IntervalTree#findIntersections(Object)
+     */
+    public List<I> findIntersections(T timepoint) {
+
+        List<I> found = new ArrayList<>();
+
+        this.findIntersections(
+            timepoint,
+            (interval) -> {
+                found.add(interval);
+                return false;
+            }
+        );
+
+        return Collections.unmodifiableList(found);
+
+    }
+
+    /**
+     * <p>Reports all stored intervals which contain given point in time to given visitor. </p>
+     *
+     * @param   timepoint   the point in time to be checked
+     * @param   visitor     callback for every found interval which can cancel the search
+     * @see     IntervalTree#findIntersections(Object, IntervalTree.Visitor)
+     */
+    /*[deutsch]
+     * <p>Meldet alle gespeicherten Intervalle, die den angegebenen Suchzeitpunkt enthalten, an den
+     * angegebenen Besucher. </p>
+     *
+     * @param   timepoint   the point in time to be checked
+     * @param   visitor     callback for every found interval which can cancel the search
+     * @see     IntervalTree#findIntersections(Object, IntervalTree.Visitor)
+     */
+    public void findIntersections(
+        T timepoint,
+        IntervalTree.Visitor<I> visitor
+    ) {
+
+        IntervalTree.findIntersections(
+            timepoint,
+            this.timeLine.stepForward(timepoint),
+            this.root,
+            this.timeLine,
+            visitor);
+
+    }
+
+    /**
+     * <p>Obtains a list of all stored intervals which intersect given search interval. </p>
+     *
+     * @param   interval    the search interval
+     * @return  unmodifiable list of all stored intervals which intersect the search interval, maybe empty
+     * @see     IntervalTree#findIntersections(ChronoInterval)
+     */
+    /*[deutsch]
+     * <p>Liefert eine Liste aller gespeicherten Intervalle, die sich mit dem angegebenen Suchintervall
+     * &uuml;berschneiden. </p>
+     *
+     * @param   interval    the search interval
+     * @return  unmodifiable list of all stored intervals which intersect the search interval, maybe empty
+     * @see     IntervalTree#findIntersections(ChronoInterval)
+     */
+    public List<I> findIntersections(ChronoInterval<T> interval) {
+
+        List<I> found = new ArrayList<>();
+
+        this.findIntersections(
+            interval,
+            (i) -> {
+                found.add(i);
+                return false;
+            }
+        );
+
+        return Collections.unmodifiableList(found);
+
+    }
+
+    /**
+     * <p>Reports all stored intervals which intersect given search interval to given visitor. </p>
+     *
+     * <p>The intervals are reported in ascending order of their start boundaries without creating
+     * any list. The visitor must not modify this tree. </p>
+     *
+     * @param   interval    the search interval
+     * @param   visitor     callback for every found interval which can cancel the search
+     * @see     IntervalTree#findIntersections(ChronoInterval, IntervalTree.Visitor)
+     */
+    /*[deutsch]
+     * <p>Meldet alle gespeicherten Intervalle, die sich mit dem angegebenen Suchintervall
+     * &uuml;berschneiden, an den angegebenen Besucher. </p>
+     *
+     * <p>Die Intervalle werden in aufsteigender Reihenfolge ihrer Startgrenzen gemeldet, ohne eine
+     * Liste zu erzeugen. Der Besucher darf diesen Baum nicht &auml;ndern. </p>
+     *
+     * @param   interval    the search interval
+     * @param   visitor     callback for every found interval which can cancel the search
+     * @see     IntervalTree#findIntersections(ChronoInterval, IntervalTree.Visitor)
+     */
+    public void findIntersections(
+        ChronoInterval<T> interval,
+        IntervalTree.Visitor<I> visitor
+    ) {
+
+        IntervalTree.findIntersections(interval, this.root, this.timeLine, visitor);
+
+    }
+
+    /**
+     * <p>Accepts given interval tree visitor. </p>
+     *
+     * <p>All nodes will be visited in ascending order of their start boundaries. The visitor must
+     * not modify this tree. </p>
+     *
+     * @param   visitor     the interval tree visitor
+     * @see     IntervalTree#accept(IntervalTree.Visitor)
+     */
+    /*[deutsch]
+     * <p>Nimmt den angegebenen Baumbesucher an. </p>
+     *
+     * <p>Alle Knoten werden in aufsteigender Reihenfolge ihrer Startgrenzen besucht. Der Besucher darf
+     * diesen Baum nicht &auml;ndern. </p>
+     *
+     * @param   visitor     the interval tree visitor
+     * @see     IntervalTree#accept(IntervalTree.Visitor)
+     */
+    public void accept(IntervalTree.Visitor<I> visitor) {
+
+        IntervalTree.accept(visitor, this.root);
+
+    }
+
+    private int compareAtStart(
+        I i1,
+        I i2
+    ) {
+
+        return IntervalTree.compareAtStart(i1.getStart(), i2.getStart(), this.timeLine);
+
+    }
+
+    private List<I> toList() {
+
+        List<I> list = new ArrayList<>(this.size);
+
+        IntervalTree.accept(
+            (interval) -> {
+                list.add(interval);
+                return false;
+            },
+            this.root
+        );
+
+        return list;
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ChronoInterval<T> cast(Object obj) {
+
+        return (ChronoInterval<T>) obj;
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private class NodeIterator
+        implements Iterator<I> {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Deque<IntervalTree.Node<T, I>> stack = new ArrayDeque<>();
+        private final int expectedModCount = MutableIntervalTree.this.modCount;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        NodeIterator() {
+            super();
+
+            this.pushLeft(MutableIntervalTree.this.root);
+
+        }
+
+        //~ Methoden ------------------------------------------------------
+
+        @Override
+        public boolean hasNext() {
+
+            return !this.stack.isEmpty();
+
+        }
+
+        @Override
+        public I next() {
+
+            if (MutableIntervalTree.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            } else if (this.stack.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+
+            IntervalTree.Node<T, I> node = this.stack.pop();
+            this.pushLeft(node.right);
+            return node.interval;
+
+        }
+
+        private void pushLeft(IntervalTree.Node<T, I> node) {
+
+            while (node != null) {
+                this.stack.push(node);
+                node = node.left;
+            }
+
+        }
+
+    }
+
+}
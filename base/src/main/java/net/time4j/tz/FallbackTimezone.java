@@ -86,6 +86,13 @@ final class FallbackTimezone
 
     }
 
+    @Override
+    public int getOffsetSeconds(long posixTime) {
+
+        return this.fallback.getOffsetSeconds(posixTime);
+
+    }
+
     @Override
     public ZonalOffset getStandardOffset(UnixTime ut) {
 
@@ -128,6 +128,13 @@ final class HistorizedTimezone
 
     }
 
+    @Override
+    public int getOffsetSeconds(long posixTime) {
+
+        return this.history.getOffsetSeconds(posixTime);
+
+    }
+
     @Override
     public ZonalOffset getStandardOffset(UnixTime ut) {
 
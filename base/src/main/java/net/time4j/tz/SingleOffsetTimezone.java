@@ -92,6 +92,13 @@ final class SingleOffsetTimezone
 
     }
 
+    @Override
+    public int getOffsetSeconds(long posixTime) {
+
+        return this.offset.getIntegralAmount();
+
+    }
+
     @Override
     public ZonalOffset getStandardOffset(UnixTime ut) {
 
@@ -0,0 +1,285 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (StripedZoneCache.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntFunction;
+
+
+/**
+ * <p>Begrenzter Zeitzonen-Cache mit starken Referenzen, der die am l&auml;ngsten nicht benutzten
+ * Eintr&auml;ge verdr&auml;ngt (LRU). </p>
+ *
+ * <p>Die Eintr&auml;ge werden anhand ihrer ID auf mehrere unabh&auml;ngig gesperrte Segmente verteilt,
+ * so da&szlig; konkurrierende Zugriffe auf verschiedene Zeitzonen sich kaum behindern. Das maximale
+ * Gewicht gilt f&uuml;r den ganzen Cache und nicht pro Segment, damit auch Zeitzonen mit langer
+ * Historie gespeichert werden, solange sie allein in das Gesamtbudget passen. Verdr&auml;ngt wird
+ * zuerst im Segment des neuen Eintrags und danach in den anderen Segmenten, so da&szlig; die
+ * LRU-Reihenfolge nur innerhalb eines Segments exakt ist. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ * @doctags.concurrency {threadsafe}
+ */
+final class StripedZoneCache {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MAX_STRIPES = 16;
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final Stripe[] stripes;
+    private final long maximumWeight;
+    private final AtomicLong totalWeight;
+    private final ToIntFunction<? super Timezone> weigher;
+    private final LongAdder evictions;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    StripedZoneCache(
+        long maximumWeight,
+        ToIntFunction<? super Timezone> weigher,
+        LongAdder evictions
+    ) {
+        super();
+
+        if (maximumWeight < 1) {
+            throw new IllegalArgumentException("Maximum cache weight must be positive: " + maximumWeight);
+        } else if (weigher == null) {
+            throw new NullPointerException("Missing weigher.");
+        }
+
+        int count = 1;
+
+        while ((count < MAX_STRIPES) && (count * 8L <= maximumWeight)) {
+            count <<= 1;
+        }
+
+        this.stripes = new Stripe[count];
+
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new Stripe();
+        }
+
+        this.maximumWeight = maximumWeight;
+        this.totalWeight = new AtomicLong(0);
+        this.weigher = weigher;
+        this.evictions = evictions;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    /**
+     * <p>Liefert die zwischengespeicherte Zeitzone, falls vorhanden. </p>
+     *
+     * @param   zoneID  timezone identifier
+     * @return  cached timezone or {@code null}
+     */
+    Timezone get(String zoneID) {
+
+        Stripe stripe = this.stripeOf(zoneID);
+
+        synchronized (stripe) {
+            Entry entry = stripe.map.get(zoneID);
+            return ((entry == null) ? null : entry.tz);
+        }
+
+    }
+
+    /**
+     * <p>Speichert die angegebene Zeitzone, wenn noch keine andere unter derselben ID
+     * gespeichert ist. </p>
+     *
+     * @param   zoneID  timezone identifier
+     * @param   tz      timezone to be cached
+     * @return  the already cached timezone or else the argument
+     */
+    Timezone putIfAbsent(
+        String zoneID,
+        Timezone tz
+    ) {
+
+        int weight = Math.max(1, this.weigher.applyAsInt(tz));
+
+        if (weight > this.maximumWeight) {
+            return tz; // too heavy for caching at all
+        }
+
+        Stripe stripe = this.stripeOf(zoneID);
+
+        synchronized (stripe) {
+            Entry old = stripe.map.get(zoneID);
+
+            if (old != null) {
+                return old.tz;
+            }
+
+            stripe.map.put(zoneID, new Entry(tz, weight));
+            stripe.weight += weight;
+            this.totalWeight.addAndGet(weight);
+            this.evict(stripe, 1); // the new entry is the youngest and stays
+        }
+
+        // only one segment lock at a time in order to avoid deadlocks
+        for (int i = 0; (i < this.stripes.length) && (this.totalWeight.get() > this.maximumWeight); i++) {
+            Stripe other = this.stripes[i];
+            if (other != stripe) {
+                synchronized (other) {
+                    this.evict(other, 0);
+                }
+            }
+        }
+
+        return tz;
+
+    }
+
+    /**
+     * <p>Entfernt alle Eintr&auml;ge. </p>
+     */
+    void clear() {
+
+        for (Stripe stripe : this.stripes) {
+            synchronized (stripe) {
+                stripe.map.clear();
+                this.totalWeight.addAndGet(-stripe.weight);
+                stripe.weight = 0;
+            }
+        }
+
+    }
+
+    /**
+     * <p>Ermittelt die Anzahl der Eintr&auml;ge. </p>
+     *
+     * @return  int
+     */
+    int size() {
+
+        int n = 0;
+
+        for (Stripe stripe : this.stripes) {
+            synchronized (stripe) {
+                n += stripe.map.size();
+            }
+        }
+
+        return n;
+
+    }
+
+    /**
+     * <p>Ermittelt das Gesamtgewicht aller Eintr&auml;ge. </p>
+     *
+     * @return  long
+     */
+    long weight() {
+
+        long w = 0;
+
+        for (Stripe stripe : this.stripes) {
+            synchronized (stripe) {
+                w += stripe.weight;
+            }
+        }
+
+        return w;
+
+    }
+
+    /**
+     * <p>Liefert das konfigurierte maximale Gewicht. </p>
+     *
+     * @return  long
+     */
+    long getMaximumWeight() {
+
+        return this.maximumWeight;
+
+    }
+
+    // caller must hold the lock of given segment
+    private void evict(
+        Stripe stripe,
+        int retained
+    ) {
+
+        Iterator<Entry> iter = stripe.map.values().iterator();
+
+        while ((this.totalWeight.get() > this.maximumWeight) && (stripe.map.size() > retained) && iter.hasNext()) {
+            Entry eldest = iter.next();
+            iter.remove();
+            stripe.weight -= eldest.weight;
+            this.totalWeight.addAndGet(-eldest.weight);
+            this.evictions.increment();
+        }
+
+    }
+
+    private Stripe stripeOf(String zoneID) {
+
+        int h = zoneID.hashCode();
+        h ^= (h >>> 16);
+        return this.stripes[h & (this.stripes.length - 1)];
+
+    }
+
+    //~ Innere Klassen ----------------------------------------------------
+
+    private static class Stripe {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Map<String, Entry> map = new LinkedHashMap<>(16, 0.75f, true); // access order
+        private long weight = 0; // guarded by this
+
+    }
+
+    private static class Entry {
+
+        //~ Instanzvariablen ----------------------------------------------
+
+        private final Timezone tz;
+        private final int weight;
+
+        //~ Konstruktoren -------------------------------------------------
+
+        Entry(
+            Timezone tz,
+            int weight
+        ) {
+            super();
+
+            this.tz = tz;
+            this.weight = weight;
+
+        }
+
+    }
+
+}
@@ -44,6 +44,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntFunction;
 
 
 /**
@@ -172,6 +174,7 @@ public abstract class Timezone
     private static volatile ZonalKeys zonalKeys;
     private static volatile Timezone currentSystemTZ = null;
     private static volatile boolean cacheActive = true;
+    private static volatile StripedZoneCache lruCache = null; // null means soft-reference-mode
     private static int softLimit = 11;
 
     private static final String NAME_JUT = "java.util.TimeZone";
@@ -186,6 +189,10 @@ public abstract class Timezone
     private static final ReferenceQueue<Timezone> QUEUE;
     private static final LinkedList<Timezone> LAST_USED;
     private static final ConcurrentMap<String, ZoneModelProvider> PROVIDERS;
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder LOADS = new LongAdder();
+    private static final LongAdder EVICTIONS = new LongAdder();
 
     /**
      * Default provider for tz-name-repository.
@@ -831,6 +838,52 @@ public abstract class Timezone
      */
     public abstract ZonalOffset getOffset(UnixTime ut);
 
+    /**
+     * <p>Calculates the total offset in full seconds for given POSIX time. </p>
+     *
+     * <p>This method is a primitive fast path for the conversion of raw timestamps and avoids
+     * the creation of any {@code UnixTime}- or {@code ZonalOffset}-objects if this timezone is
+     * based on a transition history. Otherwise it is equivalent to the expression
+     * {@code getOffset(ut).getIntegralAmount()}. </p>
+     *
+     * @param   posixTime   elapsed seconds since UNIX epoch [1970-01-01T00:00Z] (without leap seconds)
+     * @return  total shift in full seconds which yields local time if added to given POSIX time
+     * @see     #getOffset(UnixTime)
+     * @see     TransitionHistory#getOffsetSeconds(long)
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Ermittelt die gesamte Zeitzonenverschiebung in vollen Sekunden zur angegebenen POSIX-Zeit. </p>
+     *
+     * <p>Diese Methode ist eine primitive schnelle Alternative f&uuml;r die Konvertierung von rohen
+     * Zeitstempeln und vermeidet die Erzeugung von {@code UnixTime}- oder {@code ZonalOffset}-Objekten,
+     * wenn diese Zeitzone auf einer &Uuml;bergangshistorie beruht. Ansonsten entspricht sie dem Ausdruck
+     * {@code getOffset(ut).getIntegralAmount()}. </p>
+     *
+     * @param   posixTime   elapsed seconds since UNIX epoch [1970-01-01T00:00Z] (without leap seconds)
+     * @return  total shift in full seconds which yields local time if added to given POSIX time
+     * @see     #getOffset(UnixTime)
+     * @see     TransitionHistory#getOffsetSeconds(long)
+     * @since   5.0
+     */
+    public int getOffsetSeconds(final long posixTime) {
+
+        UnixTime ut =
+            new UnixTime() {
+                @Override
+                public long getPosixTime() {
+                    return posixTime;
+                }
+                @Override
+                public int getNanosecond() {
+                    return 0;
+                }
+            };
+
+        return this.getOffset(ut).getIntegralAmount();
+
+    }
+
     /**
      * <p>Calculates the standard offset for given global timestamp. </p>
      *
@@ -1415,19 +1468,29 @@ public abstract class Timezone
 
         // Suche im Cache
         Timezone tz = null;
-        NamedReference sref = CACHE.get(zoneID);
+        StripedZoneCache lru = lruCache;
 
-        if (sref != null) {
-            tz = sref.get();
-            if (tz == null) {
-                CACHE.remove(sref.tzid);
+        if (lru != null) {
+            tz = lru.get(zoneID);
+        } else {
+            NamedReference sref = CACHE.get(zoneID);
+
+            if (sref != null) {
+                tz = sref.get();
+                if (tz == null) {
+                    CACHE.remove(sref.tzid);
+                    EVICTIONS.increment();
+                }
             }
         }
 
         if (tz != null) {
+            HITS.increment();
             return tz;
         }
 
+        MISSES.increment();
+
         // ZoneModelProvider auflösen
         String providerName = "";
         String zoneKey = zoneID;
@@ -1488,6 +1551,8 @@ public abstract class Timezone
             }
         }
 
+        LOADS.increment();
+
         // java.util.TimeZone hat keine öffentliche Historie
         if (provider == PLATFORM_PROVIDER) {
             PlatformTimezone test = new PlatformTimezone(resolved, zoneKey);
@@ -1531,7 +1596,11 @@ public abstract class Timezone
         }
 
         // bei Bedarf im Cache speichern
-        if (cacheActive) {
+        if (!cacheActive) {
+            return tz;
+        } else if (lru != null) {
+            tz = lru.putIfAbsent(zoneID, tz);
+        } else {
             NamedReference oldRef =
                 CACHE.putIfAbsent(
                     zoneID,
@@ -1765,6 +1834,12 @@ public abstract class Timezone
             zonalKeys = new ZonalKeys();
             CACHE.clear();
 
+            StripedZoneCache lru = lruCache;
+
+            if (lru != null) {
+                lru.clear();
+            }
+
             if (ALLOW_SYSTEM_TZ_OVERRIDE) {
                 currentSystemTZ = Timezone.getDefaultTZ();
             }
@@ -1795,6 +1870,12 @@ public abstract class Timezone
 
             if (!active) {
                 CACHE.clear();
+
+                StripedZoneCache lru = lruCache;
+
+                if (lru != null) {
+                    lru.clear();
+                }
             }
 
         }
@@ -1802,14 +1883,23 @@ public abstract class Timezone
         /**
          * <p>Updates the size of the internal timezone cache. </p>
          *
+         * <p>Only relevant for the default mode of the cache which holds all zones by soft references
+         * and keeps at least the given count of recently loaded zones strongly reachable. </p>
+         *
          * @param   minimumCacheSize    new minimum size of cache
          * @throws  IllegalArgumentException if the argument is negative
+         * @see     #useSoftReferences()
          */
         /*[deutsch]
          * <p>Konfiguriert die Gr&ouml;&szlig;e des internen Cache neu. </p>
          *
+         * <p>Nur f&uuml;r den Standardmodus des Cache relevant, der alle Zeitzonen mit Hilfe von
+         * {@code SoftReference}s h&auml;lt und mindestens die angegebene Anzahl von zuletzt geladenen
+         * Zeitzonen stark erreichbar h&auml;lt. </p>
+         *
          * @param   minimumCacheSize    new minimum size of cache
          * @throws  IllegalArgumentException if the argument is negative
+         * @see     #useSoftReferences()
          */
         public static void setMinimumCacheSize(int minimumCacheSize) {
 
@@ -1821,7 +1911,9 @@ public abstract class Timezone
             NamedReference ref;
 
             while ((ref = (NamedReference) QUEUE.poll()) != null) {
-                CACHE.remove(ref.tzid);
+                if (CACHE.remove(ref.tzid, ref)) {
+                    EVICTIONS.increment();
+                }
             }
 
             synchronized (Timezone.class) {
@@ -1835,6 +1927,361 @@ public abstract class Timezone
 
         }
 
+        /**
+         * <p>Switches the cache to a bounded mode with strong references which evicts the
+         * least recently used zones if the count of cached zones exceeds given maximum size. </p>
+         *
+         * <p>In contrast to the default mode based on soft references, the garbage collector
+         * cannot clear many zones at once under memory pressure so that a storm of reloading
+         * zones from the underlying provider is avoided. The cache is internally divided into
+         * independently locked segments so that the real maximum size is approximately
+         * the given size. All entries cached so far will be discarded. </p>
+         *
+         * @param   maximumSize     maximum count of cached zones
+         * @throws  IllegalArgumentException if the argument is not positive
+         * @see     #setMaximumCacheWeight(long, ToIntFunction)
+         * @see     #useSoftReferences()
+         * @since   5.0
+         */
+        /*[deutsch]
+         * <p>Schaltet den Cache in einen begrenzten Modus mit starken Referenzen um, der die am
+         * l&auml;ngsten nicht benutzten Zeitzonen verdr&auml;ngt, wenn die Anzahl der Eintr&auml;ge
+         * die angegebene maximale Gr&ouml;&szlig;e &uuml;berschreitet. </p>
+         *
+         * <p>Im Gegensatz zum Standardmodus mit {@code SoftReference}s kann der Garbage-Collector
+         * bei Speicherknappheit nicht viele Zeitzonen auf einmal entfernen, so da&szlig; ein
+         * Sturm von Nachladevorg&auml;ngen vermieden wird. Der Cache ist intern in unabh&auml;ngig
+         * gesperrte Segmente aufgeteilt, so da&szlig; die reale maximale Gr&ouml;&szlig;e nur
+         * ungef&auml;hr der angegebenen Gr&ouml;&szlig;e entspricht. Alle bisher gespeicherten
+         * Eintr&auml;ge werden verworfen. </p>
+         *
+         * @param   maximumSize     maximum count of cached zones
+         * @throws  IllegalArgumentException if the argument is not positive
+         * @see     #setMaximumCacheWeight(long, ToIntFunction)
+         * @see     #useSoftReferences()
+         * @since   5.0
+         */
+        public static void setMaximumCacheSize(int maximumSize) {
+
+            setMaximumCacheWeight(maximumSize, tz -> 1);
+
+        }
+
+        /**
+         * <p>Switches the cache to a bounded mode with strong references which evicts the
+         * least recently used zones if the total weight of cached zones exceeds given maximum. </p>
+         *
+         * <p>The maximum weight applies to the whole cache. Zones whose weight alone exceeds it
+         * will not be cached. </p>
+         *
+         * @param   maximumWeight   maximum total weight of cached zones
+         * @param   weigher         determines the positive weight of a zone
+         * @throws  IllegalArgumentException if the maximum weight is not positive
+         * @see     #setMaximumCacheSize(int)
+         * @see     #weighByTransitions()
+         * @since   5.0
+         */
+        /*[deutsch]
+         * <p>Schaltet den Cache in einen begrenzten Modus mit starken Referenzen um, der die am
+         * l&auml;ngsten nicht benutzten Zeitzonen verdr&auml;ngt, wenn das Gesamtgewicht der
+         * Eintr&auml;ge das angegebene Maximum &uuml;berschreitet. </p>
+         *
+         * <p>Das maximale Gewicht gilt f&uuml;r den ganzen Cache. Zeitzonen, deren Gewicht allein
+         * schon das Maximum &uuml;berschreitet, werden nicht gespeichert. </p>
+         *
+         * @param   maximumWeight   maximum total weight of cached zones
+         * @param   weigher         determines the positive weight of a zone
+         * @throws  IllegalArgumentException if the maximum weight is not positive
+         * @see     #setMaximumCacheSize(int)
+         * @see     #weighByTransitions()
+         * @since   5.0
+         */
+        public static void setMaximumCacheWeight(
+            long maximumWeight,
+            ToIntFunction<? super Timezone> weigher
+        ) {
+
+            StripedZoneCache old = lruCache;
+            lruCache = new StripedZoneCache(maximumWeight, weigher, EVICTIONS);
+
+            if (old != null) {
+                old.clear();
+            }
+
+            synchronized (Timezone.class) {
+                while (QUEUE.poll() != null) {}
+                LAST_USED.clear();
+            }
+
+            CACHE.clear();
+
+        }
+
+        /**
+         * <p>Switches the cache back to the default mode which holds zones by soft references. </p>
+         *
+         * @see     #setMinimumCacheSize(int)
+         * @since   5.0
+         */
+        /*[deutsch]
+         * <p>Schaltet den Cache in den Standardmodus zur&uuml;ck, der Zeitzonen mit Hilfe von
+         * {@code SoftReference}s h&auml;lt. </p>
+         *
+         * @see     #setMinimumCacheSize(int)
+         * @since   5.0
+         */
+        public static void useSoftReferences() {
+
+            StripedZoneCache old = lruCache;
+            lruCache = null;
+
+            if (old != null) {
+                old.clear();
+            }
+
+        }
+
+        /**
+         * <p>Yields a weigher which is approximately proportional to the memory consumption
+         * of the transition data of a zone. </p>
+         *
+         * <p>The weight is one plus the count of standard transitions since UNIX epoch. </p>
+         *
+         * @return  weigher suitable for {@link #setMaximumCacheWeight(long, ToIntFunction)}
+         * @see     TransitionHistory#getStdTransitions()
+         * @since   5.0
+         */
+        /*[deutsch]
+         * <p>Liefert eine Gewichtsfunktion, die ungef&auml;hr proportional zum Speicherverbrauch
+         * der &Uuml;bergangsdaten einer Zeitzone ist. </p>
+         *
+         * <p>Das Gewicht ist eins plus die Anzahl der Standard&uuml;berg&auml;nge seit der UNIX-Epoche. </p>
+         *
+         * @return  weigher suitable for {@link #setMaximumCacheWeight(long, ToIntFunction)}
+         * @see     TransitionHistory#getStdTransitions()
+         * @since   5.0
+         */
+        public static ToIntFunction<Timezone> weighByTransitions() {
+
+            return tz -> {
+                TransitionHistory history = tz.getHistory();
+                return ((history == null) ? 1 : 1 + history.getStdTransitions().size());
+            };
+
+        }
+
+        /**
+         * <p>Yields a snapshot of the usage statistics of the timezone cache. </p>
+         *
+         * @return  cache statistics since start or last reset
+         * @see     #resetStatistics()
+         * @since   5.0
+         */
+        /*[deutsch]
+         * <p>Liefert eine Momentaufnahme der Nutzungsstatistik des Zeitzonen-Cache. </p>
+         *
+         * @return  cache statistics since start or last reset
+         * @see     #resetStatistics()
+         * @since   5.0
+         */
+        public static Statistics getStatistics() {
+
+            StripedZoneCache lru = lruCache;
+            int size;
+            long maxWeight;
+
+            if (lru == null) {
+                size = CACHE.size();
+                maxWeight = -1;
+            } else {
+                size = lru.size();
+                maxWeight = lru.getMaximumWeight();
+            }
+
+            return new Statistics(
+                HITS.sum(), MISSES.sum(), LOADS.sum(), EVICTIONS.sum(), size, maxWeight);
+
+        }
+
+        /**
+         * <p>Resets all counters of the cache statistics to zero. </p>
+         *
+         * @since   5.0
+         */
+        /*[deutsch]
+         * <p>Setzt alle Z&auml;hler der Cache-Statistik auf null zur&uuml;ck. </p>
+         *
+         * @since   5.0
+         */
+        public static void resetStatistics() {
+
+            HITS.reset();
+            MISSES.reset();
+            LOADS.reset();
+            EVICTIONS.reset();
+
+        }
+
+        //~ Innere Klassen ------------------------------------------------
+
+        /**
+         * <p>Immutable snapshot of the usage statistics of the timezone cache. </p>
+         *
+         * @since   5.0
+         */
+        /*[deutsch]
+         * <p>Unver&auml;nderliche Momentaufnahme der Nutzungsstatistik des Zeitzonen-Cache. </p>
+         *
+         * @since   5.0
+         */
+        public static final class Statistics {
+
+            //~ Instanzvariablen ------------------------------------------
+
+            private final long hits;
+            private final long misses;
+            private final long loads;
+            private final long evictions;
+            private final int size;
+            private final long maxWeight;
+
+            //~ Konstruktoren ---------------------------------------------
+
+            private Statistics(
+                long hits,
+                long misses,
+                long loads,
+                long evictions,
+                int size,
+                long maxWeight
+            ) {
+                super();
+
+                this.hits = hits;
+                this.misses = misses;
+                this.loads = loads;
+                this.evictions = evictions;
+                this.size = size;
+                this.maxWeight = maxWeight;
+
+            }
+
+            //~ Methoden --------------------------------------------------
+
+            /**
+             * <p>Counts the requests which could be served by the cache. </p>
+             *
+             * @return  long
+             */
+            /*[deutsch]
+             * <p>Z&auml;hlt die Anfragen, die der Cache bedienen konnte. </p>
+             *
+             * @return  long
+             */
+            public long getHitCount() {
+                return this.hits;
+            }
+
+            /**
+             * <p>Counts the requests which could not be served by the cache. </p>
+             *
+             * @return  long
+             */
+            /*[deutsch]
+             * <p>Z&auml;hlt die Anfragen, die der Cache nicht bedienen konnte. </p>
+             *
+             * @return  long
+             */
+            public long getMissCount() {
+                return this.misses;
+            }
+
+            /**
+             * <p>Counts the attempts to load a zone from any provider. </p>
+             *
+             * @return  long
+             */
+            /*[deutsch]
+             * <p>Z&auml;hlt die Versuche, eine Zeitzone von einem {@code ZoneModelProvider} zu laden. </p>
+             *
+             * @return  long
+             */
+            public long getLoadCount() {
+                return this.loads;
+            }
+
+            /**
+             * <p>Counts the zones removed from the cache either by the LRU-policy or
+             * by the garbage collector. </p>
+             *
+             * @return  long
+             */
+            /*[deutsch]
+             * <p>Z&auml;hlt die aus dem Cache entfernten Zeitzonen, entweder durch die LRU-Strategie
+             * oder durch den Garbage-Collector. </p>
+             *
+             * @return  long
+             */
+            public long getEvictionCount() {
+                return this.evictions;
+            }
+
+            /**
+             * <p>Yields the count of currently cached zones. </p>
+             *
+             * @return  int
+             */
+            /*[deutsch]
+             * <p>Liefert die Anzahl der aktuell gespeicherten Zeitzonen. </p>
+             *
+             * @return  int
+             */
+            public int getSize() {
+                return this.size;
+            }
+
+            /**
+             * <p>Yields the configured maximum weight of the bounded LRU-mode. </p>
+             *
+             * @return  maximum weight or {@code -1} if the cache uses soft references
+             */
+            /*[deutsch]
+             * <p>Liefert das konfigurierte maximale Gewicht im begrenzten LRU-Modus. </p>
+             *
+             * @return  maximum weight or {@code -1} if the cache uses soft references
+             */
+            public long getMaximumWeight() {
+                return this.maxWeight;
+            }
+
+            /**
+             * <p>Yields the ratio of hits to all requests. </p>
+             *
+             * @return  double between {@code 0.0} and {@code 1.0} (inclusive)
+             */
+            /*[deutsch]
+             * <p>Liefert das Verh&auml;ltnis von Treffern zu allen Anfragen. </p>
+             *
+             * @return  double between {@code 0.0} and {@code 1.0} (inclusive)
+             */
+            public double getHitRate() {
+                long requests = this.hits + this.misses;
+                return ((requests == 0) ? 1.0 : ((double) this.hits) / requests);
+            }
+
+            @Override
+            public String toString() {
+                return "Timezone-Cache-Statistics[hits=" + this.hits
+                    + ",misses=" + this.misses
+                    + ",loads=" + this.loads
+                    + ",evictions=" + this.evictions
+                    + ",size=" + this.size
+                    + ",max-weight=" + this.maxWeight
+                    + "]";
+            }
+
+        }
+
     }
 
     private static class NamedReference
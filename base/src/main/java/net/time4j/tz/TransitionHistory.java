@@ -329,6 +329,49 @@ public interface TransitionHistory {
         return ((transition == null) ? Optional.empty() : Optional.of(transition));
     }
 
+    /**
+     * <p>Queries the total offset in seconds which is valid at given POSIX time. </p>
+     *
+     * <p>This method is designed as primitive fast path for the bulk conversion of raw
+     * timestamps and is equivalent to the expression {@code getStartTransition(ut).getTotalOffset()}
+     * resp. {@code getInitialOffset().getIntegralAmount()} if there is no start transition. Array-based
+     * implementations override this method such that no object allocation happens. </p>
+     *
+     * @param   posixTime   elapsed seconds since UNIX epoch [1970-01-01T00:00Z] (without leap seconds)
+     * @return  total shift in full seconds which yields local time if added to given POSIX time
+     * @see     #getStartTransition(UnixTime)
+     * @since   5.0
+     */
+    /*[deutsch]
+     * <p>Ermittelt die zur angegebenen POSIX-Zeit g&uuml;ltige Gesamtverschiebung in Sekunden. </p>
+     *
+     * <p>Diese Methode ist als primitive schnelle Alternative f&uuml;r die Massenkonvertierung
+     * von rohen Zeitstempeln gedacht und entspricht dem Ausdruck
+     * {@code getStartTransition(ut).getTotalOffset()} bzw. {@code getInitialOffset().getIntegralAmount()},
+     * wenn es keinen Start&uuml;bergang gibt. Array-basierte Implementierungen &uuml;berschreiben
+     * diese Methode so, da&szlig; keine Objekte erzeugt werden. </p>
+     *
+     * @param   posixTime   elapsed seconds since UNIX epoch [1970-01-01T00:00Z] (without leap seconds)
+     * @return  total shift in full seconds which yields local time if added to given POSIX time
+     * @see     #getStartTransition(UnixTime)
+     * @since   5.0
+     */
+    default int getOffsetSeconds(final long posixTime) {
+        ZonalTransition transition = this.getStartTransition(
+            new UnixTime() {
+                @Override
+                public long getPosixTime() {
+                    return posixTime;
+                }
+                @Override
+                public int getNanosecond() {
+                    return 0;
+                }
+            }
+        );
+        return ((transition == null) ? this.getInitialOffset().getIntegralAmount() : transition.getTotalOffset());
+    }
+
     /**
      * <p>Returns the conflict transition where given local timestamp
      * falls either in a gap or in an overlap on the local timeline. </p>
@@ -59,6 +59,10 @@ final class ArrayTransitionModel
 
     private transient final ZonalTransition[] transitions;
 
+    // parallel primitive arrays for fast offset lookup without any object allocation
+    private transient final long[] posixTimes;
+    private transient final int[] totalOffsets;
+
     // Cache
     private transient final List<ZonalTransition> stdTransitions;
     private transient int hash = 0;
@@ -95,10 +99,17 @@ final class ArrayTransitionModel
         }
 
         this.transitions = tmp;
+        this.posixTimes = new long[n];
+        this.totalOffsets = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            this.posixTimes[i] = tmp[i].getPosixTime();
+            this.totalOffsets[i] = tmp[i].getTotalOffset();
+        }
 
         // fill standard transition cache
         long end = TransitionModel.getFutureMoment(1);
-        this.stdTransitions = getTransitions(this.transitions, 0L, end);
+        this.stdTransitions = this.getTransitions(0L, end);
 
     }
 
@@ -115,7 +126,7 @@ final class ArrayTransitionModel
     @Override
     public ZonalTransition getStartTransition(UnixTime ut) {
 
-        int index = search(ut.getPosixTime(), this.transitions);
+        int index = search(ut.getPosixTime(), this.posixTimes);
 
         return (
             (index == 0)
@@ -124,6 +135,18 @@ final class ArrayTransitionModel
 
     }
 
+    @Override
+    public int getOffsetSeconds(long posixTime) {
+
+        int index = search(posixTime, this.posixTimes);
+
+        return (
+            (index == 0)
+            ? this.transitions[0].getPreviousOffset()
+            : this.totalOffsets[index - 1]);
+
+    }
+
     @Override
     public ZonalTransition getConflictTransition(
         GregorianDate localDate,
@@ -137,7 +160,7 @@ final class ArrayTransitionModel
     @Override
     public Optional<ZonalTransition> findNextTransition(UnixTime ut) {
 
-        int index = search(ut.getPosixTime(), this.transitions);
+        int index = search(ut.getPosixTime(), this.posixTimes);
 
         return (
             (index == this.transitions.length)
@@ -169,8 +192,7 @@ final class ArrayTransitionModel
         UnixTime endExclusive
     ) {
 
-        return getTransitions(
-            this.transitions,
+        return this.getTransitions(
             startInclusive.getPosixTime(),
             endExclusive.getPosixTime());
 
@@ -420,8 +442,7 @@ final class ArrayTransitionModel
 
     }
 
-    private static List<ZonalTransition> getTransitions(
-        ZonalTransition[] transitions,
+    private List<ZonalTransition> getTransitions(
         long startInclusive,
         long endExclusive
     ) {
@@ -430,18 +451,18 @@ final class ArrayTransitionModel
             throw new IllegalArgumentException("Start after end.");
         }
 
-        int i1 = search(startInclusive, transitions);
-        int i2 = search(endExclusive, transitions);
+        int i1 = search(startInclusive, this.posixTimes);
+        int i2 = search(endExclusive, this.posixTimes);
 
         if (i2 == 0) {
             return Collections.emptyList();
-        } else if ((i1 > 0) && (transitions[i1 - 1].getPosixTime() == startInclusive)) {
+        } else if ((i1 > 0) && (this.posixTimes[i1 - 1] == startInclusive)) {
             i1--;
         }
 
         i2--;
 
-        if (transitions[i2].getPosixTime() == endExclusive) {
+        if (this.posixTimes[i2] == endExclusive) {
             i2--;
         }
 
@@ -450,7 +471,7 @@ final class ArrayTransitionModel
         } else {
             List<ZonalTransition> result = new ArrayList<>(i2 - i1 + 1);
             for (int i = i1; i <= i2; i++) {
-                result.add(transitions[i]);
+                result.add(this.transitions[i]);
             }
             return Collections.unmodifiableList(result);
         }
@@ -460,16 +481,16 @@ final class ArrayTransitionModel
     // returns index of first transition after posixTime
     private static int search(
         long posixTime,
-        ZonalTransition[] transitions
+        long[] posixTimes
     ) {
 
         int low = 0;
-        int high = transitions.length - 1;
+        int high = posixTimes.length - 1;
 
         while (low <= high) {
-            int middle = (low + high) / 2;
+            int middle = (low + high) >>> 1;
 
-            if (transitions[middle].getPosixTime() <= posixTime) {
+            if (posixTimes[middle] <= posixTime) {
                 low = middle + 1;
             } else {
                 high = middle - 1;
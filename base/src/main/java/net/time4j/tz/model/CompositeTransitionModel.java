@@ -104,6 +104,18 @@ final class CompositeTransitionModel
 
     }
 
+    @Override
+    public int getOffsetSeconds(long posixTime) {
+
+        if (posixTime < this.last.getPosixTime()) {
+            return this.arrayModel.getOffsetSeconds(posixTime);
+        } else {
+            ZonalTransition result = this.ruleModel.getStartTransition(posixTime);
+            return ((result == null) ? this.last.getTotalOffset() : result.getTotalOffset());
+        }
+
+    }
+
     @Override
     public ZonalTransition getConflictTransition(
         GregorianDate localDate,
@@ -84,6 +84,13 @@ final class EmptyTransitionModel
 
     }
 
+    @Override
+    public int getOffsetSeconds(long posixTime) {
+
+        return this.offset.getIntegralAmount();
+
+    }
+
     @Override
     public ZonalTransition getConflictTransition(
         GregorianDate localDate,
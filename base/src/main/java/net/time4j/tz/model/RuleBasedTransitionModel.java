@@ -40,8 +40,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 
 /**
@@ -57,13 +55,15 @@ final class RuleBasedTransitionModel
 
     //~ Statische Felder/Initialisierungen --------------------------------
 
+    private static final int FIRST_CACHED_YEAR;
     private static final int LAST_CACHED_YEAR;
 
     static {
         long ly = TransitionModel.getFutureMoment(100);
-        long mjd = EpochDays.MODIFIED_JULIAN_DATE.transform(ly, EpochDays.UNIX);
-        LAST_CACHED_YEAR =
-            GregorianMath.readYear(GregorianMath.toPackedDate(mjd));
+        long mjd = EpochDays.MODIFIED_JULIAN_DATE.transform(MathUtils.floorDivide(ly, 86400), EpochDays.UNIX);
+        int defaultLastYear = GregorianMath.readYear(GregorianMath.toPackedDate(mjd));
+        FIRST_CACHED_YEAR = Integer.getInteger("net.time4j.tz.rules.cache.first", 1970);
+        LAST_CACHED_YEAR = Integer.getInteger("net.time4j.tz.rules.cache.last", defaultLastYear);
     }
 
     private static final long serialVersionUID = 2456700806862862287L;
@@ -73,10 +73,15 @@ final class RuleBasedTransitionModel
     private transient final ZonalTransition initial;
     private transient final List<DaylightSavingRule> rules;
 
-    private transient final ConcurrentMap<Integer, List<ZonalTransition>> tCache = new ConcurrentHashMap<>();
     private transient final List<ZonalTransition> stdTransitions;
     private transient final boolean gregorian;
 
+    // dense table of transition times for the cached years (n transitions per year), null if not available,
+    // the transition objects themselves are only created on demand from times and total offsets
+    private transient final int firstTableYear;
+    private transient final long[] tableTimes;
+    private transient final int[] totalOffsets; // per rule index
+
     //~ Konstruktoren -----------------------------------------------------
 
     RuleBasedTransitionModel(
@@ -182,6 +187,41 @@ final class RuleBasedTransitionModel
         long end = TransitionModel.getFutureMoment(1);
         this.stdTransitions = getTransitions(this.initial, this.rules, 0L, end);
 
+        // prefill the table of transition times (lock-free after construction)
+        int n = this.rules.size();
+        int stdOffset = this.initial.getStandardOffset();
+        int[] shifts = new int[n];
+        this.totalOffsets = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            DaylightSavingRule rule = this.rules.get(i);
+            DaylightSavingRule previous = this.rules.get((i - 1 + n) % n);
+            shifts[i] = getShift(rule, stdOffset, previous.getSavings());
+            this.totalOffsets[i] = stdOffset + rule.getSavings();
+        }
+
+        int firstYear =
+            Math.max(FIRST_CACHED_YEAR, getYear(this.rules.get(0), this.initial.getPosixTime()));
+        long[] times = null;
+
+        if (this.gregorian && (firstYear <= LAST_CACHED_YEAR)) {
+            int years = LAST_CACHED_YEAR - firstYear + 1;
+            times = new long[years * n];
+
+            for (int y = 0, k = 0; (y < years) && (times != null); y++) {
+                for (int i = 0; i < n; i++, k++) {
+                    times[k] = getTransitionTime(this.rules.get(i), firstYear + y, shifts[i]);
+                    if ((k > 0) && (times[k] <= times[k - 1])) { // unusual rules, no binary search possible
+                        times = null;
+                        break;
+                    }
+                }
+            }
+        }
+
+        this.firstTableYear = firstYear;
+        this.tableTimes = times;
+
     }
 
     //~ Methoden ----------------------------------------------------------
@@ -196,43 +236,28 @@ final class RuleBasedTransitionModel
     @Override
     public ZonalTransition getStartTransition(UnixTime ut) {
 
-        long preModel = this.initial.getPosixTime();
+        return this.getStartTransition(ut.getPosixTime());
 
-        if (ut.getPosixTime() <= preModel) {
-            return null;
-        }
+    }
 
-        ZonalTransition current = null;
-        int stdOffset = this.initial.getStandardOffset();
-        int n = this.rules.size();
-        DaylightSavingRule rule = this.rules.get(0);
-        DaylightSavingRule previous = this.rules.get(n - 1);
-        int shift = getShift(rule, stdOffset, previous.getSavings());
-        int year = getYear(rule, ut.getPosixTime() + shift);
-        List<ZonalTransition> transitions = this.getTransitions(year);
+    @Override
+    public int getOffsetSeconds(long posixTime) {
 
-        for (int i = 0; i < n; i++) {
-            ZonalTransition zt = transitions.get(i);
-            long tt = zt.getPosixTime();
+        long preModel = this.initial.getPosixTime();
 
-            if (ut.getPosixTime() < tt) {
-                if (current == null) {
-                    if (i == 0) {
-                        zt = this.getTransitions(year - 1).get(n - 1);
-                    } else {
-                        zt = transitions.get(i - 1);
-                    }
-                    if (zt.getPosixTime() > preModel) {
-                        current = zt;
-                    }
-                }
-                break;
-            } else if (tt > preModel) {
-                current = zt;
+        if (posixTime > preModel) {
+            int k = this.lookup(posixTime);
+
+            if (k >= 0) {
+                return (
+                    (this.tableTimes[k] > preModel)
+                    ? this.totalOffsets[k % this.totalOffsets.length]
+                    : this.initial.getTotalOffset());
             }
         }
 
-        return current;
+        ZonalTransition zt = this.getStartTransition(posixTime);
+        return ((zt == null) ? this.initial.getTotalOffset() : zt.getTotalOffset());
 
     }
 
@@ -357,6 +382,55 @@ final class RuleBasedTransitionModel
 
     }
 
+    // also called by CompositeTransitionModel
+    ZonalTransition getStartTransition(long posixTime) {
+
+        long preModel = this.initial.getPosixTime();
+
+        if (posixTime <= preModel) {
+            return null;
+        }
+
+        int k = this.lookup(posixTime);
+
+        if (k >= 0) {
+            return ((this.tableTimes[k] > preModel) ? this.getTableTransition(k) : null);
+        }
+
+        ZonalTransition current = null;
+        int stdOffset = this.initial.getStandardOffset();
+        int n = this.rules.size();
+        DaylightSavingRule rule = this.rules.get(0);
+        DaylightSavingRule previous = this.rules.get(n - 1);
+        int shift = getShift(rule, stdOffset, previous.getSavings());
+        int year = getYear(rule, posixTime + shift);
+        ZonalTransition[] transitions = this.getTransitions(year);
+
+        for (int i = 0; i < n; i++) {
+            ZonalTransition zt = transitions[i];
+            long tt = zt.getPosixTime();
+
+            if (posixTime < tt) {
+                if (current == null) {
+                    if (i == 0) {
+                        zt = this.getTransitions(year - 1)[n - 1];
+                    } else {
+                        zt = transitions[i - 1];
+                    }
+                    if (zt.getPosixTime() > preModel) {
+                        current = zt;
+                    }
+                }
+                break;
+            } else if (tt > preModel) {
+                current = zt;
+            }
+        }
+
+        return current;
+
+    }
+
     ZonalTransition getConflictTransition(
         GregorianDate localDate,
         long localSecs
@@ -559,49 +633,95 @@ final class RuleBasedTransitionModel
 
     }
 
-    private List<ZonalTransition> getTransitions(GregorianDate date) {
+    private ZonalTransition[] getTransitions(GregorianDate date) {
 
         return this.getTransitions(this.rules.get(0).toCalendarYear(date));
 
     }
 
-    private List<ZonalTransition> getTransitions(int year) {
+    private ZonalTransition[] getTransitions(int year) {
 
-        Integer key = Integer.valueOf(year);
-        List<ZonalTransition> transitions = this.tCache.get(key);
+        if (this.tableTimes != null) {
+            int n = this.totalOffsets.length;
+            int index = year - this.firstTableYear;
 
-        if (transitions == null) {
-            List<ZonalTransition> list = new ArrayList<>();
-            int stdOffset = this.initial.getStandardOffset();
+            if ((index >= 0) && (index < this.tableTimes.length / n)) {
+                ZonalTransition[] transitions = new ZonalTransition[n];
 
-            for (int i = 0, n = this.rules.size(); i < n; i++) {
-                DaylightSavingRule rule = this.rules.get(i);
-                DaylightSavingRule previous = this.rules.get((i - 1 + n) % n);
-                int shift = getShift(rule, stdOffset, previous.getSavings());
+                for (int i = 0; i < n; i++) {
+                    transitions[i] = this.getTableTransition(index * n + i);
+                }
 
-                list.add(
-                    new ZonalTransition(
-                        getTransitionTime(rule, year, shift),
-                        stdOffset + previous.getSavings(),
-                        stdOffset + rule.getSavings(),
-                        rule.getSavings0()));
+                return transitions;
             }
+        }
 
-            transitions = Collections.unmodifiableList(list);
+        return this.createTransitions(year);
 
-            if (
-                (year <= LAST_CACHED_YEAR)
-                && this.gregorian
-            ) {
-                List<ZonalTransition> old =
-                    this.tCache.putIfAbsent(key, transitions);
-                if (old != null) {
-                    transitions = old;
+    }
+
+    // creates the transition with given table index without evaluating any rule date
+    private ZonalTransition getTableTransition(int k) {
+
+        int n = this.totalOffsets.length;
+        int i = k % n;
+
+        return new ZonalTransition(
+            this.tableTimes[k],
+            this.totalOffsets[(i - 1 + n) % n],
+            this.totalOffsets[i],
+            this.rules.get(i).getSavings0());
+
+    }
+
+    private ZonalTransition[] createTransitions(int year) {
+
+        int n = this.rules.size();
+        int stdOffset = this.initial.getStandardOffset();
+        ZonalTransition[] transitions = new ZonalTransition[n];
+
+        for (int i = 0; i < n; i++) {
+            DaylightSavingRule rule = this.rules.get(i);
+            DaylightSavingRule previous = this.rules.get((i - 1 + n) % n);
+            int shift = getShift(rule, stdOffset, previous.getSavings());
+
+            transitions[i] =
+                new ZonalTransition(
+                    getTransitionTime(rule, year, shift),
+                    stdOffset + previous.getSavings(),
+                    stdOffset + rule.getSavings(),
+                    rule.getSavings0());
+        }
+
+        return transitions;
+
+    }
+
+    // returns the table index of the last transition at or before given posix time or -1 if outside of table
+    private int lookup(long posixTime) {
+
+        long[] times = this.tableTimes;
+
+        if (times != null) {
+            int low = 0;
+            int high = times.length - 1;
+
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+
+                if (times[middle] <= posixTime) {
+                    low = middle + 1;
+                } else {
+                    high = middle - 1;
                 }
             }
+
+            if ((low > 0) && (low < times.length)) {
+                return low - 1;
+            }
         }
 
-        return transitions;
+        return -1;
 
     }
 
@@ -0,0 +1,484 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (CompactZoneProviderSPI.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.tz.threeten;
+
+import net.time4j.Month;
+import net.time4j.PlainTime;
+import net.time4j.Weekday;
+import net.time4j.tz.TransitionHistory;
+import net.time4j.tz.ZonalOffset;
+import net.time4j.tz.ZonalTransition;
+import net.time4j.tz.ZoneModelProvider;
+import net.time4j.tz.model.DaylightSavingRule;
+import net.time4j.tz.model.OffsetIndicator;
+import net.time4j.tz.model.TransitionModel;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneOffsetTransitionRule;
+import java.time.zone.ZoneRules;
+import java.time.zone.ZoneRulesProvider;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+
+/**
+ * <p>SPI-implementation which reads all timezone data from a compact binary file
+ * via a memory-mapped buffer. </p>
+ *
+ * <p>The file is usually generated by {@link #compile(File)} from the &quot;tzdb.dat&quot;-repository
+ * of the JDK and then configured by help of the system property &quot;net.time4j.tz.compact.path&quot;.
+ * Only the small index of zone identifiers will be read at startup while every single zone model
+ * will be decoded lazily on demand. All offsets and transition times are stored as deltas using
+ * variable-length integers. If the system property is not set then this provider stays inactive. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+/*[deutsch]
+ * <p>SPI-Implementierung, die alle Zeitzonendaten aus einer kompakten Bin&auml;rdatei
+ * &uuml;ber einen speicherabgebildeten Puffer liest. </p>
+ *
+ * <p>Die Datei wird normalerweise mit {@link #compile(File)} aus dem &quot;tzdb.dat&quot;-Repositorium
+ * des JDK erzeugt und dann mit Hilfe der System-Property &quot;net.time4j.tz.compact.path&quot;
+ * konfiguriert. Nur der kleine Index der Zonen-IDs wird beim Start gelesen, w&auml;hrend jedes
+ * einzelne Zonenmodell erst bei Bedarf dekodiert wird. Alle Verschiebungen und &Uuml;bergangszeiten
+ * werden als Differenzen mit Hilfe von Ganzzahlen variabler L&auml;nge gespeichert. Ist die
+ * System-Property nicht gesetzt, bleibt dieser Provider inaktiv. </p>
+ *
+ * @author  Meno Hochschild
+ * @since   5.0
+ */
+public class CompactZoneProviderSPI
+    implements ZoneModelProvider {
+
+    //~ Statische Felder/Initialisierungen --------------------------------
+
+    private static final int MAGIC = 0x545A4342; // TZCB
+    private static final int FORMAT_VERSION = 1;
+    private static final String PATH_PROPERTY = "net.time4j.tz.compact.path";
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private final String version;
+    private final String location;
+    private final Map<String, Integer> index;
+    private final ByteBuffer buffer;
+
+    //~ Konstruktoren -----------------------------------------------------
+
+    /**
+     * <p>Used by the service loader mechanism and evaluates the system property
+     * &quot;net.time4j.tz.compact.path&quot;. </p>
+     *
+     * <p>If the property is not set or does not point to an existing file then
+     * this provider will stay inactive. A configured file which cannot be read
+     * only causes a warning on {@code System.err} and also leaves this provider
+     * inactive. </p>
+     */
+    /*[deutsch]
+     * <p>Wird vom {@code ServiceLoader}-Mechanismus benutzt und wertet die System-Property
+     * &quot;net.time4j.tz.compact.path&quot; aus. </p>
+     *
+     * <p>Ist die Property nicht gesetzt oder zeigt sie nicht auf eine existierende
+     * Datei, bleibt dieser Provider inaktiv. Eine konfigurierte, aber nicht lesbare
+     * Datei f&uuml;hrt nur zu einer Warnung auf {@code System.err} und l&auml;&szlig;t
+     * diesen Provider ebenfalls inaktiv. </p>
+     */
+    public CompactZoneProviderSPI() {
+        this(getConfiguredFile(), true);
+    }
+
+    /**
+     * <p>Creates a new provider for given compact binary file. </p>
+     *
+     * @param   file    compact binary file created by {@link #compile(File)} (optional)
+     * @throws  IllegalStateException if given file cannot be read
+     */
+    /*[deutsch]
+     * <p>Erzeugt einen neuen Provider f&uuml;r die angegebene kompakte Bin&auml;rdatei. </p>
+     *
+     * @param   file    compact binary file created by {@link #compile(File)} (optional)
+     * @throws  IllegalStateException if given file cannot be read
+     */
+    public CompactZoneProviderSPI(File file) {
+        this(file, false);
+    }
+
+    private CompactZoneProviderSPI(
+        File file,
+        boolean lenient
+    ) {
+        super();
+
+        String v = "";
+        String loc = "";
+        Map<String, Integer> map = Collections.emptyMap();
+        ByteBuffer data = null;
+
+        if (file != null) {
+            try {
+                ByteBuffer buf = mapFile(file);
+                v = readString(buf);
+                int count = buf.getInt();
+                map = new HashMap<>(count * 2);
+
+                for (int i = 0; i < count; i++) {
+                    String id = readString(buf);
+                    map.put(id, buf.getInt());
+                }
+
+                loc = file.getAbsolutePath();
+                data = buf.slice(); // Position 0 entspricht dem Anfang des Datenbereichs
+            } catch (RuntimeException ex) { // auch IllegalArgumentException bei korrupter Anzahl
+                if (!lenient) {
+                    throw (
+                        (ex instanceof IllegalStateException)
+                        ? (IllegalStateException) ex
+                        : new IllegalStateException("Cannot read compact timezone repository: " + file, ex));
+                }
+                // wird beim Laden der Dienste benutzt: nie die ganze Bibliothek blockieren
+                System.err.println("Warning: Cannot read compact timezone repository \"" + file + "\".");
+                ex.printStackTrace(System.err);
+                v = "";
+                loc = "";
+                map = Collections.emptyMap();
+                data = null;
+            }
+        }
+
+        this.version = v;
+        this.location = loc;
+        this.index = map;
+        this.buffer = data;
+
+    }
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Override
+    public Set<String> getAvailableIDs() {
+
+        return Collections.unmodifiableSet(this.index.keySet());
+
+    }
+
+    @Override
+    public Map<String, String> getAliases() {
+
+        return Collections.emptyMap();
+
+    }
+
+    @Override
+    public String getFallback() {
+
+        return "";
+
+    }
+
+    @Override
+    public String getName() {
+
+        return "TZDB";
+
+    }
+
+    @Override
+    public String getLocation() {
+
+        return this.location;
+
+    }
+
+    @Override
+    public String getVersion() {
+
+        return this.version;
+
+    }
+
+    @Override
+    public TransitionHistory load(String zoneID) {
+
+        Integer pos = this.index.get(zoneID);
+
+        if (pos == null) {
+            return null;
+        }
+
+        ByteBuffer buf = this.buffer.duplicate(); // eigene Position, thread-sicher
+        buf.position(pos.intValue());
+
+        try {
+            int initialOffset = (int) readVarLong(buf);
+            int n = (int) readVarLong(buf);
+            List<ZonalTransition> transitions = new ArrayList<>(n);
+            long posixTime = 0;
+            int total = initialOffset;
+
+            for (int i = 0; i < n; i++) {
+                posixTime += readVarLong(buf);
+                int previous = total + (int) readVarLong(buf);
+                total = previous + (int) readVarLong(buf);
+                int dst = (int) readVarLong(buf);
+                transitions.add(new ZonalTransition(posixTime, previous, total, dst));
+            }
+
+            int r = (int) readVarLong(buf);
+            List<DaylightSavingRule> rules = new ArrayList<>(r);
+
+            for (int i = 0; i < r; i++) {
+                Month month = Month.valueOf(buf.get());
+                int dom = buf.get();
+                int dow = buf.get();
+                int secondOfDay = (int) readVarLong(buf);
+                OffsetIndicator indicator = OffsetIndicator.values()[buf.get()];
+                int dst = (int) readVarLong(buf);
+                PlainTime timeOfDay = (
+                    (secondOfDay == 86400)
+                    ? PlainTime.midnightAtEndOfDay()
+                    : PlainTime.of(secondOfDay / 3600, (secondOfDay / 60) % 60, secondOfDay % 60));
+                Weekday wd = ((dow == 0) ? null : Weekday.valueOf(dow));
+                rules.add(JdkZoneProviderSPI.createRule(month, dom, wd, timeOfDay, indicator, dst));
+            }
+
+            return TransitionModel.of(ZonalOffset.ofTotalSeconds(initialOffset), transitions, rules);
+        } catch (RuntimeException ex) {
+            throw new IllegalStateException("Broken compact timezone repository: " + zoneID, ex);
+        }
+
+    }
+
+    /**
+     * <p>Compiles all timezone data of the &quot;tzdb.dat&quot;-repository of the JDK into
+     * given compact binary file. </p>
+     *
+     * @param   target      destination file
+     * @throws  IOException if writing fails
+     */
+    /*[deutsch]
+     * <p>&Uuml;bersetzt alle Zeitzonendaten des &quot;tzdb.dat&quot;-Repositoriums des JDK
+     * in die angegebene kompakte Bin&auml;rdatei. </p>
+     *
+     * @param   target      destination file
+     * @throws  IOException if writing fails
+     */
+    public static void compile(File target) throws IOException {
+
+        try (OutputStream os = new FileOutputStream(target)) {
+            compile(os);
+        }
+
+    }
+
+    /**
+     * <p>Compiles all timezone data of the &quot;tzdb.dat&quot;-repository of the JDK into
+     * given output stream. </p>
+     *
+     * @param   os          destination stream (will not be closed)
+     * @throws  IOException if writing fails
+     */
+    /*[deutsch]
+     * <p>&Uuml;bersetzt alle Zeitzonendaten des &quot;tzdb.dat&quot;-Repositoriums des JDK
+     * in den angegebenen Ausgabestrom. </p>
+     *
+     * @param   os          destination stream (will not be closed)
+     * @throws  IOException if writing fails
+     */
+    public static void compile(OutputStream os) throws IOException {
+
+        Set<String> ids = new TreeSet<>(ZoneRulesProvider.getAvailableZoneIds());
+        ByteArrayOutputStream data = new ByteArrayOutputStream(64 * 1024);
+        DataOutputStream header = new DataOutputStream(os);
+
+        header.writeInt(MAGIC);
+        header.writeByte(FORMAT_VERSION);
+        writeString(header, ZoneRulesProvider.getVersions("America/New_York").lastEntry().getKey());
+        header.writeInt(ids.size());
+
+        for (String id : ids) {
+            writeString(header, id);
+            header.writeInt(data.size());
+            writeZone(data, ZoneId.of(id).getRules());
+        }
+
+        data.writeTo(header);
+        header.flush();
+
+    }
+
+    private static void writeZone(
+        ByteArrayOutputStream out,
+        ZoneRules zoneRules
+    ) {
+
+        int initialOffset = zoneRules.getOffset(Instant.MIN).getTotalSeconds();
+        List<ZoneOffsetTransition> transitions = zoneRules.getTransitions();
+        long posixTime = 0;
+        int total = initialOffset;
+
+        writeVarLong(out, initialOffset);
+        writeVarLong(out, transitions.size());
+
+        for (ZoneOffsetTransition zot : transitions) {
+            Instant instant = zot.getInstant();
+            int previous = zot.getOffsetBefore().getTotalSeconds();
+            int next = zot.getOffsetAfter().getTotalSeconds();
+            writeVarLong(out, instant.getEpochSecond() - posixTime);
+            writeVarLong(out, previous - total); // normalerweise null
+            writeVarLong(out, next - previous);
+            writeVarLong(out, zoneRules.getDaylightSavings(instant).getSeconds());
+            posixTime = instant.getEpochSecond();
+            total = next;
+        }
+
+        List<ZoneOffsetTransitionRule> rules = zoneRules.getTransitionRules();
+        writeVarLong(out, rules.size());
+
+        for (ZoneOffsetTransitionRule zotr : rules) {
+            DayOfWeek dayOfWeek = zotr.getDayOfWeek();
+            OffsetIndicator indicator;
+
+            switch (zotr.getTimeDefinition()) {
+                case STANDARD:
+                    indicator = OffsetIndicator.STANDARD_TIME;
+                    break;
+                case UTC:
+                    indicator = OffsetIndicator.UTC_TIME;
+                    break;
+                case WALL:
+                    indicator = OffsetIndicator.WALL_TIME;
+                    break;
+                default:
+                    throw new UnsupportedOperationException(zotr.getTimeDefinition().name());
+            }
+
+            out.write(zotr.getMonth().getValue());
+            out.write(zotr.getDayOfMonthIndicator()); // -28 bis +31 (ohne 0)
+            out.write((dayOfWeek == null) ? 0 : dayOfWeek.getValue());
+            writeVarLong(out, zotr.isMidnightEndOfDay() ? 86400 : zotr.getLocalTime().toSecondOfDay());
+            out.write(indicator.ordinal());
+            writeVarLong(out, zotr.getOffsetAfter().getTotalSeconds() - zotr.getStandardOffset().getTotalSeconds());
+        }
+
+    }
+
+    // zigzag-kodierte Ganzzahl variabler Länge (7 Bits pro Byte)
+    private static void writeVarLong(
+        ByteArrayOutputStream out,
+        long value
+    ) {
+
+        long v = (value << 1) ^ (value >> 63);
+
+        while ((v & ~0x7FL) != 0) {
+            out.write((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+
+        out.write((int) v);
+
+    }
+
+    private static long readVarLong(ByteBuffer buf) {
+
+        long v = 0;
+        int shift = 0;
+        byte b;
+
+        do {
+            b = buf.get();
+            v |= ((long) (b & 0x7F)) << shift;
+            shift += 7;
+        } while (b < 0);
+
+        return (v >>> 1) ^ -(v & 1);
+
+    }
+
+    private static void writeString(
+        DataOutputStream out,
+        String s
+    ) throws IOException {
+
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+
+    }
+
+    private static String readString(ByteBuffer buf) {
+
+        byte[] bytes = new byte[buf.getShort() & 0xFFFF];
+        buf.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+
+    }
+
+    private static ByteBuffer mapFile(File file) {
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if ((buf.getInt() != MAGIC) || (buf.get() != FORMAT_VERSION)) {
+                throw new IllegalStateException("Not a compact timezone repository: " + file);
+            }
+
+            return buf;
+        } catch (IOException ex) {
+            throw new IllegalStateException("Cannot read compact timezone repository: " + file, ex);
+        }
+
+    }
+
+    private static File getConfiguredFile() {
+
+        String path = System.getProperty(PATH_PROPERTY);
+
+        if ((path == null) || path.isEmpty()) {
+            return null;
+        }
+
+        File file = new File(path);
+        return (file.isFile() ? file : null);
+
+    }
+
+}
@@ -135,8 +135,6 @@ public class JdkZoneProviderSPI
             }
 
             for (ZoneOffsetTransitionRule zotr : zoneRules.getTransitionRules()) {
-                DaylightSavingRule rule;
-
                 int dom = zotr.getDayOfMonthIndicator(); // -28 bis +31 (ohne 0)
                 DayOfWeek dayOfWeek = zotr.getDayOfWeek();
 
@@ -164,20 +162,8 @@ public class JdkZoneProviderSPI
 
                 int dst = (zotr.getOffsetAfter().getTotalSeconds() - zotr.getStandardOffset().getTotalSeconds());
 
-                if (dayOfWeek == null) {
-                    rule = GregorianTimezoneRule.ofFixedDay(month, dom, timeOfDay, indicator, dst);
-                } else {
-                    Weekday wd = Weekday.valueOf(dayOfWeek.getValue());
-                    if (dom == -1) {
-                        rule = GregorianTimezoneRule.ofLastWeekday(month, wd, timeOfDay, indicator, dst);
-                    } else if (dom < 0) {
-                        rule = new NegativeDayOfMonthPattern(month, dom, wd, timeOfDay, indicator, dst);
-                    } else {
-                        rule = GregorianTimezoneRule.ofWeekdayAfterDate(month, dom, wd, timeOfDay, indicator, dst);
-                    }
-                }
-
-                rules.add(rule);
+                Weekday wd = ((dayOfWeek == null) ? null : Weekday.valueOf(dayOfWeek.getValue()));
+                rules.add(createRule(month, dom, wd, timeOfDay, indicator, dst));
             }
 
             return TransitionModel.of(initialOffset, transitions, rules);
@@ -188,4 +174,26 @@ public class JdkZoneProviderSPI
 
     }
 
+    // auch von CompactZoneProviderSPI genutzt, Wochentag == null bedeutet festen Tag im Monat
+    static DaylightSavingRule createRule(
+        Month month,
+        int dom,
+        Weekday dayOfWeek,
+        PlainTime timeOfDay,
+        OffsetIndicator indicator,
+        int dst
+    ) {
+
+        if (dayOfWeek == null) {
+            return GregorianTimezoneRule.ofFixedDay(month, dom, timeOfDay, indicator, dst);
+        } else if (dom == -1) {
+            return GregorianTimezoneRule.ofLastWeekday(month, dayOfWeek, timeOfDay, indicator, dst);
+        } else if (dom < 0) {
+            return new NegativeDayOfMonthPattern(month, dom, dayOfWeek, timeOfDay, indicator, dst);
+        } else {
+            return GregorianTimezoneRule.ofWeekdayAfterDate(month, dom, dayOfWeek, timeOfDay, indicator, dst);
+        }
+
+    }
+
 }
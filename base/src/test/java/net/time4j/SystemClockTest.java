@@ -2,6 +2,7 @@ package net.time4j;
 
 import net.time4j.base.TimeSource;
 import net.time4j.scale.LeapSeconds;
+import net.time4j.scale.TimeScale;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -34,6 +35,17 @@ public class SystemClockTest {
             is(0L));
     }
 
+    @Test
+    public void monotonicFractionOfSecond() {
+        Moment start = Moment.of(2 * 365 * 86400L, 123_456_789, TimeScale.POSIX);
+        TimeSource<?> source = () -> start;
+        SystemClock clock = SystemClock.MONOTONIC.synchronizedWith(source);
+        long millis = clock.currentTimeInMillis() - start.getPosixTime() * 1000;
+        long micros = clock.currentTimeInMicros() - start.getPosixTime() * 1000_000;
+        assertThat("Observed millis: " + millis, (millis >= 123) && (millis < 1123), is(true));
+        assertThat("Observed micros: " + micros, (micros >= 123_456) && (micros < 1_123_456), is(true));
+    }
+
     @Test
     public void currentTime() {
         SystemClock clock = SystemClock.MONOTONIC;
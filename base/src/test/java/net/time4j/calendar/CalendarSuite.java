@@ -21,6 +21,7 @@ import org.junit.runners.Suite.SuiteClasses;
         CopticOperatorTest.class,
         DiyanetDataTest.class,
         DiyanetRangeTest.class,
+        EastAsianTableTest.class,
         EraNameTest.class,
         EthiopianCalendarTest.class,
         EthiopianMiscellaneousTest.class,
@@ -73,7 +74,8 @@ import org.junit.runners.Suite.SuiteClasses;
         ThaiSolarOperatorTest.class,
         UmalquraDataTest.class,
         VietnameseMiscellaneousTest.class,
-        WeekCalculationTest.class
+        WeekCalculationTest.class,
+        YearCacheTest.class
     }
 )
 public class CalendarSuite {
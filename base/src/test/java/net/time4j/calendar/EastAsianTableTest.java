@@ -0,0 +1,142 @@
+package net.time4j.calendar;
+
+import net.time4j.PlainDate;
+import net.time4j.engine.EpochDays;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class EastAsianTableTest {
+
+    private static final List<EastAsianCS<?>> SYSTEMS =
+        Arrays.<EastAsianCS<?>>asList(
+            (EastAsianCS<?>) ChineseCalendar.axis().getCalendarSystem(),
+            (EastAsianCS<?>) KoreanCalendar.axis().getCalendarSystem(),
+            (EastAsianCS<?>) VietnameseCalendar.axis().getCalendarSystem());
+
+    @Test
+    public void tablesUpToDate() {
+        for (EastAsianCS<?> calsys : SYSTEMS) {
+            assertThat(Arrays.equals(EastAsianTable.generate(calsys), calsys.getLunisolarData()), is(true));
+        }
+    }
+
+    @Test
+    public void sameAsAstronomicalCalculation() {
+        Random random = new Random(2018);
+        long min = PlainDate.of(EastAsianTable.MIN_YEAR - 1, 1, 1).getDaysSinceEpochUTC();
+        long max = PlainDate.of(EastAsianTable.MAX_YEAR + 2, 1, 1).getDaysSinceEpochUTC();
+        for (EastAsianCS<?> calsys : SYSTEMS) {
+            for (int i = 0; i < 2000; i++) {
+                long utcDays = min + (long) (random.nextDouble() * (max - min));
+                check(calsys, utcDays);
+            }
+        }
+    }
+
+    @Test
+    public void sameAsAstronomicalCalculationNearOffsetChanges() {
+        long[] changes = {
+            PlainDate.of(1908, 4, 1).getDaysSinceEpochUTC(),
+            PlainDate.of(1912, 1, 1).getDaysSinceEpochUTC(),
+            PlainDate.of(1929, 1, 1).getDaysSinceEpochUTC(),
+            PlainDate.of(1954, 3, 21).getDaysSinceEpochUTC(),
+            PlainDate.of(1961, 8, 10).getDaysSinceEpochUTC(),
+            PlainDate.of(1968, 1, 1).getDaysSinceEpochUTC(),
+            PlainDate.of(1975, 6, 13).getDaysSinceEpochUTC()
+        };
+        for (EastAsianCS<?> calsys : SYSTEMS) {
+            for (long change : changes) {
+                for (long utcDays = change - 100; utcDays <= change + 100; utcDays += 3) {
+                    check(calsys, utcDays);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void usedInsideRange() {
+        EastAsianCS<?> calsys = SYSTEMS.get(0);
+        EastAsianTable table = new EastAsianTable(calsys, calsys.getLunisolarData());
+        long start = PlainDate.of(1645, 1, 28).getDaysSinceEpochUTC();
+        long end = PlainDate.of(2200, 12, 31).getDaysSinceEpochUTC();
+        for (long utcDays = start; utcDays <= end; utcDays += 97) {
+            long distance = utcDays - PlainDate.of(1929, 1, 1).getDaysSinceEpochUTC(); // offset change
+            if (Math.abs(distance) > 100) {
+                assertThat(table.newMoonOnOrAfter(utcDays) == EastAsianTable.UNKNOWN, is(false));
+                assertThat(table.newMoonBefore(utcDays) == EastAsianTable.UNKNOWN, is(false));
+            }
+            if ((distance < -100) || (distance > 400)) {
+                assertThat(table.winterOnOrBefore(utcDays) == EastAsianTable.UNKNOWN, is(false));
+            }
+        }
+    }
+
+    @Test
+    public void outOfRange() {
+        EastAsianCS<?> calsys = SYSTEMS.get(0);
+        EastAsianTable table = new EastAsianTable(calsys, calsys.getLunisolarData());
+        long early = PlainDate.of(EastAsianTable.MIN_YEAR - 1, 6, 1).getDaysSinceEpochUTC();
+        long late = PlainDate.of(EastAsianTable.MAX_YEAR + 1, 6, 1).getDaysSinceEpochUTC();
+        assertThat(table.newMoonOnOrAfter(early), is(EastAsianTable.UNKNOWN));
+        assertThat(table.newMoonBefore(late), is(EastAsianTable.UNKNOWN));
+        assertThat(table.winterOnOrBefore(early), is(EastAsianTable.UNKNOWN));
+        assertThat(table.hasNoMajorSolarTerm(late), nullValue());
+        assertThat(calsys.newMoonOnOrAfter(early), is(calsys.computeNewMoonOnOrAfter(early)));
+    }
+
+    @Test
+    public void emptyTable() {
+        EastAsianCS<?> calsys = SYSTEMS.get(0);
+        EastAsianTable table = new EastAsianTable(calsys, new int[0]);
+        assertThat(table.newMoonOnOrAfter(0), is(EastAsianTable.UNKNOWN));
+        assertThat(table.newMoonBefore(0), is(EastAsianTable.UNKNOWN));
+        assertThat(table.winterOnOrBefore(0), is(EastAsianTable.UNKNOWN));
+        assertThat(table.hasNoMajorSolarTerm(0), nullValue());
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void inconsistentData() {
+        EastAsianCS<?> calsys = SYSTEMS.get(0);
+        int[] data = calsys.getLunisolarData();
+        new EastAsianTable(calsys, Arrays.copyOf(data, data.length - 1));
+    }
+
+    private static void check(
+        EastAsianCS<?> calsys,
+        long utcDays
+    ) {
+        EastAsianTable table = new EastAsianTable(calsys, calsys.getLunisolarData());
+        String msg = calsys.getClass().getName() + "/" + PlainDate.of(utcDays, EpochDays.UTC);
+        long m = table.newMoonOnOrAfter(utcDays);
+        if (m != EastAsianTable.UNKNOWN) {
+            assertThat(msg, m, is(calsys.computeNewMoonOnOrAfter(utcDays)));
+            Boolean noMajorTerm = table.hasNoMajorSolarTerm(m);
+            if (noMajorTerm != null) {
+                assertThat(msg, noMajorTerm, is(calsys.computeHasNoMajorSolarTerm(m)));
+            }
+        }
+        long b = table.newMoonBefore(utcDays);
+        if (b != EastAsianTable.UNKNOWN) {
+            assertThat(msg, b, is(calsys.computeNewMoonBefore(utcDays)));
+        }
+        long w = table.winterOnOrBefore(utcDays);
+        if (w != EastAsianTable.UNKNOWN) {
+            assertThat(msg, w, is(calsys.computeWinterOnOrBefore(utcDays)));
+        }
+        if (table.newMoonOnOrAfter(utcDays) == EastAsianTable.UNKNOWN) {
+            assertThat(msg, calsys.newMoonOnOrAfter(utcDays), is(calsys.computeNewMoonOnOrAfter(utcDays)));
+        }
+    }
+
+}
@@ -0,0 +1,139 @@
+package net.time4j.calendar;
+
+import net.time4j.PlainDate;
+import net.time4j.engine.CalendarSystem;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class YearCacheTest {
+
+    @Test
+    public void hitsAndCollisions() {
+        AtomicInteger loads = new AtomicInteger();
+        YearCache cache = new YearCache(3, year -> {
+            loads.incrementAndGet();
+            return new long[] {year};
+        });
+        assertThat(cache.capacity(), is(4));
+        assertThat(load(cache, 2017), is(4));
+        long[] data = cache.get(2017);
+        assertThat(data[0], is(2017L));
+        assertThat(cache.get(2017), sameInstance(data));
+        assertThat(loads.get(), is(1));
+        for (int year = 2014; year < 2018; year++) {
+            load(cache, year);
+        }
+        assertThat(loads.get(), is(4));
+        assertThat(cache.get(2021), nullValue()); // does not replace 2017 yet
+        assertThat(cache.get(2017), sameInstance(data));
+        assertThat(load(cache, 2021), is(3)); // one miss already counted
+        assertThat(cache.get(2017), nullValue());
+        assertThat(loads.get(), is(5));
+    }
+
+    @Test
+    public void randomAccessRarelyLoads() {
+        AtomicInteger loads = new AtomicInteger();
+        YearCache cache = new YearCache(64, year -> {
+            loads.incrementAndGet();
+            return new long[] {year};
+        });
+        Random random = new Random(42);
+        for (int i = 0; i < 100000; i++) {
+            cache.get(1700 + random.nextInt(1200));
+        }
+        assertThat(loads.get() < 100, is(true));
+    }
+
+    @Test
+    public void disabled() {
+        AtomicInteger loads = new AtomicInteger();
+        YearCache cache = new YearCache(0, year -> {
+            loads.incrementAndGet();
+            return new long[] {year};
+        });
+        assertThat(cache.capacity(), is(0));
+        for (int i = 0; i < 10; i++) {
+            assertThat(cache.get(5), nullValue());
+        }
+        assertThat(loads.get(), is(0));
+    }
+
+    @Test
+    public void chineseSameAsAstronomicalCalculation() {
+        checkEastAsian(ChineseCalendar.axis().getCalendarSystem(), 1);
+    }
+
+    @Test
+    public void koreanSameAsAstronomicalCalculation() {
+        checkEastAsian(KoreanCalendar.axis().getCalendarSystem(), 3);
+    }
+
+    @Test
+    public void vietnameseSameAsAstronomicalCalculation() {
+        checkEastAsian(VietnameseCalendar.axis().getCalendarSystem(), 3);
+    }
+
+    @Test
+    public void hebrewDayByDay() {
+        CalendarSystem<HebrewCalendar> calsys = HebrewCalendar.axis().getCalendarSystem();
+        long start = PlainDate.of(1600, 1, 1).getDaysSinceEpochUTC();
+        long end = PlainDate.of(2400, 1, 1).getDaysSinceEpochUTC();
+        HebrewCalendar prev = calsys.transform(start - 1);
+        for (long utcDays = start; utcDays < end; utcDays++) {
+            HebrewCalendar hc = calsys.transform(utcDays);
+            assertThat(calsys.transform(hc), is(utcDays));
+            if (hc.getDayOfMonth() == 1) {
+                assertThat(prev.getDayOfMonth(), is(prev.lengthOfMonth()));
+                if (hc.getMonth() == HebrewMonth.TISHRI) {
+                    assertThat(hc.getYear(), is(prev.getYear() + 1));
+                    assertThat(prev.getMonth(), is(HebrewMonth.ELUL));
+                } else {
+                    assertThat(hc.getYear(), is(prev.getYear()));
+                }
+            } else {
+                assertThat(hc.getDayOfMonth(), is(prev.getDayOfMonth() + 1));
+                assertThat(hc.getMonth(), is(prev.getMonth()));
+            }
+            prev = hc;
+        }
+    }
+
+    private static int load(
+        YearCache cache,
+        int year
+    ) {
+        int count = 1;
+        while (cache.get(year) == null) {
+            count++;
+        }
+        return count;
+    }
+
+    private static <D extends EastAsianCalendar<?, D>> void checkEastAsian(
+        CalendarSystem<D> system,
+        int step
+    ) {
+        EastAsianCS<D> calsys = (EastAsianCS<D>) system;
+        long start = calsys.getMinimumSinceUTC();
+        long end = PlainDate.of(2200, 12, 31).getDaysSinceEpochUTC();
+        for (long utcDays = start; utcDays <= end; utcDays += step) {
+            D expected = calsys.computeTransform(utcDays);
+            D date = calsys.transform(utcDays);
+            assertThat(date, is(expected));
+            assertThat(calsys.transform(date), is(utcDays));
+        }
+    }
+
+}
@@ -12,6 +12,7 @@ import org.junit.runners.Suite.SuiteClasses;
         JulianDayTest.class,
         MoonTest.class,
         NoLeapsecondsTest.class,
+        SunSeriesTest.class,
         SunSydneyTest.class,
         TwilightTest.class,
         ZodiacTest.class
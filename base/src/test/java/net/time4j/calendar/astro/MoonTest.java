@@ -4,6 +4,7 @@ import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTime;
 import net.time4j.PlainTimestamp;
+import net.time4j.range.MomentInterval;
 import net.time4j.tz.OffsetSign;
 import net.time4j.tz.Timezone;
 import net.time4j.tz.ZonalOffset;
@@ -11,7 +12,10 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -151,6 +155,52 @@ public class MoonTest {
         MoonPhase.getIllumination(Moment.UNIX_EPOCH, 4);
     }
 
+    @Test
+    public void fullMoonsWithinYear() {
+        MomentInterval year2018 =
+            MomentInterval.between(
+                PlainTimestamp.of(2018, 1, 1, 0, 0).atUTC(),
+                PlainTimestamp.of(2019, 1, 1, 0, 0).atUTC());
+        List<Moment> fullMoons = MoonPhase.FULL_MOON.within(year2018).collect(Collectors.toList());
+        assertThat(fullMoons.size(), is(13)); // two blue moons in 2018
+        assertThat(fullMoons.get(0), is(PlainTimestamp.of(2018, 1, 2, 2, 24, 4).atUTC()));
+        assertThat(MoonPhase.NEW_MOON.within(year2018).count(), is(12L));
+    }
+
+    @Test
+    public void phasesWithinSameAsRepeatedSearch() {
+        for (MoonPhase phase : MoonPhase.values()) {
+            Moment start = PlainTimestamp.of(1990, 3, 5, 17, 45).atUTC();
+            Moment end = PlainTimestamp.of(2030, 7, 1, 0, 0).atUTC();
+            List<Moment> expected = new ArrayList<>();
+            for (Moment m = phase.atOrAfter(start); m.isBefore(end); m = phase.after(m)) {
+                expected.add(m);
+            }
+            List<Moment> actual =
+                phase.within(MomentInterval.between(start, end)).collect(Collectors.toList());
+            assertThat(actual, is(expected));
+        }
+    }
+
+    @Test
+    public void phasesWithinRespectBoundaries() {
+        Moment newMoon = MoonPhase.NEW_MOON.atLunation(0);
+        Moment next = MoonPhase.NEW_MOON.atLunation(1);
+        assertThat(MoonPhase.NEW_MOON.within(MomentInterval.between(newMoon, next)).count(), is(1L));
+        assertThat(
+            MoonPhase.NEW_MOON.within(MomentInterval.between(newMoon, next).withClosedEnd()).count(),
+            is(2L));
+        assertThat(
+            MoonPhase.NEW_MOON.within(MomentInterval.between(newMoon, next).withOpenStart()).count(),
+            is(0L));
+        assertThat(MoonPhase.NEW_MOON.within(MomentInterval.between(newMoon, newMoon)).count(), is(0L));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void phasesWithinInfiniteInterval() {
+        MoonPhase.NEW_MOON.within(MomentInterval.since(Moment.UNIX_EPOCH));
+    }
+
     @Test
     public void moonPositionMeeus47a() {
         JulianDay jd =
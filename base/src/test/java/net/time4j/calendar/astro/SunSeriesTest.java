@@ -0,0 +1,119 @@
+package net.time4j.calendar.astro;
+
+import net.time4j.CalendarUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.engine.CalendarDate;
+import net.time4j.engine.ChronoFunction;
+import net.time4j.range.DateInterval;
+import net.time4j.tz.Timezone;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class SunSeriesTest {
+
+    private static final DateInterval YEAR_2018 =
+        DateInterval.between(PlainDate.of(2018, 1, 1), PlainDate.of(2018, 12, 31));
+
+    @Test
+    public void sameAsSunriseAndSunsetOfSingleDays() {
+        for (StdSolarCalculator calculator : StdSolarCalculator.values()) {
+            SolarTime hamburg = SolarTime.ofLocation(53.55, 10.0, 0, calculator);
+            check(hamburg.sunriseSeries(YEAR_2018), hamburg.sunrise(), YEAR_2018);
+            check(hamburg.sunsetSeries(YEAR_2018), hamburg.sunset(), YEAR_2018);
+        }
+    }
+
+    @Test
+    public void sameAsTwilightOfSingleDays() {
+        for (StdSolarCalculator calculator : StdSolarCalculator.values()) {
+            SolarTime kibo = SolarTime.ofLocation(-3.07, 37.35, 5895, calculator);
+            for (Twilight twilight : Twilight.values()) {
+                check(kibo.sunriseSeries(YEAR_2018, twilight), kibo.sunrise(twilight), YEAR_2018);
+                check(kibo.sunsetSeries(YEAR_2018, twilight), kibo.sunset(twilight), YEAR_2018);
+            }
+        }
+    }
+
+    @Test
+    public void polarRegion() {
+        SolarTime tromso = SolarTime.ofLocation(69.68, 18.94, 0, StdSolarCalculator.TIME4J);
+        long[] sunrises = tromso.sunriseSeries(YEAR_2018);
+        check(sunrises, tromso.sunrise(), YEAR_2018);
+        assertThat(sunrises[0], is(Long.MIN_VALUE)); // polar night
+        assertThat(sunrises[171], is(Long.MIN_VALUE)); // midnight sun
+        assertThat(sunrises[80] == Long.MIN_VALUE, is(false));
+    }
+
+    @Test
+    public void observerZoneNearDateBorder() {
+        SolarTime apia =
+            SolarTime.ofLocation()
+                .southernLatitude(13, 50, 0)
+                .westernLongitude(171, 45, 0)
+                .inTimezone(Timezone.of("Pacific/Apia").getID())
+                .build();
+        DateInterval interval = DateInterval.between(PlainDate.of(2012, 1, 1), PlainDate.of(2012, 1, 31));
+        check(apia.sunriseSeries(interval), apia.sunrise(), interval);
+    }
+
+    @Test
+    public void openAndEmptyIntervals() {
+        SolarTime hamburg = SolarTime.ofLocation(53.55, 10.0);
+        DateInterval halfOpen =
+            DateInterval.between(PlainDate.of(2018, 1, 1), PlainDate.of(2018, 2, 1)).withOpenEnd();
+        long[] sunrises = hamburg.sunriseSeries(halfOpen);
+        assertThat(sunrises.length, is(31));
+        check(sunrises, hamburg.sunrise(), halfOpen);
+        DateInterval empty = DateInterval.between(PlainDate.of(2018, 1, 1), PlainDate.of(2018, 1, 1)).withOpenEnd();
+        assertThat(hamburg.sunsetSeries(empty).length, is(0));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void infiniteInterval() {
+        SolarTime.ofLocation(53.55, 10.0).sunriseSeries(DateInterval.since(PlainDate.of(2018, 1, 1)));
+    }
+
+    @Test
+    public void parallelEvaluationOfManyLocations() {
+        List<SolarTime> locations =
+            Arrays.asList(
+                SolarTime.ofLocation(53.55, 10.0),
+                SolarTime.ofLocation(-33.87, 151.21, 0, StdSolarCalculator.TIME4J),
+                SolarTime.ofLocation(40.71, -74.0, 0, StdSolarCalculator.CC),
+                SolarTime.ofLocation(78.22, 15.65, 0, StdSolarCalculator.SIMPLE));
+        long[][] sunrises = SolarTime.sunriseSeries(locations, YEAR_2018);
+        long[][] sunsets = SolarTime.sunsetSeries(locations, YEAR_2018);
+        assertThat(sunrises.length, is(locations.size()));
+        for (int i = 0; i < locations.size(); i++) {
+            assertThat(Arrays.equals(sunrises[i], locations.get(i).sunriseSeries(YEAR_2018)), is(true));
+            assertThat(Arrays.equals(sunsets[i], locations.get(i).sunsetSeries(YEAR_2018)), is(true));
+        }
+    }
+
+    private static void check(
+        long[] series,
+        ChronoFunction<CalendarDate, Optional<Moment>> function,
+        DateInterval interval
+    ) {
+        PlainDate date = interval.getStartAsCalendarDate();
+        assertThat(series.length, is((int) interval.getLengthInDays()));
+        for (long event : series) {
+            Optional<Moment> expected = date.get(function);
+            long posix = (expected.isPresent() ? expected.get().getPosixTime() : Long.MIN_VALUE);
+            assertThat(date.toString(), event, is(posix));
+            date = date.plus(1, CalendarUnit.DAYS);
+        }
+    }
+
+}
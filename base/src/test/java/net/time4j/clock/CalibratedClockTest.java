@@ -0,0 +1,109 @@
+package net.time4j.clock;
+
+import net.time4j.Moment;
+import net.time4j.SystemClock;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class CalibratedClockTest {
+
+    @Test
+    public void closeToSystemClock() {
+        CalibratedClock clock = CalibratedClock.ofSystem();
+        long delta = Math.abs(clock.currentTime().until(SystemClock.INSTANCE.currentTime(), TimeUnit.MILLISECONDS));
+        assertThat("Observed delta: " + delta, delta < 1000, is(true));
+    }
+
+    @Test
+    public void recalibrationAfterPeriod() throws InterruptedException {
+        CalibratedClock clock = CalibratedClock.ofSystem(20, TimeUnit.MILLISECONDS);
+        clock.currentTime();
+        long count = clock.getRecalibrationCount();
+        Thread.sleep(50);
+        clock.currentTime();
+        assertThat(clock.getRecalibrationCount(), is(count + 1));
+        assertThat(Math.abs(clock.getLastDrift()) <= clock.getMaximumDrift(), is(true));
+        clock.recalibrate();
+        assertThat(clock.getRecalibrationCount(), is(count + 2));
+    }
+
+    @Test
+    public void noRecalibrationWithinPeriod() {
+        CalibratedClock clock = CalibratedClock.ofSystem(1, TimeUnit.HOURS);
+        for (int i = 0; i < 1000; i++) {
+            clock.currentTime();
+        }
+        assertThat(clock.getRecalibrationCount(), is(0L));
+    }
+
+    @Test
+    public void monotonicAcrossThreads() throws Exception {
+        CalibratedClock clock = CalibratedClock.ofSystem(1, TimeUnit.MICROSECONDS); // recalibrate nearly always
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                Callable<Boolean> task = () -> {
+                    Moment last = clock.currentTime();
+                    for (int i = 0; i < 20000; i++) {
+                        Moment next = clock.currentTime();
+                        if (next.isBefore(last)) {
+                            return Boolean.FALSE;
+                        }
+                        last = next;
+                    }
+                    return Boolean.TRUE;
+                };
+                results.add(executor.submit(task));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get(), is(Boolean.TRUE));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(clock.getRecalibrationCount() > 0, is(true));
+    }
+
+    @Test
+    public void coarseView() throws InterruptedException {
+        CalibratedClock clock = CalibratedClock.ofSystem();
+        CalibratedClock coarse = clock.withGranularity(1, TimeUnit.HOURS);
+        Moment m = coarse.currentTime();
+        assertThat(coarse.currentTime(), sameInstance(m));
+        Thread.sleep(2);
+        assertThat(coarse.currentTime(), sameInstance(m));
+        assertThat(clock.currentTime().isAfter(m), is(true));
+
+        CalibratedClock fine = clock.withGranularity(1, TimeUnit.NANOSECONDS);
+        Moment m1 = fine.currentTime();
+        Thread.sleep(2);
+        assertThat(fine.currentTime().isAfter(m1), is(true));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidPeriod() {
+        CalibratedClock.ofSystem(0, TimeUnit.SECONDS);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void negativeGranularity() {
+        CalibratedClock.ofSystem().withGranularity(-1, TimeUnit.SECONDS);
+    }
+
+}
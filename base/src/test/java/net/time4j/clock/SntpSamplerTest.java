@@ -0,0 +1,221 @@
+package net.time4j.clock;
+
+import net.time4j.Moment;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+
+@RunWith(JUnit4.class)
+public class SntpSamplerTest {
+
+    private final List<StandInServer> servers = new ArrayList<>();
+
+    @After
+    public void stopServers() {
+        for (StandInServer server : this.servers) {
+            server.socket.close();
+        }
+    }
+
+    @Test
+    public void singleServer() throws Exception {
+        StandInServer server = this.start(10.0, 1);
+        Moment m = SntpSampler.of(Arrays.asList(server.config(1, 5))).sample().get(10, TimeUnit.SECONDS);
+        assertOffset(m, 10000);
+    }
+
+    @Test
+    public void medianOfSeveralServers() throws Exception {
+        List<SntpConfiguration> configs =
+            Arrays.asList(
+                this.start(5.0, 1).config(1, 5),
+                this.start(1000.0, 1).config(1, 5), // false ticker
+                this.start(-20.0, 1).config(1, 5));
+        Moment m = SntpSampler.of(configs).sample().get(10, TimeUnit.SECONDS);
+        assertOffset(m, 5000);
+    }
+
+    @Test
+    public void minimumDelayPerServer() throws Exception {
+        StandInServer server = this.start(30.0, 1);
+        server.slowReplies = 2; // the first two replies have an asymmetric delay
+        Moment m = SntpSampler.of(Arrays.asList(server.config(4, 5))).sample().get(10, TimeUnit.SECONDS);
+        assertOffset(m, 30000, 150);
+        assertThat(server.requests, is(4));
+    }
+
+    @Test
+    public void silentAndKissOfDeathServersIgnored() throws Exception {
+        List<SntpConfiguration> configs =
+            Arrays.asList(
+                this.start(0.0, -1).config(1, 1), // silent
+                this.start(500.0, 0).config(1, 5), // kiss-o'-death
+                this.start(60.0, 1).config(1, 5));
+        long t0 = System.nanoTime();
+        Moment m = SntpSampler.of(configs).sample().get(10, TimeUnit.SECONDS);
+        assertOffset(m, 60000);
+        assertThat(System.nanoTime() - t0 < TimeUnit.SECONDS.toNanos(5), is(true));
+    }
+
+    @Test
+    public void noValidReply() throws Exception {
+        StandInServer server = this.start(0.0, -1);
+        try {
+            SntpSampler.of(Arrays.asList(server.config(1, 1))).sample().get(10, TimeUnit.SECONDS);
+            fail("Missing exception.");
+        } catch (ExecutionException ex) {
+            assertThat(ex.getCause(), instanceOf(IOException.class));
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void noServer() {
+        SntpSampler.of(new ArrayList<SntpConfiguration>());
+    }
+
+    private StandInServer start(
+        double offset,
+        int stratum
+    ) throws SocketException {
+        StandInServer server = new StandInServer(offset, stratum);
+        this.servers.add(server);
+        Thread thread = new Thread(server);
+        thread.setDaemon(true);
+        thread.start();
+        return server;
+    }
+
+    private static void assertOffset(
+        Moment m,
+        long expectedMillis
+    ) {
+        assertOffset(m, expectedMillis, 500);
+    }
+
+    private static void assertOffset(
+        Moment m,
+        long expectedMillis,
+        long toleranceMillis
+    ) {
+        long millis = m.getPosixTime() * 1000 + m.getNanosecond() / 1000000 - System.currentTimeMillis();
+        assertThat("Observed offset: " + millis, Math.abs(millis - expectedMillis) < toleranceMillis, is(true));
+    }
+
+    private static class StandInServer
+        implements Runnable {
+
+        private final DatagramSocket socket;
+        private final double offset;
+        private final int stratum;
+        private volatile int slowReplies = 0;
+        private volatile int requests = 0;
+
+        StandInServer(
+            double offset,
+            int stratum
+        ) throws SocketException {
+            this.socket = new DatagramSocket(0, InetAddress.getLoopbackAddress());
+            this.offset = offset;
+            this.stratum = stratum;
+        }
+
+        SntpConfiguration config(
+            int requestCount,
+            int timeout
+        ) {
+            int port = this.socket.getLocalPort();
+            return new SntpConfiguration() {
+                @Override
+                public boolean isNTP4() {
+                    return true;
+                }
+                @Override
+                public int getRequestInterval() {
+                    return 60;
+                }
+                @Override
+                public short getRequestCount() {
+                    return (short) requestCount;
+                }
+                @Override
+                public String getTimeServerAddress() {
+                    return InetAddress.getLoopbackAddress().getHostAddress();
+                }
+                @Override
+                public int getTimeServerPort() {
+                    return port;
+                }
+                @Override
+                public int getConnectionTimeout() {
+                    return timeout;
+                }
+                @Override
+                public int getClockShiftWindow() {
+                    return 0;
+                }
+            };
+        }
+
+        @Override
+        public void run() {
+            byte[] data = new byte[48];
+            try {
+                while (true) {
+                    DatagramPacket request = new DatagramPacket(data, data.length);
+                    this.socket.receive(request);
+                    this.requests++;
+                    if (this.stratum < 0) {
+                        continue;
+                    }
+                    if (this.slowReplies > 0) {
+                        this.slowReplies--;
+                        Thread.sleep(600); // simulates a slow request path which falsifies the offset by 300 ms
+                    }
+                    double receiveTS = SntpMessage.getLocalTimestamp() + this.offset;
+                    byte[] reply = new byte[48];
+                    reply[0] = (byte) ((4 << 3) | 4); // no leap warning, NTP4, server mode
+                    reply[1] = (byte) this.stratum;
+                    System.arraycopy(data, 40, reply, 24, 8); // originate = client transmit
+                    encode(reply, 32, receiveTS);
+                    encode(reply, 40, SntpMessage.getLocalTimestamp() + this.offset);
+                    this.socket.send(new DatagramPacket(reply, reply.length, request.getSocketAddress()));
+                }
+            } catch (IOException | InterruptedException ex) {
+                // socket closed
+            }
+        }
+
+        private static void encode(
+            byte[] data,
+            int index,
+            double ntpTimestamp
+        ) {
+            long seconds = (long) ntpTimestamp;
+            long fraction = (long) ((ntpTimestamp - seconds) * 4294967296.0);
+            for (int i = 0; i < 4; i++) {
+                data[index + i] = (byte) (seconds >>> (24 - i * 8));
+                data[index + 4 + i] = (byte) (fraction >>> (24 - i * 8));
+            }
+        }
+
+    }
+
+}
@@ -12,7 +12,8 @@ import org.junit.runners.Suite.SuiteClasses;
         EthiopicNumberTest.class,
         JapaneseNumberTest.class,
         RomanNumberTestForModernUsage.class,
-        RomanNumberTestForOtherFormats.class
+        RomanNumberTestForOtherFormats.class,
+        TextAccessorTest.class
     }
 )
 public class NumberSuite {
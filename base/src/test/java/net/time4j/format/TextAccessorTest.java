@@ -0,0 +1,197 @@
+package net.time4j.format;
+
+import net.time4j.Month;
+import net.time4j.Weekday;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.text.ParsePosition;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class TextAccessorTest {
+
+    @Test
+    public void parseWideMonths() {
+        TextAccessor accessor =
+            CalendarText.getIsoInstance(Locale.GERMAN).getStdMonths(TextWidth.WIDE, OutputContext.FORMAT);
+        ParsePosition pp = new ParsePosition(3);
+        assertThat(accessor.parse("xx Juli 2017", pp, Month.class), is(Month.JULY));
+        assertThat(pp.getIndex(), is(7));
+        pp = new ParsePosition(0);
+        assertThat(accessor.parse("JUNI", pp, Month.class), is(Month.JUNE));
+        pp = new ParsePosition(0);
+        assertThat(accessor.parse("JUNI", pp, Month.class, Leniency.STRICT), nullValue());
+        assertThat(pp.getErrorIndex(), is(0));
+        pp = new ParsePosition(0);
+        assertThat(accessor.parse("Ju", pp, Month.class, Leniency.LAX), nullValue()); // Juni/Juli ambivalent
+        pp = new ParsePosition(0);
+        assertThat(accessor.parse("Jun", pp, Month.class, Leniency.LAX), is(Month.JUNE));
+        pp = new ParsePosition(0);
+        assertThat(accessor.parse("Sept", pp, Month.class, Leniency.LAX), is(Month.SEPTEMBER));
+        assertThat(pp.getIndex(), is(4));
+    }
+
+    @Test
+    public void parseEndOfText() {
+        TextAccessor accessor = new TextAccessor(new String[] {"Mo", "Tu", "We", "Th", "Fr", "Sa", "Su"});
+        ParsePosition pp = new ParsePosition(2);
+        assertThat(accessor.parse("Mo", pp, Weekday.class), nullValue());
+        assertThat(pp.getErrorIndex(), is(2));
+    }
+
+    @Test
+    public void parseMissingTextFormsViaEnumNames() {
+        TextAccessor accessor = new TextAccessor(new String[] {"M", "T"});
+        ParsePosition pp = new ParsePosition(0);
+        assertThat(accessor.parse("FRIDAY", pp, Weekday.class), is(Weekday.FRIDAY));
+        assertThat(pp.getIndex(), is(6));
+    }
+
+    @Test
+    public void parseEmptyTextForm() {
+        TextAccessor accessor = new TextAccessor(new String[] {"Mo", "", "We"});
+        ParsePosition pp = new ParsePosition(0);
+        assertThat(accessor.parse("We", pp, Weekday.class), is(Weekday.TUESDAY));
+        assertThat(pp.getIndex(), is(0));
+    }
+
+    @Test
+    public void sameAsLinearScan() {
+        Random random = new Random(12345);
+        String alphabet = "aAbBıIiİßäÄ";
+        for (int round = 0; round < 300; round++) {
+            String[] forms = new String[random.nextInt(8)];
+            for (int i = 0; i < forms.length; i++) {
+                forms[i] = randomText(random, alphabet, random.nextInt(4));
+            }
+            TextAccessor accessor = new TextAccessor(forms);
+            for (int q = 0; q < 50; q++) {
+                String text = randomText(random, alphabet, random.nextInt(5));
+                int start = (text.isEmpty() ? 0 : random.nextInt(text.length() + 1));
+                for (int mode = 0; mode < 4; mode++) {
+                    boolean caseInsensitive = ((mode & 1) == 1);
+                    boolean partialCompare = ((mode & 2) == 2);
+                    ParsePosition expectedPos = new ParsePosition(start);
+                    Weekday expected =
+                        linearScan(
+                            accessor.getTextForms(), text, expectedPos, caseInsensitive, partialCompare);
+                    ParsePosition pp = new ParsePosition(start);
+                    Leniency leniency =
+                        (partialCompare ? Leniency.LAX : (caseInsensitive ? Leniency.SMART : Leniency.STRICT));
+                    if (partialCompare && !caseInsensitive) {
+                        continue; // nicht per Nachsichtigkeit erreichbar
+                    }
+                    Weekday result = accessor.parse(text, pp, Weekday.class, leniency);
+                    String msg = accessor + "/" + text + "/" + start + "/" + leniency;
+                    assertThat(msg, result, is(expected));
+                    assertThat(msg, pp.getIndex(), is(expectedPos.getIndex()));
+                    assertThat(msg, pp.getErrorIndex(), is(expectedPos.getErrorIndex()));
+                }
+            }
+        }
+    }
+
+    private static String randomText(
+        Random random,
+        String alphabet,
+        int len
+    ) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < len; i++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return sb.toString();
+    }
+
+    // Referenz: lineare Suche wie vor Einführung des Index
+    private static Weekday linearScan(
+        List<String> textForms,
+        CharSequence parseable,
+        ParsePosition status,
+        boolean caseInsensitive,
+        boolean partialCompare
+    ) {
+        Weekday[] enums = Weekday.values();
+        int len = textForms.size();
+        int start = status.getIndex();
+        int end = parseable.length();
+        int maxEq = 0;
+        Weekday candidate = null;
+
+        for (int i = 0; i < enums.length; i++) {
+            String s = ((i >= len) ? enums[i].name() : textForms.get(i));
+            int pos = start;
+            int n = s.length();
+            boolean eq = true;
+
+            for (int j = 0; eq && (j < n); j++) {
+                if (start + j >= end) {
+                    eq = false;
+                } else {
+                    char c = parseable.charAt(start + j);
+                    char t = s.charAt(j);
+                    if (caseInsensitive) {
+                        eq = (c == t) || compareIgnoreCase(c, t);
+                    } else {
+                        eq = (c == t);
+                    }
+                    if (eq) {
+                        pos++;
+                    }
+                }
+            }
+
+            if (partialCompare || (n == 1)) {
+                if (maxEq < pos - start) {
+                    maxEq = pos - start;
+                    candidate = enums[i];
+                } else if (maxEq == pos - start) {
+                    candidate = null;
+                }
+            } else if (eq) {
+                status.setIndex(pos);
+                return enums[i];
+            }
+        }
+
+        if (candidate == null) {
+            status.setErrorIndex(start);
+        } else {
+            status.setIndex(start + maxEq);
+        }
+
+        return candidate;
+    }
+
+    private static boolean compareIgnoreCase(
+        char c1,
+        char c2
+    ) {
+        if (c1 >= 'a' && c1 <= 'z') {
+            if (c2 >= 'A' && c2 <= 'Z') {
+                c2 = (char) (c2 + 'a' - 'A');
+            }
+            return (c1 == c2);
+        } else if (c1 >= 'A' && c1 <= 'Z') {
+            c1 = (char) (c1 + 'a' - 'A');
+            if (c2 >= 'A' && c2 <= 'Z') {
+                c2 = (char) (c2 + 'a' - 'A');
+            }
+            return (c1 == c2);
+        }
+        return (
+            Character.toUpperCase(c1) == Character.toUpperCase(c2)
+            || Character.toLowerCase(c1) == Character.toLowerCase(c2)
+        );
+    }
+
+}
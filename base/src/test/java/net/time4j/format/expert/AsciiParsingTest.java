@@ -0,0 +1,84 @@
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+
+@RunWith(JUnit4.class)
+public class AsciiParsingTest {
+
+    @Test
+    public void parseByteArrayRange() throws ParseException {
+        byte[] record = "id=7;ts=2017-03-04T05:06:07;".getBytes(StandardCharsets.US_ASCII);
+        ChronoFormatter<PlainTimestamp> f =
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd'T'HH:mm:ss", PatternType.CLDR, Locale.ROOT);
+        assertThat(f.parse(record, 8, 19), is(PlainTimestamp.of(2017, 3, 4, 5, 6, 7)));
+    }
+
+    @Test
+    public void parseMomentFromHeapBuffer() throws ParseException {
+        ByteBuffer buffer = ByteBuffer.wrap("xx2017-03-04T05:06:07Z".getBytes(StandardCharsets.US_ASCII));
+        buffer.position(2);
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd'T'HH:mm:ssX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        assertThat(f.parseBytes(buffer), is(PlainTimestamp.of(2017, 3, 4, 5, 6, 7).atUTC()));
+        assertThat(buffer.position(), is(2));
+    }
+
+    @Test
+    public void parseDirectBuffer() throws ParseException {
+        byte[] bytes = "2016-02-29".getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes);
+        buffer.flip();
+        assertThat(Iso8601Format.parseDateBytes(buffer), is(PlainDate.of(2016, 2, 29)));
+        assertThat(Iso8601Format.EXTENDED_CALENDAR_DATE.parseBytes(buffer), is(PlainDate.of(2016, 2, 29)));
+    }
+
+    @Test
+    public void parseIsoDateFromBytes() throws ParseException {
+        byte[] bytes = "[20160229]".getBytes(StandardCharsets.US_ASCII);
+        assertThat(Iso8601Format.parseDate(bytes, 1, 8), is(PlainDate.of(2016, 2, 29)));
+    }
+
+    @Test
+    public void parseNonAsciiAsUtf8() throws ParseException {
+        byte[] bytes = "29. Februar 2016".getBytes(StandardCharsets.UTF_8);
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.ofDatePattern("d. MMMM uuuu", PatternType.CLDR, Locale.GERMAN);
+        assertThat(f.parse(bytes, 0, bytes.length), is(PlainDate.of(2016, 2, 29)));
+        byte[] umlaut = "1. März 2016".getBytes(StandardCharsets.UTF_8);
+        assertThat(f.parse(umlaut, 0, umlaut.length), is(PlainDate.of(2016, 3, 1)));
+    }
+
+    @Test
+    public void errorOffsetRelativeToRange() {
+        byte[] bytes = "xx2016-0a-29".getBytes(StandardCharsets.US_ASCII);
+        try {
+            Iso8601Format.EXTENDED_CALENDAR_DATE.parse(bytes, 2, 10);
+            fail("Expected parse exception.");
+        } catch (ParseException pe) {
+            assertThat(pe.getErrorOffset(), is(5));
+        }
+    }
+
+    @Test(expected=IndexOutOfBoundsException.class)
+    public void invalidRange() throws ParseException {
+        Iso8601Format.parseDate(new byte[4], 2, 3);
+    }
+
+}
@@ -0,0 +1,171 @@
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.SI;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class BatchFormatTest {
+
+    @Test
+    public void formatAllAcrossTransitions() {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern(
+                "uuuu-MM-dd'T'HH:mm:ss.SSSXXX", PatternType.CLDR, Locale.ROOT, Timezone.of("Europe/Berlin").getID());
+        long start = PlainTimestamp.of(2017, 10, 28, 23, 0).atUTC().getPosixTime() * 1000;
+        long[] millis = new long[50];
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < millis.length; i++) {
+            millis[i] = start + i * 1_234_567L * (((i % 3) == 0) ? -1 : 1);
+            if (i > 0) {
+                expected.append(';');
+            }
+            expected.append(f.format(Moment.of(Math.floorDiv(millis[i], 1000), TimeScale.POSIX)
+                .plus((int) Math.floorMod(millis[i], 1000) * 1_000_000L, SI.NANOSECONDS)));
+        }
+        StringBuilder sb = new StringBuilder();
+        f.formatAll(millis, ";", sb);
+        assertThat(sb.toString(), is(expected.toString()));
+    }
+
+    @Test
+    public void formatAllGeneralPath() {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern("d. MMMM uuuu HH:mm", PatternType.CLDR, Locale.GERMAN, ZonalOffset.UTC);
+        StringBuilder sb = new StringBuilder();
+        f.formatAll(new long[] {0L, -1L, 86_400_000L}, "\n", sb);
+        assertThat(sb.toString(), is("1. Januar 1970 00:00\n31. Dezember 1969 23:59\n2. Januar 1970 00:00"));
+    }
+
+    @Test
+    public void formatAllBeforeEpochWithMillis() {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd'T'HH:mm:ss.SSSX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        StringBuilder sb = new StringBuilder();
+        f.formatAll(new long[] {-1L, 1L}, ",", sb);
+        assertThat(sb.toString(), is("1969-12-31T23:59:59.999Z,1970-01-01T00:00:00.001Z"));
+    }
+
+    @Test
+    public void formatAllEmpty() {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        StringBuilder sb = new StringBuilder();
+        f.formatAll(new long[0], ",", sb);
+        assertThat(sb.length(), is(0));
+    }
+
+    @Test(expected=IllegalStateException.class)
+    public void formatAllWithoutMoments() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        f.formatAll(new long[] {0L}, ",", new StringBuilder());
+    }
+
+    @Test
+    public void parseAllDates() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        BitSet errors = new BitSet();
+        errors.set(7);
+        PlainDate[] dates = f.parseAll(Arrays.asList("2017-01-01", "2017-02-30", "2017-12-31x", "2016-02-29"), errors);
+        assertThat(dates.length, is(4));
+        assertThat(dates[0], is(PlainDate.of(2017, 1, 1)));
+        assertThat(dates[1], nullValue());
+        assertThat(dates[2], nullValue());
+        assertThat(dates[3], is(PlainDate.of(2016, 2, 29)));
+        BitSet expected = new BitSet();
+        expected.set(1);
+        expected.set(2);
+        assertThat(errors, is(expected));
+    }
+
+    @Test
+    public void parseAllGeneralPath() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("d. MMMM uuuu", PatternType.CLDR, Locale.GERMAN);
+        BitSet errors = new BitSet();
+        PlainDate[] dates = f.parseAll(Arrays.asList("1. März 2017", "32. März 2017", "2. April 2017"), errors);
+        assertThat(dates[0], is(PlainDate.of(2017, 3, 1)));
+        assertThat(dates[1], nullValue());
+        assertThat(dates[2], is(PlainDate.of(2017, 4, 2)));
+        assertThat(errors.cardinality(), is(1));
+        assertThat(errors.get(1), is(true));
+    }
+
+    @Test
+    public void parseAllEmpty() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        BitSet errors = new BitSet();
+        assertThat(f.parseAll(Collections.<String>emptyList(), errors).length, is(0));
+        assertThat(errors.isEmpty(), is(true));
+    }
+
+    @Test
+    public void parseAllToEpochMillis() {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd'T'HH:mm:ss.SSSX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        BitSet errors = new BitSet();
+        long[] millis =
+            f.parseAllToEpochMillis(
+                Arrays.asList("1970-01-01T00:00:00.001Z", "xyz", "1969-12-31T23:59:59.999Z", "2017-01-01T01:00:00.000+01"),
+                errors);
+        assertThat(millis[0], is(1L));
+        assertThat(millis[1], is(0L));
+        assertThat(millis[2], is(-1L));
+        assertThat(millis[3], is(1483228800000L));
+        assertThat(errors.cardinality(), is(1));
+        assertThat(errors.get(1), is(true));
+    }
+
+    @Test
+    public void parseAllToEpochMillisOutOfRange() {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern("u-MM-dd'T'HH:mm:ssX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        BitSet errors = new BitSet();
+        long[] millis =
+            f.parseAllToEpochMillis(
+                Arrays.asList("1970-01-01T00:00:01Z", "999999999-12-31T23:59:59Z", "2017-01-01T00:00:00Z"),
+                errors);
+        assertThat(millis[0], is(1000L));
+        assertThat(millis[1], is(0L));
+        assertThat(millis[2], is(1483228800000L));
+        assertThat(errors.cardinality(), is(1));
+        assertThat(errors.get(1), is(true));
+    }
+
+    @Test
+    public void roundTripEpochMillis() {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern(
+                "uuuu-MM-dd'T'HH:mm:ss.SSSXXX", PatternType.CLDR, Locale.ROOT, Timezone.of("America/New_York").getID());
+        long[] millis = {0L, 1_500_000_000_123L, -86_400_001L, 1_509_857_999_999L, 1_509_858_000_000L};
+        StringBuilder sb = new StringBuilder();
+        f.formatAll(millis, ",", sb);
+        BitSet errors = new BitSet();
+        long[] parsed = f.parseAllToEpochMillis(Arrays.asList(sb.toString().split(",")), errors);
+        assertThat(errors.isEmpty(), is(true));
+        assertThat(Arrays.equals(parsed, millis), is(true));
+    }
+
+    @Test(expected=IllegalStateException.class)
+    public void parseAllToEpochMillisWithoutMoments() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        f.parseAllToEpochMillis(Collections.singletonList("2017-01-01"), new BitSet());
+    }
+
+}
@@ -0,0 +1,229 @@
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.SI;
+import net.time4j.SystemClock;
+import net.time4j.format.Attributes;
+import net.time4j.scale.TimeScale;
+import net.time4j.tz.OffsetSign;
+import net.time4j.tz.TZID;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+
+@RunWith(JUnit4.class)
+public class BufferPrintingTest {
+
+    private static final String[] PATTERNS = {
+        "uuuu-MM-dd'T'HH:mm:ss.SSSXXX",
+        "uuuu-MM-dd HH:mm:ss.SSSSSSSSSxx",
+        "uuuu-MM-dd'T'HHmmssX",
+        "dd.MM.uuuu HH:mm xxxxx",
+        "uuuu-MM-dd'T'HH:mm:ss",
+        "HH:mm:ss"
+    };
+
+    private static final String[] ZONES = {
+        "Europe/Berlin", "America/St_Johns", "Asia/Kolkata", "Africa/Monrovia", "Z", "-03:30"
+    };
+
+    @Test
+    public void momentFastPathActive() {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern(
+                "uuuu-MM-dd'T'HH:mm:ss.SSSXXX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        assertThat(compile(f), notNullValue());
+    }
+
+    @Test
+    public void momentFastPathInactiveWithoutTimezone() {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.setUp(Moment.axis(), Locale.ROOT)
+                .addPattern("uuuu-MM-dd'T'HH:mm:ssXXX", PatternType.CLDR)
+                .build();
+        assertThat(compile(f), nullValue());
+    }
+
+    @Test
+    public void momentFastPathInactiveIfOffsetNotLast() {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern(
+                "XXX uuuu-MM-dd'T'HH:mm:ss", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        assertThat(compile(f), nullValue());
+    }
+
+    @Test
+    public void momentFastPathInactiveForOtherTimeScale() {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern(
+                "uuuu-MM-dd'T'HH:mm:ssXXX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC)
+            .with(Attributes.TIME_SCALE, TimeScale.GPS);
+        assertThat(compile(f), nullValue());
+    }
+
+    @Test
+    public void momentSameAsGeneralPrinting() {
+        long[] seconds = {
+            -2208988800L, // 1900-01-01T00:00Z (LMT offsets with seconds)
+            -1L,
+            0L,
+            951782400L, // 2000-02-29
+            1509238799L, // last second of CEST in 2017
+            1509238800L,
+            1521939600L, // begin of CEST in 2018
+            1521939599L,
+            253402300799L // 9999-12-31T23:59:59Z
+        };
+        int[] nanos = {0, 1, 123456789, 999999999};
+        for (String pattern : PATTERNS) {
+            for (String zone : ZONES) {
+                ChronoFormatter<Moment> f =
+                    ChronoFormatter.ofMomentPattern(pattern, PatternType.CLDR, Locale.ROOT, toTZID(zone));
+                assertThat(pattern, compile(f), notNullValue());
+                for (long s : seconds) {
+                    for (int n : nanos) {
+                        Moment m = Moment.of(s, n, TimeScale.POSIX);
+                        assertThat(pattern + "/" + zone + "/" + m, f.format(m), is(printGeneral(f, m)));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void momentBeforeYearZeroUsesGeneralPrinting() {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mmXXX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        Moment m = PlainTimestamp.of(-1, 12, 31, 23, 59).atUTC();
+        assertThat(f.format(m), is(printGeneral(f, m)));
+        assertThat(compile(f).print(m, new char[30], 0), is(-1));
+    }
+
+    @Test
+    public void leapSecondUsesGeneralPrinting() {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd'T'HH:mm:ssXXX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        Moment ls = PlainTimestamp.of(2016, 12, 31, 23, 59, 59).atUTC().plus(1, SI.SECONDS);
+        if (ls.isLeapSecond()) {
+            assertThat(f.format(ls), is("2016-12-31T23:59:60Z"));
+        }
+    }
+
+    @Test
+    public void formatToStringBuilder() throws IOException {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern(
+                "uuuu-MM-dd'T'HH:mm:ss.SSSXXX", PatternType.CLDR, Locale.ROOT, toTZID("Europe/Berlin"));
+        StringBuilder sb = new StringBuilder("{\"ts\":\"");
+        f.formatToBuffer(PlainTimestamp.of(2017, 7, 1, 12, 30).atUTC(), sb);
+        sb.append("\"}");
+        assertThat(sb.toString(), is("{\"ts\":\"2017-07-01T14:30:00.000+02:00\"}"));
+    }
+
+    @Test
+    public void formatToArray() {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern(
+                "uuuu-MM-dd'T'HH:mm:ssXXX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        char[] buffer = new char[30];
+        int count = f.formatToArray(PlainTimestamp.of(2017, 7, 1, 12, 30).atUTC(), buffer, 3);
+        assertThat(count, is(20));
+        assertThat(new String(buffer, 3, count), is("2017-07-01T12:30:00Z"));
+    }
+
+    @Test
+    public void formatToArrayOverflow() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        char[] buffer = new char[12];
+        try {
+            f.formatToArray(PlainDate.of(2017, 7, 1), buffer, 3);
+            fail("Expected IndexOutOfBoundsException.");
+        } catch (IndexOutOfBoundsException ex) {
+            assertThat(new String(buffer), is(new String(new char[12])));
+        }
+    }
+
+    @Test
+    public void formatToArrayGeneralPath() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("d. MMMM uuuu", PatternType.CLDR, Locale.GERMAN);
+        char[] buffer = new char[20];
+        int count = f.formatToArray(PlainDate.of(2017, 3, 1), buffer, 0);
+        assertThat(new String(buffer, 0, count), is("1. März 2017"));
+    }
+
+    @Test
+    public void formatToBytes() {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern(
+                "uuuu-MM-dd'T'HH:mm:ss.SSSXXX", PatternType.CLDR, Locale.ROOT, toTZID("America/St_Johns"));
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+        buffer.put((byte) '[');
+        int count = f.formatToBytes(PlainTimestamp.of(2017, 1, 1, 12, 0).atUTC(), buffer);
+        assertThat(count, is(29));
+        assertThat(buffer.position(), is(30));
+        buffer.flip();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        assertThat(new String(bytes, StandardCharsets.US_ASCII), is("[2017-01-01T08:30:00.000-03:30"));
+    }
+
+    @Test
+    public void formatToBytesGeneralPathUsesUTF8() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("d. MMMM uuuu", PatternType.CLDR, Locale.GERMAN);
+        ByteBuffer buffer = ByteBuffer.allocate(20);
+        int count = f.formatToBytes(PlainDate.of(2017, 3, 1), buffer);
+        assertThat(new String(buffer.array(), 0, count, StandardCharsets.UTF_8), is("1. März 2017"));
+    }
+
+    @Test
+    public void formatToBytesOverflow() {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd'T'HH:mm:ssXXX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        ByteBuffer buffer = ByteBuffer.allocate(10);
+        try {
+            f.formatToBytes(SystemClock.INSTANCE.currentTime(), buffer);
+            fail("Expected BufferOverflowException.");
+        } catch (BufferOverflowException ex) {
+            assertThat(buffer.position(), is(0));
+        }
+    }
+
+    private static TZID toTZID(String zone) {
+        if (zone.equals("Z")) {
+            return ZonalOffset.UTC;
+        } else if (zone.equals("-03:30")) {
+            return ZonalOffset.ofHoursMinutes(OffsetSign.BEHIND_UTC, 3, 30);
+        }
+        return () -> zone;
+    }
+
+    private static <T> FixedWidthFormat<T> compile(ChronoFormatter<T> f) {
+        return f.getFixedWidthFormat();
+    }
+
+    private static String printGeneral(
+        ChronoFormatter<Moment> f,
+        Moment m
+    ) {
+        StringBuilder sb = new StringBuilder();
+        f.print(m, sb, f.getAttributes());
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,135 @@
+package net.time4j.format.expert;
+
+import net.time4j.ClockUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.engine.ChronoEntity;
+import net.time4j.format.Attributes;
+import net.time4j.tz.Timezone;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+
+@RunWith(JUnit4.class)
+public class FixedWidthFormatTest {
+
+    private static final ChronoFormatter<PlainTimestamp> ISO_TSP =
+        ChronoFormatter.ofTimestampPattern("uuuu-MM-dd'T'HH:mm:ss.SSS", PatternType.CLDR, Locale.ROOT);
+
+    @Test
+    public void formatTimestamp() {
+        PlainTimestamp tsp = PlainTimestamp.of(2017, 3, 4, 5, 6, 7).plus(89_000_000, ClockUnit.NANOS);
+        assertThat(ISO_TSP.format(tsp), is("2017-03-04T05:06:07.089"));
+        StringBuilder sb = new StringBuilder("x");
+        try {
+            ISO_TSP.formatToBuffer(tsp, sb);
+        } catch (IOException ioe) {
+            fail(ioe.getMessage());
+        }
+        assertThat(sb.toString(), is("x2017-03-04T05:06:07.089"));
+    }
+
+    @Test
+    public void formatFallbackForBigYears() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        assertThat(f.format(PlainDate.of(12345, 1, 2)), is("12345-01-02"));
+        assertThat(f.format(PlainDate.of(-5, 1, 2)), is("-0005-01-02"));
+        assertThat(f.format(PlainDate.of(987, 1, 2)), is("0987-01-02"));
+    }
+
+    @Test
+    public void formatMidnightAtEndOfDay() {
+        ChronoFormatter<PlainTime> f = ChronoFormatter.ofTimePattern("HH:mm", PatternType.CLDR, Locale.ROOT);
+        assertThat(f.format(PlainTime.midnightAtEndOfDay()), is("00:00"));
+    }
+
+    @Test
+    public void parseTimestamp() throws ParseException {
+        PlainTimestamp expected = PlainTimestamp.of(2017, 3, 4, 5, 6, 7).plus(89, ClockUnit.MILLIS);
+        assertThat(ISO_TSP.parse("2017-03-04T05:06:07.089"), is(expected));
+        ParseLog plog = new ParseLog();
+        assertThat(ISO_TSP.parse("2017-03-04T05:06:07.089", plog), is(expected));
+        assertThat(plog.getPosition(), is(23));
+        ChronoEntity<?> raw = plog.getRawValues();
+        assertThat(raw.getInt(PlainDate.YEAR), is(2017));
+        assertThat(raw.getInt(PlainTime.NANO_OF_SECOND), is(89_000_000));
+    }
+
+    @Test
+    public void parseFallbacks() throws ParseException {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        assertThat(f.parse("12345-01-02"), is(PlainDate.of(12345, 1, 2)));
+        assertThat(f.parse("-0005-01-02"), is(PlainDate.of(-5, 1, 2)));
+    }
+
+    @Test
+    public void parseErrors() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        try {
+            f.parse("2017-02-30");
+            fail("Expected parse exception.");
+        } catch (ParseException pe) {
+            assertThat(pe.getMessage().isEmpty(), is(false));
+        }
+        try {
+            ISO_TSP.parse("2017-03-04T24:00:00.000");
+            fail("Expected parse exception.");
+        } catch (ParseException pe) {
+            assertThat(pe.getMessage().contains("24:00"), is(true));
+        }
+        try {
+            f.parse("2017-02-01x");
+            fail("Expected parse exception.");
+        } catch (ParseException pe) {
+            assertThat(pe.getErrorOffset(), is(10));
+        }
+    }
+
+    @Test
+    public void nonArabicZeroDigit() throws ParseException {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT)
+                .with(Attributes.ZERO_DIGIT, '\u0660');
+        String text = "\u0662\u0660\u0661\u0667-\u0660\u0662-\u0660\u0661";
+        assertThat(f.format(PlainDate.of(2017, 2, 1)), is(text));
+        assertThat(f.parse(text), is(PlainDate.of(2017, 2, 1)));
+    }
+
+    @Test
+    public void parseWithDefaultValue() throws ParseException {
+        ChronoFormatter<PlainTimestamp> f =
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT)
+                .withDefault(PlainTime.SECOND_OF_MINUTE, 30);
+        PlainTimestamp expected = PlainTimestamp.of(2017, 3, 4, 12, 45, 30);
+        assertThat(f.parse("2017-03-04 12:45"), is(expected));
+        PlainTimestamp[] results = f.parseAll(Collections.singletonList("2017-03-04 12:45"), new BitSet());
+        assertThat(results[0], is(expected));
+    }
+
+    @Test
+    public void formatMomentAfterCacheRefresh() {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern("uuuu-MM-dd HH:mm", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC)
+                .withTimezone("Europe/Berlin");
+        Moment moment = PlainTimestamp.of(2017, 7, 1, 10, 0).atUTC();
+        assertThat(f.format(moment), is("2017-07-01 12:00"));
+        Timezone.Cache.refresh();
+        assertThat(f.getFixedWidthFormat().resolveZone(), is(Timezone.of("Europe/Berlin")));
+        assertThat(f.format(moment), is("2017-07-01 12:00"));
+    }
+
+}
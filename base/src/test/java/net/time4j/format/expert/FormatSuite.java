@@ -9,6 +9,9 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses(
     {
         AdjacentDigitParsingTest.class,
+        AsciiParsingTest.class,
+        BatchFormatTest.class,
+        BufferPrintingTest.class,
         CLDRSanityTest.class,
         ChronoHierarchyTest.class,
         DayPeriodTest.class,
@@ -16,6 +19,7 @@ import org.junit.runners.Suite.SuiteClasses;
         DefaultValueTest.class,
         DozenalNumberTest.class,
         DuplicateElementTest.class,
+        FixedWidthFormatTest.class,
         FractionTest.class,
         Iso8601FormatTest.class,
         LiteralWithBidisTest.class,
@@ -27,11 +31,14 @@ import org.junit.runners.Suite.SuiteClasses;
         OffsetPatternTest.class,
         OrFormatTest.class,
         OrdinalTest.class,
+        ParseContextTest.class,
         ParsingTextOverflowTest.class,
         SkipUnknownTest.class,
         StyleProcessorTest.class,
         ThreetenFormatTest.class,
-        WhitespaceTest.class
+        TimezoneNameCacheTest.class,
+        WhitespaceTest.class,
+        ZoneLabelsTest.class
     }
 )
 public class FormatSuite {
@@ -0,0 +1,85 @@
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTime;
+import net.time4j.PlainTimestamp;
+import net.time4j.tz.ZonalOffset;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.text.ParseException;
+import java.util.Locale;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+
+@RunWith(JUnit4.class)
+public class ParseContextTest {
+
+    @Test
+    public void parseFixedWidthMomentRepeatedly() throws ParseException {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern(
+                "uuuu-MM-dd'T'HH:mm:ss.SSSXXX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        ParseContext context = new ParseContext();
+        for (int i = 0; i < 3; i++) {
+            String text = "2017-0" + (i + 1) + "-15T10:30:45.123+02:00";
+            assertThat(f.parse(text, context), is(f.parse(text)));
+        }
+    }
+
+    @Test
+    public void parseOptionalSectionsRepeatedly() throws ParseException {
+        ChronoFormatter<PlainTimestamp> f =
+            ChronoFormatter.ofTimestampPattern("uuuu-MM-dd[ HH:mm[:ss]]", PatternType.CLDR, Locale.ROOT)
+                .withDefault(PlainTime.DIGITAL_HOUR_OF_DAY, 0)
+                .withDefault(PlainTime.MINUTE_OF_HOUR, 0);
+        ParseContext context = new ParseContext();
+        assertThat(f.parse("2017-04-01 12:45:30", context), is(PlainTimestamp.of(2017, 4, 1, 12, 45, 30)));
+        assertThat(f.parse("2017-04-02", context), is(PlainTimestamp.of(2017, 4, 2, 0, 0)));
+        assertThat(f.parse("2017-04-03 07:15", context), is(PlainTimestamp.of(2017, 4, 3, 7, 15)));
+    }
+
+    @Test
+    public void parseOrBlocksRepeatedly() throws ParseException {
+        ChronoFormatter<PlainDate> f =
+            ChronoFormatter.ofDatePattern("dd.MM.uuuu|MM/dd/uuuu", PatternType.CLDR, Locale.ROOT);
+        ParseContext context = new ParseContext();
+        PlainDate expected = PlainDate.of(2015, 12, 31);
+        assertThat(f.parse("12/31/2015", context), is(expected));
+        assertThat(f.parse("31.12.2015", context), is(expected));
+        assertThat(f.parse("12/31/2015", context), is(expected));
+    }
+
+    @Test
+    public void errorIsLoggedAndContextReusable() throws ParseException {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        ParseContext context = new ParseContext();
+        try {
+            f.parse("2017-xx-01", context);
+            fail("Expected parse exception.");
+        } catch (ParseException pe) {
+            assertThat(pe.getErrorOffset(), is(5));
+            assertThat(context.getLog().isError(), is(true));
+        }
+        assertThat(f.parse("2017-02-01", context), is(PlainDate.of(2017, 2, 1)));
+        assertThat(context.getLog().isError(), is(false));
+        assertThat(context.getLog().getRawValues().getInt(PlainDate.DAY_OF_MONTH), is(1));
+    }
+
+    @Test
+    public void trailingCharacters() {
+        ChronoFormatter<PlainDate> f = ChronoFormatter.ofDatePattern("uuuu-MM-dd", PatternType.CLDR, Locale.ROOT);
+        try {
+            f.parse("2017-02-01x", new ParseContext());
+            fail("Expected parse exception.");
+        } catch (ParseException pe) {
+            assertThat(pe.getErrorOffset(), is(10));
+        }
+    }
+
+}
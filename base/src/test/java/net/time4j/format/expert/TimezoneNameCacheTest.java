@@ -0,0 +1,151 @@
+package net.time4j.format.expert;
+
+import net.time4j.Moment;
+import net.time4j.PlainTimestamp;
+import net.time4j.tz.NameStyle;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class TimezoneNameCacheTest {
+
+    @Before
+    public void setUp() {
+        TimezoneNameCache.clear();
+        TimezoneNameCache.resetStatistics();
+    }
+
+    @After
+    public void tearDown() {
+        TimezoneNameCache.setMaximumSize(150);
+        TimezoneNameCache.clear();
+        TimezoneNameCache.resetStatistics();
+    }
+
+    @Test
+    public void buildOnceAndHit() {
+        ZoneLabels first = TimezoneNameCache.get(NameStyle.LONG_STANDARD_TIME, Locale.GERMAN);
+        ZoneLabels second = TimezoneNameCache.get(NameStyle.LONG_STANDARD_TIME, Locale.GERMAN);
+        assertThat(second, sameInstance(first));
+        TimezoneNameCache.Statistics stats = TimezoneNameCache.getStatistics();
+        assertThat(stats.getHitCount(), is(1L));
+        assertThat(stats.getMissCount(), is(1L));
+        assertThat(stats.getBuildCount(), is(1L));
+        assertThat(stats.getSize(), is(1));
+        assertThat(stats.getHitRate(), is(0.5));
+    }
+
+    @Test
+    public void concurrentMissesBuildOnce() throws Exception {
+        int n = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(n);
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Callable<ZoneLabels>> tasks = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            tasks.add(() -> {
+                latch.await();
+                return TimezoneNameCache.get(NameStyle.SHORT_STANDARD_TIME, Locale.FRENCH);
+            });
+        }
+        try {
+            List<Future<ZoneLabels>> results = new ArrayList<>();
+            for (Callable<ZoneLabels> task : tasks) {
+                results.add(executor.submit(task));
+            }
+            latch.countDown();
+            ZoneLabels expected = results.get(0).get();
+            for (Future<ZoneLabels> result : results) {
+                assertThat(result.get(), sameInstance(expected));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(TimezoneNameCache.getStatistics().getBuildCount(), is(1L));
+        assertThat(TimezoneNameCache.getStatistics().getHitCount(), is((long) (n - 1)));
+    }
+
+    @Test
+    public void leastRecentlyUsedEviction() {
+        TimezoneNameCache.setMaximumSize(2);
+        ZoneLabels de = TimezoneNameCache.get(NameStyle.LONG_STANDARD_TIME, Locale.GERMAN);
+        TimezoneNameCache.get(NameStyle.LONG_STANDARD_TIME, Locale.ENGLISH);
+        TimezoneNameCache.get(NameStyle.LONG_STANDARD_TIME, Locale.GERMAN); // touch
+        TimezoneNameCache.get(NameStyle.LONG_STANDARD_TIME, Locale.FRENCH); // evicts english
+        TimezoneNameCache.Statistics stats = TimezoneNameCache.getStatistics();
+        assertThat(stats.getEvictionCount(), is(1L));
+        assertThat(stats.getSize(), is(2));
+        assertThat(TimezoneNameCache.get(NameStyle.LONG_STANDARD_TIME, Locale.GERMAN), sameInstance(de));
+        assertThat(TimezoneNameCache.getStatistics().getBuildCount(), is(3L));
+        TimezoneNameCache.get(NameStyle.LONG_STANDARD_TIME, Locale.ENGLISH);
+        assertThat(TimezoneNameCache.getStatistics().getBuildCount(), is(4L));
+    }
+
+    @Test
+    public void shrinkEvictsImmediately() {
+        TimezoneNameCache.warmUp(Arrays.asList(Locale.GERMAN, Locale.ENGLISH), NameStyle.SHORT_DAYLIGHT_TIME);
+        assertThat(TimezoneNameCache.getStatistics().getSize(), is(2));
+        TimezoneNameCache.setMaximumSize(1);
+        assertThat(TimezoneNameCache.getStatistics().getSize(), is(1));
+        assertThat(TimezoneNameCache.getStatistics().getMaximumSize(), is(1));
+    }
+
+    @Test
+    public void zeroSizeDisablesCaching() {
+        TimezoneNameCache.setMaximumSize(0);
+        TimezoneNameCache.get(NameStyle.LONG_STANDARD_TIME, Locale.GERMAN);
+        TimezoneNameCache.get(NameStyle.LONG_STANDARD_TIME, Locale.GERMAN);
+        assertThat(TimezoneNameCache.getStatistics().getBuildCount(), is(2L));
+        assertThat(TimezoneNameCache.getStatistics().getSize(), is(0));
+    }
+
+    @Test
+    public void warmUpAllStyles() throws ParseException {
+        TimezoneNameCache.warmUp(Collections.singletonList(Locale.ENGLISH));
+        assertThat(TimezoneNameCache.getStatistics().getSize(), is(NameStyle.values().length));
+        TimezoneNameCache.resetStatistics();
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern(
+                "uuuu-MM-dd HH:mm zzzz", PatternType.CLDR, Locale.ENGLISH, () -> "Europe/Berlin");
+        assertThat(
+            f.parse("2017-07-01 12:00 Central European Summer Time"),
+            is(PlainTimestamp.of(2017, 7, 1, 10, 0).atUTC()));
+        assertThat(TimezoneNameCache.getStatistics().getMissCount(), is(0L));
+        assertThat(TimezoneNameCache.getStatistics().getHitCount(), is(2L));
+    }
+
+    @Test
+    public void parseGenericNameViaCache() throws ParseException {
+        ChronoFormatter<Moment> f =
+            ChronoFormatter.ofMomentPattern(
+                "uuuu-MM-dd HH:mm vvvv", PatternType.CLDR, Locale.ENGLISH, () -> "America/New_York");
+        Moment m = f.parse("2017-07-01 12:00 Eastern Time");
+        assertThat(m, is(PlainTimestamp.of(2017, 7, 1, 16, 0).atUTC()));
+        assertThat(TimezoneNameCache.getStatistics().getBuildCount(), is(1L));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void negativeMaximumSize() {
+        TimezoneNameCache.setMaximumSize(-1);
+    }
+
+}
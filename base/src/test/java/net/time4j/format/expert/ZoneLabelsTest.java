@@ -0,0 +1,128 @@
+package net.time4j.format.expert;
+
+import net.time4j.tz.NameStyle;
+import net.time4j.tz.TZID;
+import net.time4j.tz.Timezone;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class ZoneLabelsTest {
+
+    private static final TZID BERLIN = () -> "Europe/Berlin";
+    private static final TZID PARIS = () -> "Europe/Paris";
+    private static final TZID NEW_YORK = () -> "America/New_York";
+
+    @Test
+    public void longestPrefix() {
+        ZoneLabels labels =
+            new ZoneLabels.Builder()
+                .add("CET", BERLIN)
+                .add("CEST", BERLIN)
+                .add("CET", PARIS)
+                .add("Central European Time", BERLIN)
+                .add("EST", NEW_YORK)
+                .build();
+        assertThat(labels.longestPrefixOf("CET", 0), is("CET"));
+        assertThat(labels.longestPrefixOf("xCESTx", 1), is("CEST"));
+        assertThat(labels.longestPrefixOf("CES", 0), is(""));
+        assertThat(labels.longestPrefixOf("Central European Tim", 0), is(""));
+        assertThat(labels.longestPrefixOf("Central European Times", 0), is("Central European Time"));
+        assertThat(labels.longestPrefixOf("CETX", 0), is("CET"));
+        assertThat(labels.longestPrefixOf("ESTCET", 3), is("CET"));
+        assertThat(labels.longestPrefixOf("", 0), is(""));
+        assertThat(labels.find("CET"), is(Arrays.asList(BERLIN, PARIS)));
+        assertThat(labels.find("CE"), is(Collections.<TZID>emptyList()));
+        assertThat(labels.find("CESTX"), is(Collections.<TZID>emptyList()));
+        assertThat(labels.find(""), is(Collections.<TZID>emptyList()));
+        assertThat(labels.find("EST"), is(Collections.singletonList(NEW_YORK)));
+    }
+
+    @Test
+    public void emptyTrie() {
+        ZoneLabels labels = new ZoneLabels.Builder().build();
+        assertThat(labels.longestPrefixOf("CET", 0), is(""));
+        assertThat(labels.find("CET"), is(Collections.<TZID>emptyList()));
+        assertThat(labels.getNodeCount(), is(1));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void emptyKey() {
+        new ZoneLabels.Builder().add("", BERLIN);
+    }
+
+    @Test(expected=NullPointerException.class)
+    public void missingZone() {
+        new ZoneLabels.Builder().add("CET", null);
+    }
+
+    @Test
+    public void sameAsNaiveSearch() {
+        Random random = new Random(4711);
+        Map<String, List<TZID>> map = new LinkedHashMap<>();
+        ZoneLabels.Builder builder = new ZoneLabels.Builder();
+        TZID[] zones = {BERLIN, PARIS, NEW_YORK};
+        for (int i = 0; i < 500; i++) {
+            String key = randomText(random, 1 + random.nextInt(8));
+            TZID zone = zones[random.nextInt(zones.length)];
+            builder.add(key, zone);
+            map.computeIfAbsent(key, k -> new ArrayList<>()).add(zone);
+        }
+        ZoneLabels labels = builder.build();
+        for (int i = 0; i < 2000; i++) {
+            String query = randomText(random, random.nextInt(10));
+            int offset = (query.isEmpty() ? 0 : random.nextInt(query.length()));
+            String expected = "";
+            for (String key : map.keySet()) {
+                if ((key.length() > expected.length()) && query.startsWith(key, offset)) {
+                    expected = key;
+                }
+            }
+            assertThat(query, labels.longestPrefixOf(query, offset), is(expected));
+            List<TZID> found = map.get(query);
+            assertThat(query, labels.find(query), is((found == null) ? Collections.<TZID>emptyList() : found));
+        }
+    }
+
+    @Test
+    public void compactAndShared() {
+        ZoneLabels en = TimezoneNameCache.get(NameStyle.LONG_STANDARD_TIME, Locale.ENGLISH);
+        ZoneLabels uk = TimezoneNameCache.get(NameStyle.LONG_STANDARD_TIME, Locale.UK);
+        List<TZID> zones1 = en.find("Central European Standard Time");
+        List<TZID> zones2 = uk.find("Central European Standard Time");
+        assertThat(zones1.isEmpty(), is(false));
+        assertThat(zones2, sameInstance(zones1));
+        int chars = 0;
+        for (TZID tzid : Timezone.getAvailableIDs()) {
+            chars += Timezone.getDisplayName(tzid, NameStyle.LONG_STANDARD_TIME, Locale.ENGLISH).length();
+        }
+        assertThat(en.getNodeCount() < chars / 4, is(true));
+    }
+
+    private static String randomText(
+        Random random,
+        int len
+    ) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < len; i++) {
+            sb.append((char) ('a' + random.nextInt(3)));
+        }
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,98 @@
+package net.time4j.format.internal;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class CompiledBundlesTest {
+
+    private static File root;
+    private static CompiledBundles compiled;
+
+    @BeforeClass
+    public static void compile() throws IOException, URISyntaxException {
+        File iso = new File(PropertyBundle.class.getClassLoader().getResource("names/iso8601.properties").toURI());
+        root = iso.getParentFile().getParentFile();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        CompiledBundles.compile(root, baos);
+        compiled = CompiledBundles.read(new ByteArrayInputStream(baos.toByteArray()));
+    }
+
+    @Test
+    public void sameContentAsTextResources() throws IOException {
+        int count = 0;
+        for (String dir : new String[] {"names", "names/extra", "numbers", "units", "reltime", "zones"}) {
+            File[] files = new File(root, dir).listFiles();
+            for (File file : files) {
+                if (!file.getName().endsWith(".properties")) {
+                    continue;
+                }
+                String resourceName = dir + "/" + file.getName();
+                Map<String, String> expected;
+                try (UTF8ResourceReader reader = new UTF8ResourceReader(new FileInputStream(file))) {
+                    expected = PropertyBundle.readProperties(reader);
+                }
+                Map<String, String> table = compiled.getTable(resourceName);
+                assertThat(resourceName, new TreeMap<>(table), is(new TreeMap<>(expected)));
+                for (Map.Entry<String, String> entry : expected.entrySet()) {
+                    assertThat(table.get(entry.getKey()), is(entry.getValue()));
+                    assertThat(table.containsKey(entry.getKey()), is(true));
+                }
+                assertThat(table.get(" no such key "), nullValue());
+                count++;
+            }
+        }
+        assertThat(count > 700, is(true));
+    }
+
+    @Test
+    public void missingResource() {
+        assertThat(compiled.getTable("names/iso8601_xx.properties"), nullValue());
+        assertThat(compiled.getTable("names/unknown.properties"), nullValue());
+    }
+
+    @Test
+    public void coveredBaseNames() {
+        assertThat(compiled.covers("names/iso8601"), is(true));
+        assertThat(compiled.covers("names/extra/frenchrev"), is(true));
+        assertThat(compiled.covers("zones/tzname"), is(true));
+        assertThat(compiled.covers("reltime/relpattern"), is(true));
+        assertThat(compiled.covers("names/unknown"), is(false));
+    }
+
+    @Test
+    public void compiledResourceIsPickedUp() {
+        // generated by the default build in phase process-classes
+        assertThat(PropertyBundle.class.getClassLoader().getResource(CompiledBundles.RESOURCE_PATH), notNullValue());
+        CompiledBundles instance = CompiledBundles.getInstance();
+        assertThat(instance, notNullValue());
+        assertThat(instance.covers("names/iso8601"), is(true));
+        assertThat(instance.getTable("names/iso8601_de.properties").get("M(a)_1"), is("Jan."));
+    }
+
+    @Test
+    public void sharedStringTable() {
+        Map<String, String> de = compiled.getTable("names/iso8601_de.properties");
+        Map<String, String> at = compiled.getTable("names/iso8601_de_AT.properties");
+        assertThat(at.get("M(a)_1"), is("Jän."));
+        assertThat(de.get("M(a)_2") == at.get("M(a)_2"), is(true)); // same interned value
+    }
+
+}
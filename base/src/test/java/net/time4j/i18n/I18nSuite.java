@@ -1,6 +1,7 @@
 package net.time4j.i18n;
 
 import net.time4j.format.expert.FormatSuite;
+import net.time4j.format.internal.CompiledBundlesTest;
 import net.time4j.history.HistorySuite;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -12,6 +13,7 @@ import org.junit.runners.Suite.SuiteClasses;
     {
         CalendricalNamesTest.class,
         CLDR24Test.class,
+        CompiledBundlesTest.class,
         DatePatternTest.class,
         DateTimePatternTest.class,
         FormatPatternTest.class,
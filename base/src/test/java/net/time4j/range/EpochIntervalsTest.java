@@ -0,0 +1,187 @@
+package net.time4j.range;
+
+import net.time4j.CalendarUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.SI;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class EpochIntervalsTest {
+
+    private static final PlainDate DATE_BASE = PlainDate.of(2018, 1, 1);
+    private static final Moment MOMENT_BASE = PlainTimestamp.of(2016, 12, 31, 23, 59, 30).atUTC(); // near leap second
+
+    @Test
+    public void dateWindowsSameAsGeneric() {
+        Random random = new Random(2018);
+        for (int run = 0; run < 500; run++) {
+            List<ChronoInterval<PlainDate>> a = randomDates(random);
+            List<ChronoInterval<PlainDate>> b = randomDates(random);
+            check(
+                IntervalCollection.onDateAxis().plus(a),
+                IntervalCollection.onDateAxis().plus(b),
+                new GenericWindows<>(PlainDate.axis(), Collections.emptyList()).plus(a),
+                new GenericWindows<>(PlainDate.axis(), Collections.emptyList()).plus(b));
+        }
+    }
+
+    @Test
+    public void momentWindowsSameAsGeneric() {
+        Random random = new Random(2016);
+        for (int run = 0; run < 500; run++) {
+            List<ChronoInterval<Moment>> a = randomMoments(random);
+            List<ChronoInterval<Moment>> b = randomMoments(random);
+            check(
+                IntervalCollection.onMomentAxis().plus(a),
+                IntervalCollection.onMomentAxis().plus(b),
+                new GenericWindows<>(Moment.axis(), Collections.emptyList()).plus(a),
+                new GenericWindows<>(Moment.axis(), Collections.emptyList()).plus(b));
+        }
+    }
+
+    @Test
+    public void chainedOperationsStayEncoded() {
+        IntervalCollection<PlainDate> windows = IntervalCollection.onDateAxis();
+        for (int i = 0; i < 10000; i++) {
+            PlainDate start = DATE_BASE.plus(i * 3, CalendarUnit.DAYS);
+            IntervalCollection<PlainDate> next =
+                IntervalCollection.onDateAxis().plus(DateInterval.between(start, start.plus(1, CalendarUnit.DAYS)));
+            windows = windows.union(next);
+        }
+        assertThat(windows.getSize(), is(10000));
+        IntervalCollection<PlainDate> holes =
+            IntervalCollection.onDateAxis().plus(DateInterval.between(DATE_BASE, DATE_BASE.plus(29, CalendarUnit.DAYS)));
+        IntervalCollection<PlainDate> diff = windows.minus(holes);
+        assertThat(diff.getSize(), is(10000 - 10));
+        assertThat(diff.getMinimum(), is(DATE_BASE.plus(30, CalendarUnit.DAYS)));
+        assertThat(windows.intersect(holes).getIntervals(), is(windows.getIntervals().subList(0, 10)));
+    }
+
+    @Test
+    public void leapSecondBoundaries() {
+        Moment leap = MOMENT_BASE.plus(30, SI.SECONDS);
+        assertThat(leap.isLeapSecond(), is(true));
+        IntervalCollection<Moment> a =
+            IntervalCollection.onMomentAxis()
+                .plus(MomentInterval.between(MOMENT_BASE, leap))
+                .plus(MomentInterval.between(leap, leap.plus(1, SI.SECONDS)));
+        assertThat(a.withBlocks().getIntervals(), is(Collections.singletonList(
+            MomentInterval.between(MOMENT_BASE, leap.plus(1, SI.SECONDS)))));
+        IntervalCollection<Moment> b =
+            IntervalCollection.onMomentAxis().plus(MomentInterval.between(leap, leap).withClosedEnd());
+        assertThat(a.minus(b).getIntervals(), is(Arrays.asList(
+            MomentInterval.between(MOMENT_BASE, leap),
+            MomentInterval.between(leap.plus(1, SI.NANOSECONDS), leap.plus(1, SI.SECONDS)))));
+    }
+
+    private static <T> void check(
+        IntervalCollection<T> a,
+        IntervalCollection<T> b,
+        IntervalCollection<T> ga,
+        IntervalCollection<T> gb
+    ) {
+        String msg = a + " | " + b;
+        List<ChronoInterval<T>> reversed = new ArrayList<>(b.getIntervals());
+        Collections.reverse(reversed);
+        compare(msg, () -> a.plus(b), () -> ga.plus(gb));
+        compare(msg, a::withBlocks, ga::withBlocks);
+        compare(msg, () -> a.union(b), () -> ga.union(gb));
+        compare(msg, () -> a.union(a), () -> ga.union(ga));
+        compare(msg, () -> a.intersect(b), () -> ga.intersect(gb));
+        compare(msg, () -> a.minus(b), () -> ga.minus(gb));
+        compare(msg, () -> a.minus(reversed), () -> ga.minus(reversed));
+        compare(msg, () -> a.xor(b), () -> ga.xor(gb));
+        compare(msg, () -> a.union(b).minus(a), () -> ga.union(gb).minus(ga));
+    }
+
+    private static <T> void compare(
+        String msg,
+        Supplier<IntervalCollection<T>> fast,
+        Supplier<IntervalCollection<T>> generic
+    ) {
+        List<List<Boundary<T>>> expected;
+        try {
+            expected = boundaries(generic.get());
+        } catch (NullPointerException npe) {
+            return; // generic intersection of two intervals with infinite start fails
+        }
+        assertThat(msg, boundaries(fast.get()), is(expected));
+    }
+
+    private static <T> List<List<Boundary<T>>> boundaries(IntervalCollection<T> coll) {
+        List<List<Boundary<T>>> list = new ArrayList<>();
+        for (ChronoInterval<T> interval : coll.getIntervals()) {
+            list.add(Arrays.asList(interval.getStart(), interval.getEnd()));
+        }
+        return list;
+    }
+
+    private static List<ChronoInterval<PlainDate>> randomDates(Random random) {
+        List<ChronoInterval<PlainDate>> list = new ArrayList<>();
+        for (int i = random.nextInt(6); i >= 0; i--) {
+            PlainDate start = DATE_BASE.plus(random.nextInt(40), CalendarUnit.DAYS);
+            PlainDate end = start.plus(random.nextInt(8), CalendarUnit.DAYS);
+            switch (random.nextInt(8)) {
+                case 0:
+                    list.add(DateInterval.since(start));
+                    break;
+                case 1:
+                    list.add(DateInterval.until(end));
+                    break;
+                case 2:
+                case 3:
+                    if (start.isBefore(end)) {
+                        list.add(DateInterval.between(start, end).withOpenEnd());
+                        break;
+                    } // else fall through
+                default:
+                    list.add(DateInterval.between(start, end));
+            }
+        }
+        return list;
+    }
+
+    private static List<ChronoInterval<Moment>> randomMoments(Random random) {
+        List<ChronoInterval<Moment>> list = new ArrayList<>();
+        for (int i = random.nextInt(6); i >= 0; i--) {
+            Moment start = MOMENT_BASE.plus(random.nextInt(60), SI.SECONDS);
+            if (random.nextBoolean()) {
+                start = start.plus(500_000_000, SI.NANOSECONDS);
+            }
+            Moment end = start.plus(random.nextInt(10), SI.SECONDS);
+            switch (random.nextInt(8)) {
+                case 0:
+                    list.add(MomentInterval.since(start));
+                    break;
+                case 1:
+                    list.add(MomentInterval.until(end));
+                    break;
+                case 2:
+                case 3:
+                    list.add(MomentInterval.between(start, end).withClosedEnd());
+                    break;
+                default:
+                    if (start.isBefore(end)) {
+                        list.add(MomentInterval.between(start, end));
+                    }
+            }
+        }
+        return list;
+    }
+
+}
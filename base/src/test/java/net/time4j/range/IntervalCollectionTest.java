@@ -1,5 +1,6 @@
 package net.time4j.range;
 
+import net.time4j.CalendarUnit;
 import net.time4j.ClockUnit;
 import net.time4j.Moment;
 import net.time4j.PlainDate;
@@ -18,6 +19,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Random;
 
 import static net.time4j.ClockUnit.NANOS;
 import static org.hamcrest.CoreMatchers.is;
@@ -1284,4 +1286,80 @@ public class IntervalCollectionTest {
         assertThat(icoll.size(), is(2));
     }
 
+    @Test
+    public void indexedQueriesOnOverlappingDates() {
+        Random random = new Random(42);
+        PlainDate base = PlainDate.of(2018, 1, 1);
+        List<ChronoInterval<PlainDate>> list = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            PlainDate start = base.plus(random.nextInt(1000), CalendarUnit.DAYS);
+            DateInterval interval = DateInterval.between(start, start.plus(random.nextInt(60), CalendarUnit.DAYS));
+            list.add(random.nextInt(4) == 0 ? interval.withOpenEnd() : interval);
+        }
+        list.add(DateInterval.until(base.minus(10, CalendarUnit.DAYS)));
+        IntervalCollection<PlainDate> icoll = IntervalCollection.onDateAxis().plus(list);
+
+        for (int d = -20; d < 1100; d++) {
+            PlainDate date = base.plus(d, CalendarUnit.DAYS);
+            assertThat(date.toString(), icoll.encloses(date), is(scan(icoll, date)));
+        }
+
+        for (ChronoInterval<PlainDate> interval : list) {
+            assertThat(icoll.contains(interval), is(!interval.isEmpty()));
+        }
+        assertThat(icoll.contains(DateInterval.between(base, base.plus(2000, CalendarUnit.DAYS))), is(false));
+
+        for (int i = 0; i < 100; i++) {
+            PlainDate start = base.plus(random.nextInt(1100) - 20, CalendarUnit.DAYS);
+            DateInterval window = DateInterval.between(start, start.plus(random.nextInt(30), CalendarUnit.DAYS));
+            IntervalCollection<PlainDate> filtered = icoll.withTimeWindow(window);
+            int count = 0;
+            for (ChronoInterval<PlainDate> interval : icoll) {
+                if (interval.intersects(window)) {
+                    count++;
+                }
+            }
+            assertThat(filtered.size(), is(count));
+            for (PlainDate date = start.minus(1, CalendarUnit.DAYS);
+                 !date.isAfter(window.getEnd().getTemporal().plus(1, CalendarUnit.DAYS));
+                 date = date.plus(1, CalendarUnit.DAYS)) {
+                assertThat(scan(filtered, date), is(scan(icoll, date) && window.contains(date)));
+            }
+        }
+    }
+
+    @Test
+    public void indexedQueriesOnInstantTimeLine() {
+        Instant base = Instant.parse("2018-01-01T00:00:00Z");
+        IntervalCollection<Instant> icoll =
+            IntervalCollection.onInstantTimeLine()
+                .plus(SimpleInterval.between(base, base.plusSeconds(100)))
+                .plus(SimpleInterval.between(base.plusSeconds(10), base.plusSeconds(20)))
+                .plus(SimpleInterval.between(base.plusSeconds(200), base.plusSeconds(300)));
+        assertThat(icoll.encloses(base.plusSeconds(50)), is(true));
+        assertThat(icoll.encloses(base.plusSeconds(100)), is(false));
+        assertThat(icoll.encloses(base.plusSeconds(200)), is(true));
+        assertThat(icoll.encloses(base.minusNanos(1)), is(false));
+        assertThat(
+            icoll.withTimeWindow(SimpleInterval.between(base.plusSeconds(15), base.plusSeconds(150))).getIntervals(),
+            is(Arrays.<ChronoInterval<Instant>>asList(
+                SimpleInterval.between(base.plusSeconds(15), base.plusSeconds(100)),
+                SimpleInterval.between(base.plusSeconds(15), base.plusSeconds(20)))));
+        assertThat(
+            icoll.withTimeWindow(SimpleInterval.between(base.plusSeconds(100), base.plusSeconds(200))).isEmpty(),
+            is(true));
+    }
+
+    private static <T> boolean scan(
+        IntervalCollection<T> icoll,
+        T temporal
+    ) {
+        for (ChronoInterval<T> interval : icoll) {
+            if (interval.contains(temporal)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
 }
@@ -0,0 +1,166 @@
+package net.time4j.range;
+
+import net.time4j.CalendarUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.SI;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class IntervalJoinTest {
+
+    private static final PlainDate DATE_BASE = PlainDate.of(2018, 1, 1);
+    private static final Moment MOMENT_BASE = PlainTimestamp.of(2018, 1, 1, 0, 0).atUTC();
+
+    @Test
+    public void simpleJoin() {
+        DateInterval a1 = DateInterval.between(DATE_BASE, DATE_BASE.plus(9, CalendarUnit.DAYS));
+        DateInterval a2 = DateInterval.between(DATE_BASE.plus(20, CalendarUnit.DAYS), DATE_BASE.plus(25, CalendarUnit.DAYS));
+        DateInterval b1 = DateInterval.between(DATE_BASE.plus(5, CalendarUnit.DAYS), DATE_BASE.plus(22, CalendarUnit.DAYS));
+        DateInterval b2 = DateInterval.between(DATE_BASE.plus(10, CalendarUnit.DAYS), DATE_BASE.plus(19, CalendarUnit.DAYS));
+        DateInterval b3 = DateInterval.since(DATE_BASE.plus(25, CalendarUnit.DAYS));
+        IntervalCollection<PlainDate> left = IntervalCollection.onDateAxis().plus(Arrays.asList(a2, a1));
+        IntervalCollection<PlainDate> right = IntervalCollection.onDateAxis().plus(Arrays.asList(b3, b2, b1));
+        List<String> matches =
+            IntervalJoin.of(left, right).stream().map(Object::toString).collect(Collectors.toList());
+        assertThat(
+            matches,
+            is(Arrays.asList(
+                a1 + " OVERLAPS " + b1,
+                a2 + " OVERLAPPED_BY " + b1,
+                a2 + " OVERLAPS " + b3)));
+    }
+
+    @Test
+    public void dateJoinSameAsNestedLoop() {
+        Random random = new Random(2018);
+        for (int run = 0; run < 300; run++) {
+            IntervalCollection<PlainDate> left = IntervalCollection.onDateAxis().plus(randomDates(random, 12, 40));
+            IntervalCollection<PlainDate> right = IntervalCollection.onDateAxis().plus(randomDates(random, 12, 40));
+            check(left, right);
+        }
+    }
+
+    @Test
+    public void momentJoinSameAsNestedLoop() {
+        Random random = new Random(2016);
+        for (int run = 0; run < 300; run++) {
+            IntervalCollection<Moment> left = IntervalCollection.onMomentAxis().plus(randomMoments(random, 12));
+            IntervalCollection<Moment> right = IntervalCollection.onMomentAxis().plus(randomMoments(random, 12));
+            check(left, right);
+        }
+    }
+
+    @Test
+    public void parallelJoinOfLargeSchedules() {
+        Random random = new Random(2017);
+        IntervalCollection<PlainDate> left = IntervalCollection.onDateAxis().plus(randomDates(random, 4000, 20000));
+        IntervalCollection<PlainDate> right = IntervalCollection.onDateAxis().plus(randomDates(random, 3000, 20000));
+        IntervalJoin<PlainDate> join = IntervalJoin.of(left, right);
+        List<IntervalJoin.Match<PlainDate>> sequential = join.stream().collect(Collectors.toList());
+        List<IntervalJoin.Match<PlainDate>> parallel = join.parallelStream().collect(Collectors.toList());
+        assertThat(parallel, is(sequential));
+        assertThat((long) sequential.size(), is(nestedLoop(left, right).count()));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Test(expected=IllegalArgumentException.class)
+    public void differentTimelines() {
+        IntervalJoin.of((IntervalCollection) IntervalCollection.onDateAxis(), IntervalCollection.onMomentAxis());
+    }
+
+    private static <T> void check(
+        IntervalCollection<T> left,
+        IntervalCollection<T> right
+    ) {
+        List<String> expected =
+            nestedLoop(left, right).map(Object::toString).sorted().collect(Collectors.toList());
+        List<String> actual =
+            IntervalJoin.of(left, right).stream().map(Object::toString).sorted().collect(Collectors.toList());
+        assertThat(left + " | " + right, actual, is(expected));
+    }
+
+    private static <T> Stream<String> nestedLoop(
+        IntervalCollection<T> left,
+        IntervalCollection<T> right
+    ) {
+        List<String> list = new ArrayList<>();
+        for (ChronoInterval<T> a : left.getIntervals()) {
+            for (ChronoInterval<T> b : right.getIntervals()) {
+                if (a.intersects(b)) {
+                    IntervalRelation relation;
+                    if (a instanceof DateInterval) {
+                        relation = IntervalRelation.between((DateInterval) a, (DateInterval) b);
+                    } else {
+                        relation = IntervalRelation.between((MomentInterval) a, (MomentInterval) b);
+                    }
+                    list.add(a + " " + relation + " " + b);
+                }
+            }
+        }
+        return list.stream();
+    }
+
+    private static List<DateInterval> randomDates(
+        Random random,
+        int count,
+        int span
+    ) {
+        List<DateInterval> list = new ArrayList<>();
+        for (int i = ((count > 100) ? count : random.nextInt(count)); i >= 0; i--) {
+            PlainDate start = DATE_BASE.plus(random.nextInt(span), CalendarUnit.DAYS);
+            PlainDate end = start.plus(random.nextInt(8), CalendarUnit.DAYS);
+            switch (random.nextInt(10)) {
+                case 0:
+                    list.add(DateInterval.since(start));
+                    break;
+                case 1:
+                    list.add(DateInterval.until(end));
+                    break;
+                default:
+                    list.add(DateInterval.between(start, end));
+            }
+        }
+        return list;
+    }
+
+    private static List<MomentInterval> randomMoments(
+        Random random,
+        int count
+    ) {
+        List<MomentInterval> list = new ArrayList<>();
+        for (int i = random.nextInt(count); i >= 0; i--) {
+            Moment start = MOMENT_BASE.plus(random.nextInt(60), SI.SECONDS);
+            Moment end = start.plus(random.nextInt(10) + 1, SI.SECONDS);
+            switch (random.nextInt(10)) {
+                case 0:
+                    list.add(MomentInterval.since(start));
+                    break;
+                case 1:
+                    list.add(MomentInterval.until(end));
+                    break;
+                case 2:
+                    list.add(MomentInterval.between(start, end).withClosedEnd());
+                    break;
+                default:
+                    list.add(MomentInterval.between(start, end));
+            }
+        }
+        return list;
+    }
+
+}
@@ -1,5 +1,6 @@
 package net.time4j.range;
 
+import net.time4j.CalendarUnit;
 import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTime;
@@ -13,7 +14,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -296,4 +303,95 @@ public class IntervalTreeTest {
         assertThat(tree.isEmpty(), is(true));
     }
 
+    @Test
+    public void batchQueriesAtTimepoints() {
+        Random random = new Random(2018);
+        IntervalTree<PlainDate, DateInterval> tree = IntervalTree.onDateAxis(randomDateIntervals(random, 3000));
+        List<PlainDate> sortedPoints = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            sortedPoints.add(PlainDate.of(2018, 1, 1).plus(random.nextInt(400) - 20, CalendarUnit.DAYS));
+        }
+        List<PlainDate> unsortedPoints = new ArrayList<>(sortedPoints);
+        Collections.sort(sortedPoints);
+        for (List<PlainDate> points : Arrays.asList(sortedPoints, unsortedPoints)) {
+            int[] expected = new int[points.size()];
+            Map<Integer, Set<DateInterval>> expectedHits = new HashMap<>();
+            for (int i = 0; i < points.size(); i++) {
+                List<DateInterval> found = tree.findIntersections(points.get(i));
+                expected[i] = found.size();
+                expectedHits.put(i, new HashSet<>(found));
+            }
+            for (boolean parallel : new boolean[] {false, true}) {
+                assertThat(Arrays.equals(tree.countIntersectionsAt(points, parallel), expected), is(true));
+                Map<Integer, Set<DateInterval>> hits =
+                    tree.streamIntersectionsAt(points, parallel).collect(
+                        Collectors.groupingBy(
+                            IntervalTree.Hit::getIndex,
+                            Collectors.mapping(IntervalTree.Hit::getInterval, Collectors.toSet())));
+                for (int i = 0; i < points.size(); i++) {
+                    assertThat(hits.getOrDefault(i, Collections.emptySet()), is(expectedHits.get(i)));
+                }
+            }
+        }
+        List<Integer> sortedIndexes =
+            tree.streamIntersectionsAt(sortedPoints, true).map(IntervalTree.Hit::getIndex).collect(Collectors.toList());
+        List<Integer> copy = new ArrayList<>(sortedIndexes);
+        Collections.sort(copy);
+        assertThat(sortedIndexes, is(copy)); // encounter order of parallel stream
+    }
+
+    @Test
+    public void batchQueriesWithIntervals() {
+        Random random = new Random(2017);
+        IntervalTree<PlainDate, DateInterval> tree = IntervalTree.onDateAxis(randomDateIntervals(random, 2000));
+        List<DateInterval> queries = randomDateIntervals(random, 500);
+        int[] expected = new int[queries.size()];
+        for (int i = 0; i < queries.size(); i++) {
+            expected[i] = tree.findIntersections(queries.get(i)).size();
+        }
+        for (boolean parallel : new boolean[] {false, true}) {
+            assertThat(Arrays.equals(tree.countIntersectionsWith(queries, parallel), expected), is(true));
+            List<IntervalTree.Hit<DateInterval>> hits =
+                tree.streamIntersectionsWith(queries, parallel).collect(Collectors.toList());
+            int pos = 0;
+            for (int i = 0; i < queries.size(); i++) {
+                for (DateInterval interval : tree.findIntersections(queries.get(i))) {
+                    assertThat(hits.get(pos).getIndex(), is(i));
+                    assertThat(hits.get(pos).getInterval(), is(interval));
+                    pos++;
+                }
+            }
+            assertThat(hits.size(), is(pos));
+        }
+    }
+
+    @Test
+    public void batchQueriesOnEmptyTree() {
+        IntervalTree<PlainDate, DateInterval> tree = IntervalTree.onDateAxis(Collections.emptyList());
+        List<PlainDate> points = Arrays.asList(PlainDate.of(2018, 1, 1), PlainDate.of(2017, 1, 1));
+        assertThat(Arrays.equals(tree.countIntersectionsAt(points, false), new int[2]), is(true));
+        assertThat(tree.streamIntersectionsAt(points, true).count(), is(0L));
+    }
+
+    private static List<DateInterval> randomDateIntervals(
+        Random random,
+        int count
+    ) {
+        List<DateInterval> list = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            PlainDate start = PlainDate.of(2018, 1, 1).plus(random.nextInt(365), CalendarUnit.DAYS);
+            switch (random.nextInt(20)) {
+                case 0:
+                    list.add(DateInterval.since(start));
+                    break;
+                case 1:
+                    list.add(DateInterval.until(start));
+                    break;
+                default:
+                    list.add(DateInterval.between(start, start.plus(random.nextInt(30), CalendarUnit.DAYS)));
+            }
+        }
+        return list;
+    }
+
 }
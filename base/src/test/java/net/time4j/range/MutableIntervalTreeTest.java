@@ -0,0 +1,171 @@
+package net.time4j.range;
+
+import net.time4j.CalendarUnit;
+import net.time4j.ClockUnit;
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class MutableIntervalTreeTest {
+
+    private static final PlainDate BASE = PlainDate.of(2018, 1, 1);
+
+    @Test
+    public void addAndRemove() {
+        DateInterval i1 = DateInterval.between(BASE, BASE.plus(10, CalendarUnit.DAYS));
+        DateInterval i2 = DateInterval.between(BASE.plus(5, CalendarUnit.DAYS), BASE.plus(6, CalendarUnit.DAYS));
+        DateInterval i3 = DateInterval.since(BASE.plus(20, CalendarUnit.DAYS));
+        MutableIntervalTree<PlainDate, DateInterval> tree = MutableIntervalTree.onDateAxis();
+        assertThat(tree.add(i3), is(true));
+        assertThat(tree.add(i1), is(true));
+        assertThat(tree.add(i2), is(true));
+        assertThat(tree.add(i2), is(true)); // duplicate
+        assertThat(tree.add(DateInterval.between(BASE, BASE).withOpenEnd()), is(false)); // empty
+        assertThat(tree.size(), is(4));
+        assertThat(new ArrayList<>(tree), is(Arrays.asList(i1, i2, i2, i3)));
+        assertThat(tree.findIntersections(BASE.plus(5, CalendarUnit.DAYS)), is(Arrays.asList(i1, i2, i2)));
+        assertThat(tree.remove(i2), is(true));
+        assertThat(tree.contains(i2), is(true));
+        assertThat(tree.remove(i2), is(true));
+        assertThat(tree.contains(i2), is(false));
+        assertThat(tree.remove(i2), is(false));
+        assertThat(tree.remove("abc"), is(false));
+        assertThat(tree.findIntersections(BASE.plus(5, CalendarUnit.DAYS)), is(Arrays.asList(i1)));
+        assertThat(tree.findIntersections(DateInterval.since(BASE.plus(8, CalendarUnit.DAYS))), is(Arrays.asList(i1, i3)));
+        tree.clear();
+        assertThat(tree.isEmpty(), is(true));
+        assertThat(tree.iterator().hasNext(), is(false));
+    }
+
+    @Test
+    public void randomOperationsSameAsList() {
+        Random random = new Random(2018);
+        MutableIntervalTree<PlainDate, DateInterval> tree = MutableIntervalTree.onDateAxis();
+        List<DateInterval> expected = new ArrayList<>();
+        for (int step = 0; step < 3000; step++) {
+            int op = random.nextInt(10);
+            if (op < 5) {
+                DateInterval interval = randomInterval(random);
+                tree.add(interval);
+                expected.add(interval);
+            } else if (op < 8) {
+                DateInterval interval =
+                    (!expected.isEmpty() && random.nextBoolean())
+                    ? expected.get(random.nextInt(expected.size()))
+                    : randomInterval(random);
+                assertThat(tree.remove(interval), is(expected.remove(interval)));
+            } else if (op == 8) {
+                List<DateInterval> bulk = new ArrayList<>();
+                for (int i = random.nextInt(40); i >= 0; i--) {
+                    bulk.add(randomInterval(random));
+                }
+                tree.addAll(bulk);
+                expected.addAll(bulk);
+            } else {
+                PlainDate limit = BASE.plus(random.nextInt(100), CalendarUnit.DAYS);
+                tree.removeIf((interval) -> interval.isBefore(limit));
+                expected.removeIf((interval) -> interval.isBefore(limit));
+            }
+            assertThat(tree.size(), is(expected.size()));
+            DateInterval search = randomInterval(random);
+            List<DateInterval> found = new ArrayList<>();
+            for (DateInterval interval : expected) {
+                if (interval.intersects(search)) {
+                    found.add(interval);
+                }
+            }
+            List<DateInterval> result = new ArrayList<>(tree.findIntersections(search));
+            assertThat(sorted(result), is(sorted(found)));
+        }
+        IntervalTree<PlainDate, DateInterval> snapshot = IntervalTree.onDateAxis(tree);
+        assertThat(new ArrayList<>(snapshot), is(new ArrayList<>(tree)));
+    }
+
+    @Test
+    public void bulkLoadingOfSortedInput() {
+        List<MomentInterval> intervals = new ArrayList<>();
+        PlainTimestamp start = PlainTimestamp.of(2018, 1, 1, 0, 0);
+        for (int i = 0; i < 100000; i++) {
+            PlainTimestamp tsp = start.plus(i, ClockUnit.MINUTES);
+            intervals.add(MomentInterval.between(tsp.atUTC(), tsp.plus(90, ClockUnit.SECONDS).atUTC()));
+        }
+        MutableIntervalTree<Moment, MomentInterval> tree = MutableIntervalTree.onMomentAxis();
+        assertThat(tree.addAll(intervals), is(true));
+        assertThat(tree.size(), is(100000));
+        assertThat(new ArrayList<>(tree), is(intervals));
+        Moment probe = start.plus(500, ClockUnit.MINUTES).plus(10, ClockUnit.SECONDS).atUTC();
+        List<MomentInterval> found = new ArrayList<>();
+        tree.findIntersections(
+            probe,
+            (interval) -> {
+                found.add(interval);
+                return false;
+            });
+        assertThat(found, is(Arrays.asList(intervals.get(499), intervals.get(500))));
+        Moment limit = start.plus(50000, ClockUnit.MINUTES).atUTC();
+        assertThat(tree.removeIf((interval) -> interval.isBefore(limit)), is(true));
+        assertThat(tree.size(), is(50001));
+        assertThat(tree.iterator().next(), is(intervals.get(49999)));
+    }
+
+    @Test
+    public void visitorCancelsSearch() {
+        MutableIntervalTree<PlainDate, DateInterval> tree = MutableIntervalTree.onDateAxis();
+        for (int i = 0; i < 100; i++) {
+            tree.add(DateInterval.since(BASE.plus(i, CalendarUnit.DAYS)));
+        }
+        List<DateInterval> found = new ArrayList<>();
+        tree.findIntersections(
+            DateInterval.since(BASE),
+            (interval) -> {
+                found.add(interval);
+                return found.size() == 3;
+            });
+        assertThat(found.size(), is(3));
+        assertThat(found.get(2).getStartAsCalendarDate(), is(BASE.plus(2, CalendarUnit.DAYS)));
+    }
+
+    @Test(expected=ConcurrentModificationException.class)
+    public void failFastIterator() {
+        MutableIntervalTree<PlainDate, DateInterval> tree = MutableIntervalTree.onDateAxis();
+        tree.add(DateInterval.atomic(BASE));
+        tree.add(DateInterval.atomic(BASE.plus(1, CalendarUnit.DAYS)));
+        Iterator<DateInterval> iter = tree.iterator();
+        iter.next();
+        tree.add(DateInterval.atomic(BASE.plus(2, CalendarUnit.DAYS)));
+        iter.next();
+    }
+
+    private static DateInterval randomInterval(Random random) {
+        PlainDate start = BASE.plus(random.nextInt(120), CalendarUnit.DAYS);
+        switch (random.nextInt(10)) {
+            case 0:
+                return DateInterval.since(start);
+            case 1:
+                return DateInterval.until(start);
+            default:
+                return DateInterval.between(start, start.plus(random.nextInt(15), CalendarUnit.DAYS));
+        }
+    }
+
+    private static List<DateInterval> sorted(List<DateInterval> list) {
+        list.sort(DateInterval.comparator());
+        return list;
+    }
+
+}
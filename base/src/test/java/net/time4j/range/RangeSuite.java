@@ -22,11 +22,14 @@ import org.junit.runners.Suite.SuiteClasses;
         ComparatorTest.class,
         DateIntervalFormatTest.class,
         DayPartitionTest.class,
+        EpochIntervalsTest.class,
         HolidayTest.class,
         IntervalCollectionTest.class,
+        IntervalJoinTest.class,
         IntervalTreeTest.class,
         IsoRecurrenceTest.class,
         MomentIntervalFormatTest.class,
+        MutableIntervalTreeTest.class,
         RangeConversionTest.class,
         RangeDurationTest.class,
         RelationTest.class,
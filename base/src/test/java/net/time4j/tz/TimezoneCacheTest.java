@@ -0,0 +1,116 @@
+package net.time4j.tz;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class TimezoneCacheTest {
+
+    @After
+    public void restoreDefaultMode() {
+        Timezone.Cache.useSoftReferences();
+    }
+
+    @Test
+    public void hitsAndMissesInLeastRecentlyUsedMode() {
+        Timezone.Cache.setMaximumCacheSize(100);
+        Timezone.Cache.resetStatistics();
+        Timezone tz1 = Timezone.of("Europe/Berlin");
+        Timezone tz2 = Timezone.of("Europe/Berlin");
+        assertThat(tz1, sameInstance(tz2));
+        Timezone.Cache.Statistics stats = Timezone.Cache.getStatistics();
+        assertThat(stats.getMissCount(), is(1L));
+        assertThat(stats.getLoadCount(), is(1L));
+        assertThat(stats.getHitCount(), is(1L));
+        assertThat(stats.getEvictionCount(), is(0L));
+        assertThat(stats.getSize(), is(1));
+        assertThat(stats.getMaximumWeight(), is(100L));
+        assertThat(stats.getHitRate(), is(0.5));
+    }
+
+    @Test
+    public void evictionOfLeastRecentlyUsedZone() {
+        Timezone.Cache.setMaximumCacheSize(1);
+        Timezone.Cache.resetStatistics();
+        Timezone berlin = Timezone.of("Europe/Berlin");
+        Timezone.of("America/New_York");
+        Timezone.Cache.Statistics stats = Timezone.Cache.getStatistics();
+        assertThat(stats.getEvictionCount(), is(1L));
+        assertThat(stats.getSize(), is(1));
+        assertThat(Timezone.of("Europe/Berlin"), not(sameInstance(berlin)));
+        assertThat(Timezone.Cache.getStatistics().getLoadCount(), is(3L));
+    }
+
+    @Test
+    public void accessOrderIsRespected() {
+        Timezone.Cache.setMaximumCacheSize(2);
+        Timezone berlin = Timezone.of("Europe/Berlin");
+        Timezone.of("Europe/Paris");
+        assertThat(Timezone.of("Europe/Berlin"), sameInstance(berlin)); // touch
+        Timezone.of("Europe/London"); // evicts Paris
+        Timezone.Cache.resetStatistics();
+        assertThat(Timezone.of("Europe/Berlin"), sameInstance(berlin));
+        assertThat(Timezone.Cache.getStatistics().getHitCount(), is(1L));
+    }
+
+    @Test
+    public void weighByTransitions() {
+        Timezone berlin = Timezone.of("Europe/Berlin");
+        int weight = Timezone.Cache.weighByTransitions().applyAsInt(berlin);
+        assertThat(weight, is(1 + berlin.getHistory().getStdTransitions().size()));
+        Timezone.Cache.setMaximumCacheWeight(weight - 1, Timezone.Cache.weighByTransitions());
+        Timezone.Cache.resetStatistics();
+        Timezone.of("Europe/Berlin");
+        assertThat(Timezone.Cache.getStatistics().getSize(), is(0)); // too heavy
+        Timezone.of("Asia/Kolkata"); // no dst since 1970
+        assertThat(Timezone.Cache.getStatistics().getSize(), is(1));
+    }
+
+    @Test
+    public void heavyZoneStaysCachedUnderTotalBudget() {
+        Timezone.Cache.setMaximumCacheWeight(1000, Timezone.Cache.weighByTransitions());
+        Timezone.Cache.resetStatistics();
+        Timezone berlin = Timezone.of("Europe/Berlin");
+        for (int i = 0; i < 4; i++) {
+            assertThat(Timezone.of("Europe/Berlin"), sameInstance(berlin));
+        }
+        Timezone.Cache.Statistics stats = Timezone.Cache.getStatistics();
+        assertThat(stats.getHitCount(), is(4L));
+        assertThat(stats.getLoadCount(), is(1L));
+        assertThat(stats.getSize(), is(1));
+    }
+
+    @Test
+    public void totalWeightIsBounded() {
+        Timezone.Cache.setMaximumCacheWeight(1000, tz -> 100);
+        Timezone.Cache.resetStatistics();
+        for (TZID tzid : Timezone.getAvailableIDs()) {
+            Timezone.of(tzid);
+        }
+        Timezone.Cache.Statistics stats = Timezone.Cache.getStatistics();
+        assertThat(stats.getSize(), is(10));
+        assertThat(stats.getEvictionCount(), is(stats.getLoadCount() - 10));
+    }
+
+    @Test
+    public void refreshClearsCache() {
+        Timezone.Cache.setMaximumCacheSize(10);
+        Timezone berlin = Timezone.of("Europe/Berlin");
+        Timezone.Cache.refresh();
+        assertThat(Timezone.of("Europe/Berlin"), not(sameInstance(berlin)));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void nonPositiveMaximumCacheSize() {
+        Timezone.Cache.setMaximumCacheSize(0);
+    }
+
+}
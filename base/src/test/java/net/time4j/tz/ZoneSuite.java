@@ -12,7 +12,8 @@ import org.junit.runners.Suite.SuiteClasses;
         OffsetTest.class,
         PlatformTimezoneTest.class,
         ProviderRegistrationTest.class,
-        TZIDTest.class
+        TZIDTest.class,
+        TimezoneCacheTest.class
     }
 )
 public class ZoneSuite {
@@ -87,6 +87,17 @@ public class ArrayTransitionModelTest {
             is(SECOND));
     }
 
+    @Test
+    public void getOffsetSeconds() {
+        assertThat(MODEL.getOffsetSeconds(-1), is(1800));
+        assertThat(MODEL.getOffsetSeconds(0), is(7200));
+        assertThat(MODEL.getOffsetSeconds(365 * 86400L - 1), is(7200));
+        assertThat(MODEL.getOffsetSeconds(365 * 86400L), is(3600));
+        assertThat(MODEL.getOffsetSeconds(730 * 86400L), is(-13 * 3600));
+        assertThat(MODEL.getOffsetSeconds(FOURTH.getPosixTime()), is(-12 * 3600));
+        assertThat(MODEL.getOffsetSeconds(Long.MAX_VALUE), is(-12 * 3600));
+    }
+
     @Test
     public void findNextTransition1() {
         assertThat(
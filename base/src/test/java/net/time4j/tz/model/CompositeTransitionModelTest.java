@@ -128,6 +128,23 @@ public class CompositeTransitionModelTest {
         assertThat(ztSingle, is(expected));
     }
 
+    @Test
+    public void getOffsetSeconds() {
+        for (TransitionHistory model : new TransitionHistory[] {MODEL, MODEL_EXT, MODEL_SINGLE}) {
+            assertThat(model.getOffsetSeconds(-1), is(1800));
+            assertThat(model.getOffsetSeconds(0), is(7200));
+            assertThat(model.getOffsetSeconds(365 * 86400L), is(3600));
+            assertThat(model.getOffsetSeconds(FOURTH.getPosixTime() - 1), is(7200));
+            for (long t = -86400L; t < 100 * 365 * 86400L; t += 3 * 3600 + 17) {
+                ZonalTransition zt = model.getStartTransition(new UT(t));
+                int expected = ((zt == null) ? 1800 : zt.getTotalOffset());
+                assertThat(model.getOffsetSeconds(t), is(expected));
+            }
+        }
+        assertThat(MODEL.getOffsetSeconds(FOURTH.getPosixTime()), is(3600));
+        assertThat(MODEL.getOffsetSeconds(FIFTH.getPosixTime()), is(7200));
+    }
+
     @Test
     public void getStartTransition6() {
         ZonalTransition expected = FOURTH;
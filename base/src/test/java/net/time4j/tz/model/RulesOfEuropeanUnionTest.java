@@ -7,6 +7,7 @@ import net.time4j.PlainTime;
 import net.time4j.PlainTimestamp;
 import net.time4j.SystemClock;
 import net.time4j.Weekday;
+import net.time4j.scale.TimeScale;
 import net.time4j.tz.OffsetSign;
 import net.time4j.tz.ZonalOffset;
 import net.time4j.tz.ZonalTransition;
@@ -131,6 +132,24 @@ public class RulesOfEuropeanUnionTest {
         assertThat(transitions, is(expected));
     }
 
+    @Test
+    public void getStartTransitionInsideAndOutsideOfCachedYears() {
+        Moment start = PlainTimestamp.of(1960, 1, 1, 0, 0).atUTC();
+        Moment end = PlainTimestamp.of(2200, 1, 1, 0, 0).atUTC();
+        ZonalTransition previous = null;
+        for (ZonalTransition zt : MODEL.getTransitions(start, end)) {
+            Moment m = Moment.of(zt.getPosixTime(), TimeScale.POSIX);
+            assertThat(MODEL.getStartTransition(m), is(zt));
+            assertThat(MODEL.getOffsetSeconds(zt.getPosixTime()), is(zt.getTotalOffset()));
+            if (previous != null) {
+                Moment before = Moment.of(zt.getPosixTime() - 1, TimeScale.POSIX);
+                assertThat(MODEL.getStartTransition(before), is(previous));
+                assertThat(MODEL.getOffsetSeconds(zt.getPosixTime() - 1), is(previous.getTotalOffset()));
+            }
+            previous = zt;
+        }
+    }
+
     @Test
     public void isEmpty() {
         assertThat(MODEL.isEmpty(), is(false));
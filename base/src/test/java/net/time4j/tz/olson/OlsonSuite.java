@@ -1,5 +1,6 @@
 package net.time4j.tz.olson;
 
+import net.time4j.tz.threeten.CompactZoneProviderTest;
 import net.time4j.tz.threeten.JdkZoneProviderTest;
 import net.time4j.tz.model.ArrayTransitionModelTest;
 import net.time4j.tz.model.CompositeTransitionModelTest;
@@ -24,6 +25,7 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses(
     {
         ArrayTransitionModelTest.class,
+        CompactZoneProviderTest.class,
         CompositeTransitionModelTest.class,
         CountryToZonesTest.class,
         CustomZoneTest.class,
@@ -0,0 +1,113 @@
+package net.time4j.tz.threeten;
+
+import net.time4j.tz.ZoneModelProvider;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+
+@RunWith(JUnit4.class)
+public class CompactZoneProviderTest {
+
+    private static File file = null;
+    private static ZoneModelProvider jdk = null;
+    private static ZoneModelProvider zp = null;
+
+    @BeforeClass
+    public static void init() throws IOException {
+        file = File.createTempFile("tzdata", ".compact");
+        CompactZoneProviderSPI.compile(file);
+        jdk = new JdkZoneProviderSPI();
+        zp = new CompactZoneProviderSPI(file);
+    }
+
+    @AfterClass
+    public static void cleanUp() {
+        zp = null;
+        file.delete();
+    }
+
+    @Test
+    public void getName() {
+        assertThat(zp.getName(), is("TZDB"));
+    }
+
+    @Test
+    public void getVersion() {
+        assertThat(zp.getVersion(), is(jdk.getVersion()));
+    }
+
+    @Test
+    public void getLocation() {
+        assertThat(zp.getLocation(), is(file.getAbsolutePath()));
+    }
+
+    @Test
+    public void getAvailableIDs() {
+        assertThat(zp.getAvailableIDs(), is(jdk.getAvailableIDs()));
+    }
+
+    @Test
+    public void loadAllZonesEqualToJdk() {
+        for (String id : jdk.getAvailableIDs()) {
+            assertThat(id, zp.load(id), is(jdk.load(id)));
+        }
+    }
+
+    @Test
+    public void loadUnknownZone() {
+        assertThat(zp.load("Mars/Olympus_Mons"), nullValue());
+    }
+
+    @Test
+    public void inactiveWithoutFile() {
+        ZoneModelProvider inactive = new CompactZoneProviderSPI(null);
+        assertThat(inactive.getVersion(), is(""));
+        assertThat(inactive.getAvailableIDs().isEmpty(), is(true));
+    }
+
+    @Test(expected=IllegalStateException.class)
+    public void brokenFile() throws IOException {
+        File broken = File.createTempFile("broken", ".compact");
+        try {
+            new CompactZoneProviderSPI(broken);
+        } finally {
+            broken.delete();
+        }
+    }
+
+    @Test
+    public void corruptConfiguredFileLeavesProviderInactive() throws IOException {
+        File broken = File.createTempFile("broken", ".compact");
+        String old = System.getProperty("net.time4j.tz.compact.path");
+        try {
+            try (FileOutputStream fos = new FileOutputStream(broken)) {
+                fos.write(new byte[] {0x54, 0x5A, 0x43, 0x42, 1, 0x7F}); // valid header, truncated index
+            }
+            System.setProperty("net.time4j.tz.compact.path", broken.getAbsolutePath());
+            ZoneModelProvider inactive = new CompactZoneProviderSPI();
+            assertThat(inactive.getVersion(), is(""));
+            assertThat(inactive.getLocation(), is(""));
+            assertThat(inactive.getAvailableIDs().isEmpty(), is(true));
+            assertThat(inactive.load("Europe/Berlin"), nullValue());
+        } finally {
+            if (old == null) {
+                System.clearProperty("net.time4j.tz.compact.path");
+            } else {
+                System.setProperty("net.time4j.tz.compact.path", old);
+            }
+            broken.delete();
+        }
+    }
+
+}
@@ -3,6 +3,7 @@ package net.time4j.tz.threeten;
 import net.time4j.Moment;
 import net.time4j.PlainDate;
 import net.time4j.PlainTime;
+import net.time4j.scale.TimeScale;
 import net.time4j.tz.OffsetSign;
 import net.time4j.tz.Timezone;
 import net.time4j.tz.TransitionHistory;
@@ -72,6 +73,17 @@ public class JdkZoneProviderTest {
     }
     */
 
+    @Test
+    public void getOffsetSecondsConsistentWithGetOffset() {
+        for (String zoneID : new String[] {"Europe/Berlin", "America/New_York", "Australia/Lord_Howe", "Asia/Tokyo"}) {
+            Timezone tz = Timezone.of(zoneID);
+            for (long t = -2_000_000_000L; t < 5_000_000_000L; t += 86400L * 7 + 1234) {
+                Moment m = Moment.of(t, TimeScale.POSIX);
+                assertThat(tz.getOffsetSeconds(t), is(tz.getOffset(m).getIntegralAmount()));
+            }
+        }
+    }
+
     @Test
     public void compareAliasWithOriginal() {
         TransitionHistory histJanMayen = zp.load("Atlantic/Jan_Mayen");
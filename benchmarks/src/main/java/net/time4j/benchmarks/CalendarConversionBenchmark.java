@@ -0,0 +1,128 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (CalendarConversionBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.PlainDate;
+import net.time4j.calendar.ChineseCalendar;
+import net.time4j.calendar.HebrewCalendar;
+import net.time4j.calendar.HijriCalendar;
+import net.time4j.calendar.KoreanCalendar;
+import net.time4j.engine.EpochDays;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the conversion of gregorian dates to some alternative calendars and back. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CalendarConversionBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private PlainDate date;
+    private ChineseCalendar chineseDate;
+    private HebrewCalendar hebrewDate;
+    private PlainDate[] randomDates;
+    private int index;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+        this.date = PlainDate.of(2018, 6, 18);
+        this.chineseDate = this.date.transform(ChineseCalendar.class);
+        this.hebrewDate = this.date.transform(HebrewCalendar.class);
+        Random random = new Random(42);
+        long min = PlainDate.of(1700, 1, 1).getDaysSinceEpochUTC();
+        long max = PlainDate.of(2900, 1, 1).getDaysSinceEpochUTC();
+        this.randomDates = new PlainDate[1024];
+        for (int i = 0; i < this.randomDates.length; i++) {
+            this.randomDates[i] = PlainDate.of(min + (long) (random.nextDouble() * (max - min)), EpochDays.UTC);
+        }
+    }
+
+    @Benchmark
+    public ChineseCalendar toChinese() {
+        return this.date.transform(ChineseCalendar.class);
+    }
+
+    @Benchmark
+    public PlainDate fromChinese() {
+        return this.chineseDate.transform(PlainDate.class);
+    }
+
+    @Benchmark
+    public ChineseCalendar toChineseRandomAccess() {
+        return this.nextRandomDate().transform(ChineseCalendar.class);
+    }
+
+    @Benchmark
+    public KoreanCalendar toKorean() {
+        return this.date.transform(KoreanCalendar.class);
+    }
+
+    @Benchmark
+    public HebrewCalendar toHebrew() {
+        return this.date.transform(HebrewCalendar.class);
+    }
+
+    @Benchmark
+    public HebrewCalendar toHebrewRandomAccess() {
+        return this.nextRandomDate().transform(HebrewCalendar.class);
+    }
+
+    @Benchmark
+    public PlainDate fromHebrew() {
+        return this.hebrewDate.transform(PlainDate.class);
+    }
+
+    @Benchmark
+    public HijriCalendar toHijri() {
+        return this.date.transform(HijriCalendar.class, HijriCalendar.VARIANT_UMALQURA);
+    }
+
+    // wide range of years without locality, a worst case for the year cache of calendar systems
+    private PlainDate nextRandomDate() {
+        this.index = (this.index + 1) & (this.randomDates.length - 1);
+        return this.randomDates[this.index];
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (DateArithmeticBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.CalendarUnit;
+import net.time4j.PlainDate;
+import net.time4j.Weekday;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures the basic calendrical arithmetic of {@code PlainDate}. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DateArithmeticBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private PlainDate start;
+    private PlainDate end;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+        this.start = PlainDate.of(2012, 2, 29);
+        this.end = PlainDate.of(2018, 11, 3);
+    }
+
+    @Benchmark
+    public PlainDate plusDays() {
+        return this.start.plus(1000, CalendarUnit.DAYS);
+    }
+
+    @Benchmark
+    public PlainDate plusMonths() {
+        return this.start.plus(13, CalendarUnit.MONTHS);
+    }
+
+    @Benchmark
+    public long daysBetween() {
+        return CalendarUnit.DAYS.between(this.start, this.end);
+    }
+
+    @Benchmark
+    public long monthsBetween() {
+        return CalendarUnit.MONTHS.between(this.start, this.end);
+    }
+
+    @Benchmark
+    public Weekday dayOfWeek() {
+        return this.end.getDayOfWeek();
+    }
+
+    @Benchmark
+    public PlainDate nextSunday() {
+        return this.end.with(PlainDate.DAY_OF_WEEK.setToNext(Weekday.SUNDAY));
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * -----------------------------------------------------------------------
+ * Copyright © 2013-2018 Meno Hochschild, <http://www.menodata.de/>
+ * -----------------------------------------------------------------------
+ * This file (FormatBenchmark.java) is part of project Time4J.
+ *
+ * Time4J is free software: You can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * Time4J is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Time4J. If not, see <http://www.gnu.org/licenses/>.
+ * -----------------------------------------------------------------------
+ */
+
+package net.time4j.benchmarks;
+
+import net.time4j.Moment;
+import net.time4j.PlainDate;
+import net.time4j.PlainTimestamp;
+import net.time4j.format.expert.ChronoFormatter;
+import net.time4j.format.expert.Iso8601Format;
+import net.time4j.format.expert.PatternType;
+import net.time4j.tz.ZonalOffset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Measures printing and parsing of typical pattern-based and ISO-8601-formatters. </p>
+ *
+ * @author  Meno Hochschild
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FormatBenchmark {
+
+    //~ Instanzvariablen --------------------------------------------------
+
+    private ChronoFormatter<Moment> momentFormatter;
+    private ChronoFormatter<PlainTimestamp> timestampFormatter;
+    private Moment moment;
+    private PlainTimestamp timestamp;
+    private String momentText;
+    private String timestampText;
+    private String isoDateText;
+
+    //~ Methoden ----------------------------------------------------------
+
+    @Setup
+    public void setUp() {
+        this.momentFormatter =
+            ChronoFormatter.ofMomentPattern(
+                "uuuu-MM-dd'T'HH:mm:ss.SSSXXX", PatternType.CLDR, Locale.ROOT, ZonalOffset.UTC);
+        this.timestampFormatter =
+            ChronoFormatter.ofTimestampPattern("d. MMMM uuuu HH:mm", PatternType.CLDR, Locale.GERMAN);
+        this.timestamp = PlainTimestamp.of(2018, 5, 31, 17, 45, 30);
+        this.moment = this.timestamp.atUTC();
+        this.momentText = this.momentFormatter.format(this.moment);
+        this.timestampText = this.timestampFormatter.format(this.timestamp);
+        this.isoDateText = "2018-05-31";
+    }
+
+    @Benchmark
+    public String formatMoment() {
+        return this.momentFormatter.format(this.moment);
+    }
+
+    @Benchmark
+    public Moment parseMoment() throws ParseException {
+        return this.momentFormatter.parse(this.momentText);
+    }
+
+    @Benchmark
+    public String formatTimestampWithText() {
+        return this.timestampFormatter.format(this.timestamp);
+    }
+
+    @Benchmark
+    public PlainTimestamp parseTimestampWithText() throws ParseException {
+        return this.timestampFormatter.parse(this.timestampText);
+    }
+
+    @Benchmark
+    public PlainDate parseIsoDate() throws ParseException {
+        return Iso8601Format.parseDate(this.isoDateText);
+    }
+
+    @Benchmark
+    public PlainDate parseIsoDateViaFormatter() throws ParseException {
+        return Iso8601Format.EXTENDED_CALENDAR_DATE.parse(this.isoDateText);
+    }
+
+}
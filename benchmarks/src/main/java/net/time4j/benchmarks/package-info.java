@@ -0,0 +1,16 @@
+/**
+ * <p>JMH-benchmarks for the hot paths of Time4J. </p>
+ *
+ * <p>Build the self-contained jar with {@code mvn package -pl base,benchmarks} and run it for example as
+ * {@code java -jar benchmarks/target/benchmarks.jar -prof gc} in order to also see the allocation rates.
+ * All benchmarks use fixed input data so that results of different versions can be compared. </p>
+ */
+/*[deutsch]
+ * <p>JMH-Benchmarks f&uuml;r die zeitkritischen Pfade von Time4J. </p>
+ *
+ * <p>Das eigenst&auml;ndige Jar wird mit {@code mvn package -pl base,benchmarks} erzeugt und kann zum Beispiel
+ * als {@code java -jar benchmarks/target/benchmarks.jar -prof gc} gestartet werden, um auch die
+ * Allokationsraten zu sehen. Alle Benchmarks verwenden feste Eingabedaten, damit die Ergebnisse verschiedener
+ * Versionen vergleichbar sind. </p>
+ */
+package net.time4j.benchmarks;